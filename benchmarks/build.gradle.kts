@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+plugins {
+    java
+    id("me.champeau.jmh") version "0.7.3" // https://plugins.gradle.org/plugin/me.champeau.jmh
+}
+
+val creekVersion : String by extra
+val jacksonVersion : String by extra
+val victoolsVersion : String by extra
+
+val coldStartTypes by configurations.creating
+
+dependencies {
+    jmhImplementation(project(":validator"))
+    jmhImplementation(project(":generator"))
+    jmhImplementation(project(":test-types"))
+    jmhImplementation("org.creekservice:creek-base-annotation:$creekVersion")
+    jmhImplementation("tools.jackson.core:jackson-databind:$jacksonVersion")
+    jmhImplementation("com.github.victools:jsonschema-generator:$victoolsVersion")
+
+    coldStartTypes(project(":test-types"))
+}
+
+jmh {
+    // Report bytes allocated per operation (gc.alloc.rate.norm) alongside timings:
+    profilers.add("gc")
+    jmhVersion.set("1.37")
+    resultFormat.set("JSON")
+    // Version results, so runs can be compared across versions, e.g. with https://jmh.morethan.io
+    resultsFile.set(layout.buildDirectory.file("results/jmh/results-${project.version}.json"))
+
+    // Select benchmarks with -PjmhIncludes=<regex>, e.g. -PjmhIncludes=JsonNodeView
+    if (project.hasProperty("jmhIncludes")) {
+        includes.add(project.property("jmhIncludes") as String)
+    }
+}
+
+// Launches the generator CLI and a validator bootstrap in fresh JVMs, timing start-up.
+// Set the number of launches per scenario with -PcoldStartRuns=<n>.
+tasks.register<JavaExec>("coldStart") {
+    group = "benchmark"
+    description = "Measures time-to-first-schema and time-to-first-validation in fresh JVMs."
+    dependsOn(":generator:installDist", ":test-types:jar")
+
+    val results = layout.buildDirectory.file("results/coldstart/results-${project.version}.json")
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.creekservice.benchmark.json.schema.coldstart.ColdStartHarness")
+    args(project.findProperty("coldStartRuns") ?: "5", results.get().asFile.absolutePath)
+
+    doFirst {
+        val generatorLib = project(":generator").file("build/install/generator/lib")
+        val generatorLibJars = generatorLib.listFiles()?.map { it.name }?.toSet() ?: emptySet()
+
+        // The CLI module path: test-types, plus any of its dependencies not in the distribution:
+        val typesModulePath = coldStartTypes.resolvedConfiguration.resolvedArtifacts
+            .filter { it.file.name !in generatorLibJars }
+            .joinToString(File.pathSeparator) { it.file.absolutePath }
+
+        systemProperty("coldstart.generator.lib", generatorLib.absolutePath)
+        systemProperty("coldstart.types.module.path", typesModulePath)
+    }
+}
+
+// Validates on increasing numbers of threads sharing validators, reporting scaling and latency.
+// Set the thread counts with -PcontentionThreads=<n,n,...>.
+tasks.register<JavaExec>("contention") {
+    group = "benchmark"
+    description = "Measures validation throughput and tail latency by thread count."
+
+    val results = layout.buildDirectory.file("results/contention/results-${project.version}.json")
+    classpath = sourceSets["jmh"].runtimeClasspath
+    mainClass.set("org.creekservice.benchmark.json.schema.contention.ContentionHarness")
+    args(
+        project.findProperty("contentionWarmupSeconds") ?: "2",
+        project.findProperty("contentionMeasureSeconds") ?: "5",
+        project.findProperty("contentionThreads") ?: "1,2,4,8,16,64,256",
+        results.get().asFile.absolutePath
+    )
+}
@@ -0,0 +1,339 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.benchmark.json.schema.coldstart;
+
+import static org.creekservice.benchmark.json.schema.coldstart.ValidatorBootstrap.ALL_SCHEMAS;
+import static org.creekservice.benchmark.json.schema.coldstart.ValidatorBootstrap.FIRST_SCHEMA;
+import static org.creekservice.benchmark.json.schema.coldstart.ValidatorBootstrap.FIRST_VALIDATION;
+import static org.creekservice.benchmark.json.schema.coldstart.ValidatorBootstrap.MILESTONE_PREFIX;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+import org.creekservice.api.json.schema.generator.GeneratorOptions;
+import org.creekservice.api.json.schema.validator.ValidatorOptions.Engine;
+import org.creekservice.benchmark.json.schema.scale.SyntheticModels;
+import org.creekservice.internal.json.schema.generator.SchemaGenerator;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Measures start-up latency by launching fresh JVMs, as a build or service would.
+ *
+ * <p>Scenarios:
+ *
+ * <ul>
+ *   <li>{@code generator-cli}: the {@code JsonSchemaGenerator} main method, run from the
+ *       generator's installed distribution over the {@code test-types} module. Times the first
+ *       schema being written, and the process exiting.
+ *   <li>{@code validator-bootstrap-<engine>}: {@link ValidatorBootstrap} creating validators for
+ *       hundreds of schemas generated from {@link SyntheticModels}, then validating a first
+ *       payload. Times the first and last validators being created, the first validation, and the
+ *       process exiting.
+ * </ul>
+ *
+ * <p>Each scenario is launched a number of times, reporting the minimum, median and maximum time
+ * from launch to each milestone. Each is then launched once more with JFR recording, to break
+ * down the time to its first milestone into class loading and JIT compilation. JFR slows start-up,
+ * so this run is excluded from the timings.
+ *
+ * <p>Run via {@code ./gradlew :benchmarks:coldStart}, which builds the distribution and supplies
+ * its location. Arguments: the number of launches per scenario, and the file to write the JSON
+ * results to.
+ */
+public final class ColdStartHarness {
+
+    private static final String GENERATOR_LIB_PROPERTY = "coldstart.generator.lib";
+    private static final String TYPES_MODULE_PATH_PROPERTY = "coldstart.types.module.path";
+
+    private static final String TEST_TYPES_MODULE = "creek.json.schema.test.types";
+    private static final String GENERATOR_MAIN =
+            "creek.json.schema.generator/org.creekservice.api.json.schema.generator"
+                    + ".JsonSchemaGenerator";
+
+    /** Number of schemas the validator bootstrap loads: hundreds, as a service might. */
+    private static final int BOOTSTRAP_SCHEMAS = 300;
+
+    private static final String EXIT = "exit";
+
+    private ColdStartHarness() {}
+
+    /**
+     * A process to launch.
+     *
+     * @param name the scenario name.
+     * @param arguments the command, after the {@code java} executable and any JVM options.
+     * @param milestones the milestones, by name, and the output line that marks each.
+     */
+    private record Scenario(String name, List<String> arguments, Map<String, Pattern> milestones) {}
+
+    /**
+     * @param min the fastest launch, in milliseconds.
+     * @param median the median launch, in milliseconds.
+     * @param max the slowest launch, in milliseconds.
+     */
+    record Stats(double min, double median, double max) {}
+
+    /**
+     * @param scenario the scenario name.
+     * @param launches the number of timed launches.
+     * @param milestonesMs the time from launch to each milestone, in milliseconds.
+     * @param breakdownMilestone the milestone the breakdown covers.
+     * @param breakdown where the time to {@code breakdownMilestone} went, in the recorded launch.
+     */
+    record Result(
+            String scenario,
+            int launches,
+            Map<String, Stats> milestonesMs,
+            String breakdownMilestone,
+            StartupBreakdown breakdown) {}
+
+    private record Launch(Map<String, Double> millis, Map<String, Instant> instants) {}
+
+    public static void main(final String... args) throws Exception {
+        final int launches = Integer.parseInt(args[0]);
+        final Path output = Path.of(args[1]);
+
+        final Path work = Files.createTempDirectory("coldstart");
+        try {
+            final Path schemas = writeSchemas(Files.createDirectory(work.resolve("schemas")));
+            final Path recordingSettings = work.resolve("breakdown.jfc");
+            Files.writeString(recordingSettings, StartupBreakdown.JFR_SETTINGS);
+
+            final List<Scenario> scenarios = new ArrayList<>();
+            scenarios.add(generatorCli(work.resolve("generated")));
+            scenarios.add(validatorBootstrap(schemas, Engine.NETWORKNT));
+            scenarios.add(validatorBootstrap(schemas, Engine.NATIVE));
+
+            final List<Result> results = new ArrayList<>();
+            for (final Scenario scenario : scenarios) {
+                results.add(run(scenario, launches, work, recordingSettings));
+            }
+
+            print(results);
+            Files.createDirectories(output.toAbsolutePath().getParent());
+            JsonMapper.builder()
+                    .build()
+                    .writerWithDefaultPrettyPrinter()
+                    .writeValue(output.toFile(), results);
+            System.out.println("Results written to " + output.toAbsolutePath());
+        } finally {
+            delete(work);
+        }
+    }
+
+    private static Scenario generatorCli(final Path outputDir) {
+        final List<String> arguments =
+                List.of(
+                        "--module-path",
+                        requiredProperty(GENERATOR_LIB_PROPERTY)
+                                + File.pathSeparator
+                                + requiredProperty(TYPES_MODULE_PATH_PROPERTY),
+                        "--add-modules",
+                        TEST_TYPES_MODULE,
+                        "--module",
+                        GENERATOR_MAIN,
+                        "--output-directory=" + outputDir.toAbsolutePath(),
+                        "--type-scanning-allowed-module=" + TEST_TYPES_MODULE,
+                        "--subtype-scanning-allowed-module=" + TEST_TYPES_MODULE);
+
+        final Map<String, Pattern> milestones = new LinkedHashMap<>();
+        milestones.put(FIRST_SCHEMA, Pattern.compile("Wrote .* schema to"));
+        return new Scenario("generator-cli", arguments, milestones);
+    }
+
+    private static Scenario validatorBootstrap(final Path schemas, final Engine engine) {
+        final List<String> arguments =
+                List.of(
+                        "-cp",
+                        System.getProperty("java.class.path"),
+                        ValidatorBootstrap.class.getName(),
+                        schemas.toAbsolutePath().toString(),
+                        engine.name());
+
+        final Map<String, Pattern> milestones = new LinkedHashMap<>();
+        for (final String milestone : List.of(FIRST_SCHEMA, ALL_SCHEMAS, FIRST_VALIDATION)) {
+            milestones.put(
+                    milestone, Pattern.compile("^" + Pattern.quote(MILESTONE_PREFIX + milestone)));
+        }
+        final String name = "validator-bootstrap-" + engine.name().toLowerCase();
+        return new Scenario(name, arguments, milestones);
+    }
+
+    private static Result run(
+            final Scenario scenario,
+            final int launches,
+            final Path work,
+            final Path recordingSettings) {
+        final List<Launch> timed = new ArrayList<>(launches);
+        for (int i = 0; i < launches; i++) {
+            timed.add(launch(scenario, List.of()));
+        }
+
+        final Map<String, Stats> stats = new LinkedHashMap<>();
+        for (final String milestone : timed.get(0).millis().keySet()) {
+            stats.put(milestone, stats(timed, milestone));
+        }
+
+        final Path recording = work.resolve(scenario.name() + ".jfr");
+        final Launch recorded =
+                launch(
+                        scenario,
+                        List.of(
+                                "-XX:StartFlightRecording:filename="
+                                        + recording
+                                        + ",settings="
+                                        + recordingSettings
+                                        + ",dumponexit=true"));
+        final String breakdownMilestone = scenario.milestones().keySet().iterator().next();
+        final StartupBreakdown breakdown =
+                StartupBreakdown.from(recording, recorded.instants().get(breakdownMilestone));
+
+        return new Result(scenario.name(), launches, stats, breakdownMilestone, breakdown);
+    }
+
+    private static Launch launch(final Scenario scenario, final List<String> jvmOptions) {
+        final List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmOptions);
+        command.addAll(scenario.arguments());
+
+        final Map<String, Double> millis = new LinkedHashMap<>();
+        final Map<String, Instant> instants = new LinkedHashMap<>();
+        final List<String> output = new ArrayList<>();
+        try {
+            final long start = System.nanoTime();
+            final Process process = new ProcessBuilder(command).redirectErrorStream(true).start();
+            try (BufferedReader reader = process.inputReader()) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    final double elapsed = (System.nanoTime() - start) / 1_000_000.0;
+                    output.add(line);
+                    for (final Map.Entry<String, Pattern> e : scenario.milestones().entrySet()) {
+                        if (!millis.containsKey(e.getKey()) && e.getValue().matcher(line).find()) {
+                            millis.put(e.getKey(), elapsed);
+                            instants.put(e.getKey(), Instant.now());
+                        }
+                    }
+                }
+            }
+            final int exitCode = process.waitFor();
+            millis.put(EXIT, (System.nanoTime() - start) / 1_000_000.0);
+
+            if (exitCode != 0 || !instants.keySet().containsAll(scenario.milestones().keySet())) {
+                throw new IllegalStateException(
+                        "Launch failed, exit code: "
+                                + exitCode
+                                + System.lineSeparator()
+                                + "command: "
+                                + String.join(" ", command)
+                                + System.lineSeparator()
+                                + String.join(System.lineSeparator(), output));
+            }
+            return new Launch(millis, instants);
+        } catch (final IOException e) {
+            throw new IllegalStateException("Failed to launch: " + command, e);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted", e);
+        }
+    }
+
+    private static Stats stats(final List<Launch> launches, final String milestone) {
+        final double[] sorted =
+                launches.stream().mapToDouble(l -> l.millis().get(milestone)).sorted().toArray();
+        final int mid = sorted.length / 2;
+        final double median =
+                sorted.length % 2 == 1 ? sorted[mid] : (sorted[mid - 1] + sorted[mid]) / 2;
+        return new Stats(sorted[0], median, sorted[sorted.length - 1]);
+    }
+
+    private static Path writeSchemas(final Path dir) throws IOException {
+        final SyntheticModels models =
+                SyntheticModels.create(
+                        new SyntheticModels.Spec(BOOTSTRAP_SCHEMAS - 2, 10, 50, 100));
+        final GeneratorOptions options = () -> dir;
+        final SchemaGenerator generator = new SchemaGenerator(options);
+        for (final Class<?> type : models.all()) {
+            Files.write(
+                    dir.resolve(type.getSimpleName() + ".yml"),
+                    generator.generateSchema(type).content());
+        }
+        return dir;
+    }
+
+    private static void print(final List<Result> results) {
+        final String format = "%-32s %-18s %10s %10s %10s%n";
+        System.out.printf(format, "Scenario", "Milestone", "Min ms", "Median ms", "Max ms");
+        for (final Result result : results) {
+            result.milestonesMs()
+                    .forEach(
+                            (milestone, stats) ->
+                                    System.out.printf(
+                                            format,
+                                            result.scenario(),
+                                            milestone,
+                                            "%.1f".formatted(stats.min()),
+                                            "%.1f".formatted(stats.median()),
+                                            "%.1f".formatted(stats.max())));
+        }
+
+        System.out.println();
+        System.out.printf(
+                "%-32s %-18s %14s %14s %14s %10s%n",
+                "Scenario", "Breakdown to", "Classes", "Loading ms", "Compilations", "JIT ms");
+        for (final Result result : results) {
+            final StartupBreakdown breakdown = result.breakdown();
+            System.out.printf(
+                    "%-32s %-18s %14d %14.1f %14d %10.1f%n",
+                    result.scenario(),
+                    result.breakdownMilestone(),
+                    breakdown.classesLoaded(),
+                    breakdown.classLoadingMs(),
+                    breakdown.jitCompilations(),
+                    breakdown.jitMs());
+        }
+    }
+
+    private static String requiredProperty(final String name) {
+        final String value = System.getProperty(name);
+        if (value == null || value.isBlank()) {
+            throw new IllegalStateException(
+                    "System property "
+                            + name
+                            + " not set. Run via ./gradlew :benchmarks:coldStart");
+        }
+        return value;
+    }
+
+    private static void delete(final Path dir) throws IOException {
+        try (Stream<Path> paths = Files.walk(dir)) {
+            for (final Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
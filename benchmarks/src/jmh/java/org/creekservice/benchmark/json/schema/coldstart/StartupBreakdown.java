@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.benchmark.json.schema.coldstart;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+/**
+ * Where start-up time went, up to a milestone, as recorded by JFR in the launched JVM.
+ *
+ * @param classesLoaded the number of classes loaded.
+ * @param classLoadingMs the time spent loading classes, excluding classes loaded while loading
+ *     another.
+ * @param jitCompilations the number of methods compiled by the JIT compilers.
+ * @param jitMs the time the JIT compilers spent compiling, on their own threads.
+ */
+public record StartupBreakdown(
+        long classesLoaded, double classLoadingMs, long jitCompilations, double jitMs) {
+
+    /** JFR settings enabling the events the breakdown is built from, with no threshold. */
+    static final String JFR_SETTINGS =
+            """
+            <?xml version="1.0" encoding="UTF-8"?>
+            <configuration version="2.0">
+              <event name="jdk.ClassLoad">
+                <setting name="enabled">true</setting>
+                <setting name="threshold">0 ms</setting>
+                <setting name="stackTrace">false</setting>
+              </event>
+              <event name="jdk.Compilation">
+                <setting name="enabled">true</setting>
+                <setting name="threshold">0 ms</setting>
+              </event>
+            </configuration>
+            """;
+
+    /**
+     * Build the breakdown from a recording.
+     *
+     * @param recording the recording, made with {@link #JFR_SETTINGS}.
+     * @param milestone only events starting before this instant are included.
+     * @return the breakdown.
+     */
+    static StartupBreakdown from(final Path recording, final Instant milestone) {
+        final List<RecordedEvent> classLoads = new ArrayList<>();
+        long jitCompilations = 0;
+        Duration jit = Duration.ZERO;
+        try (RecordingFile file = new RecordingFile(recording)) {
+            while (file.hasMoreEvents()) {
+                final RecordedEvent event = file.readEvent();
+                if (!event.getStartTime().isBefore(milestone)) {
+                    continue;
+                }
+                switch (event.getEventType().getName()) {
+                    case "jdk.ClassLoad":
+                        classLoads.add(event);
+                        break;
+                    case "jdk.Compilation":
+                        jitCompilations++;
+                        jit = jit.plus(event.getDuration());
+                        break;
+                    default:
+                        break;
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return new StartupBreakdown(
+                classLoads.size(), millis(outermost(classLoads)), jitCompilations, millis(jit));
+    }
+
+    /**
+     * Loading a class loads its supertypes within the same event, so only sum the events not
+     * nested within another on the same thread.
+     */
+    private static Duration outermost(final List<RecordedEvent> events) {
+        events.sort(Comparator.comparing(RecordedEvent::getStartTime));
+        final Map<Long, Instant> busyUntil = new HashMap<>();
+        Duration total = Duration.ZERO;
+        for (final RecordedEvent event : events) {
+            final long thread = event.getThread() == null ? -1 : event.getThread().getId();
+            final Instant until = busyUntil.get(thread);
+            if (until == null || !event.getStartTime().isBefore(until)) {
+                total = total.plus(event.getDuration());
+                busyUntil.put(thread, event.getEndTime());
+            }
+        }
+        return total;
+    }
+
+    private static double millis(final Duration duration) {
+        return duration.toNanos() / 1_000_000.0;
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.benchmark.json.schema.coldstart;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.creekservice.api.json.schema.validator.JsonSchemaValidator;
+import org.creekservice.api.json.schema.validator.SchemaValidationException;
+import org.creekservice.api.json.schema.validator.ValidatorOptions;
+import org.creekservice.api.json.schema.validator.ValidatorOptions.Engine;
+
+/**
+ * Mimics a service booting: creates a validator for every schema in a directory, then validates a
+ * first payload.
+ *
+ * <p>Run in a fresh JVM by {@link ColdStartHarness}. Announces each milestone by writing a line to
+ * stdout, so that the harness can time it: {@value #FIRST_SCHEMA}, {@value #ALL_SCHEMAS} and
+ * {@value #FIRST_VALIDATION}.
+ *
+ * <p>Arguments: the schema directory, and the {@link Engine} to use.
+ */
+public final class ValidatorBootstrap {
+
+    static final String MILESTONE_PREFIX = "coldstart:";
+    static final String FIRST_SCHEMA = "first-schema";
+    static final String ALL_SCHEMAS = "all-schemas";
+    static final String FIRST_VALIDATION = "first-validation";
+
+    private ValidatorBootstrap() {}
+
+    public static void main(final String... args) throws IOException {
+        final Path schemaDir = Path.of(args[0]);
+        final ValidatorOptions options =
+                ValidatorOptions.defaults().withEngine(Engine.valueOf(args[1]));
+
+        final List<Path> schemas;
+        try (Stream<Path> files = Files.list(schemaDir)) {
+            schemas = files.sorted().toList();
+        }
+
+        final List<JsonSchemaValidator> validators = new ArrayList<>(schemas.size());
+        for (final Path schema : schemas) {
+            validators.add(JsonSchemaValidator.fromSchema(Files.readAllBytes(schema), options));
+            if (validators.size() == 1) {
+                milestone(FIRST_SCHEMA);
+            }
+        }
+        milestone(ALL_SCHEMAS);
+
+        try {
+            validators.get(0).validate(Map.of("name", "first", "count", 1));
+        } catch (final SchemaValidationException e) {
+            // The outcome does not matter, only the time taken to reach it.
+        }
+        milestone(FIRST_VALIDATION);
+    }
+
+    private static void milestone(final String name) {
+        System.out.println(MILESTONE_PREFIX + name);
+        System.out.flush();
+    }
+}
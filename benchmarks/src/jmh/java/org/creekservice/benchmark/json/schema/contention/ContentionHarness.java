@@ -0,0 +1,292 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.benchmark.json.schema.contention;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntFunction;
+import org.creekservice.api.json.schema.validator.JsonSchemaValidator;
+import org.creekservice.api.json.schema.validator.ValidationResultCache;
+import org.creekservice.api.json.schema.validator.ValidatorOptions;
+import org.creekservice.api.json.schema.validator.ValidatorOptions.Engine;
+import org.creekservice.api.json.schema.validator.ValidatorRegistry;
+import org.creekservice.benchmark.json.schema.validator.TestModel;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Measures how validation scales with the number of threads sharing validators, as request threads
+ * in a service do.
+ *
+ * <p>Scenarios:
+ *
+ * <ul>
+ *   <li>{@code shared-<engine>}: one validator per {@link TestModel}, shared by all threads.
+ *   <li>{@code registry-native}: each validation first looks its validator up in a shared {@link
+ *       ValidatorRegistry} by schema content.
+ *   <li>{@code result-cache-native}: shared validators backed by a shared {@link
+ *       ValidationResultCache}.
+ * </ul>
+ *
+ * <p>Each scenario is run with each thread count, on platform threads and, where the runtime
+ * supports them, virtual threads. Each thread validates the test models' valid payloads in turn,
+ * timing every validation. Reports throughput, its scaling relative to one thread, and latency
+ * percentiles. Throughput that stops growing before the thread count reaches the core count, or
+ * tail latency that grows with it, points to contention.
+ *
+ * <p>Run via {@code ./gradlew :benchmarks:contention}. Arguments: warm-up seconds, measurement
+ * seconds, a comma-separated list of thread counts, and the file to write the JSON results to.
+ */
+public final class ContentionHarness {
+
+    private static final int WARMING = 0;
+    private static final int MEASURING = 1;
+    private static final int STOPPED = 2;
+
+    private ContentionHarness() {}
+
+    /** A validation, run repeatedly by each thread. Must be thread-safe. */
+    private interface Operation {
+        /**
+         * @param i the number of operations the calling thread has run so far.
+         */
+        void run(int i);
+    }
+
+    private record Scenario(String name, Operation operation) {}
+
+    private record ThreadKind(String name, IntFunction<ExecutorService> executor) {}
+
+    /**
+     * @param scenario the scenario name.
+     * @param threadKind {@code platform} or {@code virtual}.
+     * @param threads the number of threads.
+     * @param opsPerSecond the combined throughput of all threads.
+     * @param scaling the throughput relative to the same scenario on one thread.
+     * @param p50Us the median latency, in microseconds.
+     * @param p99Us the 99th percentile latency, in microseconds.
+     * @param p999Us the 99.9th percentile latency, in microseconds.
+     * @param maxUs the maximum latency, in microseconds.
+     */
+    record Result(
+            String scenario,
+            String threadKind,
+            int threads,
+            double opsPerSecond,
+            double scaling,
+            double p50Us,
+            double p99Us,
+            double p999Us,
+            double maxUs) {}
+
+    public static void main(final String... args) throws Exception {
+        final long warmupMs = TimeUnit.SECONDS.toMillis(Long.parseLong(args[0]));
+        final long measureMs = TimeUnit.SECONDS.toMillis(Long.parseLong(args[1]));
+        final int[] threadCounts =
+                Arrays.stream(args[2].split(","))
+                        .mapToInt(t -> Integer.parseInt(t.trim()))
+                        .toArray();
+        final Path output = Path.of(args[3]);
+
+        final List<ThreadKind> kinds = new ArrayList<>();
+        kinds.add(new ThreadKind("platform", Executors::newFixedThreadPool));
+        virtualThreads().ifPresent(kinds::add);
+
+        System.out.printf(
+                "Cores: %d, thread kinds: %s%n",
+                Runtime.getRuntime().availableProcessors(),
+                kinds.stream().map(ThreadKind::name).toList());
+
+        final List<Result> results = new ArrayList<>();
+        for (final Scenario scenario : scenarios()) {
+            for (final ThreadKind kind : kinds) {
+                double singleThreaded = 0;
+                for (final int threads : threadCounts) {
+                    final Result result =
+                            run(scenario, kind, threads, warmupMs, measureMs, singleThreaded);
+                    if (threads == 1) {
+                        singleThreaded = result.opsPerSecond();
+                    }
+                    results.add(result);
+                    print(result);
+                }
+            }
+        }
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        JsonMapper.builder()
+                .build()
+                .writerWithDefaultPrettyPrinter()
+                .writeValue(output.toFile(), results);
+        System.out.println("Results written to " + output.toAbsolutePath());
+    }
+
+    private static List<Scenario> scenarios() {
+        final TestModel[] models = TestModel.values();
+        final List<Scenario> scenarios = new ArrayList<>();
+
+        for (final Engine engine : List.of(Engine.NETWORKNT, Engine.NATIVE, Engine.TIERED)) {
+            final ValidatorOptions options = ValidatorOptions.defaults().withEngine(engine);
+            scenarios.add(
+                    new Scenario(
+                            "shared-" + engine.name().toLowerCase(), shared(models, options)));
+        }
+
+        final ValidatorRegistry registry =
+                ValidatorRegistry.create(
+                        ValidatorRegistry.DEFAULT_CAPACITY,
+                        ValidatorOptions.defaults().withEngine(Engine.NATIVE));
+        scenarios.add(
+                new Scenario(
+                        "registry-native",
+                        i -> {
+                            final TestModel model = models[i % models.length];
+                            registry.validator(model.schema()).validate(model.valid());
+                        }));
+
+        final ValidatorOptions cached =
+                ValidatorOptions.defaults()
+                        .withEngine(Engine.NATIVE)
+                        .withResultCache(ValidationResultCache.create(1024));
+        scenarios.add(new Scenario("result-cache-native", shared(models, cached)));
+        return scenarios;
+    }
+
+    private static Operation shared(final TestModel[] models, final ValidatorOptions options) {
+        final JsonSchemaValidator[] validators = new JsonSchemaValidator[models.length];
+        for (int i = 0; i < models.length; i++) {
+            validators[i] = JsonSchemaValidator.fromSchema(models[i].schema(), options);
+        }
+        return i -> validators[i % models.length].validate(models[i % models.length].valid());
+    }
+
+    private static Result run(
+            final Scenario scenario,
+            final ThreadKind kind,
+            final int threads,
+            final long warmupMs,
+            final long measureMs,
+            final double singleThreaded)
+            throws Exception {
+        final Phase current = new Phase();
+
+        final List<LatencyHistogram> histograms = new ArrayList<>(threads);
+        final List<Future<?>> workers = new ArrayList<>(threads);
+        final ExecutorService executor = kind.executor().apply(threads);
+        try {
+            for (int t = 0; t < threads; t++) {
+                final LatencyHistogram histogram = new LatencyHistogram();
+                histograms.add(histogram);
+                workers.add(executor.submit(() -> work(scenario.operation(), current, histogram)));
+            }
+
+            Thread.sleep(warmupMs);
+            current.value = MEASURING;
+            final long start = System.nanoTime();
+            Thread.sleep(measureMs);
+            current.value = STOPPED;
+            final long elapsed = System.nanoTime() - start;
+
+            for (final Future<?> worker : workers) {
+                worker.get();
+            }
+
+            final LatencyHistogram total = new LatencyHistogram();
+            histograms.forEach(total::add);
+            final double opsPerSecond = total.count() * 1e9 / elapsed;
+            return new Result(
+                    scenario.name(),
+                    kind.name(),
+                    threads,
+                    opsPerSecond,
+                    singleThreaded == 0 ? 1.0 : opsPerSecond / singleThreaded,
+                    micros(total.percentile(50)),
+                    micros(total.percentile(99)),
+                    micros(total.percentile(99.9)),
+                    micros(total.max()));
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(1, TimeUnit.MINUTES);
+        }
+    }
+
+    private static void work(
+            final Operation operation, final Phase phase, final LatencyHistogram histogram) {
+        int i = 0;
+        int current;
+        while ((current = phase.value) != STOPPED) {
+            final long start = System.nanoTime();
+            operation.run(i++);
+            final long elapsed = System.nanoTime() - start;
+            if (current == MEASURING) {
+                histogram.record(elapsed);
+            }
+        }
+    }
+
+    private static final class Phase {
+        volatile int value = WARMING;
+    }
+
+    private static double micros(final long nanos) {
+        return nanos / 1_000.0;
+    }
+
+    /**
+     * Virtual threads need Java 21, but the project targets Java 17, so look them up reflectively.
+     */
+    private static Optional<ThreadKind> virtualThreads() {
+        try {
+            final java.lang.reflect.Method factory =
+                    Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return Optional.of(
+                    new ThreadKind(
+                            "virtual",
+                            threads -> {
+                                try {
+                                    return (ExecutorService) factory.invoke(null);
+                                } catch (final ReflectiveOperationException e) {
+                                    throw new IllegalStateException(e);
+                                }
+                            }));
+        } catch (final NoSuchMethodException e) {
+            return Optional.empty();
+        }
+    }
+
+    private static void print(final Result result) {
+        System.out.printf(
+                "%-22s %-9s %4d threads: %12.0f ops/s (x%5.2f)  p50 %8.1f  p99 %8.1f  p99.9 %9.1f"
+                        + "  max %10.1f us%n",
+                result.scenario(),
+                result.threadKind(),
+                result.threads(),
+                result.opsPerSecond(),
+                result.scaling(),
+                result.p50Us(),
+                result.p99Us(),
+                result.p999Us(),
+                result.maxUs());
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.benchmark.json.schema.generator;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+import org.creekservice.api.json.schema.generator.GeneratorOptions;
+import org.creekservice.api.json.schema.generator.JsonSchemaGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures a full {@link JsonSchemaGenerator#generate} run over the {@code test-types} models,
+ * i.e. what a build pays: scanning for annotated types, generating, and writing, every schema.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+public class GenerateAllSchemasBenchmark {
+
+    @Param({"false", "true"})
+    public boolean optimize;
+
+    private Path outputDirectory;
+    private GeneratorOptions options;
+
+    @Setup
+    public void setUp() throws IOException {
+        outputDirectory = Files.createTempDirectory("generator-benchmark");
+        options =
+                new GeneratorOptions() {
+                    @Override
+                    public TypeScanningSpec typeScanning() {
+                        return testTypes();
+                    }
+
+                    @Override
+                    public TypeScanningSpec subTypeScanning() {
+                        return testTypes();
+                    }
+
+                    @Override
+                    public Path outputDirectory() {
+                        return outputDirectory;
+                    }
+
+                    @Override
+                    public boolean optimizeSchemas() {
+                        return optimize;
+                    }
+                };
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> paths = Files.walk(outputDirectory)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(GenerateAllSchemasBenchmark::delete);
+        }
+    }
+
+    @Benchmark
+    public void generate() {
+        JsonSchemaGenerator.generate(options);
+    }
+
+    private static GeneratorOptions.TypeScanningSpec testTypes() {
+        return new GeneratorOptions.TypeScanningSpec() {
+            @Override
+            public Set<String> packageWhiteList() {
+                return Set.of("org.creekservice.test.types");
+            }
+        };
+    }
+
+    private static void delete(final Path path) {
+        try {
+            Files.delete(path);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.benchmark.json.schema.scale;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.creekservice.api.json.schema.generator.GeneratorOptions;
+import org.creekservice.internal.json.schema.generator.JsonSchema;
+import org.creekservice.internal.json.schema.generator.SchemaGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how schema generation scales with the size of a {@link SyntheticModels} set.
+ *
+ * <p>Compare scores across sizes: {@code generateModels} should grow linearly with size, and the
+ * others no worse than linearly with the depth of the inheritance chain or number of subtypes. Any
+ * steeper growth is a scaling problem.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+public class ScaleGenerationBenchmark {
+
+    /** The size of the model set, see {@link SyntheticModels.Spec#ofSize}. */
+    @Param({"100", "500", "2000"})
+    public int size;
+
+    private SyntheticModels models;
+    private List<Class<?>> modelTypes;
+
+    @Setup
+    public void setUp() {
+        models = SyntheticModels.create(SyntheticModels.Spec.ofSize(size));
+        modelTypes = models.models();
+    }
+
+    /**
+     * @return the number of bytes generated, for every {@code Model<n>} type.
+     */
+    @Benchmark
+    public long generateModels() {
+        final SchemaGenerator generator = generator();
+        generator.registerSubTypes(modelTypes);
+        long bytes = 0;
+        for (final Class<?> type : modelTypes) {
+            bytes += generator.generateSchema(type).content().length;
+        }
+        return bytes;
+    }
+
+    @Benchmark
+    public JsonSchema<?> generateWide() {
+        return generator().generateSchema(models.wide());
+    }
+
+    @Benchmark
+    public JsonSchema<?> generateDeep() {
+        return generator().generateSchema(models.deepest());
+    }
+
+    private static SchemaGenerator generator() {
+        final GeneratorOptions options = () -> Path.of(".");
+        return new SchemaGenerator(options);
+    }
+}
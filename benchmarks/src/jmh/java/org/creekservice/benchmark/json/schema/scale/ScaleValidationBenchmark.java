@@ -0,0 +1,146 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.benchmark.json.schema.scale;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.creekservice.api.json.schema.generator.GeneratorOptions;
+import org.creekservice.api.json.schema.validator.JsonSchemaValidator;
+import org.creekservice.api.json.schema.validator.ValidatorOptions;
+import org.creekservice.api.json.schema.validator.ValidatorOptions.Engine;
+import org.creekservice.internal.json.schema.generator.SchemaGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how validation against schemas generated from a {@link SyntheticModels} set scales
+ * with its size.
+ *
+ * <ul>
+ *   <li>{@code validateWide}: an instance of the last of the {@code Wide} subtypes, the worst case
+ *       for a validator that tries each {@code oneOf} branch.
+ *   <li>{@code validateDeep}: an instance of the deepest type in the inheritance chain, setting
+ *       every inherited property.
+ *   <li>{@code validateModel}: a model using the last {@code BigEnum} constant and a recursive
+ *       {@code Node} tree with {@code size} nodes.
+ * </ul>
+ *
+ * <p>Schemas are compiled in setup, so only validation is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ScaleValidationBenchmark {
+
+    /** The size of the model set, see {@link SyntheticModels.Spec#ofSize}. */
+    @Param({"100", "500", "2000"})
+    public int size;
+
+    @Param({"NETWORKNT", "NATIVE"})
+    public Engine engine;
+
+    private JsonSchemaValidator wide;
+    private JsonSchemaValidator deep;
+    private JsonSchemaValidator model;
+    private Map<String, ?> wideInstance;
+    private Map<String, ?> deepInstance;
+    private Map<String, ?> modelInstance;
+
+    @Setup
+    public void setUp() {
+        final SyntheticModels models = SyntheticModels.create(SyntheticModels.Spec.ofSize(size));
+        final SyntheticModels.Spec spec = models.spec();
+
+        wide = validator(models.wide());
+        final int lastSubtype = spec.subtypes() - 1;
+        wideInstance =
+                Map.of("@type", "sub_" + lastSubtype, "prop" + lastSubtype, "x", "shared", 1);
+
+        deep = validator(models.deepest());
+        final Map<String, Object> levels = new LinkedHashMap<>();
+        for (int level = 0; level <= spec.depth(); level++) {
+            levels.put("prop" + level, "x");
+        }
+        deepInstance = levels;
+
+        model = validator(models.models().get(0));
+        final Map<String, Object> instance = new LinkedHashMap<>();
+        instance.put("name", "x");
+        instance.put("count", 1);
+        instance.put("kind", "C" + (spec.enumConstants() - 1));
+        instance.put("tree", tree(size));
+        modelInstance = instance;
+    }
+
+    @Benchmark
+    public void validateWide() {
+        wide.validate(wideInstance);
+    }
+
+    @Benchmark
+    public void validateDeep() {
+        deep.validate(deepInstance);
+    }
+
+    @Benchmark
+    public void validateModel() {
+        model.validate(modelInstance);
+    }
+
+    private JsonSchemaValidator validator(final Class<?> type) {
+        final GeneratorOptions options = () -> Path.of(".");
+        final String schema = new SchemaGenerator(options).generateSchema(type).text();
+        return JsonSchemaValidator.fromSchema(
+                schema, ValidatorOptions.defaults().withEngine(engine));
+    }
+
+    /**
+     * @param nodes the total number of nodes.
+     * @return a tree of {@code nodes} nodes, with up to ten children per node.
+     */
+    private static Map<String, ?> tree(final int nodes) {
+        final List<Map<String, Object>> all = new ArrayList<>(nodes);
+        for (int i = 0; i < nodes; i++) {
+            final Map<String, Object> node = new LinkedHashMap<>();
+            node.put("label", "node-" + i);
+            node.put("children", new ArrayList<>());
+            all.add(node);
+            if (i > 0) {
+                @SuppressWarnings("unchecked")
+                final List<Object> siblings = (List<Object>) all.get((i - 1) / 10).get("children");
+                siblings.add(node);
+            }
+        }
+        return all.get(0);
+    }
+}
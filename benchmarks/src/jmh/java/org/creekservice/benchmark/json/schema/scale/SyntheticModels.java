@@ -0,0 +1,380 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.benchmark.json.schema.scale;
+
+import static java.util.Objects.requireNonNull;
+
+import com.fasterxml.jackson.annotation.JsonSubTypes;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.stream.Stream;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.ToolProvider;
+import org.creekservice.api.base.annotation.schema.GeneratesSchema;
+
+/**
+ * Generates, compiles and loads a synthetic set of models, far larger than those in {@code
+ * test-types}, to expose how generation and validation scale.
+ *
+ * <p>The set, in package {@value #PACKAGE}, contains:
+ *
+ * <ul>
+ *   <li>{@code Model0} to {@code Model<n>}: {@code @GeneratesSchema} types with scalar, optional,
+ *       generic, recursive and list properties. Each references at most the few models before it
+ *       in its group of ten, so the size of each schema is bounded, and total generation time
+ *       should grow linearly with the number of models.
+ *   <li>{@code Level0} to {@code Level<depth>}: an inheritance chain, each level adding a property.
+ *   <li>{@code Wide}: a {@code @JsonTypeInfo} interface with {@code WideSub0} to {@code
+ *       WideSub<n>} subtypes.
+ *   <li>{@code BigEnum}: an enum with many constants, used only by {@code Model0}.
+ *   <li>{@code Box<T>}: a generic type, and {@code Node}: a recursive type.
+ * </ul>
+ *
+ * <p>Output is deterministic: the same {@link Spec} always produces the same models.
+ */
+public final class SyntheticModels {
+
+    /** The package of the generated models. */
+    public static final String PACKAGE = "org.creekservice.synthetic";
+
+    /** Number of models in each group, within which models reference each other. */
+    private static final int GROUP_SIZE = 10;
+
+    /** Enums with many more constants exceed the size limit of the enum's static initialiser. */
+    private static final int MAX_ENUM_CONSTANTS = 2_000;
+
+    private static final String IMPORTS =
+            "package "
+                    + PACKAGE
+                    + ";\n"
+                    + "import java.util.List;\n"
+                    + "import java.util.Optional;\n"
+                    + "import "
+                    + GeneratesSchema.class.getName()
+                    + ";\n"
+                    + "import "
+                    + JsonTypeInfo.class.getName()
+                    + ";\n"
+                    + "import "
+                    + JsonSubTypes.class.getName()
+                    + ";\n";
+
+    private static final String WIDE_SUBTYPE =
+            "@JsonSubTypes.Type(value = WideSub%d.class, name = \"sub_%d\")";
+
+    private static final String BOX =
+            IMPORTS
+                    + """
+                    public final class Box<T> {
+                        public T getValue() { return null; }
+                        public List<T> getValues() { return List.of(); }
+                    }
+                    """;
+
+    private static final String NODE =
+            IMPORTS
+                    + """
+                    public final class Node {
+                        public String getLabel() { return null; }
+                        public List<Node> getChildren() { return List.of(); }
+                    }
+                    """;
+
+    private final Map<String, Class<?>> types;
+    private final Spec spec;
+
+    /**
+     * The shape of a synthetic model set.
+     *
+     * @param models the number of {@code Model<n>} types.
+     * @param depth the depth of the inheritance chain.
+     * @param subtypes the number of subtypes of {@code Wide}.
+     * @param enumConstants the number of {@code BigEnum} constants.
+     */
+    public record Spec(int models, int depth, int subtypes, int enumConstants) {
+
+        public Spec {
+            if (models <= 0 || depth <= 0 || subtypes <= 0 || enumConstants <= 0) {
+                throw new IllegalArgumentException("All sizes must be positive");
+            }
+            if (enumConstants > MAX_ENUM_CONSTANTS) {
+                throw new IllegalArgumentException(
+                        "enumConstants can not exceed " + MAX_ENUM_CONSTANTS);
+            }
+        }
+
+        /**
+         * @param size the overall size.
+         * @return a spec with {@code size} models, subtypes and, up to the limit, enum constants,
+         *     and an inheritance chain a tenth as deep.
+         */
+        public static Spec ofSize(final int size) {
+            return new Spec(
+                    size, Math.max(1, size / 10), size, Math.min(size, MAX_ENUM_CONSTANTS));
+        }
+    }
+
+    private SyntheticModels(final Map<String, Class<?>> types, final Spec spec) {
+        this.types = Map.copyOf(requireNonNull(types, "types"));
+        this.spec = requireNonNull(spec, "spec");
+    }
+
+    /**
+     * Generate, compile and load a model set.
+     *
+     * <p>Sources are compiled with the system Java compiler, against the current class path, to a
+     * temporary directory, which is deleted once all the types are loaded.
+     *
+     * @param spec the shape of the set.
+     * @return the loaded model set.
+     */
+    public static SyntheticModels create(final Spec spec) {
+        final Map<String, String> sources = sources(spec);
+        try {
+            final Path output = Files.createTempDirectory("synthetic-models");
+            try {
+                compile(sources, output);
+                return new SyntheticModels(load(sources.keySet(), output), spec);
+            } finally {
+                delete(output);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * @return the shape of the set.
+     */
+    public Spec spec() {
+        return spec;
+    }
+
+    /**
+     * @return the {@code Model<n>} types.
+     */
+    public List<Class<?>> models() {
+        final List<Class<?>> models = new ArrayList<>(spec.models());
+        for (int i = 0; i < spec.models(); i++) {
+            models.add(load("Model" + i));
+        }
+        return models;
+    }
+
+    /**
+     * @return the deepest type in the inheritance chain.
+     */
+    public Class<?> deepest() {
+        return load("Level" + spec.depth());
+    }
+
+    /**
+     * @return the base type of the wide polymorphic hierarchy.
+     */
+    public Class<?> wide() {
+        return load("Wide");
+    }
+
+    /**
+     * @return every {@code @GeneratesSchema} type in the set.
+     */
+    public List<Class<?>> all() {
+        final List<Class<?>> all = new ArrayList<>(models());
+        all.add(deepest());
+        all.add(wide());
+        return all;
+    }
+
+    private Class<?> load(final String simpleName) {
+        return types.get(simpleName);
+    }
+
+    /**
+     * @return the source of each type, by simple name.
+     */
+    private static Map<String, String> sources(final Spec spec) {
+        final Map<String, String> sources = new LinkedHashMap<>();
+        sources.put("BigEnum", bigEnum(spec.enumConstants()));
+        sources.put("Box", BOX);
+        sources.put("Node", NODE);
+        for (int i = 0; i < spec.models(); i++) {
+            sources.put("Model" + i, model(i));
+        }
+        for (int level = 0; level <= spec.depth(); level++) {
+            sources.put("Level" + level, level(level, spec.depth()));
+        }
+        sources.put("Wide", wide(spec.subtypes()));
+        for (int i = 0; i < spec.subtypes(); i++) {
+            sources.put("WideSub" + i, wideSub(i));
+        }
+        return sources;
+    }
+
+    private static String bigEnum(final int constants) {
+        final StringJoiner values = new StringJoiner(", ");
+        for (int i = 0; i < constants; i++) {
+            values.add("C" + i);
+        }
+        return IMPORTS + "public enum BigEnum { " + values + " }\n";
+    }
+
+    private static String model(final int i) {
+        final StringBuilder body = new StringBuilder();
+        body.append("@GeneratesSchema\npublic final class Model").append(i).append(" {\n");
+        body.append("    public String getName() { return null; }\n");
+        body.append("    public int getCount() { return 0; }\n");
+        body.append("    public Optional<String> getNote() { return Optional.empty(); }\n");
+        if (i == 0) {
+            body.append("    public BigEnum getKind() { return null; }\n");
+        }
+        body.append("    public Node getTree() { return null; }\n");
+        body.append("    public Model").append(i).append(" getNext() { return null; }\n");
+        if (i % GROUP_SIZE != 0) {
+            final String previous = "Model" + (i - 1);
+            body.append("    public List<")
+                    .append(previous)
+                    .append("> getRelated() { return List.of(); }\n");
+            body.append("    public Box<")
+                    .append(previous)
+                    .append("> getBoxed() { return null; }\n");
+        }
+        body.append("}\n");
+        return IMPORTS + body;
+    }
+
+    private static String level(final int level, final int depth) {
+        final String annotation = level == depth ? "@GeneratesSchema\n" : "";
+        final String parent = level == 0 ? "" : " extends Level" + (level - 1);
+        return IMPORTS
+                + annotation
+                + "public class Level"
+                + level
+                + parent
+                + " {\n"
+                + "    public String getProp"
+                + level
+                + "() { return null; }\n"
+                + "}\n";
+    }
+
+    private static String wide(final int subtypes) {
+        final StringJoiner types = new StringJoiner(",\n    ");
+        for (int i = 0; i < subtypes; i++) {
+            types.add(WIDE_SUBTYPE.formatted(i, i));
+        }
+        return IMPORTS
+                + "@GeneratesSchema\n"
+                + "@JsonTypeInfo(use = JsonTypeInfo.Id.NAME)\n"
+                + "@JsonSubTypes({\n    "
+                + types
+                + "\n})\n"
+                + "public interface Wide {}\n";
+    }
+
+    private static String wideSub(final int i) {
+        return IMPORTS
+                + "public final class WideSub"
+                + i
+                + " implements Wide {\n"
+                + "    public String getProp"
+                + i
+                + "() { return null; }\n"
+                + "    public long getShared() { return 0; }\n"
+                + "}\n";
+    }
+
+    private static JavaFileObject source(final String simpleName, final String content) {
+        final URI uri =
+                URI.create(
+                        "string:///"
+                                + PACKAGE.replace('.', '/')
+                                + "/"
+                                + simpleName
+                                + JavaFileObject.Kind.SOURCE.extension);
+        return new SimpleJavaFileObject(uri, JavaFileObject.Kind.SOURCE) {
+            @Override
+            public CharSequence getCharContent(final boolean ignoreEncodingErrors) {
+                return content;
+            }
+        };
+    }
+
+    private static void compile(final Map<String, String> sources, final Path output) {
+        final List<JavaFileObject> files = new ArrayList<>(sources.size());
+        sources.forEach((name, content) -> files.add(source(name, content)));
+
+        final JavaCompiler compiler =
+                Optional.ofNullable(ToolProvider.getSystemJavaCompiler())
+                        .orElseThrow(
+                                () -> new IllegalStateException("Requires a JDK, not a JRE"));
+        final List<String> options =
+                List.of(
+                        "-d",
+                        output.toString(),
+                        "-classpath",
+                        System.getProperty("java.class.path"),
+                        "-proc:none",
+                        "-nowarn");
+        final boolean compiled =
+                compiler.getTask(null, null, null, options, null, files).call();
+        if (!compiled) {
+            throw new IllegalStateException("Failed to compile synthetic models");
+        }
+    }
+
+    private static Map<String, Class<?>> load(final Set<String> simpleNames, final Path output)
+            throws IOException {
+        final Map<String, Class<?>> types = new HashMap<>();
+        // Types remain usable once the loader is closed, as all are loaded up front:
+        try (URLClassLoader loader =
+                new URLClassLoader(
+                        new URL[] {output.toUri().toURL()},
+                        SyntheticModels.class.getClassLoader())) {
+            for (final String simpleName : simpleNames) {
+                types.put(simpleName, Class.forName(PACKAGE + "." + simpleName, false, loader));
+            }
+        } catch (final ClassNotFoundException e) {
+            throw new IllegalStateException("Synthetic type not compiled", e);
+        }
+        return types;
+    }
+
+    private static void delete(final Path directory) throws IOException {
+        try (Stream<Path> paths = Files.walk(directory)) {
+            for (final Path path : paths.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
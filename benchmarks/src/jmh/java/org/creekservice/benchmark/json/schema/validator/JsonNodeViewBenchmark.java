@@ -0,0 +1,110 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.benchmark.json.schema.validator;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.creekservice.internal.json.schema.validator.JsonNodeViews;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Compares the cost of presenting a deserialised {@code Map} to the validator as a {@link
+ * JsonNode}: copying it with {@code valueToTree} vs wrapping it with {@link JsonNodeViews}.
+ *
+ * <p>Each benchmark visits every node, as validation would. Compare {@code gc.alloc.rate.norm},
+ * i.e. bytes allocated per operation, as well as the time per operation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class JsonNodeViewBenchmark {
+
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+
+    /** Number of line items in the payload, controlling its size. */
+    @Param({"1", "10", "100"})
+    public int items;
+
+    private Map<String, Object> payload;
+
+    @Setup
+    public void setUp() {
+        final List<Object> lines = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            final Map<String, Object> line = new LinkedHashMap<>();
+            line.put("sku", "SKU-" + i);
+            line.put("quantity", i);
+            line.put("price", i * 1.25);
+            line.put("tags", List.of("a", "b"));
+            lines.add(line);
+        }
+
+        payload = new LinkedHashMap<>();
+        payload.put("id", "order-1");
+        payload.put("customer", Map.of("name", "Alice", "vip", true));
+        payload.put("created", 1_700_000_000_000L);
+        payload.put("lines", lines);
+    }
+
+    @Benchmark
+    public void valueToTree(final Blackhole bh) {
+        visit(JSON_MAPPER.valueToTree(payload), bh);
+    }
+
+    @Benchmark
+    public void view(final Blackhole bh) {
+        visit(JsonNodeViews.view(payload), bh);
+    }
+
+    private static void visit(final JsonNode node, final Blackhole bh) {
+        if (node.isObject()) {
+            for (final Map.Entry<String, JsonNode> e : node.properties()) {
+                bh.consume(e.getKey());
+                visit(e.getValue(), bh);
+            }
+        } else if (node.isArray()) {
+            for (final JsonNode element : node) {
+                visit(element, bh);
+            }
+        } else if (node.isString()) {
+            bh.consume(node.asString());
+        } else if (node.isNumber()) {
+            bh.consume(node.numberValue());
+        } else {
+            bh.consume(node.asBoolean());
+        }
+    }
+}
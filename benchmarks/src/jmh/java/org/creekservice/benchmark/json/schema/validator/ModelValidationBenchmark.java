@@ -0,0 +1,119 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.benchmark.json.schema.validator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.creekservice.api.json.schema.validator.JsonSchemaValidator;
+import org.creekservice.api.json.schema.validator.SchemaBundle;
+import org.creekservice.api.json.schema.validator.SchemaValidationException;
+import org.creekservice.api.json.schema.validator.ValidatorOptions;
+import org.creekservice.api.json.schema.validator.ValidatorOptions.Engine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures validation throughput against schemas generated from the {@code test-types} models.
+ *
+ * <p>The models are small, so payload size is controlled by validating a batch: an envelope
+ * holding an array of {@code records} instances of the model, whose schema references the
+ * generated model schema via a {@link SchemaBundle}. The invalid payload's only invalid record is
+ * the last, so validators see the whole batch before failing.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ModelValidationBenchmark {
+
+    private static final String MODEL_ID = "urn:creek:benchmark:model";
+
+    private static final String ENVELOPE_SCHEMA =
+            """
+            $schema: https://json-schema.org/draft/2020-12/schema
+            type: object
+            properties:
+              records:
+                type: array
+                items: {$ref: "%s"}
+            required: [records]
+            """
+                    .formatted(MODEL_ID);
+
+    @Param({"NETWORKNT", "NATIVE"})
+    public Engine engine;
+
+    @Param({"SIMPLE", "OPTIONAL", "REQUIRE", "FORMAT", "POLYMORPHIC"})
+    public TestModel model;
+
+    /** Number of model instances in the payload: small, medium and large. */
+    @Param({"1", "10", "100"})
+    public int records;
+
+    private JsonSchemaValidator validator;
+    private Map<String, ?> valid;
+    private Map<String, ?> invalid;
+
+    @Setup
+    public void setUp() {
+        validator =
+                JsonSchemaValidator.fromSchema(
+                        ENVELOPE_SCHEMA,
+                        ValidatorOptions.defaults()
+                                .withEngine(engine)
+                                .withBundle(SchemaBundle.empty().with(MODEL_ID, model.schema())));
+        valid = payload(model.valid());
+        invalid = payload(model.invalid());
+    }
+
+    @Benchmark
+    public void validate() {
+        validator.validate(valid);
+    }
+
+    @Benchmark
+    public Exception validateInvalid() {
+        try {
+            validator.validate(invalid);
+            throw new AssertionError("payload should be invalid");
+        } catch (final SchemaValidationException e) {
+            return e;
+        }
+    }
+
+    private Map<String, ?> payload(final Map<String, ?> last) {
+        final List<Object> batch = new ArrayList<>(records);
+        for (int i = 1; i < records; i++) {
+            batch.add(model.valid());
+        }
+        batch.add(last);
+        return Map.of("records", batch);
+    }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.benchmark.json.schema.validator;
+
+import java.util.concurrent.TimeUnit;
+import org.creekservice.internal.json.schema.validator.regex.RegexMatcher;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares backtracking and linear-time matching of the patterns the generator emits for Java
+ * temporal types.
+ *
+ * <p>{@code hostile} measures a near-miss input that backtracking regexes explore at length,
+ * showing how each matcher's cost grows with input length.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PatternMatchingBenchmark {
+
+    /** Patterns, as emitted by the generator, and a value each matches. */
+    public enum TemporalPattern {
+        LOCAL_TIME(
+                "^(?:[01]\\d|2[0-3]):(?:[0-5]\\d)(?::(?:[0-5]\\d)(?:\\.\\d{1,9})?)?$",
+                "23:59:59.123456789"),
+        LOCAL_DATE_TIME(
+                "^\\d{4}-(?:0[1-9]|1[0-2])-(?:0[1-9]|[12]\\d|3[01])T(?:[01]\\d|2[0-3]):[0-5]\\d"
+                        + "(?::[0-5]\\d(?:\\.\\d{1,9})?)?$",
+                "2024-02-29T23:59:59.123"),
+        PERIOD("^P(?=\\d)(?:\\d+Y)?(?:\\d+M)?(?:\\d+W)?(?:\\d+D)?$", "P1Y2M3W4D"),
+        MONTH_DAY("^--(?:0[1-9]|1[0-2])-(?:0[1-9]|[12]\\d|3[01])$", "--12-31"),
+        YEAR_MONTH("^-?\\d{4,}-(?:0[1-9]|1[0-2])$", "2024-12");
+
+        final String regex;
+        final String value;
+
+        TemporalPattern(final String regex, final String value) {
+            this.regex = regex;
+            this.value = value;
+        }
+    }
+
+    @Param
+    public TemporalPattern pattern;
+
+    @Param({"false", "true"})
+    public boolean linearTime;
+
+    private RegexMatcher matcher;
+    private String hostile;
+
+    @Setup
+    public void setUp() {
+        matcher = RegexMatcher.compile(pattern.regex, linearTime);
+        if (!matcher.find(pattern.value)) {
+            throw new AssertionError("value should match: " + pattern.value);
+        }
+        hostile = "1".repeat(1_000) + "!";
+    }
+
+    @Benchmark
+    public boolean match() {
+        return matcher.find(pattern.value);
+    }
+
+    @Benchmark
+    public boolean hostile() {
+        return matcher.find(hostile);
+    }
+}
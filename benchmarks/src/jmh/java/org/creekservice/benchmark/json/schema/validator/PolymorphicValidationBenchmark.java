@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.benchmark.json.schema.validator;
+
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import org.creekservice.api.json.schema.validator.JsonSchemaValidator;
+import org.creekservice.api.json.schema.validator.ValidatorOptions;
+import org.creekservice.api.json.schema.validator.ValidatorOptions.Engine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures how validating a polymorphic type scales with its number of subtypes.
+ *
+ * <p>The schema has the shape the generator produces for a {@code @JsonTypeInfo} base type: a
+ * {@code oneOf} of subtypes, each requiring a constant {@code @type} discriminator. The payload
+ * is an instance of the last subtype, the worst case for a validator that tries each branch.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PolymorphicValidationBenchmark {
+
+    private static final String SUBTYPE =
+            """
+            "SubType%d":{"type":"object","properties":{\
+            "@type":{"const":"type_%d"},"id":{"type":"string"},"count":{"type":"integer"}},\
+            "required":["@type"],"additionalProperties":false}\
+            """;
+
+    @Param({"NETWORKNT", "NATIVE"})
+    public Engine engine;
+
+    /** Number of subtypes in the {@code oneOf}. */
+    @Param({"2", "20", "150"})
+    public int subtypes;
+
+    private JsonSchemaValidator validator;
+    private Map<String, Object> payload;
+
+    @Setup
+    public void setUp() {
+        validator =
+                JsonSchemaValidator.fromSchema(
+                        schema(subtypes), ValidatorOptions.defaults().withEngine(engine));
+        payload = Map.of("@type", "type_" + (subtypes - 1), "id", "abc", "count", 1);
+    }
+
+    @Benchmark
+    public void validate() {
+        validator.validate(payload);
+    }
+
+    private static String schema(final int subtypes) {
+        final StringJoiner defs = new StringJoiner(",");
+        final StringJoiner oneOf = new StringJoiner(",");
+        for (int i = 0; i < subtypes; i++) {
+            defs.add(String.format(SUBTYPE, i, i));
+            oneOf.add(String.format("{\"$ref\":\"#/$defs/SubType%d\"}", i));
+        }
+        return "{\"$defs\":{" + defs + "},\"oneOf\":[" + oneOf + "]}";
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.benchmark.json.schema.validator;
+
+import java.util.concurrent.TimeUnit;
+import org.creekservice.api.json.schema.validator.JsonSchemaValidator;
+import org.creekservice.api.json.schema.validator.ValidatorOptions;
+import org.creekservice.api.json.schema.validator.ValidatorOptions.Engine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of {@link JsonSchemaValidator#fromSchema(String, ValidatorOptions)}, i.e.
+ * parsing and compiling a schema generated from one of the {@code test-types} models.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SchemaCompileBenchmark {
+
+    @Param({"NETWORKNT", "NATIVE"})
+    public Engine engine;
+
+    @Param({"SIMPLE", "OPTIONAL", "FORMAT", "POLYMORPHIC"})
+    public TestModel model;
+
+    private String schema;
+    private ValidatorOptions options;
+
+    @Setup
+    public void setUp() {
+        schema = model.schema();
+        options = ValidatorOptions.defaults().withEngine(engine);
+    }
+
+    @Benchmark
+    public JsonSchemaValidator compile() {
+        return JsonSchemaValidator.fromSchema(schema, options);
+    }
+}
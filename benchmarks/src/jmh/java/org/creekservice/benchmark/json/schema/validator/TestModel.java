@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.benchmark.json.schema.validator;
+
+import java.nio.file.Path;
+import java.util.Map;
+import org.creekservice.api.json.schema.generator.GeneratorOptions;
+import org.creekservice.internal.json.schema.generator.SchemaGenerator;
+import org.creekservice.test.types.FormatModel;
+import org.creekservice.test.types.OptionalModel;
+import org.creekservice.test.types.RequireModel;
+import org.creekservice.test.types.SimpleModel;
+import org.creekservice.test.types.more.PolymorphicModel;
+
+/**
+ * Models from the {@code test-types} module, with a valid and an invalid instance of each.
+ *
+ * <p>Schemas are generated from the models when first requested, so benchmarks always measure
+ * the schemas the current generator produces.
+ */
+public enum TestModel {
+    SIMPLE(SimpleModel.class, Map.of("intProp", 10, "stringProp", "text"), Map.of("intProp", "x")),
+    OPTIONAL(
+            OptionalModel.class,
+            Map.of("nonOptional", "a", "optional", "b", "requiredOptional", "c"),
+            Map.of("optional", "b", "requiredOptional", "c")),
+    REQUIRE(
+            RequireModel.class,
+            Map.of("optionalProp", "a", "requiredProp", "b"),
+            Map.of("optionalProp", "a")),
+    FORMAT(
+            FormatModel.class,
+            Map.ofEntries(
+                    Map.entry("uri", "https://www.creekservice.org/docs"),
+                    Map.entry("instant", "2026-01-01T10:15:30Z"),
+                    Map.entry("dateTime", "2026-01-01T10:15:30+01:00"),
+                    Map.entry("date", "2026-01-01"),
+                    Map.entry("time", "10:15:30+01:00"),
+                    Map.entry("period", "P1Y2M3D")),
+            Map.of("date", "2026-13-01", "period", "P1Y2M3D")),
+    POLYMORPHIC(
+            PolymorphicModel.class,
+            Map.of("@type", "type_2", "prop2", "text"),
+            Map.of("@type", "type_1", "prop2", "text"));
+
+    private final Class<?> type;
+    private final Map<String, ?> valid;
+    private final Map<String, ?> invalid;
+    private String schema;
+
+    TestModel(final Class<?> type, final Map<String, ?> valid, final Map<String, ?> invalid) {
+        this.type = type;
+        this.valid = valid;
+        this.invalid = invalid;
+    }
+
+    /**
+     * @return the YAML schema generated for the model.
+     */
+    public synchronized String schema() {
+        if (schema == null) {
+            final GeneratorOptions options = () -> Path.of(".");
+            schema = new SchemaGenerator(options).generateSchema(type).text();
+        }
+        return schema;
+    }
+
+    /**
+     * @return the properties of a valid instance of the model.
+     */
+    public Map<String, ?> valid() {
+        return valid;
+    }
+
+    /**
+     * @return the properties of an instance of the model that fails validation.
+     */
+    public Map<String, ?> invalid() {
+        return invalid;
+    }
+}
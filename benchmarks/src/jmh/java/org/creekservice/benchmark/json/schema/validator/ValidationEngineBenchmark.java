@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.benchmark.json.schema.validator;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import org.creekservice.api.json.schema.validator.JsonSchemaValidator;
+import org.creekservice.api.json.schema.validator.SchemaValidationException;
+import org.creekservice.api.json.schema.validator.ValidatorOptions;
+import org.creekservice.api.json.schema.validator.ValidatorOptions.Engine;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the validation engines, for valid and invalid payloads of different sizes.
+ *
+ * <p>Valid payloads are the common case. Invalid payloads measure the cost of building error
+ * messages, which the native engine only does after a failed first pass.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ValidationEngineBenchmark {
+
+    private static final String SCHEMA =
+            """
+            $schema: https://json-schema.org/draft/2020-12/schema
+            type: object
+            properties:
+              id: {type: string, minLength: 1}
+              created: {type: integer, minimum: 0}
+              customer:
+                type: object
+                properties:
+                  name: {type: string}
+                  vip: {type: boolean}
+                required: [name]
+              lines:
+                type: array
+                items:
+                  type: object
+                  properties:
+                    sku: {type: string, pattern: "^SKU-[0-9]+$"}
+                    quantity: {type: integer, minimum: 0}
+                    price: {type: number, exclusiveMinimum: 0}
+                    tags: {type: array, items: {type: string}, uniqueItems: true}
+                  required: [sku, quantity]
+                  additionalProperties: false
+            required: [id, lines]
+            """;
+
+    @Param({"NETWORKNT", "NATIVE"})
+    public Engine engine;
+
+    /** Number of line items in the payload, controlling its size. */
+    @Param({"1", "10", "100"})
+    public int items;
+
+    private JsonSchemaValidator validator;
+    private Map<String, Object> valid;
+    private Map<String, Object> invalid;
+
+    @Setup
+    public void setUp() {
+        validator =
+                JsonSchemaValidator.fromSchema(
+                        SCHEMA, ValidatorOptions.defaults().withEngine(engine));
+        valid = payload(items, 1);
+        invalid = payload(items, -1);
+    }
+
+    @Benchmark
+    public void validate() {
+        validator.validate(valid);
+    }
+
+    @Benchmark
+    public Exception validateInvalid() {
+        try {
+            validator.validate(invalid);
+            throw new AssertionError("payload should be invalid");
+        } catch (final SchemaValidationException e) {
+            return e;
+        }
+    }
+
+    private static Map<String, Object> payload(final int items, final int quantity) {
+        final List<Object> lines = new ArrayList<>();
+        for (int i = 0; i < items; i++) {
+            final Map<String, Object> line = new LinkedHashMap<>();
+            line.put("sku", "SKU-" + i);
+            line.put("quantity", quantity);
+            line.put("price", (i + 1) * 1.25);
+            line.put("tags", List.of("a", "b"));
+            lines.add(line);
+        }
+
+        final Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("id", "order-1");
+        payload.put("customer", Map.of("name", "Alice", "vip", true));
+        payload.put("created", 1_700_000_000_000L);
+        payload.put("lines", lines);
+        return payload;
+    }
+}
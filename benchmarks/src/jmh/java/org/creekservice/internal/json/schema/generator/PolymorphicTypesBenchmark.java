@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import org.creekservice.api.json.schema.generator.GeneratorOptions.TypeScanningSpec;
+import org.creekservice.test.types.FormatModel;
+import org.creekservice.test.types.JacksonModel;
+import org.creekservice.test.types.OptionalModel;
+import org.creekservice.test.types.SimpleModel;
+import org.creekservice.test.types.Thing;
+import org.creekservice.test.types.more.PolymorphicModel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Measures {@link PolymorphicTypes#findPolymorphicTypes} over the {@code test-types} models.
+ *
+ * <p>Subtypes not declared via {@code @JsonSubTypes}, e.g. those of {@link Thing}, are found by
+ * scanning the class path, so the cost depends heavily on how much of it is scanned: either only
+ * the {@code test-types} packages, or everything.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PolymorphicTypesBenchmark {
+
+    private static final Collection<Class<?>> TYPES =
+            Set.of(
+                    SimpleModel.class,
+                    OptionalModel.class,
+                    FormatModel.class,
+                    JacksonModel.class,
+                    PolymorphicModel.class,
+                    Thing.class);
+
+    /** Whether subtype scanning is restricted to the {@code test-types} packages. */
+    @Param({"true", "false"})
+    public boolean restricted;
+
+    private TypeScanningSpec scanning;
+    private ObjectMapper mapper;
+
+    @Setup
+    public void setUp() {
+        final Set<String> packages = restricted ? Set.of("org.creekservice.test.types") : Set.of();
+        scanning =
+                new TypeScanningSpec() {
+                    @Override
+                    public Set<String> packageWhiteList() {
+                        return packages;
+                    }
+                };
+        mapper = JsonMapper.builder().build();
+    }
+
+    @Benchmark
+    public Collection<?> findPolymorphicTypes() {
+        return PolymorphicTypes.findPolymorphicTypes(TYPES, scanning, mapper);
+    }
+}
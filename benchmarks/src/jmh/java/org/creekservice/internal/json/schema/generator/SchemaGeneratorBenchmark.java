@@ -0,0 +1,74 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator;
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import org.creekservice.api.json.schema.generator.GeneratorOptions;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link SchemaGenerator#generateSchema} for each of the {@code test-types} models, i.e.
+ * victools generation, schema optimisation and serialisation to YAML.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class SchemaGeneratorBenchmark {
+
+    /** The model's class name, relative to the {@code org.creekservice.test.types} package. */
+    @Param({
+        "SimpleModel",
+        "OptionalModel",
+        "OptionalPrimitivesModel",
+        "RequireModel",
+        "FormatModel",
+        "JacksonModel",
+        "SwaggerModel",
+        "KotlinModel",
+        "more.PolymorphicModel"
+    })
+    public String model;
+
+    private Class<?> type;
+    private SchemaGenerator generator;
+
+    @Setup
+    public void setUp() throws Exception {
+        type = Class.forName("org.creekservice.test.types." + model);
+        final GeneratorOptions options = () -> Path.of(".");
+        generator = new SchemaGenerator(options);
+    }
+
+    @Benchmark
+    public JsonSchema<?> generateSchema() {
+        return generator.generateSchema(type);
+    }
+}
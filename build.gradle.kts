@@ -44,7 +44,7 @@ subprojects {
     apply(plugin = "creek-common-convention")
     apply(plugin = "creek-module-convention")
 
-    if (name.startsWith("test-")) {
+    if (name.startsWith("test-") || name == "benchmarks") {
         tasks.javadoc { onlyIf { false } }
     } else {
         apply(plugin = "creek-publishing-convention")
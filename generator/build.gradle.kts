@@ -37,6 +37,8 @@ dependencies {
     implementation("com.github.spotbugs:spotbugs-annotations:$spotBugsVersion")
     implementation("info.picocli:picocli:$picoCliVersion")
     implementation("tools.jackson.dataformat:jackson-dataformat-yaml:$jacksonVersion")
+    implementation("tools.jackson.dataformat:jackson-dataformat-smile:$jacksonVersion")
+    implementation("tools.jackson.dataformat:jackson-dataformat-cbor:$jacksonVersion")
     implementation("com.github.victools:jsonschema-generator:$victoolsVersion")
     implementation("com.github.victools:jsonschema-module-jackson:$victoolsVersion")
     implementation("com.github.victools:jsonschema-module-swagger-2:$victoolsVersion")
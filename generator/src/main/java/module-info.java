@@ -7,9 +7,12 @@ module creek.json.schema.generator {
     requires org.apache.logging.log4j;
     requires org.slf4j;
     requires java.management;
+    requires jdk.jfr;
     requires com.fasterxml.jackson.annotation;
     requires tools.jackson.databind;
     requires tools.jackson.dataformat.yaml;
+    requires tools.jackson.dataformat.smile;
+    requires tools.jackson.dataformat.cbor;
     requires com.fasterxml.classmate;
     requires com.github.victools.jsonschema.generator;
     requires com.github.victools.jsonschema.module.jackson;
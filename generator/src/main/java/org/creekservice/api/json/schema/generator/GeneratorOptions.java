@@ -17,7 +17,9 @@
 package org.creekservice.api.json.schema.generator;
 
 import java.nio.file.Path;
+import java.util.Optional;
 import java.util.Set;
+import org.creekservice.api.base.type.schema.GeneratedSchemas;
 import org.creekservice.internal.json.schema.generator.output.DirectoryTreeOutputLocationStrategy;
 
 /** Options to control the {@link JsonSchemaGenerator}. */
@@ -112,7 +114,102 @@ public interface GeneratorOptions {
      *     be written.
      */
     default OutputLocationStrategy outputLocationStrategy() {
-        return new DirectoryTreeOutputLocationStrategy();
+        return new DirectoryTreeOutputLocationStrategy(outputFormat());
+    }
+
+    /**
+     * The format generated schemas are written in.
+     *
+     * <p>YAML is the most human-readable, and the only format compatible with other Creek
+     * components. The other formats are cheaper for consumers to parse, with the binary formats
+     * being the cheapest.
+     *
+     * <p>Default: {@link OutputFormat#YAML}.
+     *
+     * @return the output format.
+     */
+    default OutputFormat outputFormat() {
+        return OutputFormat.YAML;
+    }
+
+    /**
+     * How the schemas of polymorphic base types, i.e. types annotated with {@code @JsonTypeInfo},
+     * are written.
+     *
+     * <p>Default: {@link PolymorphicStyle#ONE_OF}.
+     *
+     * @return the polymorphic style.
+     */
+    default PolymorphicStyle polymorphicStyle() {
+        return PolymorphicStyle.ONE_OF;
+    }
+
+    /**
+     * Whether generated schemas are optimized before being written.
+     *
+     * <p>Optimization rewrites schemas into a form that is cheaper to validate, without changing
+     * the documents they accept, e.g. by inlining definitions that are only used once, flattening
+     * {@code allOf}s and removing constraints that can never fail. The result is less like the
+     * types it was generated from, so can be harder to read.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return {@code true} to optimize schemas.
+     */
+    default boolean optimizeSchemas() {
+        return false;
+    }
+
+    /**
+     * The directory, relative to the {@link #outputDirectory()}, that definitions shared by more
+     * than one generated schema are written to.
+     *
+     * <p>By default, each generated schema embeds its own copy of every definition it uses, so a
+     * type used by many schemas, e.g. a money or address type, is duplicated into each of them.
+     * When set, such shared definitions are instead written once, to their own common schema in
+     * this directory, which the generated schemas reference by the common schema's {@code $id},
+     * i.e. {@code urn:creek:schema:<definition-name>}. Validators must then be supplied the
+     * common schemas, e.g. via a {@code SchemaBundle}, to resolve the references.
+     *
+     * <p>Default: empty, i.e. schemas are self-contained.
+     *
+     * @return the directory common schemas are written to, if any.
+     */
+    default Optional<Path> commonDefinitionsDirectory() {
+        return Optional.empty();
+    }
+
+    /**
+     * How the generator reacts to a {@code pattern} in a generated schema that a backtracking
+     * regex matcher, such as the one most validators use, can take exponential or polynomial time
+     * to match, e.g. {@code (a+)+} or {@code \d+\d+}.
+     *
+     * <p>Patterns can come from the built-in type mappings, {@code @Schema(pattern=...)} or
+     * {@code @JsonSchemaInject}. Each issue names the type and property the pattern is on.
+     *
+     * <p>Default: {@link PatternCheck#WARN}.
+     *
+     * @return the pattern check.
+     */
+    default PatternCheck patternCheck() {
+        return PatternCheck.WARN;
+    }
+
+    /**
+     * Whether {@code LocalTime}, {@code LocalDateTime}, {@code MonthDay}, {@code YearMonth} and
+     * {@code Period} are described by custom formats, rather than patterns.
+     *
+     * <p>The formats are {@code local-time}, {@code local-date-time}, {@code month-day}, {@code
+     * year-month} and {@code period}. Creek's validator checks each with a single scan of the
+     * text, which is cheaper than matching the equivalent pattern. Other validators will treat
+     * unknown formats as annotations, i.e. not check them at all.
+     *
+     * <p>Default: {@code false}.
+     *
+     * @return {@code true} to use custom temporal formats.
+     */
+    default boolean customTemporalFormats() {
+        return false;
     }
 
     /** Control where generated schemas are output. */
@@ -125,4 +222,70 @@ public interface GeneratorOptions {
          */
         Path outputPath(Class<?> type);
     }
+
+    /** The formats generated schemas can be written in. */
+    enum OutputFormat {
+        /** Pretty-printed YAML, including a header comment recording when it was generated. */
+        YAML(GeneratedSchemas.yamlExtension(), false),
+        /** Compact JSON, i.e. JSON without any insignificant whitespace. */
+        JSON(".json", false),
+        /** Binary <a href="https://github.com/FasterXML/smile-format-specification">Smile</a>. */
+        SMILE(".smile", true),
+        /** Binary <a href="https://cbor.io/">CBOR</a>. */
+        CBOR(".cbor", true);
+
+        private final String extension;
+        private final boolean binary;
+
+        OutputFormat(final String extension, final boolean binary) {
+            this.extension = extension;
+            this.binary = binary;
+        }
+
+        /**
+         * @return the file extension, including the leading dot, used for schema files of this
+         *     format.
+         */
+        public String extension() {
+            return extension;
+        }
+
+        /**
+         * @return {@code true} if the format is binary, {@code false} if it is text.
+         */
+        public boolean binary() {
+            return binary;
+        }
+    }
+
+    /** The forms the schema of a polymorphic base type can take. */
+    enum PolymorphicStyle {
+        /**
+         * A {@code oneOf} listing every subtype.
+         *
+         * <p>Validators must evaluate every subtype, to confirm exactly one matches, so the cost
+         * of validation grows with the number of subtypes.
+         */
+        ONE_OF,
+        /**
+         * A set of {@code if}/{@code then} pairs keyed on the type discriminator property.
+         *
+         * <p>Validators only evaluate the subtype matching the discriminator, plus a cheap {@code
+         * const} check per subtype. The schema accepts exactly the same documents as {@link
+         * #ONE_OF}. Bases whose subtypes can not be told apart by a required discriminator
+         * property, e.g. those using {@code JsonTypeInfo.As.WRAPPER_OBJECT}, are left as {@code
+         * oneOf}.
+         */
+        DISCRIMINATOR
+    }
+
+    /** How the generator reacts to patterns that can take excessive time to match. */
+    enum PatternCheck {
+        /** Patterns are not checked. */
+        IGNORE,
+        /** Each issue is logged as a warning. */
+        WARN,
+        /** Generation fails, listing every issue in the schema. */
+        FAIL
+    }
 }
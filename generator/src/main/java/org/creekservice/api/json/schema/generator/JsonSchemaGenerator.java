@@ -17,6 +17,8 @@
 package org.creekservice.api.json.schema.generator;
 
 import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.logging.log4j.LogManager;
@@ -24,6 +26,7 @@ import org.apache.logging.log4j.Logger;
 import org.creekservice.api.base.schema.GeneratesSchemas;
 import org.creekservice.api.base.type.JarVersion;
 import org.creekservice.internal.json.schema.generator.SchemaGenerator;
+import org.creekservice.internal.json.schema.generator.SchemaSet;
 import org.creekservice.internal.json.schema.generator.SchemaWriter;
 import org.creekservice.internal.json.schema.generator.cli.PicoCliParser;
 
@@ -73,9 +76,21 @@ public final class JsonSchemaGenerator {
                         .withAllowedPackages(options.typeScanning().packageWhiteList())
                         .scan();
 
-        final SchemaGenerator generator = new SchemaGenerator(options.subTypeScanning());
+        final SchemaGenerator generator = new SchemaGenerator(options);
         final SchemaWriter writer =
                 new SchemaWriter(options.outputDirectory(), options.outputLocationStrategy());
+        final Optional<Path> commonDirectory = options.commonDefinitionsDirectory();
+        if (commonDirectory.isPresent()) {
+            final SchemaSet schemas = generator.generateSchemas(types, commonDirectory.get());
+            schemas.schemas().forEach(writer::write);
+            schemas.common().forEach(writer::write);
+            LOGGER.info(
+                    "Wrote {} schemas and {} common schemas",
+                    schemas.schemas().size(),
+                    schemas.common().size());
+            return;
+        }
+
         generator.registerSubTypes(types);
         types.stream().map(generator::generateSchema).forEach(writer::write);
         LOGGER.info("Wrote {} schemas", types.size());
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.file.Path;
+import org.creekservice.api.json.schema.generator.GeneratorOptions.OutputFormat;
+
+/** A schema holding a definition shared by other generated schemas. */
+public final class CommonSchema {
+
+    private final String id;
+    private final Path path;
+    private final byte[] content;
+    private final OutputFormat format;
+
+    /**
+     * @param id the id other schemas use to reference the schema.
+     * @param path the path, relative to the output directory, the schema is written to.
+     * @param content the schema, encoded in the supplied {@code format}.
+     * @param format the format of the {@code content}.
+     */
+    public CommonSchema(
+            final String id, final Path path, final byte[] content, final OutputFormat format) {
+        this.id = requireNonNull(id, "id");
+        this.path = requireNonNull(path, "path");
+        this.content = requireNonNull(content, "content").clone();
+        this.format = requireNonNull(format, "format");
+    }
+
+    /**
+     * @return the id other schemas use to reference the schema.
+     */
+    public String id() {
+        return id;
+    }
+
+    /**
+     * @return the path, relative to the output directory, the schema is written to.
+     */
+    public Path path() {
+        return path;
+    }
+
+    /**
+     * @return the format of the schema.
+     */
+    public OutputFormat format() {
+        return format;
+    }
+
+    /**
+     * @return the schema, encoded in its {@link #format()}.
+     */
+    public byte[] content() {
+        return content.clone();
+    }
+}
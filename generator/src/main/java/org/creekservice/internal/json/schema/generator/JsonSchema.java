@@ -18,6 +18,9 @@ package org.creekservice.internal.json.schema.generator;
 
 import static java.util.Objects.requireNonNull;
 
+import java.nio.charset.StandardCharsets;
+import org.creekservice.api.json.schema.generator.GeneratorOptions.OutputFormat;
+
 /**
  * Tuple of a type and its schema.
  *
@@ -26,15 +29,29 @@ import static java.util.Objects.requireNonNull;
 public final class JsonSchema<T> {
 
     private final Class<T> type;
-    private final String schema;
+    private final byte[] content;
+    private final OutputFormat format;
 
     /**
      * @param type the type
-     * @param schema it's schema
+     * @param schema it's schema, in YAML.
      */
     public JsonSchema(final Class<T> type, final String schema) {
+        this(
+                type,
+                requireNonNull(schema, "schema").getBytes(StandardCharsets.UTF_8),
+                OutputFormat.YAML);
+    }
+
+    /**
+     * @param type the type
+     * @param content it's schema, encoded in the supplied {@code format}.
+     * @param format the format of the {@code content}.
+     */
+    public JsonSchema(final Class<T> type, final byte[] content, final OutputFormat format) {
         this.type = requireNonNull(type, "type");
-        this.schema = requireNonNull(schema, "schema");
+        this.content = requireNonNull(content, "content").clone();
+        this.format = requireNonNull(format, "format");
     }
 
     /**
@@ -44,10 +61,28 @@ public final class JsonSchema<T> {
         return type;
     }
 
+    /**
+     * @return the format of the schema.
+     */
+    public OutputFormat format() {
+        return format;
+    }
+
     /**
      * @return it's schema
+     * @throws IllegalStateException if the schema is in a binary format.
      */
     public String text() {
-        return schema;
+        if (format.binary()) {
+            throw new IllegalStateException("Schema is in binary format: " + format);
+        }
+        return new String(content, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return it's schema, encoded in its {@link #format()}.
+     */
+    public byte[] content() {
+        return content.clone();
     }
 }
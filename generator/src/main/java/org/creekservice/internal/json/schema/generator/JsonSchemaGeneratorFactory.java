@@ -58,6 +58,7 @@ import java.time.ZonedDateTime;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -178,14 +179,53 @@ final class JsonSchemaGeneratorFactory {
                                     .withDefaultMinimum(Long.MIN_VALUE)
                                     .withDefaultMaximum(Long.MAX_VALUE)));
 
+    /**
+     * {@link #TYPE_MAPPINGS}, with local temporal types described by custom formats, which
+     * validators can check with a single scan, rather than by patterns.
+     *
+     * <p>The format names must match those the validator registers.
+     */
+    private static final Map<Class<?>, Mapping> CUSTOM_TEMPORAL_FORMAT_MAPPINGS =
+            withOverrides(
+                    TYPE_MAPPINGS,
+                    Map.of(
+                            LocalTime.class,
+                            Mapping.toType(STRING).withDefaultFormat("local-time"),
+                            LocalDateTime.class,
+                            Mapping.toType(STRING).withDefaultFormat("local-date-time"),
+                            Period.class,
+                            Mapping.toType(STRING).withDefaultFormat("period"),
+                            MonthDay.class,
+                            Mapping.toType(STRING).withDefaultFormat("month-day"),
+                            YearMonth.class,
+                            Mapping.toType(STRING).withDefaultFormat("year-month")));
+
     private JsonSchemaGeneratorFactory() {}
 
+    /**
+     * @param mapper the mapper used to introspect types.
+     * @param definitionsForAllObjects if {@code true}, every object type is written as a
+     *     definition, rather than only those used more than once, so that definitions can be shared
+     *     between schemas.
+     * @param customTemporalFormats if {@code true}, local temporal types, e.g. {@code LocalTime},
+     *     are described by custom formats, e.g. {@code local-time}, rather than patterns.
+     * @return the generator.
+     */
     static com.github.victools.jsonschema.generator.SchemaGenerator createGenerator(
-            final ObjectMapper mapper) {
-        return new com.github.victools.jsonschema.generator.SchemaGenerator(createConfig(mapper));
+            final ObjectMapper mapper,
+            final boolean definitionsForAllObjects,
+            final boolean customTemporalFormats) {
+        return new com.github.victools.jsonschema.generator.SchemaGenerator(
+                createConfig(
+                        mapper,
+                        definitionsForAllObjects,
+                        customTemporalFormats ? CUSTOM_TEMPORAL_FORMAT_MAPPINGS : TYPE_MAPPINGS));
     }
 
-    private static SchemaGeneratorConfig createConfig(final ObjectMapper mapper) {
+    private static SchemaGeneratorConfig createConfig(
+            final ObjectMapper mapper,
+            final boolean definitionsForAllObjects,
+            final Map<Class<?>, Mapping> typeMappings) {
 
         final SchemaGeneratorConfigBuilder configBuilder =
                 new SchemaGeneratorConfigBuilder(
@@ -221,9 +261,13 @@ final class JsonSchemaGeneratorFactory {
                         Option.NONPUBLIC_NONSTATIC_FIELDS_WITHOUT_GETTERS,
                         Option.FLATTENED_OPTIONALS);
 
+        if (definitionsForAllObjects) {
+            configBuilder.with(Option.DEFINITIONS_FOR_ALL_OBJECTS);
+        }
+
         configureMethodResolvers(configBuilder, mapper);
         configureAutoTitle(configBuilder);
-        configureTypeMappings(configBuilder);
+        configureTypeMappings(configBuilder, typeMappings);
         configureJsonSchemaInject(configBuilder);
 
         return configBuilder.build();
@@ -334,12 +378,14 @@ final class JsonSchemaGeneratorFactory {
                 || pkg.startsWith("kotlin.");
     }
 
-    private static void configureTypeMappings(final SchemaGeneratorConfigBuilder configBuilder) {
+    private static void configureTypeMappings(
+            final SchemaGeneratorConfigBuilder configBuilder,
+            final Map<Class<?>, Mapping> typeMappings) {
         configBuilder
                 .forTypesInGeneral()
                 .withCustomDefinitionProvider(
                         (type, ctx) -> {
-                            final Mapping mapping = TYPE_MAPPINGS.get(type.getErasedType());
+                            final Mapping mapping = typeMappings.get(type.getErasedType());
                             if (mapping == null) {
                                 return null;
                             }
@@ -357,12 +403,14 @@ final class JsonSchemaGeneratorFactory {
                 .forMethods()
                 .withInstanceAttributeOverride(
                         (node, method, ctx) ->
-                                applyMappingDefaults(node, method.getType().getErasedType(), ctx));
+                                applyMappingDefaults(
+                                        node,
+                                        typeMappings.get(method.getType().getErasedType()),
+                                        ctx));
     }
 
     private static void applyMappingDefaults(
-            final ObjectNode node, final Class<?> type, final SchemaGenerationContext ctx) {
-        final Mapping mapping = TYPE_MAPPINGS.get(type);
+            final ObjectNode node, final Mapping mapping, final SchemaGenerationContext ctx) {
         if (mapping == null) {
             return;
         }
@@ -392,6 +440,13 @@ final class JsonSchemaGeneratorFactory {
                                         node.numberNode(max)));
     }
 
+    private static Map<Class<?>, Mapping> withOverrides(
+            final Map<Class<?>, Mapping> mappings, final Map<Class<?>, Mapping> overrides) {
+        final Map<Class<?>, Mapping> result = new HashMap<>(mappings);
+        result.putAll(overrides);
+        return Map.copyOf(result);
+    }
+
     private static void configureJsonSchemaInject(
             final SchemaGeneratorConfigBuilder configBuilder) {
         configBuilder
@@ -33,6 +33,7 @@ import java.util.Objects;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.creekservice.api.json.schema.generator.GeneratorOptions.TypeScanningSpec;
+import org.creekservice.internal.json.schema.generator.jfr.SubtypeScanEvent;
 import tools.jackson.databind.BeanProperty;
 import tools.jackson.databind.JavaType;
 import tools.jackson.databind.ObjectMapper;
@@ -185,6 +186,8 @@ final class PolymorphicTypes {
             return List.of();
         }
 
+        final SubtypeScanEvent event = new SubtypeScanEvent();
+        event.begin();
         try (ScanResult sr =
                 new ClassGraph()
                         .ignoreClassVisibility()
@@ -198,7 +201,19 @@ final class PolymorphicTypes {
                             ? sr.getClassesImplementing(type.getName())
                             : sr.getSubclasses(type.getName());
 
-            return (List) found.stream().map(ClassInfo::loadClass).collect(Collectors.toList());
+            final List<Class<? extends T>> implementations =
+                    (List) found.stream().map(ClassInfo::loadClass).collect(Collectors.toList());
+
+            event.end();
+            if (event.shouldCommit()) {
+                event.set(
+                        type,
+                        String.join(",", subtypeScanning.moduleWhiteList()),
+                        String.join(",", subtypeScanning.packageWhiteList()),
+                        implementations.size());
+                event.commit();
+            }
+            return implementations;
         }
     }
 
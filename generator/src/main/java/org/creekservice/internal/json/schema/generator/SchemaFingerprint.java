@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator;
+
+import java.io.ByteArrayOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Computes the structural fingerprint of a schema: the SHA-256 hash of its canonical JSON form, as
+ * lower-case hex.
+ *
+ * <p>The canonical form is compact JSON, i.e. without insignificant whitespace, with the
+ * properties of every object sorted by name. Schemas that differ only in formatting, comments,
+ * property order or output format therefore share a fingerprint, whereas a change to any keyword
+ * or value changes it.
+ *
+ * <p>The generator embeds the fingerprint in each schema it writes, as {@code
+ * fingerprint=<hash>}: in a header comment of YAML schemas, and on the last line of the root
+ * {@code $comment} otherwise.
+ */
+final class SchemaFingerprint {
+
+    /** Precedes the fingerprint where it is embedded in a schema. */
+    static final String PREFIX = "fingerprint=";
+
+    private static final ObjectMapper JSON_MAPPER = JsonMapper.builder().build();
+
+    private SchemaFingerprint() {}
+
+    /**
+     * @param schema the schema.
+     * @return the fingerprint of the schema.
+     */
+    static String of(final JsonNode schema) {
+        return HexFormat.of().formatHex(sha256().digest(canonical(schema)));
+    }
+
+    /**
+     * @param schema the schema.
+     * @return the canonical JSON form of the schema, in UTF-8.
+     */
+    static byte[] canonical(final JsonNode schema) {
+        final ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (JsonGenerator generator = JSON_MAPPER.createGenerator(out)) {
+            write(schema, generator);
+        }
+        return out.toByteArray();
+    }
+
+    private static void write(final JsonNode node, final JsonGenerator generator) {
+        if (node.isObject()) {
+            final Map<String, JsonNode> sorted = new TreeMap<>();
+            node.properties().forEach(e -> sorted.put(e.getKey(), e.getValue()));
+            generator.writeStartObject();
+            for (final Map.Entry<String, JsonNode> e : sorted.entrySet()) {
+                generator.writeName(e.getKey());
+                write(e.getValue(), generator);
+            }
+            generator.writeEndObject();
+        } else if (node.isArray()) {
+            generator.writeStartArray();
+            for (final JsonNode element : node) {
+                write(element, generator);
+            }
+            generator.writeEndArray();
+        } else {
+            generator.writeTree(node);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    }
+}
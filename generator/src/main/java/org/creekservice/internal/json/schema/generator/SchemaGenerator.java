@@ -19,23 +19,52 @@ package org.creekservice.internal.json.schema.generator;
 import static java.lang.System.lineSeparator;
 import static java.util.Objects.requireNonNull;
 
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.creekservice.api.base.annotation.VisibleForTesting;
 import org.creekservice.api.base.type.temporal.Clock;
+import org.creekservice.api.json.schema.generator.GeneratorOptions;
+import org.creekservice.api.json.schema.generator.GeneratorOptions.OutputFormat;
+import org.creekservice.api.json.schema.generator.GeneratorOptions.PatternCheck;
+import org.creekservice.api.json.schema.generator.GeneratorOptions.PolymorphicStyle;
 import org.creekservice.api.json.schema.generator.GeneratorOptions.TypeScanningSpec;
+import org.creekservice.internal.json.schema.generator.jfr.GenerateSchemaEvent;
+import org.creekservice.internal.json.schema.generator.optimize.CommonDefinitions;
+import org.creekservice.internal.json.schema.generator.optimize.SchemaOptimizer;
+import org.creekservice.internal.json.schema.generator.pattern.PatternAudit;
+import tools.jackson.databind.JsonNode;
 import tools.jackson.databind.MapperFeature;
 import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
 import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
 import tools.jackson.dataformat.yaml.YAMLFactory;
 import tools.jackson.dataformat.yaml.YAMLMapper;
 import tools.jackson.dataformat.yaml.YAMLWriteFeature;
 
-/** Generates a YAML schema file. */
+/** Generates a schema file, in YAML or one of the other supported {@link OutputFormat}s. */
 public final class SchemaGenerator {
 
+    private static final Logger LOGGER = LogManager.getLogger(SchemaGenerator.class);
+
+    private static final ObjectMapper JSON_MAPPER = JsonMapper.builder().build();
+    private static final ObjectMapper SMILE_MAPPER = SmileMapper.builder().build();
+    private static final ObjectMapper CBOR_MAPPER = CBORMapper.builder().build();
+
+    private static final String COMMON_SCHEMA_ID_PREFIX = "urn:creek:schema:";
+    private static final String COMMENT = "$comment";
+
     private final ObjectMapper mapper =
             YAMLMapper.builder(
                             YAMLFactory.builder().enable(YAMLWriteFeature.MINIMIZE_QUOTES).build())
@@ -46,19 +75,38 @@ public final class SchemaGenerator {
 
     private final com.github.victools.jsonschema.generator.SchemaGenerator generator;
     private final TypeScanningSpec subtypeScanning;
+    private final OutputFormat outputFormat;
+    private final SchemaOptimizer optimizer;
+    private final SchemaOptimizer polymorphicRewriter;
+    private final SchemaOptimizer commonOptimizer;
+    private final PatternCheck patternCheck;
+    private final boolean customTemporalFormats;
+    private final PatternAudit patternAudit = new PatternAudit();
     private final Clock clock;
 
     /**
-     * @param subtypeScanning config for subtype scanning.
+     * @param options the options controlling how schemas are generated. Only the options that
+     *     affect schema content are used, e.g. the output directory is ignored.
      */
-    public SchemaGenerator(final TypeScanningSpec subtypeScanning) {
-        this(subtypeScanning, Instant::now);
+    public SchemaGenerator(final GeneratorOptions options) {
+        this(options, Instant::now);
     }
 
     @VisibleForTesting
-    SchemaGenerator(final TypeScanningSpec subtypeScanning, final Clock clock) {
-        this.subtypeScanning = requireNonNull(subtypeScanning, "subtypeScanning");
-        this.generator = JsonSchemaGeneratorFactory.createGenerator(mapper);
+    SchemaGenerator(final GeneratorOptions options, final Clock clock) {
+        requireNonNull(options, "options");
+        final PolymorphicStyle polymorphicStyle =
+                requireNonNull(options.polymorphicStyle(), "polymorphicStyle");
+        this.subtypeScanning = requireNonNull(options.subTypeScanning(), "subtypeScanning");
+        this.outputFormat = requireNonNull(options.outputFormat(), "outputFormat");
+        this.optimizer = SchemaOptimizer.create(polymorphicStyle, options.optimizeSchemas());
+        this.polymorphicRewriter = SchemaOptimizer.create(polymorphicStyle, false);
+        this.commonOptimizer =
+                SchemaOptimizer.create(PolymorphicStyle.ONE_OF, options.optimizeSchemas());
+        this.patternCheck = requireNonNull(options.patternCheck(), "patternCheck");
+        this.customTemporalFormats = options.customTemporalFormats();
+        this.generator =
+                JsonSchemaGeneratorFactory.createGenerator(mapper, false, customTemporalFormats);
         this.clock = requireNonNull(clock, "clock");
     }
 
@@ -85,28 +133,165 @@ public final class SchemaGenerator {
     }
 
     /**
-     * Generate the Yaml schema for the supplied {@code type}.
+     * Generate the schema for the supplied {@code type}, in the configured output format.
      *
      * @param type the type to generate a schema for.
      * @param <T> the type to generate a schema for.
      * @return the schema
      */
     public <T> JsonSchema<T> generateSchema(final Class<T> type) {
-        registerSubTypes(List.of(type));
+        return jsonSchema(type, generateTree(generator, optimizer, type));
+    }
+
+    /**
+     * Generate the schemas for the supplied {@code types}, in the configured output format, moving
+     * definitions shared by more than one of the schemas into common schemas.
+     *
+     * <p>Every object type is written as a definition, so that types used by more than one schema
+     * can be shared. Each shared definition is written once, to its own common schema, which other
+     * schemas reference by its id, i.e. {@code urn:creek:schema:<definition-name>}. Validators
+     * must be supplied the common schemas to resolve these references.
+     *
+     * @param types the types to generate schemas for.
+     * @param commonDirectory the directory, relative to the output directory, common schemas are
+     *     written to.
+     * @return the schemas of the {@code types} and the common schemas they reference.
+     */
+    public SchemaSet generateSchemas(final Collection<Class<?>> types, final Path commonDirectory) {
+        requireNonNull(commonDirectory, "commonDirectory");
+        registerSubTypes(types);
+
+        final com.github.victools.jsonschema.generator.SchemaGenerator sharing =
+                JsonSchemaGeneratorFactory.createGenerator(mapper, true, customTemporalFormats);
+
+        final Map<Class<?>, ObjectNode> trees = new LinkedHashMap<>();
+        // Subtypes must be local definitions to rewrite discriminators, so rewrite before sharing:
+        types.forEach(type -> trees.put(type, generateTree(sharing, polymorphicRewriter, type)));
+
+        final Map<String, ObjectNode> common =
+                CommonDefinitions.extract(trees.values(), SchemaGenerator::commonSchemaId);
+
+        final List<JsonSchema<?>> schemas = new ArrayList<>(trees.size());
+        trees.forEach(
+                (type, tree) -> {
+                    commonOptimizer.optimize(tree);
+                    schemas.add(jsonSchema(type, tree));
+                });
+
+        final List<CommonSchema> commonSchemas = new ArrayList<>(common.size());
+        common.forEach(
+                (name, tree) -> {
+                    commonOptimizer.optimize(tree);
+                    commonSchemas.add(
+                            new CommonSchema(
+                                    commonSchemaId(name),
+                                    commonDirectory.resolve(name + outputFormat.extension()),
+                                    serialize(name, tree),
+                                    outputFormat));
+                });
+        return new SchemaSet(schemas, commonSchemas);
+    }
+
+    private ObjectNode generateTree(
+            final com.github.victools.jsonschema.generator.SchemaGenerator schemaGenerator,
+            final SchemaOptimizer schemaOptimizer,
+            final Class<?> type) {
+        final GenerateSchemaEvent event = new GenerateSchemaEvent();
+        event.begin();
+        boolean succeeded = false;
         try {
-            final ObjectNode jsonSchema = generator.generateSchema(type);
-            final String yaml =
-                    mapper.writerWithDefaultPrettyPrinter().writeValueAsString(jsonSchema);
-            return new JsonSchema<>(type, injectVersionTimestamp(yaml));
+            registerSubTypes(List.of(type));
+            final ObjectNode jsonSchema = schemaGenerator.generateSchema(type);
+            checkPatterns(type, jsonSchema);
+            schemaOptimizer.optimize(jsonSchema);
+            succeeded = true;
+            return jsonSchema;
         } catch (final Exception e) {
             throw new SchemaGeneratorException(
                     "Failed to generate schema for " + type.getCanonicalName(), e);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.set(type, succeeded);
+                event.commit();
+            }
+        }
+    }
+
+    /** Checked before optimization, which can move patterns away from the types they are on. */
+    private void checkPatterns(final Class<?> type, final ObjectNode jsonSchema) {
+        if (patternCheck == PatternCheck.IGNORE) {
+            return;
         }
+
+        final List<PatternAudit.Issue> issues =
+                patternAudit.audit(type.getCanonicalName(), jsonSchema);
+        if (issues.isEmpty()) {
+            return;
+        }
+
+        if (patternCheck == PatternCheck.WARN) {
+            issues.forEach(issue -> LOGGER.warn("{}", issue));
+            return;
+        }
+
+        throw new IllegalArgumentException(
+                issues.stream().map(Object::toString).collect(Collectors.joining(lineSeparator())));
+    }
+
+    private <T> JsonSchema<T> jsonSchema(final Class<T> type, final ObjectNode jsonSchema) {
+        return new JsonSchema<>(type, serialize(type, jsonSchema), outputFormat);
+    }
+
+    private byte[] serialize(final Object source, final ObjectNode jsonSchema) {
+        try {
+            final String fingerprint = SchemaFingerprint.of(jsonSchema);
+            switch (outputFormat) {
+                case JSON:
+                    return JSON_MAPPER.writeValueAsBytes(withFingerprint(jsonSchema, fingerprint));
+                case SMILE:
+                    return SMILE_MAPPER.writeValueAsBytes(withFingerprint(jsonSchema, fingerprint));
+                case CBOR:
+                    return CBOR_MAPPER.writeValueAsBytes(withFingerprint(jsonSchema, fingerprint));
+                case YAML:
+                default:
+                    final String yaml =
+                            mapper.writerWithDefaultPrettyPrinter().writeValueAsString(jsonSchema);
+                    return injectHeader(yaml, fingerprint).getBytes(StandardCharsets.UTF_8);
+            }
+        } catch (final Exception e) {
+            throw new SchemaGeneratorException("Failed to serialize schema for " + source, e);
+        }
+    }
+
+    /**
+     * Formats without comments carry the fingerprint in the root {@code $comment}, on a line of
+     * its own after any existing comment. The fingerprint is of the schema without it.
+     */
+    private static ObjectNode withFingerprint(
+            final ObjectNode jsonSchema, final String fingerprint) {
+        final JsonNode comment = jsonSchema.get(COMMENT);
+        final String prefix =
+                comment != null && comment.isString() ? comment.asString() + "\n" : "";
+        jsonSchema.put(COMMENT, prefix + SchemaFingerprint.PREFIX + fingerprint);
+        return jsonSchema;
+    }
+
+    private static String commonSchemaId(final String definitionName) {
+        return COMMON_SCHEMA_ID_PREFIX + definitionName;
     }
 
-    private String injectVersionTimestamp(final String yaml) {
+    private String injectHeader(final String yaml, final String fingerprint) {
         return yaml.replaceFirst(
-                "---", "---" + lineSeparator() + "# timestamp=" + clock.get().toEpochMilli());
+                "---",
+                "---"
+                        + lineSeparator()
+                        + "# timestamp="
+                        + clock.get().toEpochMilli()
+                        + lineSeparator()
+                        + "# "
+                        + SchemaFingerprint.PREFIX
+                        + fingerprint);
     }
 
     @VisibleForTesting
@@ -0,0 +1,51 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+/** The schemas generated for a set of types, and the common schemas they reference. */
+public final class SchemaSet {
+
+    private final List<JsonSchema<?>> schemas;
+    private final List<CommonSchema> common;
+
+    /**
+     * @param schemas the schemas of the types.
+     * @param common the common schemas holding definitions shared by the {@code schemas}.
+     */
+    public SchemaSet(final List<JsonSchema<?>> schemas, final List<CommonSchema> common) {
+        this.schemas = List.copyOf(requireNonNull(schemas, "schemas"));
+        this.common = List.copyOf(requireNonNull(common, "common"));
+    }
+
+    /**
+     * @return the schemas of the types.
+     */
+    public List<JsonSchema<?>> schemas() {
+        return schemas;
+    }
+
+    /**
+     * @return the common schemas holding definitions shared by the {@link #schemas()}.
+     */
+    public List<CommonSchema> common() {
+        return common;
+    }
+}
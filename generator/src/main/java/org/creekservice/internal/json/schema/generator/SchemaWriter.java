@@ -18,14 +18,14 @@ package org.creekservice.internal.json.schema.generator;
 
 import static java.util.Objects.requireNonNull;
 
-import java.nio.charset.StandardCharsets;
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.creekservice.api.json.schema.generator.GeneratorOptions.OutputLocationStrategy;
 
-/** Writes schema to a YAML file */
+/** Writes schema to a file */
 public final class SchemaWriter {
 
     private static final Logger LOGGER = LogManager.getLogger(SchemaWriter.class);
@@ -51,14 +51,7 @@ public final class SchemaWriter {
     public void write(final JsonSchema<?> schema) {
         final Class<?> type = schema.type();
         try {
-            final Path path = rootDirectory.resolve(outputLocation.outputPath(type));
-
-            final Path parent = path.getParent();
-            if (parent != null) {
-                Files.createDirectories(parent);
-            }
-
-            Files.write(path, schema.text().getBytes(StandardCharsets.UTF_8));
+            final Path path = write(outputLocation.outputPath(type), schema.content());
 
             final String name =
                     type.getCanonicalName() == null
@@ -70,6 +63,32 @@ public final class SchemaWriter {
         }
     }
 
+    /**
+     * Persist the supplied common schema to disk.
+     *
+     * @param schema the schema to persist.
+     */
+    public void write(final CommonSchema schema) {
+        try {
+            final Path path = write(schema.path(), schema.content());
+            LOGGER.info("Wrote common schema {} to {}", schema.id(), path.toUri());
+        } catch (final Exception e) {
+            throw new GenerateSchemaException("Failed to write common schema " + schema.id(), e);
+        }
+    }
+
+    private Path write(final Path relativePath, final byte[] content) throws IOException {
+        final Path path = rootDirectory.resolve(relativePath);
+
+        final Path parent = path.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+
+        Files.write(path, content);
+        return path;
+    }
+
     private static class GenerateSchemaException extends RuntimeException {
         GenerateSchemaException(final String msg, final Throwable cause) {
             super(msg, cause);
@@ -27,6 +27,9 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 import org.creekservice.api.base.type.JarVersion;
 import org.creekservice.api.json.schema.generator.GeneratorOptions;
+import org.creekservice.api.json.schema.generator.GeneratorOptions.OutputFormat;
+import org.creekservice.api.json.schema.generator.GeneratorOptions.PatternCheck;
+import org.creekservice.api.json.schema.generator.GeneratorOptions.PolymorphicStyle;
 import org.creekservice.api.json.schema.generator.GeneratorOptions.TypeScanningSpec;
 import org.creekservice.api.json.schema.generator.JsonSchemaGenerator;
 import org.creekservice.internal.json.schema.generator.output.DirectoryTreeOutputLocationStrategy;
@@ -133,6 +136,109 @@ public final class PicoCliParser {
                 })
         private OutputStrategy outputStrategy = OutputStrategy.directoryTree;
 
+        private enum Format {
+            yaml(OutputFormat.YAML),
+            json(OutputFormat.JSON),
+            smile(OutputFormat.SMILE),
+            cbor(OutputFormat.CBOR);
+
+            private final OutputFormat format;
+
+            Format(final OutputFormat format) {
+                this.format = format;
+            }
+        }
+
+        @SuppressWarnings("FieldMayBeFinal")
+        @Option(
+                names = {"-of", "--output-format"},
+                description = {
+                    "Optionally specify the format schemas are written in"
+                            + " (${COMPLETION-CANDIDATES}). If omitted the yaml format is used. ",
+                    "Only the yaml format is compatible with other Creek components",
+                    " yaml: pretty-printed YAML, with a generation timestamp header.",
+                    " json: compact JSON.",
+                    " smile: binary Smile encoded JSON.",
+                    " cbor: binary CBOR encoded JSON."
+                })
+        private Format outputFormat = Format.yaml;
+
+        private enum Polymorphism {
+            oneOf(PolymorphicStyle.ONE_OF),
+            discriminator(PolymorphicStyle.DISCRIMINATOR);
+
+            private final PolymorphicStyle style;
+
+            Polymorphism(final PolymorphicStyle style) {
+                this.style = style;
+            }
+        }
+
+        @SuppressWarnings("FieldMayBeFinal")
+        @Option(
+                names = {"-ps", "--polymorphic-style"},
+                description = {
+                    "Optionally specify the form the schemas of polymorphic types take"
+                            + " (${COMPLETION-CANDIDATES}). If omitted the oneOf style is used. ",
+                    " oneOf: a oneOf listing every subtype. Validators check every subtype.",
+                    " discriminator: if/then pairs keyed on the type discriminator property."
+                            + " Validators only check the matching subtype."
+                })
+        private Polymorphism polymorphicStyle = Polymorphism.oneOf;
+
+        @Option(
+                names = {"-O", "--optimize"},
+                description = {
+                    "Optionally optimize generated schemas, making them cheaper to validate, but"
+                            + " less like the types they were generated from.",
+                    "Optimized schemas accept exactly the same documents."
+                })
+        private boolean optimize;
+
+        @Option(
+                names = {"-cd", "--common-definitions-directory"},
+                description = {
+                    "Optionally write definitions shared by more than one schema once, to common"
+                            + " schemas in the supplied directory, relative to --output-directory.",
+                    "Schemas reference common schemas by $id, so validators must be supplied them."
+                })
+        private Path commonDefinitionsDirectory;
+
+        private enum PatternChecking {
+            ignore(PatternCheck.IGNORE),
+            warn(PatternCheck.WARN),
+            fail(PatternCheck.FAIL);
+
+            private final PatternCheck check;
+
+            PatternChecking(final PatternCheck check) {
+                this.check = check;
+            }
+        }
+
+        @SuppressWarnings("FieldMayBeFinal")
+        @Option(
+                names = {"-pc", "--pattern-check"},
+                description = {
+                    "Optionally specify how to react to patterns that can take exponential or"
+                            + " polynomial time to match (${COMPLETION-CANDIDATES})."
+                            + " If omitted the warn check is used. ",
+                    " ignore: patterns are not checked.",
+                    " warn: each issue is logged, naming the type and property of the pattern.",
+                    " fail: generation fails, listing each issue."
+                })
+        private PatternChecking patternCheck = PatternChecking.warn;
+
+        @Option(
+                names = {"-ctf", "--custom-temporal-formats"},
+                description = {
+                    "Optionally describe LocalTime, LocalDateTime, MonthDay, YearMonth and Period"
+                            + " properties with custom formats, rather than patterns.",
+                    "Creek's validator checks these formats without regex matching."
+                            + " Other validators ignore them."
+                })
+        private boolean customTemporalFormats;
+
         @Option(
                 names = {"-m", "--type-scanning-allowed-module"},
                 description = {
@@ -201,13 +307,43 @@ public final class PicoCliParser {
         public OutputLocationStrategy outputLocationStrategy() {
             switch (outputStrategy) {
                 case flatDirectory:
-                    return new FlatDirectoryOutputLocationStrategy();
+                    return new FlatDirectoryOutputLocationStrategy(outputFormat());
                 case directoryTree:
                 default:
-                    return new DirectoryTreeOutputLocationStrategy();
+                    return new DirectoryTreeOutputLocationStrategy(outputFormat());
             }
         }
 
+        @Override
+        public OutputFormat outputFormat() {
+            return outputFormat.format;
+        }
+
+        @Override
+        public PolymorphicStyle polymorphicStyle() {
+            return polymorphicStyle.style;
+        }
+
+        @Override
+        public boolean optimizeSchemas() {
+            return optimize;
+        }
+
+        @Override
+        public Optional<Path> commonDefinitionsDirectory() {
+            return Optional.ofNullable(commonDefinitionsDirectory);
+        }
+
+        @Override
+        public PatternCheck patternCheck() {
+            return patternCheck.check;
+        }
+
+        @Override
+        public boolean customTemporalFormats() {
+            return customTemporalFormats;
+        }
+
         @Override
         public String toString() {
             return "--output-directory="
@@ -216,6 +352,24 @@ public final class PicoCliParser {
                     + "--output-strategy="
                     + outputStrategy
                     + lineSeparator()
+                    + "--output-format="
+                    + outputFormat
+                    + lineSeparator()
+                    + "--polymorphic-style="
+                    + polymorphicStyle
+                    + lineSeparator()
+                    + "--optimize="
+                    + optimize
+                    + lineSeparator()
+                    + "--common-definitions-directory="
+                    + (commonDefinitionsDirectory == null ? "<NONE>" : commonDefinitionsDirectory)
+                    + lineSeparator()
+                    + "--pattern-check="
+                    + patternCheck
+                    + lineSeparator()
+                    + "--custom-temporal-formats="
+                    + customTemporalFormats
+                    + lineSeparator()
                     + "--type-scanning-allowed-modules="
                     + formatAllowed(typeScanningModuleWhiteList)
                     + lineSeparator()
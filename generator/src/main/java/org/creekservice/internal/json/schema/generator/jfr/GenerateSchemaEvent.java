@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.jfr;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** JFR event recording the generation of the schema for a single type. */
+@Name("org.creekservice.json.schema.generator.GenerateSchema")
+@Label("Generate Schema")
+@Description("Generation of the JSON schema for a single type")
+@Category({"Creek", "JSON Schema", "Generator"})
+@SuppressFBWarnings(value = "URF_UNREAD_FIELD", justification = "Fields are read by JFR")
+public final class GenerateSchemaEvent extends jdk.jfr.Event {
+
+    @Label("Type")
+    private Class<?> type;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    /**
+     * Set the event's fields.
+     *
+     * @param type the type the schema was generated for.
+     * @param succeeded {@code true} if the schema was generated.
+     */
+    public void set(final Class<?> type, final boolean succeeded) {
+        this.type = type;
+        this.succeeded = succeeded;
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.jfr;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** JFR event recording a class path scan for the subtypes of a polymorphic type. */
+@Name("org.creekservice.json.schema.generator.SubtypeScan")
+@Label("Subtype Scan")
+@Description("Class and module path scan for the subtypes of a polymorphic type")
+@Category({"Creek", "JSON Schema", "Generator"})
+@SuppressFBWarnings(value = "URF_UNREAD_FIELD", justification = "Fields are read by JFR")
+public final class SubtypeScanEvent extends jdk.jfr.Event {
+
+    @Label("Base Type")
+    private Class<?> baseType;
+
+    @Label("Allowed Modules")
+    private String allowedModules;
+
+    @Label("Allowed Packages")
+    private String allowedPackages;
+
+    @Label("Subtypes Found")
+    private int subtypesFound;
+
+    /**
+     * Set the event's fields.
+     *
+     * @param baseType the polymorphic type whose subtypes were scanned for.
+     * @param allowedModules the modules the scan was limited to, if any.
+     * @param allowedPackages the packages the scan was limited to, if any.
+     * @param subtypesFound the number of subtypes found.
+     */
+    public void set(
+            final Class<?> baseType,
+            final String allowedModules,
+            final String allowedPackages,
+            final int subtypesFound) {
+        this.baseType = baseType;
+        this.allowedModules = allowedModules;
+        this.allowedPackages = allowedPackages;
+        this.subtypesFound = subtypesFound;
+    }
+}
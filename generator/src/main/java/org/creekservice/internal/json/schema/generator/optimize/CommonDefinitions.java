@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.optimize;
+
+import static org.creekservice.internal.json.schema.generator.optimize.Schemas.DEFS;
+import static org.creekservice.internal.json.schema.generator.optimize.Schemas.REF;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Moves definitions shared by more than one schema into common schemas of their own, which the
+ * schemas then reference by id.
+ *
+ * <p>A definition is shared when more than one schema defines it under the same name with an
+ * identical schema. A shared definition is only moved if every local definition it references is
+ * also moved, as its meaning would otherwise depend on the schema it is referenced from. Schemas
+ * whose structure can not safely change are left untouched, keeping their own copies.
+ */
+public final class CommonDefinitions {
+
+    private static final String SCHEMA = "$schema";
+    private static final String ID = "$id";
+
+    /** Names safe to use in both file names and URIs. */
+    private static final Pattern SAFE_NAME = Pattern.compile("[A-Za-z0-9_.,()-]+");
+
+    /** A URI scheme, marking a reference that resolves the same from any base. */
+    private static final Pattern ABSOLUTE_URI = Pattern.compile("^[A-Za-z][A-Za-z0-9+.-]*:.*");
+
+    private CommonDefinitions() {}
+
+    /**
+     * Extract the definitions shared by more than one of the supplied {@code schemas}.
+     *
+     * <p>Shared definitions are removed from each schema's {@code $defs}, and references to them
+     * replaced with references to the common schema's id.
+     *
+     * @param schemas the root schemas, which are updated in place.
+     * @param idOf supplies the id of the common schema for a definition name.
+     * @return the common schemas, keyed by definition name, in name order.
+     */
+    public static Map<String, ObjectNode> extract(
+            final Collection<ObjectNode> schemas, final Function<String, String> idOf) {
+        final List<ObjectNode> restructurable =
+                schemas.stream().filter(Schemas::isRestructurable).collect(Collectors.toList());
+
+        final Map<String, ObjectNode> shared = sharedDefinitions(restructurable);
+        removeUnresolvable(shared);
+        if (shared.isEmpty()) {
+            return Map.of();
+        }
+
+        for (final ObjectNode schema : restructurable) {
+            final JsonNode defs = schema.get(DEFS);
+            if (defs instanceof ObjectNode) {
+                ((ObjectNode) defs).remove(shared.keySet());
+                if (defs.isEmpty()) {
+                    schema.remove(DEFS);
+                }
+            }
+            retarget(schema, shared.keySet(), idOf);
+        }
+
+        final Optional<String> metaSchema = metaSchema(restructurable);
+        final Map<String, ObjectNode> common = new TreeMap<>();
+        shared.forEach(
+                (name, definition) -> {
+                    final ObjectNode schema = definition.objectNode();
+                    metaSchema.ifPresent(uri -> schema.put(SCHEMA, uri));
+                    schema.put(ID, idOf.apply(name));
+                    final ObjectNode copy = definition.deepCopy();
+                    retarget(copy, shared.keySet(), idOf);
+                    schema.setAll(copy);
+                    common.put(name, schema);
+                });
+        return common;
+    }
+
+    private static Map<String, ObjectNode> sharedDefinitions(final List<ObjectNode> schemas) {
+        final Map<String, List<JsonNode>> byName = new LinkedHashMap<>();
+        for (final ObjectNode schema : schemas) {
+            schema.path(DEFS)
+                    .properties()
+                    .forEach(
+                            e ->
+                                    byName.computeIfAbsent(e.getKey(), k -> new ArrayList<>())
+                                            .add(e.getValue()));
+        }
+
+        final Map<String, ObjectNode> shared = new LinkedHashMap<>();
+        byName.forEach(
+                (name, definitions) -> {
+                    final JsonNode first = definitions.get(0);
+                    if (definitions.size() > 1
+                            && first.isObject()
+                            && SAFE_NAME.matcher(name).matches()
+                            && definitions.stream().allMatch(first::equals)) {
+                        shared.put(name, (ObjectNode) first);
+                    }
+                });
+        return shared;
+    }
+
+    private static void removeUnresolvable(final Map<String, ObjectNode> shared) {
+        boolean removed;
+        do {
+            removed =
+                    shared.values()
+                            .removeIf(definition -> !isResolvable(definition, shared.keySet()));
+        } while (removed);
+    }
+
+    private static boolean isResolvable(final ObjectNode definition, final Set<String> shared) {
+        final boolean[] resolvable = {true};
+        Schemas.postOrder(
+                definition,
+                schema -> {
+                    final JsonNode ref = schema.path(REF);
+                    if (ref.isString() && !isResolvable(ref.asString(), shared)) {
+                        resolvable[0] = false;
+                    }
+                });
+        return resolvable[0];
+    }
+
+    private static boolean isResolvable(final String ref, final Set<String> shared) {
+        if (ref.startsWith("#")) {
+            return Schemas.definitionName(ref).filter(shared::contains).isPresent();
+        }
+        return ABSOLUTE_URI.matcher(ref).matches();
+    }
+
+    private static void retarget(
+            final ObjectNode root, final Set<String> shared, final Function<String, String> idOf) {
+        Schemas.postOrder(
+                root,
+                schema -> {
+                    final JsonNode ref = schema.path(REF);
+                    if (ref.isString()) {
+                        Schemas.definitionName(ref.asString())
+                                .filter(shared::contains)
+                                .ifPresent(name -> schema.put(REF, idOf.apply(name)));
+                    }
+                });
+    }
+
+    private static Optional<String> metaSchema(final List<ObjectNode> schemas) {
+        return schemas.stream()
+                .map(schema -> schema.path(SCHEMA))
+                .filter(JsonNode::isString)
+                .map(JsonNode::asString)
+                .findFirst();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.optimize;
+
+import static org.creekservice.internal.json.schema.generator.optimize.Schemas.ALL_OF;
+import static org.creekservice.internal.json.schema.generator.optimize.Schemas.DEFS;
+import static org.creekservice.internal.json.schema.generator.optimize.Schemas.REF;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Removes duplicate subschemas and values.
+ *
+ * <ul>
+ *   <li>Repeated members of {@code allOf} and {@code anyOf}. Repeats in {@code oneOf} are
+ *       significant, so are left alone.
+ *   <li>Repeated values in {@code required}, {@code enum} and {@code type} arrays.
+ *   <li>Root definitions identical to an earlier definition, with references retargeted to the
+ *       earlier definition.
+ * </ul>
+ */
+final class DeduplicateSubschemas implements OptimizerPass {
+
+    private static final List<String> DISTINCT_ARRAYS =
+            List.of(ALL_OF, "anyOf", "required", "enum", "type");
+
+    @Override
+    public boolean apply(final ObjectNode root) {
+        final boolean[] changed = {false};
+        Schemas.postOrder(
+                root,
+                schema -> {
+                    for (final String keyword : DISTINCT_ARRAYS) {
+                        changed[0] |= removeRepeats(schema, keyword);
+                    }
+                });
+        return mergeDefinitions(root) || changed[0];
+    }
+
+    private static boolean removeRepeats(final ObjectNode schema, final String keyword) {
+        final JsonNode array = schema.get(keyword);
+        if (array == null || !array.isArray()) {
+            return false;
+        }
+
+        final Set<JsonNode> distinct = new LinkedHashSet<>();
+        array.forEach(distinct::add);
+        if (distinct.size() == array.size()) {
+            return false;
+        }
+
+        final ArrayNode replacement = schema.putArray(keyword);
+        distinct.forEach(replacement::add);
+        return true;
+    }
+
+    private static boolean mergeDefinitions(final ObjectNode root) {
+        if (!root.path(DEFS).isObject() || !Schemas.isRestructurable(root)) {
+            return false;
+        }
+
+        final ObjectNode defs = (ObjectNode) root.get(DEFS);
+        final Map<JsonNode, String> firstByContent = new HashMap<>();
+        final Map<String, String> replacements = new HashMap<>();
+        for (final String name : new ArrayList<>(defs.propertyNames())) {
+            final String first = firstByContent.putIfAbsent(defs.get(name), name);
+            if (first != null) {
+                replacements.put(Schemas.definitionRef(name), Schemas.definitionRef(first));
+            }
+        }
+
+        if (replacements.isEmpty()) {
+            return false;
+        }
+
+        Schemas.postOrder(
+                root,
+                schema -> {
+                    final JsonNode ref = schema.path(REF);
+                    if (ref.isString() && replacements.containsKey(ref.asString())) {
+                        schema.put(REF, replacements.get(ref.asString()));
+                    }
+                });
+        replacements.keySet().stream()
+                .map(ref -> Schemas.definitionName(ref).orElseThrow())
+                .forEach(defs::remove);
+        return true;
+    }
+}
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.optimize;
+
+import static org.creekservice.internal.json.schema.generator.optimize.Schemas.ALL_OF;
+import static org.creekservice.internal.json.schema.generator.optimize.Schemas.REF;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Rewrites {@code oneOf} schemas, such as those generated for polymorphic base types, into
+ * discriminator-first form.
+ *
+ * <p>A {@code oneOf} is rewritten when every branch is an object that requires the same
+ * discriminator property to hold a string constant, and no two branches share a constant. For
+ * example:
+ *
+ * <pre>{@code
+ * oneOf:
+ * - $ref: "#/$defs/SubType1"
+ * - $ref: "#/$defs/SubType2"
+ * }</pre>
+ *
+ * <p>where {@code SubType1} and {@code SubType2} require {@code @type} to be {@code type_1} and
+ * {@code type_2}, respectively, becomes:
+ *
+ * <pre>{@code
+ * type: object
+ * properties:
+ *   '@type':
+ *     enum: [type_1, type_2]
+ * required: ['@type']
+ * allOf:
+ * - if: {properties: {'@type': {const: type_1}}, required: ['@type']}
+ *   then: {$ref: "#/$defs/SubType1"}
+ * - if: {properties: {'@type': {const: type_2}}, required: ['@type']}
+ *   then: {$ref: "#/$defs/SubType2"}
+ * }</pre>
+ *
+ * <p>As the constants are distinct, at most one branch can match any document, so the two forms
+ * accept exactly the same documents. Any {@code oneOf} that can not be proven equivalent is left
+ * untouched.
+ */
+final class DiscriminatorRewriter implements OptimizerPass {
+
+    private static final String ONE_OF = "oneOf";
+    private static final String TYPE = "type";
+    private static final String PROPERTIES = "properties";
+    private static final String REQUIRED = "required";
+    private static final String CONST = "const";
+    private static final String OBJECT = "object";
+
+    /** Keywords the rewritten form adds, so can not already be present. */
+    private static final List<String> ADDED_KEYWORDS = List.of(TYPE, PROPERTIES, REQUIRED, ALL_OF);
+
+    @Override
+    public boolean apply(final ObjectNode root) {
+        if (!Schemas.isRestructurable(root)) {
+            return false;
+        }
+
+        final List<ObjectNode> candidates = new ArrayList<>();
+        Schemas.postOrder(
+                root,
+                schema -> {
+                    if (schema.path(ONE_OF).isArray()) {
+                        candidates.add(schema);
+                    }
+                });
+
+        boolean changed = false;
+        for (final ObjectNode candidate : candidates) {
+            changed |= rewrite(candidate, root);
+        }
+        return changed;
+    }
+
+    private static boolean rewrite(final ObjectNode node, final ObjectNode root) {
+        if (ADDED_KEYWORDS.stream().anyMatch(node::has)) {
+            return false;
+        }
+
+        final JsonNode branches = node.get(ONE_OF);
+        if (branches.isEmpty()) {
+            return false;
+        }
+
+        final List<Map<String, String>> constants = new ArrayList<>(branches.size());
+        for (final JsonNode branch : branches) {
+            final Constraints constraints = new Constraints();
+            constraints.collect(branch, root);
+            if (!constraints.objectTyped) {
+                return false;
+            }
+            constants.add(constraints.constants);
+        }
+
+        final Optional<String> discriminator = findDiscriminator(constants);
+        discriminator.ifPresent(property -> replaceOneOf(node, property, constants, branches));
+        return discriminator.isPresent();
+    }
+
+    private static Optional<String> findDiscriminator(final List<Map<String, String>> constants) {
+        for (final String property : constants.get(0).keySet()) {
+            final Set<String> seen = new HashSet<>();
+            final boolean distinct =
+                    constants.stream()
+                            .map(branch -> branch.get(property))
+                            .allMatch(value -> value != null && seen.add(value));
+            if (distinct) {
+                return Optional.of(property);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static void replaceOneOf(
+            final ObjectNode node,
+            final String property,
+            final List<Map<String, String>> constants,
+            final JsonNode branches) {
+        final ArrayNode values = node.arrayNode();
+        final ArrayNode allOf = node.arrayNode();
+        for (int i = 0; i < branches.size(); i++) {
+            final String value = constants.get(i).get(property);
+            values.add(value);
+
+            final ObjectNode condition = allOf.addObject();
+            final ObjectNode when = condition.putObject("if");
+            when.putObject(PROPERTIES).putObject(property).put(CONST, value);
+            when.putArray(REQUIRED).add(property);
+            condition.set("then", branches.get(i));
+        }
+
+        final ObjectNode replacement = node.objectNode();
+        replacement.put(TYPE, OBJECT);
+        replacement.putObject(PROPERTIES).putObject(property).set("enum", values);
+        replacement.putArray(REQUIRED).add(property);
+        replacement.set(ALL_OF, allOf);
+        Schemas.replace(node, ONE_OF, replacement);
+    }
+
+    /** Constraints that must hold for any document a schema accepts. */
+    private static final class Constraints {
+
+        private final Set<JsonNode> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+
+        /** Required properties that must hold a string constant. */
+        private final Map<String, String> constants = new LinkedHashMap<>();
+
+        private boolean objectTyped;
+
+        void collect(final JsonNode schema, final JsonNode root) {
+            if (!schema.isObject() || !visited.add(schema)) {
+                return;
+            }
+
+            if (schema.path(TYPE).isString() && OBJECT.equals(schema.path(TYPE).asString())) {
+                objectTyped = true;
+            }
+
+            for (final JsonNode required : schema.path(REQUIRED)) {
+                if (required.isString()) {
+                    final String name = required.asString();
+                    final JsonNode value = schema.path(PROPERTIES).path(name).path(CONST);
+                    if (value.isString()) {
+                        constants.putIfAbsent(name, value.asString());
+                    }
+                }
+            }
+
+            final JsonNode ref = schema.path(REF);
+            if (ref.isString()) {
+                resolve(ref.asString(), root).ifPresent(target -> collect(target, root));
+            }
+
+            for (final JsonNode member : schema.path(ALL_OF)) {
+                collect(member, root);
+            }
+        }
+
+        private static Optional<JsonNode> resolve(final String ref, final JsonNode root) {
+            if (!ref.startsWith("#")) {
+                return Optional.empty();
+            }
+            final JsonNode target = root.at(ref.substring(1));
+            return target.isMissingNode() ? Optional.empty() : Optional.of(target);
+        }
+    }
+}
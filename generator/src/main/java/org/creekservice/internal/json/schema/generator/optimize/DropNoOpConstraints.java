@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.optimize;
+
+import static org.creekservice.internal.json.schema.generator.optimize.Schemas.ALL_OF;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Removes constraints that can never fail, e.g. {@code minLength: 0}, {@code uniqueItems: false}
+ * or {@code required: []}, and {@code allOf} members that accept everything.
+ *
+ * <p>{@code additionalProperties} and {@code items} that accept everything are only removed if no
+ * schema uses {@code unevaluatedProperties} or {@code unevaluatedItems}, as these see the
+ * annotations such keywords produce.
+ */
+final class DropNoOpConstraints implements OptimizerPass {
+
+    /** Keywords that are always a no-op when zero. */
+    private static final List<String> ZERO_MINIMUMS =
+            List.of("minLength", "minItems", "minProperties");
+
+    /** Keywords that are always a no-op when empty. */
+    private static final List<String> EMPTY_CONTAINERS =
+            List.of(
+                    "required",
+                    "properties",
+                    "patternProperties",
+                    "dependentRequired",
+                    "dependentSchemas");
+
+    /** Keywords that are a no-op when accepting everything, unless annotations are needed. */
+    private static final List<String> ANNOTATING_SUBSCHEMAS =
+            List.of("additionalProperties", "items");
+
+    @Override
+    public boolean apply(final ObjectNode root) {
+        final boolean keepAnnotations = Schemas.usesUnevaluated(root);
+        final boolean[] changed = {false};
+        Schemas.postOrder(root, schema -> changed[0] |= drop(schema, keepAnnotations));
+        return changed[0];
+    }
+
+    private static boolean drop(final ObjectNode schema, final boolean keepAnnotations) {
+        final List<String> noOps = new ArrayList<>();
+        for (final Map.Entry<String, JsonNode> e : schema.properties()) {
+            final String keyword = e.getKey();
+            final JsonNode value = e.getValue();
+            if (ZERO_MINIMUMS.contains(keyword) && value.isNumber() && value.doubleValue() == 0) {
+                noOps.add(keyword);
+            } else if (EMPTY_CONTAINERS.contains(keyword)
+                    && value.isContainer()
+                    && value.isEmpty()) {
+                noOps.add(keyword);
+            } else if (keyword.equals("uniqueItems") && value.isBoolean() && !value.asBoolean()) {
+                noOps.add(keyword);
+            } else if (ANNOTATING_SUBSCHEMAS.contains(keyword)
+                    && !keepAnnotations
+                    && acceptsEverything(value)) {
+                noOps.add(keyword);
+            }
+        }
+        noOps.forEach(schema::remove);
+        return dropAllOfMembers(schema) || !noOps.isEmpty();
+    }
+
+    private static boolean dropAllOfMembers(final ObjectNode schema) {
+        if (!schema.path(ALL_OF).isArray()) {
+            return false;
+        }
+
+        final ArrayNode allOf = (ArrayNode) schema.get(ALL_OF);
+        boolean changed = false;
+        for (int i = allOf.size() - 1; i >= 0; i--) {
+            if (acceptsEverything(allOf.get(i))) {
+                allOf.remove(i);
+                changed = true;
+            }
+        }
+        if (changed && allOf.isEmpty()) {
+            schema.remove(ALL_OF);
+        }
+        return changed;
+    }
+
+    private static boolean acceptsEverything(final JsonNode schema) {
+        return (schema.isBoolean() && schema.asBoolean())
+                || (schema.isObject() && schema.isEmpty());
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.optimize;
+
+import static org.creekservice.internal.json.schema.generator.optimize.Schemas.ALL_OF;
+
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Merges the members of an {@code allOf} into the schema that holds it.
+ *
+ * <p>For example, the wrapper victools generates for some subtypes:
+ *
+ * <pre>{@code
+ * allOf:
+ * - $ref: "#/$defs/Standard"
+ * - type: object
+ *   properties:
+ *     '@type':
+ *       const: sub
+ *   required: ['@type']
+ * }</pre>
+ *
+ * <p>becomes a single schema holding {@code $ref}, {@code type}, {@code properties} and {@code
+ * required}. An {@code allOf} is only flattened if all its members can be merged, as defined by
+ * {@link Schemas#canMerge}.
+ */
+final class FlattenAllOf implements OptimizerPass {
+
+    @Override
+    public boolean apply(final ObjectNode root) {
+        if (!Schemas.isRestructurable(root)) {
+            return false;
+        }
+
+        final boolean[] changed = {false};
+        Schemas.postOrder(root, schema -> changed[0] |= flatten(schema));
+        return changed[0];
+    }
+
+    private static boolean flatten(final ObjectNode schema) {
+        final JsonNode allOf = schema.get(ALL_OF);
+        if (allOf == null || !allOf.isArray() || allOf.isEmpty()) {
+            return false;
+        }
+
+        final ObjectNode result = Schemas.without(schema, ALL_OF);
+        final ObjectNode members = schema.objectNode();
+        for (final JsonNode member : allOf) {
+            if (!member.isObject() || !Schemas.canMerge(result, (ObjectNode) member)) {
+                return false;
+            }
+            member.properties()
+                    .forEach(
+                            e -> {
+                                result.putIfAbsent(e.getKey(), e.getValue());
+                                members.putIfAbsent(e.getKey(), e.getValue());
+                            });
+        }
+
+        Schemas.replace(schema, ALL_OF, members);
+        return true;
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.optimize;
+
+import static org.creekservice.internal.json.schema.generator.optimize.Schemas.DEFS;
+import static org.creekservice.internal.json.schema.generator.optimize.Schemas.REF;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Replaces {@code $ref}s to root definitions with the definition itself, where the definition is
+ * only used once, or is small.
+ *
+ * <p>Inlining saves validators resolving the reference. Recursive definitions are never inlined.
+ * Definitions are only inlined where the definition can be merged with any keywords adjacent to the
+ * {@code $ref}, as defined by {@link Schemas#canMerge}. Inlined definitions that are no longer
+ * referenced are removed.
+ */
+final class InlineDefinitions implements OptimizerPass {
+
+    /** Definitions with at most this many nodes are inlined everywhere they are used. */
+    static final int SMALL_DEFINITION_SIZE = 8;
+
+    @Override
+    public boolean apply(final ObjectNode root) {
+        if (!root.path(DEFS).isObject() || !Schemas.isRestructurable(root)) {
+            return false;
+        }
+
+        final ObjectNode defs = (ObjectNode) root.get(DEFS);
+        boolean changed = false;
+        for (final String name : new ArrayList<>(defs.propertyNames())) {
+            changed |= inline(name, defs, root);
+        }
+
+        if (defs.isEmpty()) {
+            root.remove(DEFS);
+        }
+        return changed;
+    }
+
+    private static boolean inline(final String name, final ObjectNode defs, final ObjectNode root) {
+        final JsonNode definition = defs.get(name);
+        if (!definition.isObject() || isRecursive(name, defs)) {
+            return false;
+        }
+
+        final List<ObjectNode> uses = uses(root).getOrDefault(name, List.of());
+        if (uses.isEmpty() || (uses.size() > 1 && size(definition) > SMALL_DEFINITION_SIZE)) {
+            return false;
+        }
+
+        final ObjectNode def = (ObjectNode) definition;
+        for (final ObjectNode use : uses) {
+            if (!Schemas.canMerge(Schemas.without(use, REF), def)) {
+                return false;
+            }
+        }
+
+        uses.forEach(use -> Schemas.replace(use, REF, def.deepCopy()));
+        defs.remove(name);
+        return true;
+    }
+
+    /**
+     * @return the schemas holding a {@code $ref} to each root definition, by definition name.
+     */
+    private static Map<String, List<ObjectNode>> uses(final ObjectNode root) {
+        final Map<String, List<ObjectNode>> uses = new LinkedHashMap<>();
+        Schemas.postOrder(
+                root,
+                schema -> {
+                    final JsonNode ref = schema.path(REF);
+                    if (ref.isString()) {
+                        Schemas.definitionName(ref.asString())
+                                .ifPresent(
+                                        name ->
+                                                uses.computeIfAbsent(name, k -> new ArrayList<>())
+                                                        .add(schema));
+                    }
+                });
+        return uses;
+    }
+
+    private static boolean isRecursive(final String name, final ObjectNode defs) {
+        final Set<String> seen = new HashSet<>();
+        final Deque<String> pending = new ArrayDeque<>(referencedDefinitions(defs.get(name)));
+        while (!pending.isEmpty()) {
+            final String next = pending.pop();
+            if (next.equals(name)) {
+                return true;
+            }
+            if (seen.add(next) && defs.has(next)) {
+                pending.addAll(referencedDefinitions(defs.get(next)));
+            }
+        }
+        return false;
+    }
+
+    private static Set<String> referencedDefinitions(final JsonNode schema) {
+        final Set<String> names = new HashSet<>();
+        Schemas.postOrder(
+                schema,
+                s -> {
+                    final JsonNode ref = s.path(REF);
+                    if (ref.isString()) {
+                        Schemas.definitionName(ref.asString()).ifPresent(names::add);
+                    }
+                });
+        return names;
+    }
+
+    private static int size(final JsonNode node) {
+        int size = 1;
+        for (final JsonNode child : node) {
+            size += size(child);
+        }
+        return size;
+    }
+}
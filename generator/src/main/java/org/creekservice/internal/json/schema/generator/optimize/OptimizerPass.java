@@ -0,0 +1,31 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.optimize;
+
+import tools.jackson.databind.node.ObjectNode;
+
+/** A rewrite of a schema that does not change the set of documents it accepts. */
+interface OptimizerPass {
+
+    /**
+     * Apply the pass.
+     *
+     * @param root the root schema, which is rewritten in place.
+     * @return {@code true} if the schema was changed.
+     */
+    boolean apply(ObjectNode root);
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.optimize;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.creekservice.api.base.annotation.VisibleForTesting;
+import org.creekservice.api.json.schema.generator.GeneratorOptions.PolymorphicStyle;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * A pipeline of rewrites applied to generated schemas, before they are serialized, to make them
+ * cheaper to validate.
+ *
+ * <p>Every rewrite leaves the set of documents a schema accepts unchanged. Passes are applied in
+ * order, repeatedly, until none change the schema, as one pass can open up opportunities for
+ * another, e.g. inlining a definition can leave an {@code allOf} that can be flattened.
+ */
+public final class SchemaOptimizer {
+
+    /** Upper bound on the number of times the passes are applied. */
+    private static final int MAX_ROUNDS = 10;
+
+    private final List<OptimizerPass> passes;
+
+    /**
+     * Create an optimizer.
+     *
+     * @param polymorphicStyle the form the schemas of polymorphic base types should take.
+     * @param optimize {@code true} to apply general optimizations, e.g. inlining definitions.
+     * @return the optimizer.
+     */
+    public static SchemaOptimizer create(
+            final PolymorphicStyle polymorphicStyle, final boolean optimize) {
+        final List<OptimizerPass> passes = new ArrayList<>();
+        if (polymorphicStyle == PolymorphicStyle.DISCRIMINATOR) {
+            passes.add(new DiscriminatorRewriter());
+        }
+        if (optimize) {
+            passes.add(new DropNoOpConstraints());
+            passes.add(new DeduplicateSubschemas());
+            passes.add(new FlattenAllOf());
+            passes.add(new InlineDefinitions());
+        }
+        return new SchemaOptimizer(passes);
+    }
+
+    @VisibleForTesting
+    SchemaOptimizer(final List<OptimizerPass> passes) {
+        this.passes = List.copyOf(requireNonNull(passes, "passes"));
+    }
+
+    /**
+     * Optimize the supplied {@code schema}, in place.
+     *
+     * @param schema the root schema.
+     */
+    public void optimize(final ObjectNode schema) {
+        boolean changed = true;
+        for (int round = 0; changed && round < MAX_ROUNDS; round++) {
+            changed = false;
+            for (final OptimizerPass pass : passes) {
+                changed |= pass.apply(schema);
+            }
+        }
+    }
+}
@@ -0,0 +1,287 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.optimize;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/** Helpers for walking and rewriting draft 2020-12 schemas. */
+final class Schemas {
+
+    static final String DEFS = "$defs";
+    static final String REF = "$ref";
+    static final String ALL_OF = "allOf";
+    static final String DEFS_REF_PREFIX = "#/" + DEFS + "/";
+
+    /** Keywords whose value is a single subschema. */
+    private static final Set<String> SINGLE_SUBSCHEMA =
+            Set.of(
+                    "additionalProperties",
+                    "items",
+                    "contains",
+                    "propertyNames",
+                    "not",
+                    "if",
+                    "then",
+                    "else",
+                    "unevaluatedItems",
+                    "unevaluatedProperties",
+                    "contentSchema");
+
+    /** Keywords whose value is an array of subschemas. */
+    private static final Set<String> ARRAY_OF_SUBSCHEMAS =
+            Set.of(ALL_OF, "anyOf", "oneOf", "prefixItems");
+
+    /** Keywords whose value is an object whose values are subschemas. */
+    private static final Set<String> MAP_OF_SUBSCHEMAS =
+            Set.of("properties", "patternProperties", "dependentSchemas", DEFS, "definitions");
+
+    /**
+     * Keywords whose behaviour depends on adjacent keywords, in groups. Keywords from a group can
+     * only be combined into one schema if they all came from the same schema.
+     */
+    private static final List<Set<String>> DEPENDENT_KEYWORDS =
+            List.of(
+                    Set.of("properties", "patternProperties", "additionalProperties"),
+                    Set.of("prefixItems", "items"),
+                    Set.of("contains", "minContains", "maxContains"),
+                    Set.of("if", "then", "else"));
+
+    /** Keywords that stop a schema being merged into another. */
+    private static final Set<String> UNMERGEABLE_KEYWORDS =
+            Set.of(
+                    "$id",
+                    "$anchor",
+                    "$dynamicAnchor",
+                    "$schema",
+                    "$vocabulary",
+                    DEFS,
+                    "definitions",
+                    "unevaluatedProperties",
+                    "unevaluatedItems");
+
+    /** Keywords that identify, or resolve against, a schema resource. */
+    private static final Set<String> RESOURCE_KEYWORDS =
+            Set.of("$id", "$anchor", "$dynamicAnchor", "$dynamicRef", "$recursiveRef");
+
+    private Schemas() {}
+
+    /**
+     * Visit the supplied {@code schema} and all its subschemas, children before parents.
+     *
+     * <p>Only object schemas are visited. Values of non-schema keywords, e.g. {@code const} or
+     * {@code default}, are not walked, even if they look like schemas.
+     *
+     * @param schema the schema to walk.
+     * @param visitor the visitor to call for each schema.
+     */
+    static void postOrder(final JsonNode schema, final Consumer<ObjectNode> visitor) {
+        if (!schema.isObject()) {
+            return;
+        }
+        final ObjectNode object = (ObjectNode) schema;
+        for (final JsonNode child : subschemas(object)) {
+            postOrder(child, visitor);
+        }
+        visitor.accept(object);
+    }
+
+    /**
+     * @param schema the schema.
+     * @return the direct subschemas of the {@code schema}.
+     */
+    static List<JsonNode> subschemas(final ObjectNode schema) {
+        final List<JsonNode> children = new ArrayList<>();
+        for (final Map.Entry<String, JsonNode> e : schema.properties()) {
+            final String keyword = e.getKey();
+            if (SINGLE_SUBSCHEMA.contains(keyword)) {
+                children.add(e.getValue());
+            } else if (ARRAY_OF_SUBSCHEMAS.contains(keyword) && e.getValue().isArray()) {
+                e.getValue().forEach(children::add);
+            } else if (MAP_OF_SUBSCHEMAS.contains(keyword) && e.getValue().isObject()) {
+                e.getValue().forEach(children::add);
+            }
+        }
+        return children;
+    }
+
+    /**
+     * Determine if {@code from} can be merged into {@code into}, such that the result accepts
+     * exactly the documents accepted by both.
+     *
+     * <p>This is the case when the two schemas share no keywords, other than with identical values,
+     * no keyword in the result behaves differently due to adjacent keywords from the other schema,
+     * and {@code from} neither defines a resource nor depends on the annotations of adjacent
+     * keywords.
+     *
+     * @param into the schema to merge into.
+     * @param from the schema to merge.
+     * @return {@code true} if the merge is safe.
+     */
+    static boolean canMerge(final ObjectNode into, final ObjectNode from) {
+        for (final Map.Entry<String, JsonNode> e : from.properties()) {
+            if (UNMERGEABLE_KEYWORDS.contains(e.getKey())) {
+                return false;
+            }
+            final JsonNode existing = into.get(e.getKey());
+            if (existing != null && !existing.equals(e.getValue())) {
+                return false;
+            }
+        }
+        for (final Set<String> group : DEPENDENT_KEYWORDS) {
+            final Map<String, JsonNode> fromGroup = keywords(from, group);
+            final Map<String, JsonNode> intoGroup = keywords(into, group);
+            if (!fromGroup.isEmpty() && !intoGroup.isEmpty() && !fromGroup.equals(intoGroup)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replace the {@code replacing} keyword of {@code into} with the keywords of {@code from}, so
+     * that the new keywords take its position.
+     *
+     * <p>Callers must first check {@code from} can be merged with {@code into}, excluding the
+     * keyword being replaced, using {@link #canMerge}.
+     *
+     * @param into the schema to merge into.
+     * @param replacing the keyword being replaced.
+     * @param from the schema to merge.
+     */
+    static void replace(final ObjectNode into, final String replacing, final ObjectNode from) {
+        final Map<String, JsonNode> original = new LinkedHashMap<>();
+        into.properties().forEach(e -> original.put(e.getKey(), e.getValue()));
+        into.removeAll();
+        original.forEach(
+                (keyword, value) -> {
+                    if (keyword.equals(replacing)) {
+                        from.properties().forEach(e -> into.putIfAbsent(e.getKey(), e.getValue()));
+                    } else {
+                        into.set(keyword, value);
+                    }
+                });
+    }
+
+    /**
+     * @param schema the schema.
+     * @param excluding the keyword to exclude.
+     * @return a shallow copy of the {@code schema} without the {@code excluding} keyword.
+     */
+    static ObjectNode without(final ObjectNode schema, final String excluding) {
+        final ObjectNode copy = schema.objectNode();
+        schema.properties()
+                .forEach(
+                        e -> {
+                            if (!e.getKey().equals(excluding)) {
+                                copy.set(e.getKey(), e.getValue());
+                            }
+                        });
+        return copy;
+    }
+
+    /**
+     * @param ref the value of a {@code $ref}.
+     * @return the name of the definition under the root {@code $defs} the {@code ref} points to,
+     *     if it is that simple.
+     */
+    static Optional<String> definitionName(final String ref) {
+        if (!ref.startsWith(DEFS_REF_PREFIX)) {
+            return Optional.empty();
+        }
+        final String name = ref.substring(DEFS_REF_PREFIX.length());
+        return name.isEmpty() || name.contains("/") || name.contains("~") || name.contains("%")
+                ? Optional.empty()
+                : Optional.of(name);
+    }
+
+    /**
+     * @param name the definition name.
+     * @return a {@code $ref} to the definition under the root {@code $defs}.
+     */
+    static String definitionRef(final String name) {
+        return DEFS_REF_PREFIX + name;
+    }
+
+    /**
+     * Determine if a schema's structure can be changed without breaking references.
+     *
+     * <p>This is the case when the only references are to the root schema, to root definitions,
+     * or to other files, and no subschema identifies itself as a resource. References by any other
+     * JSON pointer could be broken by moving subschemas.
+     *
+     * @param root the root schema.
+     * @return {@code true} if subschemas can be moved.
+     */
+    static boolean isRestructurable(final ObjectNode root) {
+        final boolean[] restructurable = {true};
+        postOrder(
+                root,
+                schema -> {
+                    if (schema != root && RESOURCE_KEYWORDS.stream().anyMatch(schema::has)) {
+                        restructurable[0] = false;
+                    }
+                    if (schema.has("$dynamicRef") || schema.has("$recursiveRef")) {
+                        restructurable[0] = false;
+                    }
+                    final JsonNode ref = schema.path(REF);
+                    if (ref.isString() && !isMovable(ref.asString())) {
+                        restructurable[0] = false;
+                    }
+                });
+        return restructurable[0];
+    }
+
+    private static boolean isMovable(final String ref) {
+        return !ref.startsWith("#") || ref.equals("#") || definitionName(ref).isPresent();
+    }
+
+    /**
+     * @param root the root schema.
+     * @return {@code true} if any schema depends on the annotations of others.
+     */
+    static boolean usesUnevaluated(final ObjectNode root) {
+        final boolean[] uses = {false};
+        postOrder(
+                root,
+                schema -> {
+                    if (schema.has("unevaluatedProperties") || schema.has("unevaluatedItems")) {
+                        uses[0] = true;
+                    }
+                });
+        return uses[0];
+    }
+
+    private static Map<String, JsonNode> keywords(
+            final ObjectNode schema, final Set<String> names) {
+        final Map<String, JsonNode> found = new LinkedHashMap<>();
+        for (final String name : names) {
+            final JsonNode value = schema.get(name);
+            if (value != null) {
+                found.put(name, value);
+            }
+        }
+        return found;
+    }
+}
@@ -16,11 +16,14 @@
 
 package org.creekservice.internal.json.schema.generator.output;
 
+import static java.util.Objects.requireNonNull;
+
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import org.creekservice.api.base.type.schema.GeneratedSchemas;
 import org.creekservice.api.json.schema.generator.GeneratorOptions;
+import org.creekservice.api.json.schema.generator.GeneratorOptions.OutputFormat;
 
 /**
  * Creek output location strategy.
@@ -31,14 +34,29 @@ import org.creekservice.api.json.schema.generator.GeneratorOptions;
  * schemas generated.
  *
  * <p>For example, given a type {@code org.acme.some.package.TheType}, the schema will be output
- * under {@code org/acme/some/package/TheType.yaml}
+ * under {@code org/acme/some/package/TheType.yml}, or with the extension of the configured {@link
+ * OutputFormat}.
  */
 public final class DirectoryTreeOutputLocationStrategy
         implements GeneratorOptions.OutputLocationStrategy {
 
+    private final OutputFormat format;
+
+    /** Create a strategy for schemas written as YAML. */
+    public DirectoryTreeOutputLocationStrategy() {
+        this(OutputFormat.YAML);
+    }
+
+    /**
+     * @param format the format schemas are written in, which determines the file extension.
+     */
+    public DirectoryTreeOutputLocationStrategy(final OutputFormat format) {
+        this.format = requireNonNull(format, "format");
+    }
+
     @SuppressFBWarnings("PATH_TRAVERSAL_IN")
     @Override
     public Path outputPath(final Class<?> type) {
-        return Paths.get(GeneratedSchemas.schemaFileName(type, GeneratedSchemas.yamlExtension()));
+        return Paths.get(GeneratedSchemas.schemaFileName(type, format.extension()));
     }
 }
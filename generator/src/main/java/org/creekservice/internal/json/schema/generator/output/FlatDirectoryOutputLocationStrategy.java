@@ -16,11 +16,13 @@
 
 package org.creekservice.internal.json.schema.generator.output;
 
+import static java.util.Objects.requireNonNull;
+
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import org.creekservice.api.base.type.schema.GeneratedSchemas;
 import org.creekservice.api.json.schema.generator.GeneratorOptions;
+import org.creekservice.api.json.schema.generator.GeneratorOptions.OutputFormat;
 
 /**
  * Strategy for outputting schemas to a specific directory.
@@ -31,14 +33,29 @@ import org.creekservice.api.json.schema.generator.GeneratorOptions;
  * this directory is derived from a types full name.
  *
  * <p>For example, given a type {@code org.acme.some.package.TheType}, the schema will be output
- * under {@code <output-dir>/org.acme.some.package.TheType.yaml}
+ * under {@code <output-dir>/org.acme.some.package.TheType.yml}, or with the extension of the
+ * configured {@link OutputFormat}.
  */
 public class FlatDirectoryOutputLocationStrategy
         implements GeneratorOptions.OutputLocationStrategy {
 
+    private final OutputFormat format;
+
+    /** Create a strategy for schemas written as YAML. */
+    public FlatDirectoryOutputLocationStrategy() {
+        this(OutputFormat.YAML);
+    }
+
+    /**
+     * @param format the format schemas are written in, which determines the file extension.
+     */
+    public FlatDirectoryOutputLocationStrategy(final OutputFormat format) {
+        this.format = requireNonNull(format, "format");
+    }
+
     @SuppressFBWarnings(value = "PATH_TRAVERSAL_IN", justification = "False positive")
     @Override
     public Path outputPath(final Class<?> type) {
-        return Paths.get(type.getName() + GeneratedSchemas.yamlExtension());
+        return Paths.get(type.getName() + format.extension());
     }
 }
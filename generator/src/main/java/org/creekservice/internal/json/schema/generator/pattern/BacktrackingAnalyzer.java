@@ -0,0 +1,491 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.pattern;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.IntFunction;
+import java.util.regex.PatternSyntaxException;
+import org.creekservice.internal.json.schema.generator.pattern.PatternNode.Alternation;
+import org.creekservice.internal.json.schema.generator.pattern.PatternNode.Assertion;
+import org.creekservice.internal.json.schema.generator.pattern.PatternNode.Chars;
+import org.creekservice.internal.json.schema.generator.pattern.PatternNode.Opaque;
+import org.creekservice.internal.json.schema.generator.pattern.PatternNode.Repeat;
+import org.creekservice.internal.json.schema.generator.pattern.PatternNode.Sequence;
+
+/**
+ * Finds regexes whose matching time, in a backtracking matcher such as {@code java.util.regex},
+ * can grow exponentially or polynomially with the length of the input.
+ *
+ * <p>The regex is converted into a position automaton, i.e. an NFA with a state per character it
+ * consumes, with one transition per way the regex can move between two positions. A backtracking
+ * matcher explores every path through this NFA before failing, so:
+ *
+ * <ul>
+ *   <li>matching is exponential if, from some state, there are two different paths back to that
+ *       state that consume the same input, e.g. {@code (a+)+} or {@code (a|ab)*}, as each
+ *       repetition of that input doubles the paths to explore.
+ *   <li>matching is polynomial if there are two different states, each with a loop, where the
+ *       input that loops on the first also moves from the first to the second, and loops on the
+ *       second, e.g. {@code \d+\d+} or {@code .*=.*=}, as the input can be split between the loops
+ *       in a number of ways that grows with its length.
+ * </ul>
+ *
+ * <p>Large bounded repetitions are treated as unbounded, and nodes the matcher never backtracks
+ * into, i.e. atomic groups and possessive quantifiers, as single states. Regexes whose automaton
+ * is too large to analyse in reasonable time are not reported.
+ */
+public final class BacktrackingAnalyzer {
+
+    /** How matching time can grow with the length of the input. */
+    public enum Backtracking {
+        /** Matching time can grow exponentially. */
+        EXPONENTIAL,
+        /** Matching time can grow polynomially, i.e. quadratically or worse. */
+        POLYNOMIAL
+    }
+
+    /** Repetitions with more optional copies than this are treated as unbounded. */
+    private static final int MAX_COPIES = 8;
+
+    private static final int MAX_POSITIONS = 500;
+    private static final int MAX_STEPS = 5_000_000;
+
+    private final List<CharSet> chars = new ArrayList<>();
+    private final List<List<Integer>> follow = new ArrayList<>();
+    private int steps;
+
+    private BacktrackingAnalyzer() {}
+
+    /**
+     * Analyse a regex.
+     *
+     * @param regex the regex.
+     * @return how matching time can grow, or empty if it is linear, or could not be analysed.
+     * @throws PatternSyntaxException if the regex is invalid.
+     */
+    public static Optional<Backtracking> analyse(final String regex) {
+        final BacktrackingAnalyzer analyzer = new BacktrackingAnalyzer();
+        try {
+            analyzer.build(PatternParser.parse(regex));
+            return analyzer.analyse();
+        } catch (final TooComplexException e) {
+            return Optional.empty();
+        }
+    }
+
+    private Optional<Backtracking> analyse() {
+        final int n = chars.size();
+        final int[][] successors = new int[n][];
+        final Map<Long, Integer> multiplicity = new HashMap<>();
+        for (int p = 0; p < n; p++) {
+            final List<Integer> targets = follow.get(p);
+            for (final int q : targets) {
+                multiplicity.merge(edge(p, q), 1, Integer::sum);
+            }
+            successors[p] = targets.stream().mapToInt(Integer::intValue).distinct().toArray();
+        }
+
+        final int[] scc = stronglyConnected(n, p -> successors[p]);
+        final boolean[] cyclic = new boolean[n];
+        for (int p = 0; p < n; p++) {
+            for (final int q : successors[p]) {
+                cyclic[p] |= scc[p] == scc[q];
+            }
+        }
+
+        if (exponential(successors, multiplicity, scc, cyclic)) {
+            return Optional.of(Backtracking.EXPONENTIAL);
+        }
+        if (polynomial(successors, scc, cyclic)) {
+            return Optional.of(Backtracking.POLYNOMIAL);
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Exponential if, in the product of the automaton with itself, restricted to pairs within one
+     * loop, a cycle through a pair of equal states passes through a pair of different states, or
+     * uses two different transitions between the same states.
+     */
+    private boolean exponential(
+            final int[][] successors,
+            final Map<Long, Integer> multiplicity,
+            final int[] scc,
+            final boolean[] cyclic) {
+        final int n = successors.length;
+        final IntFunction<int[]> pairSuccessors =
+                pair -> {
+                    final int p = pair / n;
+                    final int q = pair % n;
+                    if (!cyclic[p] || scc[p] != scc[q]) {
+                        return new int[0];
+                    }
+                    final List<Integer> result = new ArrayList<>();
+                    for (final int p2 : successors[p]) {
+                        for (final int q2 : successors[q]) {
+                            if (scc[p2] == scc[p]
+                                    && scc[q2] == scc[p]
+                                    && chars.get(p2).intersects(chars.get(q2))) {
+                                result.add(p2 * n + q2);
+                            }
+                        }
+                    }
+                    return toArray(result);
+                };
+
+        final int[] pairScc = stronglyConnected(n * n, pairSuccessors);
+        final BitSet diagonalSccs = new BitSet();
+        for (int p = 0; p < n; p++) {
+            diagonalSccs.set(pairScc[p * n + p]);
+        }
+        for (int pair = 0; pair < n * n; pair++) {
+            final int p = pair / n;
+            final int q = pair % n;
+            if (!diagonalSccs.get(pairScc[pair])) {
+                continue;
+            }
+            if (p != q) {
+                return true;
+            }
+            for (final int p2 : successors[p]) {
+                if (multiplicity.get(edge(p, p2)) > 1
+                        && pairScc[p2 * n + p2] == pairScc[pair]
+                        && pairSuccessorExists(pairSuccessors, pair, p2 * n + p2)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Polynomial if, for different looping states {@code p} and {@code q}, the product of the
+     * automaton with itself twice can move from {@code (p, p, q)} to {@code (p, q, q)}, with the
+     * first run staying in the loop of {@code p} and the last in the loop of {@code q}.
+     */
+    private boolean polynomial(final int[][] successors, final int[] scc, final boolean[] cyclic) {
+        final int n = successors.length;
+        for (int p = 0; p < n; p++) {
+            if (!cyclic[p]) {
+                continue;
+            }
+            final BitSet reachable = reachable(p, successors);
+            for (int q = 0; q < n; q++) {
+                if (q != p && cyclic[q] && reachable.get(q) && threeRuns(successors, scc, p, q)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private boolean threeRuns(
+            final int[][] successors, final int[] scc, final int p, final int q) {
+        final int n = successors.length;
+        final long target = triple(n, p, q, q);
+        final Deque<Long> queue = new ArrayDeque<>();
+        final Set<Long> seen = new HashSet<>();
+        queue.add(triple(n, p, p, q));
+        while (!queue.isEmpty()) {
+            final long current = queue.poll();
+            final int a = (int) (current / ((long) n * n));
+            final int b = (int) (current / n % n);
+            final int c = (int) (current % n);
+            for (final int a2 : successors[a]) {
+                if (scc[a2] != scc[p]) {
+                    continue;
+                }
+                for (final int b2 : successors[b]) {
+                    final CharSet ab = chars.get(a2).intersect(chars.get(b2));
+                    if (ab.isEmpty()) {
+                        continue;
+                    }
+                    for (final int c2 : successors[c]) {
+                        step();
+                        if (scc[c2] != scc[q] || !ab.intersects(chars.get(c2))) {
+                            continue;
+                        }
+                        final long next = triple(n, a2, b2, c2);
+                        if (next == target) {
+                            return true;
+                        }
+                        if (seen.add(next)) {
+                            queue.add(next);
+                        }
+                    }
+                }
+            }
+        }
+        return false;
+    }
+
+    private Fragment build(final PatternNode node) {
+        if (node instanceof Chars) {
+            return position(((Chars) node).chars());
+        }
+        if (node instanceof Sequence) {
+            Fragment result = Fragment.EMPTY;
+            for (final PatternNode part : ((Sequence) node).parts()) {
+                result = concat(result, build(part));
+            }
+            return result;
+        }
+        if (node instanceof Alternation) {
+            Fragment result = null;
+            for (final PatternNode alternative : ((Alternation) node).alternatives()) {
+                final Fragment fragment = build(alternative);
+                result = result == null ? fragment : result.or(fragment);
+            }
+            return result;
+        }
+        if (node instanceof Repeat) {
+            return repeat((Repeat) node);
+        }
+        if (node instanceof Opaque) {
+            final PatternNode body = ((Opaque) node).body();
+            if (body == null) {
+                return position(CharSet.ANY).optional();
+            }
+            final Contents contents = contents(body);
+            final Fragment fragment = position(contents.chars);
+            return contents.nullable ? fragment.optional() : fragment;
+        }
+        if (node instanceof Assertion) {
+            return Fragment.EMPTY;
+        }
+        throw new IllegalStateException("Unknown node: " + node);
+    }
+
+    private Fragment repeat(final Repeat repeat) {
+        final boolean unbounded =
+                repeat.max() == Repeat.UNBOUNDED || repeat.max() - repeat.min() > MAX_COPIES;
+        // Fewer mandatory copies of the body do not change how it can backtrack:
+        final int min = Math.min(repeat.min(), MAX_COPIES);
+        final int optional = unbounded ? 0 : repeat.max() - repeat.min();
+
+        Fragment result = Fragment.EMPTY;
+        for (int i = 0; i < min; i++) {
+            result = concat(result, build(repeat.body()));
+        }
+
+        if (unbounded) {
+            final Fragment loop = build(repeat.body());
+            link(loop.last, loop.first);
+            return concat(result, loop.optional());
+        }
+
+        // Nest optional copies, i.e. (x(x)?)?, rather than x?x?, which is ambiguous:
+        Fragment tail = null;
+        for (int i = 0; i < optional; i++) {
+            final Fragment copy = build(repeat.body());
+            tail = (tail == null ? copy : concat(copy, tail)).optional();
+        }
+        return tail == null ? result : concat(result, tail);
+    }
+
+    private Fragment position(final CharSet set) {
+        if (chars.size() == MAX_POSITIONS) {
+            throw new TooComplexException();
+        }
+        final int p = chars.size();
+        chars.add(set);
+        follow.add(new ArrayList<>());
+        final BitSet only = new BitSet();
+        only.set(p);
+        return new Fragment(false, only, only);
+    }
+
+    private Fragment concat(final Fragment left, final Fragment right) {
+        link(left.last, right.first);
+        final BitSet first = (BitSet) left.first.clone();
+        if (left.nullable) {
+            first.or(right.first);
+        }
+        final BitSet last = (BitSet) right.last.clone();
+        if (right.nullable) {
+            last.or(left.last);
+        }
+        return new Fragment(left.nullable && right.nullable, first, last);
+    }
+
+    private void link(final BitSet from, final BitSet to) {
+        from.stream().forEach(p -> to.stream().forEach(q -> follow.get(p).add(q)));
+    }
+
+    /** The characters a node can consume, and whether it can match the empty string. */
+    private static Contents contents(final PatternNode node) {
+        if (node instanceof Chars) {
+            return new Contents(((Chars) node).chars(), false);
+        }
+        if (node instanceof Sequence || node instanceof Alternation) {
+            final boolean sequence = node instanceof Sequence;
+            final List<PatternNode> children =
+                    sequence
+                            ? ((Sequence) node).parts()
+                            : ((Alternation) node).alternatives();
+            CharSet set = CharSet.EMPTY;
+            boolean nullable = sequence;
+            for (final PatternNode child : children) {
+                final Contents contents = contents(child);
+                set = set.union(contents.chars);
+                nullable =
+                        sequence ? nullable && contents.nullable : nullable || contents.nullable;
+            }
+            return new Contents(set, nullable);
+        }
+        if (node instanceof Repeat) {
+            final Contents body = contents(((Repeat) node).body());
+            return new Contents(body.chars, body.nullable || ((Repeat) node).min() == 0);
+        }
+        if (node instanceof Opaque) {
+            final PatternNode body = ((Opaque) node).body();
+            return body == null ? new Contents(CharSet.ANY, true) : contents(body);
+        }
+        return new Contents(CharSet.EMPTY, true);
+    }
+
+    /** Iterative Tarjan, returning the id of the strongly connected component of each node. */
+    private int[] stronglyConnected(final int n, final IntFunction<int[]> successors) {
+        final int[] index = new int[n];
+        final int[] low = new int[n];
+        final int[] component = new int[n];
+        final boolean[] onStack = new boolean[n];
+        final int[][] edges = new int[n][];
+        final int[] edgePos = new int[n];
+        final Deque<Integer> stack = new ArrayDeque<>();
+        final Deque<Integer> work = new ArrayDeque<>();
+        Arrays.fill(index, -1);
+        int nextIndex = 0;
+        int nextComponent = 0;
+
+        for (int root = 0; root < n; root++) {
+            if (index[root] != -1) {
+                continue;
+            }
+            work.push(root);
+            while (!work.isEmpty()) {
+                final int v = work.peek();
+                if (index[v] == -1) {
+                    index[v] = low[v] = nextIndex++;
+                    edges[v] = successors.apply(v);
+                    stack.push(v);
+                    onStack[v] = true;
+                }
+                if (edgePos[v] < edges[v].length) {
+                    step();
+                    final int w = edges[v][edgePos[v]++];
+                    if (index[w] == -1) {
+                        work.push(w);
+                    } else if (onStack[w]) {
+                        low[v] = Math.min(low[v], index[w]);
+                    }
+                    continue;
+                }
+                work.pop();
+                if (!work.isEmpty()) {
+                    final int parent = work.peek();
+                    low[parent] = Math.min(low[parent], low[v]);
+                }
+                if (low[v] == index[v]) {
+                    int w;
+                    do {
+                        w = stack.pop();
+                        onStack[w] = false;
+                        component[w] = nextComponent;
+                    } while (w != v);
+                    nextComponent++;
+                }
+                edges[v] = null;
+            }
+        }
+        return component;
+    }
+
+    private static boolean pairSuccessorExists(
+            final IntFunction<int[]> successors, final int from, final int to) {
+        return Arrays.stream(successors.apply(from)).anyMatch(s -> s == to);
+    }
+
+    private static BitSet reachable(final int from, final int[][] successors) {
+        final BitSet seen = new BitSet();
+        final Deque<Integer> queue = new ArrayDeque<>();
+        queue.add(from);
+        while (!queue.isEmpty()) {
+            for (final int next : successors[queue.poll()]) {
+                if (!seen.get(next)) {
+                    seen.set(next);
+                    queue.add(next);
+                }
+            }
+        }
+        return seen;
+    }
+
+    private void step() {
+        if (++steps > MAX_STEPS) {
+            throw new TooComplexException();
+        }
+    }
+
+    private static long edge(final int from, final int to) {
+        return ((long) from << 32) | to;
+    }
+
+    private static long triple(final int n, final int a, final int b, final int c) {
+        return ((long) a * n + b) * n + c;
+    }
+
+    private static int[] toArray(final List<Integer> list) {
+        return list.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    /** The part of the automaton built for a node. */
+    private record Fragment(boolean nullable, BitSet first, BitSet last) {
+
+        static final Fragment EMPTY = new Fragment(true, new BitSet(), new BitSet());
+
+        Fragment optional() {
+            return new Fragment(true, first, last);
+        }
+
+        Fragment or(final Fragment other) {
+            final BitSet first = (BitSet) this.first.clone();
+            first.or(other.first);
+            final BitSet last = (BitSet) this.last.clone();
+            last.or(other.last);
+            return new Fragment(nullable || other.nullable, first, last);
+        }
+    }
+
+    private record Contents(CharSet chars, boolean nullable) {}
+
+    private static final class TooComplexException extends RuntimeException {
+        TooComplexException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.pattern;
+
+import java.util.Arrays;
+
+/**
+ * An immutable set of code points, stored as sorted, non-overlapping, non-adjacent, inclusive
+ * ranges.
+ */
+final class CharSet {
+
+    private static final int MAX = Character.MAX_CODE_POINT;
+
+    static final CharSet EMPTY = new CharSet(new int[0]);
+    static final CharSet ANY = range(0, MAX);
+    static final CharSet DIGIT = range('0', '9');
+    static final CharSet WORD =
+            range('a', 'z').union(range('A', 'Z')).union(DIGIT).union(of('_'));
+    static final CharSet SPACE = range('\t', '\r').union(of(' '));
+    static final CharSet HORIZONTAL_SPACE =
+            of(' ', '\t', 0xA0, 0x1680, 0x180E, 0x202F, 0x205F, 0x3000)
+                    .union(range(0x2000, 0x200A));
+    static final CharSet VERTICAL_SPACE = range('\n', '\r').union(of(0x85, 0x2028, 0x2029));
+
+    /** {@code .} with default flags: anything but a line terminator. */
+    static final CharSet DOT = of('\n', '\r', 0x85, 0x2028, 0x2029).negate();
+
+    /** Pairs of inclusive range bounds. */
+    private final int[] ranges;
+
+    private CharSet(final int[] ranges) {
+        this.ranges = ranges;
+    }
+
+    static CharSet of(final int... codePoints) {
+        CharSet result = EMPTY;
+        for (final int cp : codePoints) {
+            result = result.union(range(cp, cp));
+        }
+        return result;
+    }
+
+    static CharSet range(final int from, final int to) {
+        return from > to ? EMPTY : new CharSet(new int[] {from, to});
+    }
+
+    boolean isEmpty() {
+        return ranges.length == 0;
+    }
+
+    CharSet union(final CharSet other) {
+        final int[] all = new int[ranges.length + other.ranges.length];
+        System.arraycopy(ranges, 0, all, 0, ranges.length);
+        System.arraycopy(other.ranges, 0, all, ranges.length, other.ranges.length);
+
+        final Integer[] order = new Integer[all.length / 2];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> Integer.compare(all[a * 2], all[b * 2]));
+
+        final int[] merged = new int[all.length];
+        int size = 0;
+        for (final int i : order) {
+            final int from = all[i * 2];
+            final int to = all[i * 2 + 1];
+            if (size > 0 && from <= merged[size - 1] + 1) {
+                merged[size - 1] = Math.max(merged[size - 1], to);
+            } else {
+                merged[size++] = from;
+                merged[size++] = to;
+            }
+        }
+        return new CharSet(Arrays.copyOf(merged, size));
+    }
+
+    CharSet negate() {
+        final int[] result = new int[ranges.length + 2];
+        int size = 0;
+        int next = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (ranges[i] > next) {
+                result[size++] = next;
+                result[size++] = ranges[i] - 1;
+            }
+            next = ranges[i + 1] + 1;
+        }
+        if (next <= MAX) {
+            result[size++] = next;
+            result[size++] = MAX;
+        }
+        return new CharSet(Arrays.copyOf(result, size));
+    }
+
+    CharSet intersect(final CharSet other) {
+        return negate().union(other.negate()).negate();
+    }
+
+    boolean intersects(final CharSet other) {
+        int i = 0;
+        int j = 0;
+        while (i < ranges.length && j < other.ranges.length) {
+            if (ranges[i + 1] < other.ranges[j]) {
+                i += 2;
+            } else if (other.ranges[j + 1] < ranges[i]) {
+                j += 2;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return {@code true} if the set holds exactly one code point.
+     */
+    boolean single() {
+        return ranges.length == 2 && ranges[0] == ranges[1];
+    }
+
+    /**
+     * @return the first code point in the set.
+     */
+    int first() {
+        return ranges[0];
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return this == o || (o instanceof CharSet && Arrays.equals(ranges, ((CharSet) o).ranges));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ranges);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < ranges.length; i += 2) {
+            sb.appendCodePoint(ranges[i]);
+            if (ranges[i + 1] != ranges[i]) {
+                sb.append('-').appendCodePoint(ranges[i + 1]);
+            }
+        }
+        return sb.append(']').toString();
+    }
+}
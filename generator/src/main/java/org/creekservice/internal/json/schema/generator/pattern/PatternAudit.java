@@ -0,0 +1,163 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.pattern;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.PatternSyntaxException;
+import org.creekservice.internal.json.schema.generator.pattern.BacktrackingAnalyzer.Backtracking;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Finds the patterns in a generated schema that can take excessive time to match, naming the type
+ * and property each is on.
+ *
+ * <p>Checks {@code pattern} values and {@code patternProperties} keys. Each distinct pattern is
+ * only analysed once per audit instance, as the same patterns, e.g. those of the built-in type
+ * mappings, recur across schemas.
+ */
+public final class PatternAudit {
+
+    private static final String PATTERN = "pattern";
+    private static final String PATTERN_PROPERTIES = "patternProperties";
+    private static final String PROPERTIES = "properties";
+    private static final String DEFS = "$defs";
+    private static final String DEFINITIONS = "definitions";
+
+    /** Keywords whose values are instance data, not subschemas. */
+    private static final Set<String> DATA_KEYWORDS = Set.of("const", "enum", "default", "examples");
+
+    private final Map<String, Optional<Backtracking>> analysed = new ConcurrentHashMap<>();
+
+    /**
+     * Audit a schema.
+     *
+     * @param rootType the name of the type the schema was generated for.
+     * @param schema the schema.
+     * @return the issues found, in the order they appear in the schema.
+     */
+    public List<Issue> audit(final String rootType, final JsonNode schema) {
+        final List<Issue> issues = new ArrayList<>();
+        visit(schema, rootType, "", issues);
+        return issues;
+    }
+
+    private void visit(
+            final JsonNode node,
+            final String type,
+            final String property,
+            final List<Issue> issues) {
+        if (node.isArray()) {
+            node.forEach(element -> visit(element, type, property, issues));
+            return;
+        }
+        if (!node.isObject()) {
+            return;
+        }
+
+        for (final Map.Entry<String, JsonNode> field : node.properties()) {
+            final JsonNode value = field.getValue();
+            switch (field.getKey()) {
+                case PATTERN:
+                    if (value.isString()) {
+                        check(value.asString(), type, property, issues);
+                    }
+                    break;
+                case PROPERTIES:
+                    for (final Map.Entry<String, JsonNode> prop : value.properties()) {
+                        visit(prop.getValue(), type, child(property, prop.getKey()), issues);
+                    }
+                    break;
+                case PATTERN_PROPERTIES:
+                    for (final Map.Entry<String, JsonNode> prop : value.properties()) {
+                        check(prop.getKey(), type, property, issues);
+                        visit(prop.getValue(), type, property, issues);
+                    }
+                    break;
+                case DEFS:
+                case DEFINITIONS:
+                    for (final Map.Entry<String, JsonNode> def : value.properties()) {
+                        visit(def.getValue(), def.getKey(), "", issues);
+                    }
+                    break;
+                default:
+                    if (!DATA_KEYWORDS.contains(field.getKey())) {
+                        visit(value, type, property, issues);
+                    }
+            }
+        }
+    }
+
+    private void check(
+            final String pattern,
+            final String type,
+            final String property,
+            final List<Issue> issues) {
+        analysed.computeIfAbsent(pattern, PatternAudit::analyse)
+                .ifPresent(
+                        backtracking ->
+                                issues.add(new Issue(type, property, pattern, backtracking)));
+    }
+
+    private static Optional<Backtracking> analyse(final String pattern) {
+        try {
+            return BacktrackingAnalyzer.analyse(pattern);
+        } catch (final PatternSyntaxException e) {
+            // Invalid patterns are left for validators to reject.
+            return Optional.empty();
+        }
+    }
+
+    private static String child(final String property, final String name) {
+        return property.isEmpty() ? name : property + "." + name;
+    }
+
+    /**
+     * A pattern that can take excessive time to match.
+     *
+     * @param type the name of the type the pattern is on.
+     * @param property the path to the property the pattern is on, e.g. {@code address.postcode},
+     *     or empty if the pattern is on the type itself.
+     * @param pattern the pattern.
+     * @param backtracking how matching time can grow.
+     */
+    public record Issue(String type, String property, String pattern, Backtracking backtracking) {
+
+        public Issue {
+            requireNonNull(type, "type");
+            requireNonNull(property, "property");
+            requireNonNull(pattern, "pattern");
+            requireNonNull(backtracking, "backtracking");
+        }
+
+        @Override
+        public String toString() {
+            return "Pattern on "
+                    + (property.isEmpty() ? type : type + "." + property)
+                    + " can take "
+                    + (backtracking == Backtracking.EXPONENTIAL ? "exponential" : "polynomial")
+                    + " time to match: "
+                    + pattern;
+        }
+    }
+}
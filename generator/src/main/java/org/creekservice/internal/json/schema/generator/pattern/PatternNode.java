@@ -0,0 +1,77 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.pattern;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+/**
+ * A node of a parsed pattern, describing only what matters to backtracking: which characters are
+ * consumed, in what order, and how often.
+ */
+interface PatternNode {
+
+    /** Consumes any one code point from a set. */
+    record Chars(CharSet chars) implements PatternNode {
+        public Chars {
+            requireNonNull(chars, "chars");
+        }
+    }
+
+    /** Matches each of its parts, in order. */
+    record Sequence(List<PatternNode> parts) implements PatternNode {
+        public Sequence {
+            parts = List.copyOf(parts);
+        }
+    }
+
+    /** Matches any one of its alternatives. */
+    record Alternation(List<PatternNode> alternatives) implements PatternNode {
+        public Alternation {
+            alternatives = List.copyOf(alternatives);
+        }
+    }
+
+    /**
+     * Matches its body repeated between {@code min} and {@code max} times.
+     *
+     * @param body the repeated node.
+     * @param min the minimum number of repetitions.
+     * @param max the maximum number of repetitions, or {@link #UNBOUNDED}.
+     */
+    record Repeat(PatternNode body, int min, int max) implements PatternNode {
+
+        /** No maximum. */
+        static final int UNBOUNDED = -1;
+
+        public Repeat {
+            requireNonNull(body, "body");
+        }
+    }
+
+    /**
+     * A node the matcher never backtracks into, i.e. an atomic group or a possessive quantifier,
+     * or one whose matches can not be known up front, i.e. a back reference.
+     *
+     * @param body the node, or {@code null} if unknown, i.e. it may match anything.
+     */
+    record Opaque(PatternNode body) implements PatternNode {}
+
+    /** A zero-width assertion, e.g. an anchor, word boundary or lookaround. */
+    record Assertion() implements PatternNode {}
+}
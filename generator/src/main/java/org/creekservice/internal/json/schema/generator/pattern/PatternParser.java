@@ -0,0 +1,415 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.pattern;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.creekservice.internal.json.schema.generator.pattern.PatternNode.Alternation;
+import org.creekservice.internal.json.schema.generator.pattern.PatternNode.Assertion;
+import org.creekservice.internal.json.schema.generator.pattern.PatternNode.Chars;
+import org.creekservice.internal.json.schema.generator.pattern.PatternNode.Opaque;
+import org.creekservice.internal.json.schema.generator.pattern.PatternNode.Repeat;
+import org.creekservice.internal.json.schema.generator.pattern.PatternNode.Sequence;
+
+/**
+ * Parses {@code java.util.regex} syntax into a tree of {@link PatternNode}s.
+ *
+ * <p>Unlike a matcher, the parser accepts every valid regex, approximating where exact semantics
+ * do not matter to backtracking: lookarounds and boundaries become {@link Assertion}s, Unicode
+ * properties and other classes it does not model match any code point, and inline flags are
+ * ignored.
+ */
+final class PatternParser {
+
+    private static final PatternNode EMPTY = new Sequence(List.of());
+
+    private final String regex;
+    private int pos;
+
+    private PatternParser(final String regex) {
+        this.regex = regex;
+    }
+
+    /**
+     * Parse a regex.
+     *
+     * @param regex the regex.
+     * @return the root node.
+     * @throws PatternSyntaxException if the regex is invalid.
+     */
+    static PatternNode parse(final String regex) {
+        // Validate first, so the parser can rely on the syntax being correct:
+        Pattern.compile(regex);
+
+        final PatternParser parser = new PatternParser(regex);
+        return parser.alternation();
+    }
+
+    private PatternNode alternation() {
+        final List<PatternNode> alternatives = new ArrayList<>();
+        alternatives.add(sequence());
+        while (peek() == '|') {
+            pos++;
+            alternatives.add(sequence());
+        }
+        return alternatives.size() == 1 ? alternatives.get(0) : new Alternation(alternatives);
+    }
+
+    private PatternNode sequence() {
+        final List<PatternNode> parts = new ArrayList<>();
+        while (pos < regex.length() && peek() != '|' && peek() != ')') {
+            parts.add(quantified(atom()));
+        }
+        return parts.size() == 1 ? parts.get(0) : new Sequence(parts);
+    }
+
+    private PatternNode quantified(final PatternNode atom) {
+        PatternNode node = atom;
+        while (pos < regex.length()) {
+            final int min;
+            final int max;
+            final char c = peek();
+            if (c == '*') {
+                min = 0;
+                max = Repeat.UNBOUNDED;
+            } else if (c == '+') {
+                min = 1;
+                max = Repeat.UNBOUNDED;
+            } else if (c == '?') {
+                min = 0;
+                max = 1;
+            } else if (c == '{') {
+                pos++;
+                min = number();
+                if (peek() == ',') {
+                    pos++;
+                    max = peek() == '}' ? Repeat.UNBOUNDED : number();
+                } else {
+                    max = min;
+                }
+            } else {
+                return node;
+            }
+            pos++;
+
+            node = new Repeat(node, min, max);
+            if (peek() == '+') {
+                pos++;
+                node = new Opaque(node);
+            } else if (peek() == '?') {
+                // Lazy: backtracks over the same matches as greedy, in a different order.
+                pos++;
+            }
+        }
+        return node;
+    }
+
+    private PatternNode atom() {
+        final char c = next();
+        switch (c) {
+            case '(':
+                return group();
+            case '[':
+                return new Chars(charClass());
+            case '.':
+                return new Chars(CharSet.DOT);
+            case '^':
+            case '$':
+                return new Assertion();
+            case '\\':
+                return escape();
+            default:
+                return new Chars(CharSet.of(codePoint(c)));
+        }
+    }
+
+    private PatternNode group() {
+        if (peek() != '?') {
+            return closeGroup(alternation());
+        }
+        pos++;
+
+        final char kind = next();
+        switch (kind) {
+            case ':':
+                return closeGroup(alternation());
+            case '>':
+                return new Opaque(closeGroup(alternation()));
+            case '=':
+            case '!':
+                closeGroup(alternation());
+                return new Assertion();
+            case '<':
+                if (peek() == '=' || peek() == '!') {
+                    pos++;
+                    closeGroup(alternation());
+                    return new Assertion();
+                }
+                // Named group:
+                while (next() != '>') {
+                    // Skip the name.
+                }
+                return closeGroup(alternation());
+            default:
+                // Inline flags, either alone, e.g. (?i), or scoped, e.g. (?i:...):
+                while (peek() != ')' && peek() != ':') {
+                    pos++;
+                }
+                if (next() == ')') {
+                    return new Assertion();
+                }
+                return closeGroup(alternation());
+        }
+    }
+
+    private PatternNode closeGroup(final PatternNode body) {
+        pos++;
+        return body;
+    }
+
+    private PatternNode escape() {
+        final char c = next();
+        switch (c) {
+            case 'A':
+            case 'z':
+            case 'Z':
+            case 'b':
+            case 'B':
+            case 'G':
+                return new Assertion();
+            case 'Q':
+                return quoted();
+            case 'R':
+                return new Alternation(
+                        List.of(
+                                new Sequence(
+                                        List.of(
+                                                new Chars(CharSet.of('\r')),
+                                                new Chars(CharSet.of('\n')))),
+                                new Chars(CharSet.VERTICAL_SPACE)));
+            case 'X':
+                return new Repeat(new Chars(CharSet.ANY), 1, Repeat.UNBOUNDED);
+            case 'k':
+                // Named back reference:
+                while (next() != '>') {
+                    // Skip the name.
+                }
+                return new Opaque(null);
+            default:
+                if (c >= '1' && c <= '9') {
+                    while (Character.isDigit(peek())) {
+                        pos++;
+                    }
+                    return new Opaque(null);
+                }
+                return new Chars(classEscape(c));
+        }
+    }
+
+    private PatternNode quoted() {
+        final int end = regex.indexOf("\\E", pos);
+        final String literal = end < 0 ? regex.substring(pos) : regex.substring(pos, end);
+        pos = end < 0 ? regex.length() : end + 2;
+
+        final List<PatternNode> parts = new ArrayList<>();
+        literal.codePoints().forEach(cp -> parts.add(new Chars(CharSet.of(cp))));
+        return parts.size() == 1 ? parts.get(0) : parts.isEmpty() ? EMPTY : new Sequence(parts);
+    }
+
+    /** An escape that stands for a set of characters, used both in and outside classes. */
+    private CharSet classEscape(final char c) {
+        switch (c) {
+            case 'd':
+                return CharSet.DIGIT;
+            case 'D':
+                return CharSet.DIGIT.negate();
+            case 'w':
+                return CharSet.WORD;
+            case 'W':
+                return CharSet.WORD.negate();
+            case 's':
+                return CharSet.SPACE;
+            case 'S':
+                return CharSet.SPACE.negate();
+            case 'h':
+                return CharSet.HORIZONTAL_SPACE;
+            case 'H':
+                return CharSet.HORIZONTAL_SPACE.negate();
+            case 'v':
+                return CharSet.VERTICAL_SPACE;
+            case 'V':
+                return CharSet.VERTICAL_SPACE.negate();
+            case 'p':
+            case 'P':
+            case 'N':
+                // Unicode properties and named characters: not modelled.
+                if (peek() == '{') {
+                    pos = regex.indexOf('}', pos) + 1;
+                } else if (c != 'N') {
+                    pos++;
+                }
+                return CharSet.ANY;
+            default:
+                return CharSet.of(literalEscape(c));
+        }
+    }
+
+    private int literalEscape(final char c) {
+        switch (c) {
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'f':
+                return '\f';
+            case 'a':
+                return 0x07;
+            case 'e':
+                return 0x1B;
+            case '0':
+                return octal();
+            case 'x':
+                return hex();
+            case 'u':
+                return unicode();
+            case 'c':
+                return next() ^ 64;
+            default:
+                return c;
+        }
+    }
+
+    private int octal() {
+        int value = 0;
+        int digits = 0;
+        // Up to three octal digits, with a value of at most 0377:
+        while (digits < 3 && peek() >= '0' && peek() <= '7') {
+            final int next = value * 8 + (peek() - '0');
+            if (next > 0377) {
+                break;
+            }
+            value = next;
+            pos++;
+            digits++;
+        }
+        return value;
+    }
+
+    private int hex() {
+        if (peek() == '{') {
+            pos++;
+            final int end = regex.indexOf('}', pos);
+            final int value = Integer.parseInt(regex.substring(pos, end), 16);
+            pos = end + 1;
+            return value;
+        }
+        final int value = Integer.parseInt(regex.substring(pos, pos + 2), 16);
+        pos += 2;
+        return value;
+    }
+
+    private int unicode() {
+        final int value = Integer.parseInt(regex.substring(pos, pos + 4), 16);
+        pos += 4;
+        return value;
+    }
+
+    private CharSet charClass() {
+        final boolean negated = peek() == '^';
+        if (negated) {
+            pos++;
+        }
+
+        CharSet result = null;
+        CharSet operand = CharSet.EMPTY;
+        boolean first = true;
+        while (true) {
+            final char c = next();
+            if (c == ']' && !first) {
+                break;
+            }
+            first = false;
+            if (c == '&' && peek() == '&') {
+                pos++;
+                result = result == null ? operand : result.intersect(operand);
+                operand = CharSet.EMPTY;
+                continue;
+            }
+            if (c == '[') {
+                operand = operand.union(charClass());
+                continue;
+            }
+
+            final CharSet item = classItem(c);
+            if (peek() == '-' && regex.charAt(pos + 1) != ']' && item.single()) {
+                pos++;
+                final CharSet end = classItem(next());
+                operand =
+                        end.single()
+                                ? operand.union(CharSet.range(item.first(), end.first()))
+                                : operand.union(item).union(CharSet.of('-')).union(end);
+            } else {
+                operand = operand.union(item);
+            }
+        }
+
+        final CharSet chars = result == null ? operand : result.intersect(operand);
+        return negated ? chars.negate() : chars;
+    }
+
+    private CharSet classItem(final char c) {
+        if (c != '\\') {
+            return CharSet.of(codePoint(c));
+        }
+        final char escaped = next();
+        if (escaped != 'Q') {
+            return classEscape(escaped);
+        }
+        final int end = regex.indexOf("\\E", pos);
+        final String literal = end < 0 ? regex.substring(pos) : regex.substring(pos, end);
+        pos = end < 0 ? regex.length() : end + 2;
+        return CharSet.of(literal.codePoints().toArray());
+    }
+
+    /** The code point starting with {@code c}, which has already been consumed. */
+    private int codePoint(final char c) {
+        if (Character.isHighSurrogate(c) && Character.isLowSurrogate(peek())) {
+            return Character.toCodePoint(c, next());
+        }
+        return c;
+    }
+
+    private int number() {
+        final int start = pos;
+        while (Character.isDigit(peek())) {
+            pos++;
+        }
+        return Integer.parseInt(regex.substring(start, pos));
+    }
+
+    private char peek() {
+        return pos < regex.length() ? regex.charAt(pos) : 0;
+    }
+
+    private char next() {
+        return regex.charAt(pos++);
+    }
+}
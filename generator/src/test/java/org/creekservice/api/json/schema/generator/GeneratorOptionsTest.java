@@ -20,6 +20,9 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.is;
 
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -37,6 +40,58 @@ class GeneratorOptionsTest {
         assertThat(options.echoOnly(), is(false));
     }
 
+    @Test
+    void shouldDefaultToYamlOutputFormat() {
+        assertThat(options.outputFormat(), is(GeneratorOptions.OutputFormat.YAML));
+    }
+
+    @Test
+    void shouldDefaultToOneOfPolymorphicStyle() {
+        assertThat(options.polymorphicStyle(), is(GeneratorOptions.PolymorphicStyle.ONE_OF));
+    }
+
+    @Test
+    void shouldDefaultToNotOptimizing() {
+        assertThat(options.optimizeSchemas(), is(false));
+    }
+
+    @Test
+    void shouldDefaultToNoCommonDefinitions() {
+        assertThat(options.commonDefinitionsDirectory(), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldDefaultToWarningOfPatterns() {
+        assertThat(options.patternCheck(), is(GeneratorOptions.PatternCheck.WARN));
+    }
+
+    @Test
+    void shouldDefaultToTemporalPatterns() {
+        assertThat(options.customTemporalFormats(), is(false));
+    }
+
+    @Test
+    void shouldDefaultToDirectoryTreeOutputLocationUsingOutputFormatExtension() {
+        // Given:
+        options =
+                new GeneratorOptions() {
+                    @Override
+                    public Path outputDirectory() {
+                        return null;
+                    }
+
+                    @Override
+                    public OutputFormat outputFormat() {
+                        return OutputFormat.CBOR;
+                    }
+                };
+
+        // Then:
+        assertThat(
+                options.outputLocationStrategy().outputPath(String.class),
+                is(Paths.get("java/lang/String.cbor")));
+    }
+
     @Test
     void shouldDefaultToNotFilteringTypeScanningModules() {
         assertThat(options.typeScanning().moduleWhiteList(), is(empty()));
@@ -0,0 +1,128 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.creekservice.api.json.schema.generator.GeneratorOptions;
+import org.creekservice.api.json.schema.generator.GeneratorOptions.TypeScanningSpec;
+import org.creekservice.internal.json.schema.generator.jfr.GenerateSchemaEvent;
+import org.creekservice.internal.json.schema.generator.jfr.SubtypeScanEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Answers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+@SuppressFBWarnings()
+@SuppressWarnings("unused")
+class GeneratorEventsTest {
+
+    @TempDir private Path tempDir;
+    @Mock private TypeScanningSpec subtypeScanning;
+
+    @Mock(answer = Answers.CALLS_REAL_METHODS)
+    private GeneratorOptions options;
+
+    private Recording recording;
+    private SchemaGenerator generator;
+
+    @BeforeEach
+    void setUp() {
+        when(subtypeScanning.moduleWhiteList()).thenReturn(Set.of("creek.json.schema.generator"));
+        when(subtypeScanning.packageWhiteList())
+                .thenReturn(Set.of(GeneratorEventsTest.class.getPackageName()));
+
+        when(options.subTypeScanning()).thenReturn(subtypeScanning);
+
+        generator = new SchemaGenerator(options);
+
+        recording = new Recording();
+        recording.enable(GenerateSchemaEvent.class).withoutThreshold();
+        recording.enable(SubtypeScanEvent.class).withoutThreshold();
+        recording.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+    }
+
+    @Test
+    void shouldEmitGenerateSchemaEvent() throws Exception {
+        // Given:
+        class Model {}
+
+        // When:
+        generator.generateSchema(Model.class);
+
+        // Then:
+        final List<RecordedEvent> events = events(GenerateSchemaEvent.class);
+        assertThat(events, hasSize(1));
+        assertThat(events.get(0).getClass("type").getName(), is(Model.class.getName()));
+        assertThat(events.get(0).getBoolean("succeeded"), is(true));
+    }
+
+    @Test
+    void shouldEmitSubtypeScanEvent() throws Exception {
+        // Given:
+        @JsonTypeInfo(use = JsonTypeInfo.Id.NAME)
+        class BaseType {}
+
+        class SubType extends BaseType {}
+
+        // When:
+        generator.registerSubTypes(List.of(BaseType.class));
+
+        // Then:
+        final List<RecordedEvent> events = events(SubtypeScanEvent.class);
+        assertThat(events, hasSize(1));
+        assertThat(events.get(0).getClass("baseType").getName(), is(BaseType.class.getName()));
+        assertThat(events.get(0).getString("allowedModules"), is("creek.json.schema.generator"));
+        assertThat(events.get(0).getInt("subtypesFound"), is(1));
+    }
+
+    private List<RecordedEvent> events(final Class<? extends jdk.jfr.Event> type)
+            throws Exception {
+        recording.stop();
+        final Path file = tempDir.resolve("recording.jfr");
+        recording.dump(file);
+        final String name = type.getAnnotation(jdk.jfr.Name.class).value();
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+}
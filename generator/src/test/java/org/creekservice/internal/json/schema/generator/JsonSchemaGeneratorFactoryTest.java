@@ -85,7 +85,7 @@ class JsonSchemaGeneratorFactoryTest {
                     .build();
 
     private final com.github.victools.jsonschema.generator.SchemaGenerator generator =
-            JsonSchemaGeneratorFactory.createGenerator(yamlMapper);
+            JsonSchemaGeneratorFactory.createGenerator(yamlMapper, false, false);
 
     private final ObjectMapper jsonMapper =
             JsonMapper.builder()
@@ -1392,7 +1392,7 @@ class JsonSchemaGeneratorFactoryTest {
                         .build();
 
         final com.github.victools.jsonschema.generator.SchemaGenerator gen =
-                JsonSchemaGeneratorFactory.createGenerator(mapper);
+                JsonSchemaGeneratorFactory.createGenerator(mapper, false, false);
 
         // When:
         final String result =
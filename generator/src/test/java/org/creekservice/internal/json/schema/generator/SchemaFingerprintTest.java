@@ -0,0 +1,102 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.yaml.YAMLMapper;
+
+class SchemaFingerprintTest {
+
+    private static final ObjectMapper JSON_MAPPER = JsonMapper.builder().build();
+    private static final ObjectMapper YAML_MAPPER = YAMLMapper.builder().build();
+
+    @Test
+    void shouldFingerprintWithSha256OfCanonicalForm() {
+        // When:
+        final String fingerprint = SchemaFingerprint.of(JSON_MAPPER.readTree("{}"));
+
+        // Then:
+        assertThat(
+                fingerprint,
+                is("44136fa355b3678a1146ad16f7e8649e94fb4fc21fe77e8310c060f61caaff8a"));
+    }
+
+    @Test
+    void shouldSortPropertiesAndRemoveWhitespaceInCanonicalForm() {
+        // Given:
+        final JsonNode schema =
+                JSON_MAPPER.readTree(
+                        "{\"type\": \"object\", \"properties\": {\"b\": {}, \"a\": {\"enum\": [2,"
+                                + " 1]}}}");
+
+        // When:
+        final byte[] canonical = SchemaFingerprint.canonical(schema);
+
+        // Then:
+        assertThat(
+                new String(canonical, UTF_8),
+                is("{\"properties\":{\"a\":{\"enum\":[2,1]},\"b\":{}},\"type\":\"object\"}"));
+    }
+
+    @Test
+    void shouldIgnoreFormatting() {
+        // Given:
+        final JsonNode json =
+                JSON_MAPPER.readTree("{\"type\":\"object\",\"required\":[\"a\"],\"title\":\"A\"}");
+        final JsonNode yaml =
+                YAML_MAPPER.readTree(
+                        """
+                        # a comment
+                        title: A
+                        required:
+                        - a
+                        type: object
+                        """);
+
+        // Then:
+        assertThat(SchemaFingerprint.of(yaml), is(SchemaFingerprint.of(json)));
+    }
+
+    @Test
+    void shouldChangeIfAnyValueChanges() {
+        // Given:
+        final JsonNode schema = JSON_MAPPER.readTree("{\"properties\":{\"a\":{\"minLength\":1}}}");
+        final JsonNode changed =
+                JSON_MAPPER.readTree("{\"properties\":{\"a\":{\"minLength\":2}}}");
+
+        // Then:
+        assertThat(SchemaFingerprint.of(changed), not(SchemaFingerprint.of(schema)));
+    }
+
+    @Test
+    void shouldChangeIfArrayOrderChanges() {
+        // Given:
+        final JsonNode schema = JSON_MAPPER.readTree("{\"enum\":[\"a\",\"b\"]}");
+        final JsonNode changed = JSON_MAPPER.readTree("{\"enum\":[\"b\",\"a\"]}");
+
+        // Then:
+        assertThat(SchemaFingerprint.of(changed), not(SchemaFingerprint.of(schema)));
+    }
+}
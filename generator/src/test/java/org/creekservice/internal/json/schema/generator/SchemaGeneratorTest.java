@@ -17,11 +17,17 @@
 package org.creekservice.internal.json.schema.generator;
 
 import static java.lang.System.lineSeparator;
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
 import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -30,14 +36,31 @@ import com.fasterxml.jackson.annotation.JsonSubTypes.Type;
 import com.fasterxml.jackson.annotation.JsonTypeInfo;
 import com.fasterxml.jackson.annotation.JsonTypeName;
 import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.nio.file.Paths;
 import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.MonthDay;
+import java.time.Period;
+import java.time.YearMonth;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.creekservice.api.base.annotation.schema.JsonSchemaInject;
+import org.creekservice.api.json.schema.generator.GeneratorOptions;
+import org.creekservice.api.json.schema.generator.GeneratorOptions.OutputFormat;
+import org.creekservice.api.json.schema.generator.GeneratorOptions.PatternCheck;
+import org.creekservice.api.json.schema.generator.GeneratorOptions.PolymorphicStyle;
 import org.creekservice.api.json.schema.generator.GeneratorOptions.TypeScanningSpec;
 import org.creekservice.api.json.schema.validator.JsonSchemaValidator;
+import org.creekservice.api.json.schema.validator.SchemaBundle;
+import org.creekservice.api.json.schema.validator.SchemaValidationException;
+import org.creekservice.api.json.schema.validator.ValidatorOptions;
+import org.creekservice.internal.json.schema.generator.SchemaGenerator.SchemaGeneratorException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -49,6 +72,8 @@ import tools.jackson.core.type.TypeReference;
 import tools.jackson.databind.ObjectMapper;
 import tools.jackson.databind.cfg.DateTimeFeature;
 import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
 import tools.jackson.dataformat.yaml.YAMLFactory;
 import tools.jackson.dataformat.yaml.YAMLWriteFeature;
 
@@ -58,6 +83,9 @@ import tools.jackson.dataformat.yaml.YAMLWriteFeature;
 @SuppressWarnings("unused")
 class SchemaGeneratorTest {
 
+    private static final Pattern FINGERPRINT_HEADER =
+            Pattern.compile("^# fingerprint=(\\S+)$", Pattern.MULTILINE);
+
     private Instant now = Instant.now();
     @Mock private TypeScanningSpec subtypeScanning;
 
@@ -84,7 +112,7 @@ class SchemaGeneratorTest {
         when(subtypeScanning.packageWhiteList())
                 .thenReturn(Set.of(SchemaGeneratorTest.class.getPackageName()));
 
-        generator = new SchemaGenerator(subtypeScanning, () -> now);
+        generator = new SchemaGenerator(options(), () -> now);
     }
 
     @Test
@@ -115,7 +143,97 @@ class SchemaGeneratorTest {
                                 + lineSeparator()
                                 + "# timestamp="
                                 + now.toEpochMilli()
-                                + "\n$schema: https://json-schema.org/draft/2020-12/schema"));
+                                + lineSeparator()
+                                + "# fingerprint="));
+        assertThat(
+                result.text(),
+                containsString("\n$schema: https://json-schema.org/draft/2020-12/schema"));
+    }
+
+    @Test
+    void shouldSetHeaderWithFingerprint() {
+        // Given:
+        class Model {}
+
+        // When:
+        final JsonSchema<Model> result = generator.generateSchema(Model.class);
+
+        // Then:
+        assertThat(fingerprintOf(result), matchesPattern("[0-9a-f]{64}"));
+    }
+
+    @Test
+    void shouldNotChangeFingerprintBetweenRuns() {
+        // Given:
+        class Model {}
+
+        final String first = fingerprintOf(generator.generateSchema(Model.class));
+        now = now.plus(1, ChronoUnit.SECONDS);
+
+        // When:
+        final String second = fingerprintOf(generator.generateSchema(Model.class));
+
+        // Then:
+        assertThat(second, is(first));
+    }
+
+    @Test
+    void shouldChangeFingerprintIfSchemaChanges() {
+        // Given:
+        class Model {}
+
+        class OtherModel {
+            public String getProp() {
+                return null;
+            }
+        }
+
+        // When:
+        final String fingerprint = fingerprintOf(generator.generateSchema(Model.class));
+
+        // Then:
+        assertThat(fingerprintOf(generator.generateSchema(OtherModel.class)), not(fingerprint));
+    }
+
+    @Test
+    void shouldWriteSameFingerprintInEveryFormat() {
+        // Given:
+        class Model {
+            public String getProp() {
+                return null;
+            }
+        }
+
+        final String expected =
+                "fingerprint=" + fingerprintOf(generator.generateSchema(Model.class));
+
+        // When:
+        final String json = jsonSchemaOf(Model.class);
+
+        // Then:
+        assertThat(jsonMapper.readTree(json).get("$comment").asString(), is(expected));
+        assertThat(
+                SmileMapper.builder()
+                        .build()
+                        .readTree(
+                                generator(OutputFormat.SMILE).generateSchema(Model.class).content())
+                        .get("$comment")
+                        .asString(),
+                is(expected));
+    }
+
+    @Test
+    void shouldAppendFingerprintToExistingComment() {
+        // Given:
+        final String fingerprint = fingerprintOf(generator.generateSchema(CommentedModel.class));
+
+        // When:
+        final String json = jsonSchemaOf(CommentedModel.class);
+
+        // Then:
+        assertThat(
+                jsonMapper.readTree(json).get("$comment").asString(),
+                is("Owned by the billing team\nfingerprint=" + fingerprint));
     }
 
     @Test
@@ -131,6 +249,85 @@ class SchemaGeneratorTest {
         assertThat(result.text(), containsString("# timestamp=" + now.toEpochMilli()));
     }
 
+    @Test
+    void shouldGenerateCompactJson() {
+        // Given:
+        generator = generator(OutputFormat.JSON);
+
+        class Model {
+            public String getProp() {
+                return null;
+            }
+        }
+
+        // When:
+        final JsonSchema<Model> result = generator.generateSchema(Model.class);
+
+        // Then:
+        assertThat(result.format(), is(OutputFormat.JSON));
+        assertThat(
+                result.text(),
+                startsWith(
+                        "{\"$schema\":\"https://json-schema.org/draft/2020-12/schema\","
+                                + "\"type\":\"object\""));
+        assertThat(result.text(), not(containsString("\n")));
+        assertThat(result.text(), not(containsString("timestamp")));
+        assertCanParse(result);
+    }
+
+    @Test
+    void shouldGenerateSmile() {
+        // Given:
+        generator = generator(OutputFormat.SMILE);
+
+        class Model {
+            public String getProp() {
+                return null;
+            }
+        }
+
+        // When:
+        final JsonSchema<Model> result = generator.generateSchema(Model.class);
+
+        // Then:
+        assertThat(result.format(), is(OutputFormat.SMILE));
+        assertThat(
+                SmileMapper.builder().build().readTree(result.content()),
+                is(jsonMapper.readTree(jsonSchemaOf(Model.class))));
+    }
+
+    @Test
+    void shouldGenerateCbor() {
+        // Given:
+        generator = generator(OutputFormat.CBOR);
+
+        class Model {
+            public String getProp() {
+                return null;
+            }
+        }
+
+        // When:
+        final JsonSchema<Model> result = generator.generateSchema(Model.class);
+
+        // Then:
+        assertThat(result.format(), is(OutputFormat.CBOR));
+        assertThat(
+                CBORMapper.builder().build().readTree(result.content()),
+                is(jsonMapper.readTree(jsonSchemaOf(Model.class))));
+    }
+
+    @Test
+    void shouldThrowOnTextOfBinarySchema() {
+        // Given:
+        generator = generator(OutputFormat.SMILE);
+        class Model {}
+        final JsonSchema<Model> result = generator.generateSchema(Model.class);
+
+        // Then:
+        assertThrows(IllegalStateException.class, result::text);
+    }
+
     @Test
     void shouldNotIncludeImplicitSubTypesIfInDifferentModule() {
         // Given:
@@ -344,6 +541,308 @@ class SchemaGeneratorTest {
                 new TypeWithMinimalClassPolymorphism.ImplicitlyNamed());
     }
 
+    @Test
+    void shouldWriteSubTypesInDiscriminatorStyle() {
+        // Given:
+        generator = generator(PolymorphicStyle.DISCRIMINATOR, false);
+
+        // When:
+        final JsonSchema<TypeWithExplicitPolymorphism> result =
+                generator.generateSchema(TypeWithExplicitPolymorphism.class);
+
+        // Then:
+        assertThat(result.text(), not(containsString("oneOf")));
+        assertThat(
+                result.text(),
+                containsString(
+                        """
+                        type: object
+                        properties:
+                          '@type':
+                            enum:
+                            - the-explicit-name
+                            - SchemaGeneratorTest$TypeWithExplicitPolymorphism$ImplicitlyNamed
+                        required:
+                        - '@type'
+                        allOf:
+                        - if:
+                            properties:
+                              '@type':
+                                const: the-explicit-name
+                            required:
+                            - '@type'
+                          then:
+                            $ref: "#/$defs/ExplicitlyNamed"
+                        """));
+
+        assertAlignsWithJackson(
+                result,
+                new TypeWithExplicitPolymorphism.ExplicitlyNamed(),
+                new TypeWithExplicitPolymorphism.ImplicitlyNamed());
+    }
+
+    @Test
+    void shouldWriteWrappedSubTypesInDiscriminatorStyle() {
+        // Given:
+        generator = generator(PolymorphicStyle.DISCRIMINATOR, false);
+
+        // When:
+        final JsonSchema<TypeWithMinimalClassPolymorphism> result =
+                generator.generateSchema(TypeWithMinimalClassPolymorphism.class);
+
+        // Then:
+        assertThat(result.text(), not(containsString("oneOf")));
+        assertThat(result.text(), containsString("'@c':\n    enum:"));
+
+        assertAlignsWithJackson(
+                result,
+                new TypeWithMinimalClassPolymorphism.ExplicitlyNamed(),
+                new TypeWithMinimalClassPolymorphism.ImplicitlyNamed());
+    }
+
+    @Test
+    void shouldAcceptSameDocumentsInEitherPolymorphicStyle() {
+        // Given:
+        final JsonSchemaValidator oneOf =
+                assertCanParse(generator.generateSchema(TypeWithImplicitSimplePolymorphism.class));
+        final JsonSchemaValidator discriminator =
+                assertCanParse(
+                        generator(PolymorphicStyle.DISCRIMINATOR, false)
+                                .generateSchema(TypeWithImplicitSimplePolymorphism.class));
+
+        final List<Map<String, ?>> documents =
+                List.of(
+                        Map.of("@type", "the-explicit-name"),
+                        Map.of("@type", "ImplicitlyNamed"),
+                        Map.of("@type", "Unknown"),
+                        Map.of("@type", 1),
+                        Map.of("@type", "ImplicitlyNamed", "extra", 1),
+                        Map.of("other", "the-explicit-name"),
+                        Map.of());
+
+        // Then:
+        for (final Map<String, ?> document : documents) {
+            assertThat(
+                    document.toString(),
+                    isValid(discriminator, document),
+                    is(isValid(oneOf, document)));
+        }
+    }
+
+    @Test
+    void shouldAcceptSameDocumentsWhenOptimized() {
+        // Given:
+        final JsonSchemaValidator plain =
+                assertCanParse(generator.generateSchema(TypeWithImplicitSimplePolymorphism.class));
+        final JsonSchemaValidator optimized =
+                assertCanParse(
+                        generator(PolymorphicStyle.DISCRIMINATOR, true)
+                                .generateSchema(TypeWithImplicitSimplePolymorphism.class));
+
+        final List<Map<String, ?>> documents =
+                List.of(
+                        Map.of("@type", "the-explicit-name"),
+                        Map.of("@type", "ImplicitlyNamed"),
+                        Map.of("@type", "Unknown"),
+                        Map.of("@type", 1),
+                        Map.of("@type", "ImplicitlyNamed", "extra", 1),
+                        Map.of("other", "the-explicit-name"),
+                        Map.of());
+
+        // Then:
+        for (final Map<String, ?> document : documents) {
+            assertThat(
+                    document.toString(),
+                    isValid(optimized, document),
+                    is(isValid(plain, document)));
+        }
+    }
+
+    @Test
+    void shouldWriteSharedDefinitionsToCommonSchemas() {
+        // When:
+        final SchemaSet result =
+                generator.generateSchemas(
+                        List.of(TypeWithMoney.class, OtherTypeWithMoney.class),
+                        Paths.get("common"));
+
+        // Then:
+        assertThat(result.common(), hasSize(1));
+        final CommonSchema common = result.common().get(0);
+        assertThat(common.id(), is("urn:creek:schema:Money"));
+        assertThat(common.path(), is(Paths.get("common", "Money.yml")));
+        assertThat(common.format(), is(OutputFormat.YAML));
+        assertThat(
+                new String(common.content(), UTF_8),
+                containsString("$id: urn:creek:schema:Money"));
+
+        assertThat(result.schemas(), hasSize(2));
+        assertThat(result.schemas().get(0).type(), is(TypeWithMoney.class));
+        for (final JsonSchema<?> schema : result.schemas()) {
+            assertThat(schema.text(), containsString("$ref: urn:creek:schema:Money"));
+            assertThat(schema.text(), not(containsString("$defs")));
+        }
+    }
+
+    @Test
+    void shouldNotWriteDefinitionsUsedByOneSchemaToCommonSchemas() {
+        // When:
+        final SchemaSet result =
+                generator.generateSchemas(List.of(TypeWithMoney.class), Paths.get("common"));
+
+        // Then:
+        assertThat(result.common(), is(List.of()));
+        assertThat(result.schemas().get(0).text(), containsString("$ref: \"#/$defs/Money\""));
+    }
+
+    @Test
+    void shouldValidateUsingCommonSchemas() {
+        // Given:
+        final SchemaSet result =
+                generator.generateSchemas(
+                        List.of(TypeWithMoney.class, OtherTypeWithMoney.class),
+                        Paths.get("common"));
+        final SchemaBundle bundle =
+                SchemaBundle.empty().with(new String(result.common().get(0).content(), UTF_8));
+
+        // When:
+        final JsonSchemaValidator validator =
+                JsonSchemaValidator.fromSchema(result.schemas().get(0).text(), bundle);
+
+        // Then:
+        validator.validate(Map.of("price", Map.of("amount", 10, "currency", "GBP")));
+        assertThrows(
+                SchemaValidationException.class,
+                () -> validator.validate(Map.of("price", Map.of("amount", "ten"))));
+    }
+
+    @Test
+    void shouldNotFailOnSlowPatternsByDefault() {
+        // When:
+        final JsonSchema<TypeWithSlowPattern> result =
+                generator.generateSchema(TypeWithSlowPattern.class);
+
+        // Then:
+        assertThat(result.text(), containsString("pattern:"));
+    }
+
+    @Test
+    void shouldFailOnSlowPatternsIfConfigured() {
+        // Given:
+        final GeneratorOptions options = options();
+        when(options.patternCheck()).thenReturn(PatternCheck.FAIL);
+        generator = new SchemaGenerator(options, () -> now);
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        SchemaGeneratorException.class,
+                        () -> generator.generateSchema(TypeWithSlowPattern.class));
+
+        // Then:
+        assertThat(
+                e.getCause().getMessage(),
+                containsString(
+                        "Pattern on "
+                                + TypeWithSlowPattern.class.getCanonicalName()
+                                + ".name can take exponential time to match: ^(\\w+\\s?)*$"));
+        assertThat(
+                e.getCause().getMessage(),
+                containsString(
+                        "Pattern on Money.currency can take polynomial time to match:"
+                                + " ^\\w*\\w*$"));
+    }
+
+    @Test
+    void shouldNotFailOnBuiltInPatterns() {
+        // Given:
+        final GeneratorOptions options = options();
+        when(options.patternCheck()).thenReturn(PatternCheck.FAIL);
+        generator = new SchemaGenerator(options, () -> now);
+
+        // When:
+        final JsonSchema<TypeWithTemporals> result =
+                generator.generateSchema(TypeWithTemporals.class);
+
+        // Then:
+        assertThat(result.text(), containsString("pattern:"));
+    }
+
+    @Test
+    void shouldDescribeTemporalsWithCustomFormatsIfConfigured() {
+        // Given:
+        final GeneratorOptions options = options();
+        when(options.customTemporalFormats()).thenReturn(true);
+        generator = new SchemaGenerator(options, () -> now);
+
+        // When:
+        final JsonSchema<TypeWithTemporals> result =
+                generator.generateSchema(TypeWithTemporals.class);
+
+        // Then:
+        assertThat(result.text(), not(containsString("pattern:")));
+        assertThat(result.text(), containsString("format: local-time"));
+        assertThat(result.text(), containsString("format: local-date-time"));
+        assertThat(result.text(), containsString("format: month-day"));
+        assertThat(result.text(), containsString("format: year-month"));
+        assertThat(result.text(), containsString("format: period"));
+
+        final JsonSchemaValidator validator =
+                JsonSchemaValidator.fromSchema(
+                        result.text(), ValidatorOptions.defaults().withCustomTemporalFormats(true));
+        validator.validate(
+                Map.of(
+                        "time", "13:45:30.5",
+                        "dateTime", "2026-10-18T13:45",
+                        "monthDay", "--10-18",
+                        "yearMonth", "2026-10",
+                        "period", "P1Y2D"));
+        assertThat(isValid(validator, Map.of("time", "24:00")), is(false));
+        assertThat(isValid(validator, Map.of("period", "PT1H")), is(false));
+    }
+
+    private static boolean isValid(
+            final JsonSchemaValidator validator, final Map<String, ?> document) {
+        try {
+            validator.validate(document);
+            return true;
+        } catch (final SchemaValidationException e) {
+            return false;
+        }
+    }
+
+    private static String fingerprintOf(final JsonSchema<?> schema) {
+        final Matcher matcher = FINGERPRINT_HEADER.matcher(schema.text());
+        assertThat("no fingerprint header", matcher.find());
+        return matcher.group(1);
+    }
+
+    private GeneratorOptions options() {
+        final GeneratorOptions options = mock(GeneratorOptions.class, CALLS_REAL_METHODS);
+        when(options.subTypeScanning()).thenReturn(subtypeScanning);
+        return options;
+    }
+
+    private SchemaGenerator generator(final OutputFormat outputFormat) {
+        final GeneratorOptions options = options();
+        when(options.outputFormat()).thenReturn(outputFormat);
+        return new SchemaGenerator(options, () -> now);
+    }
+
+    private SchemaGenerator generator(
+            final PolymorphicStyle polymorphicStyle, final boolean optimize) {
+        final GeneratorOptions options = options();
+        when(options.polymorphicStyle()).thenReturn(polymorphicStyle);
+        when(options.optimizeSchemas()).thenReturn(optimize);
+        return new SchemaGenerator(options, () -> now);
+    }
+
+    private String jsonSchemaOf(final Class<?> type) {
+        return generator(OutputFormat.JSON)
+                .generateSchema(type)
+                .text();
+    }
+
     @SafeVarargs
     private <T> void assertAlignsWithJackson(final JsonSchema<T> schema, final T... instances) {
         final JsonSchemaValidator validator = assertCanParse(schema);
@@ -541,4 +1040,78 @@ class SchemaGeneratorTest {
             }
         }
     }
+
+    public static final class Money {
+        public long getAmount() {
+            return 0;
+        }
+
+        public String getCurrency() {
+            return "";
+        }
+    }
+
+    public static final class TypeWithMoney {
+        public Money getPrice() {
+            return null;
+        }
+    }
+
+    public static final class OtherTypeWithMoney {
+        public Money getCost() {
+            return null;
+        }
+    }
+
+    @JsonSchemaInject("{\"$comment\": \"Owned by the billing team\"}")
+    public static final class CommentedModel {
+        public String getProp() {
+            return null;
+        }
+    }
+
+    public static final class TypeWithSlowPattern {
+        @JsonSchemaInject("{\"pattern\": \"^(\\\\w+\\\\s?)*$\"}")
+        public String getName() {
+            return "";
+        }
+
+        public SlowMoney getPrice() {
+            return null;
+        }
+
+        public SlowMoney getCost() {
+            return null;
+        }
+    }
+
+    @JsonTypeName("Money")
+    public static final class SlowMoney {
+        @JsonSchemaInject("{\"pattern\": \"^\\\\w*\\\\w*$\"}")
+        public String getCurrency() {
+            return "";
+        }
+    }
+
+    public static final class TypeWithTemporals {
+        public LocalTime getTime() {
+            return null;
+        }
+
+        public LocalDateTime getDateTime() {
+            return null;
+        }
+
+        public MonthDay getMonthDay() {
+            return null;
+        }
+
+        public YearMonth getYearMonth() {
+            return null;
+        }
+
+        public Period getPeriod() {
+            return null;
+        }
+    }
 }
@@ -16,6 +16,7 @@
 
 package org.creekservice.internal.json.schema.generator;
 
+import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.creekservice.api.test.hamcrest.OSMatchers.onWindows;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
@@ -26,9 +27,11 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.stream.Collectors;
+import org.creekservice.api.json.schema.generator.GeneratorOptions.OutputFormat;
 import org.creekservice.api.json.schema.generator.GeneratorOptions.OutputLocationStrategy;
 import org.creekservice.api.test.util.TestPaths;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,8 +40,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.api.io.TempDir;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
 
 @ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
 class SchemaWriterTest {
 
     @TempDir private Path outputDir;
@@ -82,6 +88,38 @@ class SchemaWriterTest {
         assertThat(TestPaths.readString(expectedOutput), is("the schema"));
     }
 
+    @Test
+    void shouldWriteBinarySchema() throws Exception {
+        // Given:
+        final byte[] content = {0x3a, 0x29, 0x0a, 0x05, (byte) 0xfa};
+        final JsonSchema<?> schema =
+                new JsonSchema<>(SchemaWriterTest.class, content, OutputFormat.SMILE);
+
+        // When:
+        writer.write(schema);
+
+        // Then:
+        assertThat(Files.readAllBytes(expectedOutput), is(content));
+    }
+
+    @Test
+    void shouldWriteCommonSchema() throws Exception {
+        // Given:
+        final byte[] content = "the schema".getBytes(UTF_8);
+        final CommonSchema schema =
+                new CommonSchema(
+                        "urn:creek:schema:Money",
+                        Paths.get("common", "Money.yml"),
+                        content,
+                        OutputFormat.YAML);
+
+        // When:
+        writer.write(schema);
+
+        // Then:
+        assertThat(Files.readAllBytes(outputDir.resolve("common/Money.yml")), is(content));
+    }
+
     @Test
     void shouldWriteSchemaForNestedType() {
         // Given:
@@ -29,6 +29,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import org.creekservice.api.json.schema.generator.GeneratorOptions;
+import org.creekservice.api.json.schema.generator.GeneratorOptions.OutputFormat;
+import org.creekservice.api.json.schema.generator.GeneratorOptions.PatternCheck;
+import org.creekservice.api.json.schema.generator.GeneratorOptions.PolymorphicStyle;
 import org.creekservice.api.json.schema.generator.GeneratorOptions.TypeScanningSpec;
 import org.creekservice.internal.json.schema.generator.output.DirectoryTreeOutputLocationStrategy;
 import org.creekservice.internal.json.schema.generator.output.FlatDirectoryOutputLocationStrategy;
@@ -104,6 +107,177 @@ class PicoCliParserTest {
                 is(instanceOf(FlatDirectoryOutputLocationStrategy.class)));
     }
 
+    @Test
+    void shouldDefaultToYamlOutputFormat() {
+        // Given:
+        final String[] args = minimalArgs();
+
+        // When:
+        final Optional<GeneratorOptions> result = PicoCliParser.parse(args);
+
+        // Then:
+        assertThat(
+                result.map(GeneratorOptions::outputFormat), is(Optional.of(OutputFormat.YAML)));
+    }
+
+    @Test
+    void shouldParseOutputFormat() {
+        // Given:
+        final String[] args = minimalArgs("--output-format=smile");
+
+        // When:
+        final Optional<GeneratorOptions> result = PicoCliParser.parse(args);
+
+        // Then:
+        assertThat(
+                result.map(GeneratorOptions::outputFormat), is(Optional.of(OutputFormat.SMILE)));
+    }
+
+    @Test
+    void shouldDefaultToOneOfPolymorphicStyle() {
+        // Given:
+        final String[] args = minimalArgs();
+
+        // When:
+        final Optional<GeneratorOptions> result = PicoCliParser.parse(args);
+
+        // Then:
+        assertThat(
+                result.map(GeneratorOptions::polymorphicStyle),
+                is(Optional.of(PolymorphicStyle.ONE_OF)));
+    }
+
+    @Test
+    void shouldParsePolymorphicStyle() {
+        // Given:
+        final String[] args = minimalArgs("--polymorphic-style=discriminator");
+
+        // When:
+        final Optional<GeneratorOptions> result = PicoCliParser.parse(args);
+
+        // Then:
+        assertThat(
+                result.map(GeneratorOptions::polymorphicStyle),
+                is(Optional.of(PolymorphicStyle.DISCRIMINATOR)));
+    }
+
+    @Test
+    void shouldDefaultToNotOptimizing() {
+        // Given:
+        final String[] args = minimalArgs();
+
+        // When:
+        final Optional<GeneratorOptions> result = PicoCliParser.parse(args);
+
+        // Then:
+        assertThat(result.map(GeneratorOptions::optimizeSchemas), is(Optional.of(false)));
+    }
+
+    @Test
+    void shouldParseOptimize() {
+        // Given:
+        final String[] args = minimalArgs("--optimize");
+
+        // When:
+        final Optional<GeneratorOptions> result = PicoCliParser.parse(args);
+
+        // Then:
+        assertThat(result.map(GeneratorOptions::optimizeSchemas), is(Optional.of(true)));
+    }
+
+    @Test
+    void shouldDefaultToWarningOfPatterns() {
+        // Given:
+        final String[] args = minimalArgs();
+
+        // When:
+        final Optional<GeneratorOptions> result = PicoCliParser.parse(args);
+
+        // Then:
+        assertThat(
+                result.map(GeneratorOptions::patternCheck), is(Optional.of(PatternCheck.WARN)));
+    }
+
+    @Test
+    void shouldParsePatternCheck() {
+        // Given:
+        final String[] args = minimalArgs("--pattern-check=fail");
+
+        // When:
+        final Optional<GeneratorOptions> result = PicoCliParser.parse(args);
+
+        // Then:
+        assertThat(
+                result.map(GeneratorOptions::patternCheck), is(Optional.of(PatternCheck.FAIL)));
+    }
+
+    @Test
+    void shouldDefaultToTemporalPatterns() {
+        // Given:
+        final String[] args = minimalArgs();
+
+        // When:
+        final Optional<GeneratorOptions> result = PicoCliParser.parse(args);
+
+        // Then:
+        assertThat(result.map(GeneratorOptions::customTemporalFormats), is(Optional.of(false)));
+    }
+
+    @Test
+    void shouldParseCustomTemporalFormats() {
+        // Given:
+        final String[] args = minimalArgs("--custom-temporal-formats");
+
+        // When:
+        final Optional<GeneratorOptions> result = PicoCliParser.parse(args);
+
+        // Then:
+        assertThat(result.map(GeneratorOptions::customTemporalFormats), is(Optional.of(true)));
+    }
+
+    @Test
+    void shouldDefaultToNoCommonDefinitions() {
+        // Given:
+        final String[] args = minimalArgs();
+
+        // When:
+        final Optional<GeneratorOptions> result = PicoCliParser.parse(args);
+
+        // Then:
+        assertThat(
+                result.flatMap(GeneratorOptions::commonDefinitionsDirectory),
+                is(Optional.empty()));
+    }
+
+    @Test
+    void shouldParseCommonDefinitionsDirectory() {
+        // Given:
+        final String[] args = minimalArgs("--common-definitions-directory=common");
+
+        // When:
+        final Optional<GeneratorOptions> result = PicoCliParser.parse(args);
+
+        // Then:
+        assertThat(
+                result.flatMap(GeneratorOptions::commonDefinitionsDirectory),
+                is(Optional.of(Paths.get("common"))));
+    }
+
+    @Test
+    void shouldPassOutputFormatToOutputStrategy() {
+        // Given:
+        final String[] args =
+                minimalArgs("--output-format=json", "--output-strategy=flatDirectory");
+
+        // When:
+        final Optional<GeneratorOptions> result = PicoCliParser.parse(args);
+
+        // Then:
+        assertThat(
+                result.orElseThrow().outputLocationStrategy().outputPath(String.class),
+                is(Paths.get("java.lang.String.json")));
+    }
+
     @Test
     void shouldParseEchoOnly() {
         // Given:
@@ -197,6 +371,18 @@ class PicoCliParserTest {
                                 + lineSeparator()
                                 + "--output-strategy=directoryTree"
                                 + lineSeparator()
+                                + "--output-format=yaml"
+                                + lineSeparator()
+                                + "--polymorphic-style=oneOf"
+                                + lineSeparator()
+                                + "--optimize=false"
+                                + lineSeparator()
+                                + "--common-definitions-directory=<NONE>"
+                                + lineSeparator()
+                                + "--pattern-check=warn"
+                                + lineSeparator()
+                                + "--custom-temporal-formats=false"
+                                + lineSeparator()
                                 + "--type-scanning-allowed-modules=[some.module]"
                                 + lineSeparator()
                                 + "--type-scanning-allowed-packages=<ANY>"
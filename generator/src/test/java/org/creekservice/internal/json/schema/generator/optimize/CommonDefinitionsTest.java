@@ -0,0 +1,246 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.optimize;
+
+import static org.creekservice.internal.json.schema.generator.optimize.OptimizerTesting.parse;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+class CommonDefinitionsTest {
+
+    private static final Function<String, String> ID_OF = name -> "urn:test:" + name;
+
+    private static final String MONEY =
+            """
+            type: object
+            properties:
+              amount:
+                type: integer
+            """;
+
+    @Test
+    void shouldExtractDefinitionsSharedByMoreThanOneSchema() {
+        // Given:
+        final ObjectNode a =
+                parse(
+                        """
+                        $schema: https://json-schema.org/draft/2020-12/schema
+                        $defs:
+                          Money:
+                            type: object
+                            properties:
+                              amount:
+                                type: integer
+                          Other:
+                            type: string
+                        properties:
+                          price:
+                            $ref: "#/$defs/Money"
+                          other:
+                            $ref: "#/$defs/Other"
+                        """);
+        final ObjectNode b =
+                parse(
+                        """
+                        $defs:
+                          Money:
+                            type: object
+                            properties:
+                              amount:
+                                type: integer
+                        properties:
+                          cost:
+                            $ref: "#/$defs/Money"
+                        """);
+
+        // When:
+        final Map<String, ObjectNode> common = CommonDefinitions.extract(List.of(a, b), ID_OF);
+
+        // Then:
+        assertThat(
+                common,
+                is(
+                        Map.of(
+                                "Money",
+                                parse(
+                                        """
+                                        $schema: https://json-schema.org/draft/2020-12/schema
+                                        $id: urn:test:Money
+                                        type: object
+                                        properties:
+                                          amount:
+                                            type: integer
+                                        """))));
+        assertThat(
+                a,
+                is(
+                        parse(
+                                """
+                                $schema: https://json-schema.org/draft/2020-12/schema
+                                $defs:
+                                  Other:
+                                    type: string
+                                properties:
+                                  price:
+                                    $ref: urn:test:Money
+                                  other:
+                                    $ref: "#/$defs/Other"
+                                """)));
+        assertThat(b, is(parse("{properties: {cost: {$ref: 'urn:test:Money'}}}")));
+    }
+
+    @Test
+    void shouldNotExtractDefinitionsUsedByOneSchema() {
+        // Given:
+        final ObjectNode a = schemaWith("Money", MONEY);
+        final ObjectNode b = parse("type: object");
+        final JsonNode original = a.deepCopy();
+
+        // When:
+        final Map<String, ObjectNode> common = CommonDefinitions.extract(List.of(a, b), ID_OF);
+
+        // Then:
+        assertThat(common, is(Map.of()));
+        assertThat(a, is(original));
+    }
+
+    @Test
+    void shouldNotExtractDefinitionsThatDifferBetweenSchemas() {
+        // Given:
+        final ObjectNode a = schemaWith("Money", MONEY);
+        final ObjectNode b = schemaWith("Money", "type: string");
+        final ObjectNode c = schemaWith("Money", MONEY);
+
+        // When:
+        final Map<String, ObjectNode> common = CommonDefinitions.extract(List.of(a, b, c), ID_OF);
+
+        // Then:
+        assertThat(common, is(Map.of()));
+    }
+
+    @Test
+    void shouldExtractSharedDefinitionsReferencedBySharedDefinitions() {
+        // Given:
+        final String defs =
+                """
+                $defs:
+                  Address:
+                    properties:
+                      rent:
+                        $ref: "#/$defs/Money"
+                  Money:
+                    type: integer
+                $ref: "#/$defs/Address"
+                """;
+        final ObjectNode a = parse(defs);
+        final ObjectNode b = parse(defs);
+
+        // When:
+        final Map<String, ObjectNode> common = CommonDefinitions.extract(List.of(a, b), ID_OF);
+
+        // Then:
+        assertThat(
+                common.get("Address"),
+                is(
+                        parse(
+                                """
+                                $id: urn:test:Address
+                                properties:
+                                  rent:
+                                    $ref: urn:test:Money
+                                """)));
+        assertThat(common.get("Money"), is(parse("{$id: 'urn:test:Money', type: integer}")));
+        assertThat(a, is(parse("$ref: urn:test:Address")));
+    }
+
+    @Test
+    void shouldNotExtractSharedDefinitionsReferencingUnsharedDefinitions() {
+        // Given:
+        final ObjectNode a =
+                parse(
+                        """
+                        $defs:
+                          Address:
+                            $ref: "#/$defs/Money"
+                          Money:
+                            type: integer
+                        """);
+        final ObjectNode b =
+                parse(
+                        """
+                        $defs:
+                          Address:
+                            $ref: "#/$defs/Money"
+                          Money:
+                            type: string
+                        """);
+        final JsonNode original = a.deepCopy();
+
+        // When:
+        final Map<String, ObjectNode> common = CommonDefinitions.extract(List.of(a, b), ID_OF);
+
+        // Then:
+        assertThat(common, is(Map.of()));
+        assertThat(a, is(original));
+    }
+
+    @Test
+    void shouldNotExtractSharedDefinitionsReferencingTheirRoot() {
+        // Given:
+        final ObjectNode a = schemaWith("Node", "{properties: {parent: {$ref: '#'}}}");
+        final ObjectNode b = schemaWith("Node", "{properties: {parent: {$ref: '#'}}}");
+
+        // When:
+        final Map<String, ObjectNode> common = CommonDefinitions.extract(List.of(a, b), ID_OF);
+
+        // Then:
+        assertThat(common, is(Map.of()));
+    }
+
+    @Test
+    void shouldNotExtractFromSchemasThatCanNotBeRestructured() {
+        // Given:
+        final ObjectNode a = schemaWith("Money", MONEY);
+        a.putObject("properties").putObject("amount").put("$ref", "#/$defs/Money/properties");
+        final ObjectNode b = schemaWith("Money", MONEY);
+        final ObjectNode c = schemaWith("Money", MONEY);
+        final JsonNode original = a.deepCopy();
+
+        // When:
+        final Map<String, ObjectNode> common = CommonDefinitions.extract(List.of(a, b, c), ID_OF);
+
+        // Then:
+        assertThat(common.keySet(), is(Set.of("Money")));
+        assertThat(a, is(original));
+        assertThat(b, is(parse("{type: object, $ref: 'urn:test:Money'}")));
+    }
+
+    private static ObjectNode schemaWith(final String name, final String definition) {
+        final ObjectNode schema = parse("type: object");
+        schema.putObject("$defs").set(name, parse(definition));
+        schema.put("$ref", "#/$defs/" + name);
+        return schema;
+    }
+}
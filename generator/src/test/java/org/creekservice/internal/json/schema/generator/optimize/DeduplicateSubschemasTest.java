@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.optimize;
+
+import static org.creekservice.internal.json.schema.generator.optimize.OptimizerTesting.assertEquivalent;
+import static org.creekservice.internal.json.schema.generator.optimize.OptimizerTesting.parse;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+class DeduplicateSubschemasTest {
+
+    private final DeduplicateSubschemas pass = new DeduplicateSubschemas();
+
+    @Test
+    void shouldRemoveRepeatedSubschemasAndValues() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        """
+                        type: [string, object, string]
+                        enum: [a, b, a]
+                        required: [a, a]
+                        allOf:
+                        - minLength: 1
+                        - minLength: 1
+                        anyOf:
+                        - maxLength: 2
+                        - maxLength: 2
+                        - maxLength: 3
+                        """);
+
+        // When:
+        final boolean changed = pass.apply(schema);
+
+        // Then:
+        assertThat(changed, is(true));
+        assertThat(
+                schema,
+                is(
+                        parse(
+                                """
+                                type: [string, object]
+                                enum: [a, b]
+                                required: [a]
+                                allOf:
+                                - minLength: 1
+                                anyOf:
+                                - maxLength: 2
+                                - maxLength: 3
+                                """)));
+    }
+
+    @Test
+    void shouldNotRemoveRepeatedOneOfBranches() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        """
+                        properties:
+                          a:
+                            oneOf:
+                            - type: string
+                            - type: string
+                        """);
+        final JsonNode original = schema.deepCopy();
+
+        // When:
+        final boolean changed = pass.apply(schema);
+
+        // Then:
+        assertThat(changed, is(false));
+        assertThat(schema, is(original));
+        assertEquivalent(original, schema, "{a: x}", "{a: 1}");
+    }
+
+    @Test
+    void shouldMergeIdenticalDefinitions() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        """
+                        $defs:
+                          A:
+                            type: string
+                          B:
+                            type: integer
+                          C:
+                            type: string
+                        properties:
+                          a:
+                            $ref: "#/$defs/A"
+                          b:
+                            $ref: "#/$defs/B"
+                          c:
+                            $ref: "#/$defs/C"
+                        """);
+        final JsonNode original = schema.deepCopy();
+
+        // When:
+        pass.apply(schema);
+
+        // Then:
+        assertThat(
+                schema,
+                is(
+                        parse(
+                                """
+                                $defs:
+                                  A:
+                                    type: string
+                                  B:
+                                    type: integer
+                                properties:
+                                  a:
+                                    $ref: "#/$defs/A"
+                                  b:
+                                    $ref: "#/$defs/B"
+                                  c:
+                                    $ref: "#/$defs/A"
+                                """)));
+        assertEquivalent(original, schema, "{a: x, b: 1, c: y}", "{c: 1}");
+    }
+
+    @Test
+    void shouldNotLookForSubschemasInValues() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        """
+                        const:
+                          required: [a, a]
+                        """);
+        final JsonNode original = schema.deepCopy();
+
+        // When:
+        pass.apply(schema);
+
+        // Then:
+        assertThat(schema, is(original));
+    }
+}
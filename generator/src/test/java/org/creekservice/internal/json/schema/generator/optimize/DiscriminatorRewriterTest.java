@@ -0,0 +1,261 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.optimize;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.dataformat.yaml.YAMLMapper;
+
+class DiscriminatorRewriterTest {
+
+    private final DiscriminatorRewriter pass = new DiscriminatorRewriter();
+
+    private static final ObjectMapper YAML_MAPPER = YAMLMapper.builder().build();
+
+    private static final String DEFS =
+            """
+            $defs:
+              A:
+                type: object
+                properties:
+                  kind:
+                    const: a
+                  name:
+                    const: x
+                required: [kind, name]
+              B:
+                allOf:
+                - type: object
+                - properties:
+                    kind:
+                      const: b
+                  required: [kind]
+            """;
+
+    @Test
+    void shouldRewriteOneOfKeyedOnDiscriminator() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        DEFS
+                                + """
+                                title: Base
+                                oneOf:
+                                - $ref: "#/$defs/A"
+                                - $ref: "#/$defs/B"
+                                """);
+
+        // When:
+        final boolean changed = pass.apply(schema);
+
+        // Then:
+        assertThat(changed, is(true));
+        final JsonNode expected =
+                parse(
+                        DEFS
+                                + """
+                                title: Base
+                                type: object
+                                properties:
+                                  kind:
+                                    enum: [a, b]
+                                required: [kind]
+                                allOf:
+                                - if:
+                                    properties:
+                                      kind:
+                                        const: a
+                                    required: [kind]
+                                  then:
+                                    $ref: "#/$defs/A"
+                                - if:
+                                    properties:
+                                      kind:
+                                        const: b
+                                    required: [kind]
+                                  then:
+                                    $ref: "#/$defs/B"
+                                """);
+        assertThat(schema, is(expected));
+    }
+
+    @Test
+    void shouldRewriteNestedOneOf() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        DEFS
+                                + """
+                                type: object
+                                properties:
+                                  base:
+                                    oneOf:
+                                    - $ref: "#/$defs/A"
+                                    - $ref: "#/$defs/B"
+                                """);
+
+        // When:
+        pass.apply(schema);
+
+        // Then:
+        assertThat(schema.at("/properties/base").has("oneOf"), is(false));
+        assertThat(schema.at("/properties/base/required/0").asString(), is("kind"));
+    }
+
+    @Test
+    void shouldNotRewriteIfConstantsNotDistinct() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        DEFS
+                                + """
+                                oneOf:
+                                - $ref: "#/$defs/A"
+                                - $ref: "#/$defs/A"
+                                """);
+        final JsonNode original = schema.deepCopy();
+
+        // When:
+        final boolean changed = pass.apply(schema);
+
+        // Then:
+        assertThat(changed, is(false));
+        assertThat(schema, is(original));
+    }
+
+    @Test
+    void shouldNotRewriteIfBranchNotObjectTyped() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        DEFS
+                                + """
+                                oneOf:
+                                - $ref: "#/$defs/A"
+                                - properties:
+                                    kind:
+                                      const: c
+                                  required: [kind]
+                                """);
+        final JsonNode original = schema.deepCopy();
+
+        // When:
+        final boolean changed = pass.apply(schema);
+
+        // Then:
+        assertThat(changed, is(false));
+        assertThat(schema, is(original));
+    }
+
+    @Test
+    void shouldNotRewriteIfDiscriminatorNotRequired() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        DEFS
+                                + """
+                                oneOf:
+                                - $ref: "#/$defs/A"
+                                - type: object
+                                  properties:
+                                    kind:
+                                      const: c
+                                """);
+        final JsonNode original = schema.deepCopy();
+
+        // When:
+        final boolean changed = pass.apply(schema);
+
+        // Then:
+        assertThat(changed, is(false));
+        assertThat(schema, is(original));
+    }
+
+    @Test
+    void shouldNotRewriteIfBranchRefIsNotLocal() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        DEFS
+                                + """
+                                oneOf:
+                                - $ref: "#/$defs/A"
+                                - $ref: "other.yml#/$defs/B"
+                                """);
+        final JsonNode original = schema.deepCopy();
+
+        // When:
+        final boolean changed = pass.apply(schema);
+
+        // Then:
+        assertThat(changed, is(false));
+        assertThat(schema, is(original));
+    }
+
+    @Test
+    void shouldNotRewriteOneOfInNonSchemaKeyword() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        DEFS
+                                + """
+                                default:
+                                  oneOf:
+                                  - $ref: "#/$defs/A"
+                                  - $ref: "#/$defs/B"
+                                """);
+        final JsonNode original = schema.deepCopy();
+
+        // When:
+        final boolean changed = pass.apply(schema);
+
+        // Then:
+        assertThat(changed, is(false));
+        assertThat(schema, is(original));
+    }
+
+    @Test
+    void shouldNotRewriteIfNodeHasConflictingKeywords() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        DEFS
+                                + """
+                                required: [id]
+                                oneOf:
+                                - $ref: "#/$defs/A"
+                                - $ref: "#/$defs/B"
+                                """);
+        final JsonNode original = schema.deepCopy();
+
+        // When:
+        final boolean changed = pass.apply(schema);
+
+        // Then:
+        assertThat(changed, is(false));
+        assertThat(schema, is(original));
+    }
+
+    private static ObjectNode parse(final String yaml) {
+        return (ObjectNode) YAML_MAPPER.readTree(yaml);
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.optimize;
+
+import static org.creekservice.internal.json.schema.generator.optimize.OptimizerTesting.assertEquivalent;
+import static org.creekservice.internal.json.schema.generator.optimize.OptimizerTesting.parse;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+class DropNoOpConstraintsTest {
+
+    private final DropNoOpConstraints pass = new DropNoOpConstraints();
+
+    @Test
+    void shouldDropConstraintsThatCanNotFail() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        """
+                        type: object
+                        minProperties: 0
+                        required: []
+                        patternProperties: {}
+                        additionalProperties: true
+                        properties:
+                          a:
+                            type: string
+                            minLength: 0
+                          b:
+                            type: array
+                            minItems: 0
+                            uniqueItems: false
+                            items: {}
+                        allOf:
+                        - true
+                        - {}
+                        """);
+        final JsonNode original = schema.deepCopy();
+
+        // When:
+        final boolean changed = pass.apply(schema);
+
+        // Then:
+        assertThat(changed, is(true));
+        assertThat(
+                schema,
+                is(
+                        parse(
+                                """
+                                type: object
+                                properties:
+                                  a:
+                                    type: string
+                                  b:
+                                    type: array
+                                """)));
+        assertEquivalent(original, schema, "{a: '', b: [1, 1]}", "{a: 1}", "{c: x}");
+    }
+
+    @Test
+    void shouldKeepConstraintsThatCanFail() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        """
+                        minLength: 1
+                        uniqueItems: true
+                        required: [a]
+                        additionalProperties: false
+                        allOf:
+                        - false
+                        """);
+        final JsonNode original = schema.deepCopy();
+
+        // When:
+        final boolean changed = pass.apply(schema);
+
+        // Then:
+        assertThat(changed, is(false));
+        assertThat(schema, is(original));
+    }
+
+    @Test
+    void shouldKeepAnnotatingKeywordsIfUnevaluatedKeywordsUsed() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        """
+                        allOf:
+                        - additionalProperties: true
+                        unevaluatedProperties: false
+                        """);
+        final JsonNode original = schema.deepCopy();
+
+        // When:
+        pass.apply(schema);
+
+        // Then:
+        assertThat(schema, is(original));
+        assertEquivalent(original, schema, "{a: 1}");
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.optimize;
+
+import static org.creekservice.internal.json.schema.generator.optimize.OptimizerTesting.assertEquivalent;
+import static org.creekservice.internal.json.schema.generator.optimize.OptimizerTesting.parse;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+class FlattenAllOfTest {
+
+    private final FlattenAllOf pass = new FlattenAllOf();
+
+    @Test
+    void shouldFlattenRefAndDiscriminatorWrapper() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        """
+                        $defs:
+                          Standard:
+                            type: object
+                            properties:
+                              name:
+                                type: string
+                        title: Sub
+                        allOf:
+                        - $ref: "#/$defs/Standard"
+                        - type: object
+                          properties:
+                            kind:
+                              const: sub
+                          required: [kind]
+                        """);
+        final JsonNode original = schema.deepCopy();
+
+        // When:
+        final boolean changed = pass.apply(schema);
+
+        // Then:
+        assertThat(changed, is(true));
+        assertThat(
+                schema,
+                is(
+                        parse(
+                                """
+                                $defs:
+                                  Standard:
+                                    type: object
+                                    properties:
+                                      name:
+                                        type: string
+                                title: Sub
+                                $ref: "#/$defs/Standard"
+                                type: object
+                                properties:
+                                  kind:
+                                    const: sub
+                                required: [kind]
+                                """)));
+        assertEquivalent(
+                original, schema, "{kind: sub}", "{kind: sub, name: 1}", "{kind: x}", "{}");
+    }
+
+    @Test
+    void shouldFlattenMembersWithIdenticalKeywords() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        """
+                        type: object
+                        allOf:
+                        - type: object
+                          minProperties: 1
+                        - type: object
+                          maxProperties: 2
+                        """);
+
+        // When:
+        pass.apply(schema);
+
+        // Then:
+        assertThat(schema, is(parse("{type: object, minProperties: 1, maxProperties: 2}")));
+    }
+
+    @Test
+    void shouldFlattenNestedAllOf() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        """
+                        allOf:
+                        - allOf:
+                          - minProperties: 1
+                        """);
+
+        // When:
+        pass.apply(schema);
+
+        // Then:
+        assertThat(schema, is(parse("{minProperties: 1}")));
+    }
+
+    @Test
+    void shouldNotFlattenIfKeywordsConflict() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        """
+                        allOf:
+                        - required: [a]
+                        - required: [b]
+                        """);
+        final JsonNode original = schema.deepCopy();
+
+        // When:
+        final boolean changed = pass.apply(schema);
+
+        // Then:
+        assertThat(changed, is(false));
+        assertThat(schema, is(original));
+    }
+
+    @Test
+    void shouldNotFlattenIfAdjacentKeywordsInteract() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        """
+                        properties:
+                          a:
+                            type: string
+                        allOf:
+                        - additionalProperties: false
+                        """);
+        final JsonNode original = schema.deepCopy();
+
+        // When:
+        pass.apply(schema);
+
+        // Then:
+        assertThat(schema, is(original));
+        assertEquivalent(original, schema, "{a: x}", "{b: x}");
+    }
+
+    @Test
+    void shouldNotFlattenIfSubschemasReferencedByPointer() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        """
+                        properties:
+                          a:
+                            $ref: "#/allOf/0"
+                        allOf:
+                        - minProperties: 1
+                        """);
+        final JsonNode original = schema.deepCopy();
+
+        // When:
+        pass.apply(schema);
+
+        // Then:
+        assertThat(schema, is(original));
+    }
+
+    @Test
+    void shouldNotFlattenMemberWithDefinitions() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        """
+                        allOf:
+                        - $defs:
+                            A:
+                              type: string
+                        """);
+        final JsonNode original = schema.deepCopy();
+
+        // When:
+        pass.apply(schema);
+
+        // Then:
+        assertThat(schema, is(original));
+    }
+}
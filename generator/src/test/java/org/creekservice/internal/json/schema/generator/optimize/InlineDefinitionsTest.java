@@ -0,0 +1,248 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.optimize;
+
+import static org.creekservice.internal.json.schema.generator.optimize.OptimizerTesting.assertEquivalent;
+import static org.creekservice.internal.json.schema.generator.optimize.OptimizerTesting.parse;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+class InlineDefinitionsTest {
+
+    private final InlineDefinitions pass = new InlineDefinitions();
+
+    @Test
+    void shouldInlineDefinitionUsedOnce() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        """
+                        $defs:
+                          Name:
+                            type: object
+                            properties:
+                              first:
+                                type: string
+                              last:
+                                type: string
+                              middle:
+                                type: string
+                            required: [first, last]
+                        type: object
+                        properties:
+                          name:
+                            description: the name
+                            $ref: "#/$defs/Name"
+                        """);
+        final JsonNode original = schema.deepCopy();
+
+        // When:
+        final boolean changed = pass.apply(schema);
+
+        // Then:
+        assertThat(changed, is(true));
+        assertThat(
+                schema,
+                is(
+                        parse(
+                                """
+                                type: object
+                                properties:
+                                  name:
+                                    description: the name
+                                    type: object
+                                    properties:
+                                      first:
+                                        type: string
+                                      last:
+                                        type: string
+                                      middle:
+                                        type: string
+                                    required: [first, last]
+                                """)));
+        assertEquivalent(
+                original,
+                schema,
+                "{name: {first: a, last: b}}",
+                "{name: {first: a}}",
+                "{name: {first: a, last: 1}}",
+                "{}");
+    }
+
+    @Test
+    void shouldInlineSmallDefinitionUsedManyTimes() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        """
+                        $defs:
+                          Id:
+                            type: string
+                            minLength: 3
+                        properties:
+                          a:
+                            $ref: "#/$defs/Id"
+                          b:
+                            $ref: "#/$defs/Id"
+                        """);
+
+        // When:
+        pass.apply(schema);
+
+        // Then:
+        assertThat(
+                schema,
+                is(
+                        parse(
+                                """
+                                properties:
+                                  a:
+                                    type: string
+                                    minLength: 3
+                                  b:
+                                    type: string
+                                    minLength: 3
+                                """)));
+    }
+
+    @Test
+    void shouldNotInlineLargeDefinitionUsedManyTimes() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        """
+                        $defs:
+                          Name:
+                            type: object
+                            properties:
+                              first:
+                                type: string
+                              last:
+                                type: string
+                            required: [first, last]
+                        properties:
+                          a:
+                            $ref: "#/$defs/Name"
+                          b:
+                            $ref: "#/$defs/Name"
+                        """);
+        final JsonNode original = schema.deepCopy();
+
+        // When:
+        final boolean changed = pass.apply(schema);
+
+        // Then:
+        assertThat(changed, is(false));
+        assertThat(schema, is(original));
+    }
+
+    @Test
+    void shouldInlineDefinitionsUsedByInlinedDefinitions() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        """
+                        $defs:
+                          Outer:
+                            properties:
+                              inner:
+                                $ref: "#/$defs/Inner"
+                          Inner:
+                            type: string
+                        $ref: "#/$defs/Outer"
+                        """);
+
+        // When:
+        pass.apply(schema);
+
+        // Then:
+        assertThat(schema, is(parse("{properties: {inner: {type: string}}}")));
+    }
+
+    @Test
+    void shouldNotInlineRecursiveDefinition() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        """
+                        $defs:
+                          Node:
+                            properties:
+                              next:
+                                $ref: "#/$defs/Node"
+                        $ref: "#/$defs/Node"
+                        """);
+        final JsonNode original = schema.deepCopy();
+
+        // When:
+        pass.apply(schema);
+
+        // Then:
+        assertThat(schema, is(original));
+    }
+
+    @Test
+    void shouldNotInlineIfAdjacentKeywordsConflict() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        """
+                        $defs:
+                          Id:
+                            type: string
+                        properties:
+                          a:
+                            type: integer
+                            $ref: "#/$defs/Id"
+                        """);
+        final JsonNode original = schema.deepCopy();
+
+        // When:
+        pass.apply(schema);
+
+        // Then:
+        assertThat(schema, is(original));
+    }
+
+    @Test
+    void shouldNotInlineIfDefinitionsReferencedByPointer() {
+        // Given:
+        final ObjectNode schema =
+                parse(
+                        """
+                        $defs:
+                          Id:
+                            type: string
+                        properties:
+                          a:
+                            $ref: "#/$defs/Id"
+                          b:
+                            $ref: "#/properties/a"
+                        """);
+        final JsonNode original = schema.deepCopy();
+
+        // When:
+        pass.apply(schema);
+
+        // Then:
+        assertThat(schema, is(original));
+    }
+}
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.optimize;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Map;
+import org.creekservice.api.json.schema.validator.JsonSchemaValidator;
+import org.creekservice.api.json.schema.validator.SchemaValidationException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.dataformat.yaml.YAMLMapper;
+
+/** Test helpers for optimizer passes. */
+final class OptimizerTesting {
+
+    private static final ObjectMapper YAML_MAPPER = YAMLMapper.builder().build();
+
+    private OptimizerTesting() {}
+
+    static ObjectNode parse(final String yaml) {
+        return (ObjectNode) YAML_MAPPER.readTree(yaml);
+    }
+
+    /**
+     * Assert two schemas agree on whether each of the supplied documents is valid.
+     *
+     * @param expected the original schema.
+     * @param actual the optimized schema.
+     * @param documents the documents, in YAML or JSON.
+     */
+    static void assertEquivalent(
+            final JsonNode expected, final JsonNode actual, final String... documents) {
+        final JsonSchemaValidator before = JsonSchemaValidator.fromSchema(expected);
+        final JsonSchemaValidator after = JsonSchemaValidator.fromSchema(actual);
+        for (final String document : documents) {
+            final Map<String, Object> properties =
+                    YAML_MAPPER.readValue(document, new TypeReference<>() {});
+            assertThat(document, isValid(after, properties), is(isValid(before, properties)));
+        }
+    }
+
+    private static boolean isValid(
+            final JsonSchemaValidator validator, final Map<String, Object> document) {
+        try {
+            validator.validate(document);
+            return true;
+        } catch (final SchemaValidationException e) {
+            return false;
+        }
+    }
+}
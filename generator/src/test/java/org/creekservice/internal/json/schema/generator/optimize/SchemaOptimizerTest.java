@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.optimize;
+
+import static org.creekservice.internal.json.schema.generator.optimize.OptimizerTesting.parse;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.creekservice.api.json.schema.generator.GeneratorOptions.PolymorphicStyle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class SchemaOptimizerTest {
+
+    private static final String POLYMORPHIC =
+            """
+            $defs:
+              A:
+                type: object
+                properties:
+                  kind:
+                    const: a
+                required: [kind]
+              B:
+                type: object
+                properties:
+                  kind:
+                    const: b
+                  name:
+                    type: string
+                    minLength: 0
+                required: [kind]
+            oneOf:
+            - $ref: "#/$defs/A"
+            - $ref: "#/$defs/B"
+            """;
+
+    @Mock private OptimizerPass pass1;
+    @Mock private OptimizerPass pass2;
+    private final ObjectNode schema = parse("{type: object}");
+
+    @Test
+    void shouldApplyPassesInOrderUntilNoneChangeTheSchema() {
+        // Given:
+        when(pass1.apply(any())).thenReturn(true, false);
+        when(pass2.apply(any())).thenReturn(true, true, false);
+        final SchemaOptimizer optimizer = new SchemaOptimizer(List.of(pass1, pass2));
+
+        // When:
+        optimizer.optimize(schema);
+
+        // Then:
+        final InOrder inOrder = inOrder(pass1, pass2);
+        inOrder.verify(pass1).apply(schema);
+        inOrder.verify(pass2).apply(schema);
+        verify(pass1, times(3)).apply(schema);
+        verify(pass2, times(3)).apply(schema);
+    }
+
+    @Test
+    void shouldStopIfPassesNeverSettle() {
+        // Given:
+        when(pass1.apply(any())).thenReturn(true);
+        final SchemaOptimizer optimizer = new SchemaOptimizer(List.of(pass1));
+
+        // When:
+        optimizer.optimize(schema);
+
+        // Then:
+        verify(pass1, times(10)).apply(schema);
+    }
+
+    @Test
+    void shouldNotChangeSchemaByDefault() {
+        // Given:
+        final ObjectNode schema = parse(POLYMORPHIC);
+        final JsonNode original = schema.deepCopy();
+
+        // When:
+        SchemaOptimizer.create(PolymorphicStyle.ONE_OF, false).optimize(schema);
+
+        // Then:
+        assertThat(schema, is(original));
+    }
+
+    @Test
+    void shouldOnlyRewriteDiscriminatorIfNotOptimizing() {
+        // Given:
+        final ObjectNode schema = parse(POLYMORPHIC);
+
+        // When:
+        SchemaOptimizer.create(PolymorphicStyle.DISCRIMINATOR, false).optimize(schema);
+
+        // Then:
+        assertThat(schema.has("oneOf"), is(false));
+        assertThat(schema.at("/$defs/B/properties/name/minLength").asInt(), is(0));
+    }
+
+    @Test
+    void shouldOptimize() {
+        // Given:
+        final ObjectNode schema = parse(POLYMORPHIC);
+
+        // When:
+        SchemaOptimizer.create(PolymorphicStyle.ONE_OF, true).optimize(schema);
+
+        // Then:
+        assertThat(
+                schema,
+                is(
+                        parse(
+                                """
+                                oneOf:
+                                - type: object
+                                  properties:
+                                    kind:
+                                      const: a
+                                  required: [kind]
+                                - type: object
+                                  properties:
+                                    kind:
+                                      const: b
+                                    name:
+                                      type: string
+                                  required: [kind]
+                                """)));
+    }
+
+    @Test
+    void shouldNotApplyPassesToEmptyPipeline() {
+        // Given:
+        final SchemaOptimizer optimizer = new SchemaOptimizer(List.of());
+
+        // When:
+        optimizer.optimize(schema);
+
+        // Then:
+        verify(pass1, never()).apply(any());
+    }
+}
@@ -20,6 +20,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
 import java.nio.file.Paths;
+import org.creekservice.api.json.schema.generator.GeneratorOptions.OutputFormat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -40,4 +41,17 @@ class DirectoryTreeOutputLocationStrategyTest {
                         Paths.get(
                                 "org/creekservice/internal/json/schema/generator/output/DirectoryTreeOutputLocationStrategyTest.yml")));
     }
+
+    @Test
+    void shouldUseOutputFormatExtension() {
+        // Given:
+        strategy = new DirectoryTreeOutputLocationStrategy(OutputFormat.JSON);
+
+        // Then:
+        assertThat(
+                strategy.outputPath(DirectoryTreeOutputLocationStrategyTest.class),
+                is(
+                        Paths.get(
+                                "org/creekservice/internal/json/schema/generator/output/DirectoryTreeOutputLocationStrategyTest.json")));
+    }
 }
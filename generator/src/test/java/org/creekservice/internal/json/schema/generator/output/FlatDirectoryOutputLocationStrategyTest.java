@@ -19,6 +19,7 @@ package org.creekservice.internal.json.schema.generator.output;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 
+import org.creekservice.api.json.schema.generator.GeneratorOptions.OutputFormat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -59,5 +60,17 @@ class FlatDirectoryOutputLocationStrategyTest {
                         "org.creekservice.internal.json.schema.generator.output.FlatDirectoryOutputLocationStrategyTest$1Model.yml"));
     }
 
+    @Test
+    void shouldUseOutputFormatExtension() {
+        // Given:
+        strategy = new FlatDirectoryOutputLocationStrategy(OutputFormat.SMILE);
+
+        // Then:
+        assertThat(
+                strategy.outputPath(Nested.class).toString(),
+                is(
+                        "org.creekservice.internal.json.schema.generator.output.FlatDirectoryOutputLocationStrategyTest$Nested.smile"));
+    }
+
     private static final class Nested {}
 }
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.pattern;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Optional;
+import java.util.regex.PatternSyntaxException;
+import org.creekservice.internal.json.schema.generator.pattern.BacktrackingAnalyzer.Backtracking;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class BacktrackingAnalyzerTest {
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "^(?:[01]\\d|2[0-3]):(?:[0-5]\\d)(?::(?:[0-5]\\d)(?:\\.\\d{1,9})?)?$",
+                "^\\d{4}-(?:0[1-9]|1[0-2])-(?:0[1-9]|[12]\\d|3[01])T(?:[01]\\d|2[0-3]):[0-5]\\d"
+                        + "(?::[0-5]\\d(?:\\.\\d{1,9})?)?$",
+                "^P(?=\\d)(?:\\d+Y)?(?:\\d+M)?(?:\\d+W)?(?:\\d+D)?$",
+                "^--(?:0[1-9]|1[0-2])-(?:0[1-9]|[12]\\d|3[01])$",
+                "^-?\\d{4,}-(?:0[1-9]|1[0-2])$",
+                "",
+                "a+",
+                "^[a-z]+$",
+                "(ab)*",
+                "(a|ab)*c",
+                "^(a|b|c)*$",
+                "\\d+Y\\d+M",
+                "x{0,3}",
+                "^\\w+@\\w+(\\.\\w+)+$",
+                "^[a-zA-Z0-9._%+-]+@[a-zA-Z0-9.-]+\\.[a-zA-Z]{2,}$",
+                "(a++)+",
+                "(?>a+)+",
+                "[]a]+",
+                "(?i)(abc|ABD)+x\\1"
+            })
+    void shouldNotReportLinearPatterns(final String regex) {
+        assertThat(BacktrackingAnalyzer.analyse(regex), is(Optional.empty()));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "(a+)+",
+                "(a*)*b",
+                "(a|a)*",
+                "(a?a?)*",
+                "^(\\w+\\s?)*$",
+                "^([a-z0-9]+-?)+$",
+                "^(([a-z])+.)+[A-Z]([a-z])+$",
+                "(a{1,100}){1,100}"
+            })
+    void shouldReportExponentialPatterns(final String regex) {
+        assertThat(
+                BacktrackingAnalyzer.analyse(regex), is(Optional.of(Backtracking.EXPONENTIAL)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "\\d+\\d+",
+                "^.*=.*=$",
+                "\\s*.*",
+                "(.*a){12}",
+                "[\\p{L}\\d]+\\s+\\p{L}+"
+            })
+    void shouldReportPolynomialPatterns(final String regex) {
+        assertThat(
+                BacktrackingAnalyzer.analyse(regex), is(Optional.of(Backtracking.POLYNOMIAL)));
+    }
+
+    @Test
+    void shouldNotReportPatternsTooLargeToAnalyse() {
+        // Given:
+        final String regex = "^(?:" + "a".repeat(1_000) + ")+$";
+
+        // Then:
+        assertThat(BacktrackingAnalyzer.analyse(regex), is(Optional.empty()));
+    }
+
+    @Test
+    void shouldThrowOnInvalidPattern() {
+        assertThrows(PatternSyntaxException.class, () -> BacktrackingAnalyzer.analyse("(a"));
+    }
+}
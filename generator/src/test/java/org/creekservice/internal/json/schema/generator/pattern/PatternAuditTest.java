@@ -0,0 +1,161 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.generator.pattern;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import org.creekservice.internal.json.schema.generator.pattern.BacktrackingAnalyzer.Backtracking;
+import org.creekservice.internal.json.schema.generator.pattern.PatternAudit.Issue;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+class PatternAuditTest {
+
+    private static final ObjectMapper MAPPER = JsonMapper.builder().build();
+
+    private final PatternAudit audit = new PatternAudit();
+
+    @Test
+    void shouldReportNothingForSafePatterns() {
+        // Given:
+        final JsonNode schema =
+                schema(
+                        """
+                        {
+                          "type": "object",
+                          "properties": {"id": {"type": "string", "pattern": "^[a-z]+$"}}
+                        }
+                        """);
+
+        // Then:
+        assertThat(audit.audit("Root", schema), is(List.of()));
+    }
+
+    @Test
+    void shouldNamePropertiesOfRootType() {
+        // Given:
+        final JsonNode schema =
+                schema(
+                        """
+                        {
+                          "properties": {
+                            "name": {"pattern": "(a+)+"},
+                            "address": {
+                              "properties": {"line": {"pattern": "\\\\d+\\\\d+"}}
+                            }
+                          }
+                        }
+                        """);
+
+        // Then:
+        assertThat(
+                audit.audit("Root", schema),
+                is(
+                        List.of(
+                                new Issue("Root", "name", "(a+)+", Backtracking.EXPONENTIAL),
+                                new Issue(
+                                        "Root",
+                                        "address.line",
+                                        "\\d+\\d+",
+                                        Backtracking.POLYNOMIAL))));
+    }
+
+    @Test
+    void shouldNameDefinitionsAsTypes() {
+        // Given:
+        final JsonNode schema =
+                schema(
+                        """
+                        {
+                          "$defs": {
+                            "Money": {
+                              "properties": {
+                                "codes": {"type": "array", "items": {"pattern": "(a|a)*"}}
+                              }
+                            }
+                          }
+                        }
+                        """);
+
+        // Then:
+        assertThat(
+                audit.audit("Root", schema),
+                is(List.of(new Issue("Money", "codes", "(a|a)*", Backtracking.EXPONENTIAL))));
+    }
+
+    @Test
+    void shouldCheckPatternPropertiesKeys() {
+        // Given:
+        final JsonNode schema =
+                schema(
+                        """
+                        {
+                          "properties": {
+                            "tags": {"patternProperties": {"(a+)+": {"type": "string"}}}
+                          }
+                        }
+                        """);
+
+        // Then:
+        assertThat(
+                audit.audit("Root", schema),
+                is(List.of(new Issue("Root", "tags", "(a+)+", Backtracking.EXPONENTIAL))));
+    }
+
+    @Test
+    void shouldIgnorePatternsInInstanceData() {
+        // Given:
+        final JsonNode schema =
+                schema(
+                        """
+                        {
+                          "default": {"pattern": "(a+)+"},
+                          "const": {"pattern": "(a+)+"}
+                        }
+                        """);
+
+        // Then:
+        assertThat(audit.audit("Root", schema), is(List.of()));
+    }
+
+    @Test
+    void shouldIgnoreInvalidPatterns() {
+        // Given:
+        final JsonNode schema = schema("{\"pattern\": \"(a\"}");
+
+        // Then:
+        assertThat(audit.audit("Root", schema), is(List.of()));
+    }
+
+    @Test
+    void shouldDescribeIssue() {
+        assertThat(
+                new Issue("Root", "a.b", "(a+)+", Backtracking.EXPONENTIAL).toString(),
+                is("Pattern on Root.a.b can take exponential time to match: (a+)+"));
+        assertThat(
+                new Issue("Root", "", "\\d+\\d+", Backtracking.POLYNOMIAL).toString(),
+                is("Pattern on Root can take polynomial time to match: \\d+\\d+"));
+    }
+
+    private static JsonNode schema(final String json) {
+        return MAPPER.readTree(json);
+    }
+}
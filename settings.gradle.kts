@@ -17,6 +17,7 @@
 rootProject.name = "creek-json-schema"
 
 include(
+    "benchmarks",
     "generator",
     "test-generator-module",
     "test-types",
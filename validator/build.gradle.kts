@@ -19,9 +19,13 @@ plugins {
 }
 
 val jacksonVersion : String by extra
+val spotBugsVersion : String by extra
 
 dependencies {
+    implementation("com.github.spotbugs:spotbugs-annotations:$spotBugsVersion")
     implementation("com.networknt:json-schema-validator:3.0.6")
-    implementation("tools.jackson.core:jackson-databind:$jacksonVersion")
+    api("tools.jackson.core:jackson-databind:$jacksonVersion")
     implementation("tools.jackson.dataformat:jackson-dataformat-yaml:$jacksonVersion")
+    implementation("tools.jackson.dataformat:jackson-dataformat-smile:$jacksonVersion")
+    implementation("tools.jackson.dataformat:jackson-dataformat-cbor:$jacksonVersion")
 }
@@ -1,7 +1,11 @@
 /** Module for validating JSON data against JSON Schemas. */
 module creek.json.schema.validator {
     requires com.networknt.schema;
-    requires tools.jackson.databind;
+    requires transitive tools.jackson.databind;
+    requires tools.jackson.dataformat.smile;
+    requires tools.jackson.dataformat.cbor;
+    requires jdk.jfr;
+    requires com.github.spotbugs.annotations;
 
     // networknt only declares jackson-dataformat-yaml as `requires static` (optional), but
     // required:
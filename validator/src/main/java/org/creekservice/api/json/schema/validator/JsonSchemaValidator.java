@@ -18,8 +18,13 @@ package org.creekservice.api.json.schema.validator;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.Duration;
 import java.util.Map;
+import org.creekservice.internal.json.schema.validator.InternalValidator;
 import org.creekservice.internal.json.schema.validator.NetworkntJsonSchemaValidator;
+import org.creekservice.internal.json.schema.validator.SchemaCompiler;
+import org.creekservice.internal.json.schema.validator.synth.WarmUp;
+import tools.jackson.databind.JsonNode;
 
 /**
  * Validates JSON data against a JSON Schema.
@@ -27,13 +32,29 @@ import org.creekservice.internal.json.schema.validator.NetworkntJsonSchemaValida
  * <p>Wraps the networknt json-schema-validator library, keeping its types out of the public API.
  * Format assertions are enabled, matching real-world ISO 8601 behaviour (e.g. {@code "PT0.5S"} is
  * accepted for sub-second durations).
+ *
+ * <p>Schemas are never fetched over the network: meta-schemas are bundled with the library, and
+ * references to other schemas are resolved from a {@link SchemaBundle}.
+ *
+ * <p>A faster, native engine, which validates deserialised objects directly, can be selected via
+ * {@link ValidatorOptions}.
  */
 public final class JsonSchemaValidator {
 
-    private final NetworkntJsonSchemaValidator internal;
+    private final InternalValidator internal;
+    private final ValidatorRegistry registry;
 
-    private JsonSchemaValidator(final NetworkntJsonSchemaValidator internal) {
+    private JsonSchemaValidator(final InternalValidator internal) {
+        this(internal, null);
+    }
+
+    /**
+     * @param internal the internal validator.
+     * @param registry the registry the validator is bound to, or {@code null} if unbound.
+     */
+    JsonSchemaValidator(final InternalValidator internal, final ValidatorRegistry registry) {
         this.internal = requireNonNull(internal, "internal");
+        this.registry = registry;
     }
 
     /**
@@ -46,7 +67,127 @@ public final class JsonSchemaValidator {
      * @throws SchemaValidationException if the schema cannot be parsed.
      */
     public static JsonSchemaValidator fromSchema(final String schema) {
-        return new JsonSchemaValidator(NetworkntJsonSchemaValidator.fromSchema(schema));
+        return fromSchema(schema, ValidatorOptions.defaults());
+    }
+
+    /**
+     * Create a validator from a schema document in YAML, JSON, Smile or CBOR format.
+     *
+     * <p>The format is detected from the content, so callers holding raw bytes, e.g. read from a
+     * file or the classpath, need not decode them first.
+     *
+     * @param schema the schema content. Textual formats must be UTF-8 encoded.
+     * @return a new validator instance.
+     * @throws SchemaValidationException if the schema cannot be parsed.
+     */
+    public static JsonSchemaValidator fromSchema(final byte[] schema) {
+        return fromSchema(schema, ValidatorOptions.defaults());
+    }
+
+    /**
+     * Create a validator from an already parsed schema.
+     *
+     * @param schema the schema.
+     * @return a new validator instance.
+     * @throws SchemaValidationException if the schema is invalid.
+     */
+    public static JsonSchemaValidator fromSchema(final JsonNode schema) {
+        return fromSchema(schema, ValidatorOptions.defaults());
+    }
+
+    /**
+     * Create a validator from a YAML or JSON schema string, resolving references to other schemas
+     * from the supplied {@code bundle}.
+     *
+     * @param schema the schema content, in YAML or JSON format.
+     * @param bundle the schemas {@code schema} may reference.
+     * @return a new validator instance.
+     * @throws SchemaValidationException if the schema cannot be parsed, or references a schema not
+     *     in the bundle.
+     */
+    public static JsonSchemaValidator fromSchema(final String schema, final SchemaBundle bundle) {
+        return fromSchema(schema, ValidatorOptions.defaults().withBundle(bundle));
+    }
+
+    /**
+     * Create a validator from a schema document in YAML, JSON, Smile or CBOR format, resolving
+     * references to other schemas from the supplied {@code bundle}.
+     *
+     * @param schema the schema content. Textual formats must be UTF-8 encoded.
+     * @param bundle the schemas {@code schema} may reference.
+     * @return a new validator instance.
+     * @throws SchemaValidationException if the schema cannot be parsed, or references a schema not
+     *     in the bundle.
+     */
+    public static JsonSchemaValidator fromSchema(final byte[] schema, final SchemaBundle bundle) {
+        return fromSchema(schema, ValidatorOptions.defaults().withBundle(bundle));
+    }
+
+    /**
+     * Create a validator from an already parsed schema, resolving references to other schemas from
+     * the supplied {@code bundle}.
+     *
+     * @param schema the schema.
+     * @param bundle the schemas {@code schema} may reference.
+     * @return a new validator instance.
+     * @throws SchemaValidationException if the schema is invalid, or references a schema not in
+     *     the bundle.
+     */
+    public static JsonSchemaValidator fromSchema(final JsonNode schema, final SchemaBundle bundle) {
+        return fromSchema(schema, ValidatorOptions.defaults().withBundle(bundle));
+    }
+
+    /**
+     * Create a validator from a YAML or JSON schema string, using the supplied {@code options}.
+     *
+     * @param schema the schema content, in YAML or JSON format.
+     * @param options the options to create the validator with.
+     * @return a new validator instance.
+     * @throws SchemaValidationException if the schema cannot be parsed or resolved, or uses
+     *     features the selected engine does not support.
+     */
+    public static JsonSchemaValidator fromSchema(
+            final String schema, final ValidatorOptions options) {
+        return new JsonSchemaValidator(compiler(options).compile(schema));
+    }
+
+    /**
+     * Create a validator from a schema document in YAML, JSON, Smile or CBOR format, using the
+     * supplied {@code options}.
+     *
+     * @param schema the schema content. Textual formats must be UTF-8 encoded.
+     * @param options the options to create the validator with.
+     * @return a new validator instance.
+     * @throws SchemaValidationException if the schema cannot be parsed or resolved, or uses
+     *     features the selected engine does not support.
+     */
+    public static JsonSchemaValidator fromSchema(
+            final byte[] schema, final ValidatorOptions options) {
+        return new JsonSchemaValidator(compiler(options).compile(schema));
+    }
+
+    /**
+     * Create a validator from an already parsed schema, using the supplied {@code options}.
+     *
+     * @param schema the schema.
+     * @param options the options to create the validator with.
+     * @return a new validator instance.
+     * @throws SchemaValidationException if the schema is invalid or cannot be resolved, or uses
+     *     features the selected engine does not support.
+     */
+    public static JsonSchemaValidator fromSchema(
+            final JsonNode schema, final ValidatorOptions options) {
+        return new JsonSchemaValidator(compiler(options).compile(schema));
+    }
+
+    /**
+     * Eagerly initialise the validator library and its bundled meta-schemas.
+     *
+     * <p>Call during application startup to move the one-off initialisation cost out of the first
+     * validator creation, making first-use latency predictable.
+     */
+    public static void prewarm() {
+        NetworkntJsonSchemaValidator.prewarm();
     }
 
     /**
@@ -54,8 +195,58 @@ public final class JsonSchemaValidator {
      *
      * @param objectProperties the object's properties, as returned by Jackson deserialisation.
      * @throws SchemaValidationException if validation fails.
+     * @throws IllegalStateException if the validator was created by a {@link ValidatorRegistry}
+     *     that has since been closed.
      */
     public void validate(final Map<String, ?> objectProperties) {
+        if (registry != null) {
+            registry.throwIfClosed();
+        }
         internal.validate(objectProperties);
     }
+
+    /**
+     * Warm up the validator by validating synthesized payloads, so the JIT compiles its hot paths
+     * before real traffic arrives.
+     *
+     * <p>Call during application startup, after {@link #prewarm()}, to avoid the first requests
+     * running interpreted code. Valid and invalid payloads are alternated, until {@code
+     * validations} payloads have been validated or {@code timeLimit} has elapsed, whichever is
+     * first.
+     *
+     * <p>Payloads are synthesized as by {@link PayloadSynthesizer}. Schemas it does not support
+     * are not warmed up. Warm-up validations count toward the {@link
+     * ValidatorOptions#withTierUpThreshold tier-up threshold} of the tiered engine, and pass
+     * through any {@link ValidationResultCache}, where they may displace other results.
+     *
+     * @param validations the number of payloads to validate.
+     * @param timeLimit the maximum time to spend.
+     * @return the number of payloads validated.
+     * @throws IllegalArgumentException if {@code validations} or {@code timeLimit} is negative.
+     * @throws IllegalStateException if the validator was created by a {@link ValidatorRegistry}
+     *     that has since been closed.
+     */
+    public int warmUp(final int validations, final Duration timeLimit) {
+        if (validations < 0) {
+            throw new IllegalArgumentException("validations must not be negative: " + validations);
+        }
+        final long deadline = WarmUp.deadline(timeLimit);
+        if (registry != null) {
+            registry.throwIfClosed();
+        }
+        return warmUp(validations, deadline);
+    }
+
+    int warmUp(final int validations, final long deadline) {
+        return WarmUp.run(internal, validations, deadline);
+    }
+
+    private static SchemaCompiler compiler(final ValidatorOptions options) {
+        return SchemaCompiler.shared(options.bundle().resolver(), options.engine())
+                .withTierUpThreshold(options.tierUpThreshold())
+                .withLinearTimePatterns(options.linearTimePatterns())
+                .withCustomTemporalFormats(options.customTemporalFormats())
+                .withResultCache(
+                        options.resultCache().map(ValidationResultCache::internal).orElse(null));
+    }
 }
@@ -0,0 +1,263 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.validator;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.InputStream;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.creekservice.internal.json.schema.validator.NetworkntJsonSchemaValidator;
+import org.creekservice.internal.json.schema.validator.SchemaParser;
+import org.creekservice.internal.json.schema.validator.engine.NativeJsonSchemaValidator;
+import org.creekservice.internal.json.schema.validator.engine.NativeSchemaCompiler;
+import org.creekservice.internal.json.schema.validator.synth.InstanceSynthesizer;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Synthesizes random payloads from a schema, e.g. to test or benchmark code that validates or
+ * consumes them.
+ *
+ * <p>Valid payloads honour the schema's types, formats, patterns, numeric bounds, required
+ * properties and polymorphic discriminators. Each invalid payload is a valid one with one
+ * constraint broken, e.g. a required property removed, an undeclared property added, or a
+ * property given a value of the wrong type, format or range.
+ *
+ * <p>Payloads are reproducible: the same seed always yields the same stream of payloads from the
+ * same schema. Payloads are checked against the schema, using the {@link
+ * ValidatorOptions.Engine#NATIVE native} engine, so the schema must be one the native engine
+ * supports. Payloads that are not as intended are discarded. Where the synthesizer models every
+ * keyword of the schema exactly, e.g. a schema of typed, bounded properties, and a sample of
+ * payloads has passed without any being discarded, later payloads are emitted unchecked, so that
+ * synthesis can outpace the validators it is used to benchmark. Payloads of schemas using other
+ * keywords, e.g. {@code oneOf} or {@code not}, are always checked.
+ *
+ * <p>Instances are thread-safe, but each stream they return is sequential and must only be
+ * consumed by one thread at a time.
+ */
+public final class PayloadSynthesizer {
+
+    /** Extensions of the formats schemas can be generated in, most common first. */
+    private static final String[] EXTENSIONS = {".yml", ".json", ".smile", ".cbor"};
+
+    private final JsonNode schema;
+    private final NativeJsonSchemaValidator checker;
+
+    private PayloadSynthesizer(final JsonNode schema, final SchemaBundle bundle) {
+        this.schema = requireNonNull(bundle, "bundle").resolver().resolve(schema);
+        this.checker =
+                NativeSchemaCompiler.compile(
+                        this.schema, NetworkntJsonSchemaValidator.schemaId(this.schema));
+        // Fail fast if the schema does not describe objects:
+        new InstanceSynthesizer(this.schema, checker);
+    }
+
+    /**
+     * Create a synthesizer from a YAML or JSON schema string.
+     *
+     * @param schema the schema content, in YAML or JSON format.
+     * @return the synthesizer.
+     * @throws SchemaValidationException if the schema cannot be parsed, or is not supported by
+     *     the native engine.
+     * @throws IllegalArgumentException if the schema does not describe objects.
+     */
+    public static PayloadSynthesizer fromSchema(final String schema) {
+        return fromSchema(schema, SchemaBundle.empty());
+    }
+
+    /**
+     * Create a synthesizer from a YAML or JSON schema string, resolving references to other
+     * schemas from the supplied {@code bundle}.
+     *
+     * @param schema the schema content, in YAML or JSON format.
+     * @param bundle the schemas {@code schema} may reference.
+     * @return the synthesizer.
+     * @throws SchemaValidationException if the schema cannot be parsed or resolved, or is not
+     *     supported by the native engine.
+     * @throws IllegalArgumentException if the schema does not describe objects.
+     */
+    public static PayloadSynthesizer fromSchema(final String schema, final SchemaBundle bundle) {
+        return fromSchema(parse(requireNonNull(schema, "schema"), SchemaParser::parse), bundle);
+    }
+
+    /**
+     * Create a synthesizer from a schema document in YAML, JSON, Smile or CBOR format.
+     *
+     * @param schema the schema content. Textual formats must be UTF-8 encoded.
+     * @return the synthesizer.
+     * @throws SchemaValidationException if the schema cannot be parsed, or is not supported by
+     *     the native engine.
+     * @throws IllegalArgumentException if the schema does not describe objects.
+     */
+    public static PayloadSynthesizer fromSchema(final byte[] schema) {
+        return fromSchema(schema, SchemaBundle.empty());
+    }
+
+    /**
+     * Create a synthesizer from a schema document in YAML, JSON, Smile or CBOR format, resolving
+     * references to other schemas from the supplied {@code bundle}.
+     *
+     * @param schema the schema content. Textual formats must be UTF-8 encoded.
+     * @param bundle the schemas {@code schema} may reference.
+     * @return the synthesizer.
+     * @throws SchemaValidationException if the schema cannot be parsed or resolved, or is not
+     *     supported by the native engine.
+     * @throws IllegalArgumentException if the schema does not describe objects.
+     */
+    public static PayloadSynthesizer fromSchema(final byte[] schema, final SchemaBundle bundle) {
+        return fromSchema(parse(requireNonNull(schema, "schema"), SchemaParser::parse), bundle);
+    }
+
+    /**
+     * Create a synthesizer from an already parsed schema.
+     *
+     * @param schema the schema.
+     * @return the synthesizer.
+     * @throws SchemaValidationException if the schema is not supported by the native engine.
+     * @throws IllegalArgumentException if the schema does not describe objects.
+     */
+    public static PayloadSynthesizer fromSchema(final JsonNode schema) {
+        return fromSchema(schema, SchemaBundle.empty());
+    }
+
+    /**
+     * Create a synthesizer from an already parsed schema, resolving references to other schemas
+     * from the supplied {@code bundle}.
+     *
+     * @param schema the schema.
+     * @param bundle the schemas {@code schema} may reference.
+     * @return the synthesizer.
+     * @throws SchemaValidationException if the schema cannot be resolved, or is not supported by
+     *     the native engine.
+     * @throws IllegalArgumentException if the schema does not describe objects.
+     */
+    public static PayloadSynthesizer fromSchema(final JsonNode schema, final SchemaBundle bundle) {
+        return new PayloadSynthesizer(requireNonNull(schema, "schema"), bundle);
+    }
+
+    /**
+     * Create a synthesizer from the schema generated for a type, e.g. one annotated with {@code
+     * GeneratesSchema}.
+     *
+     * <p>The schema is loaded from the type's class loader, from the path the schema generator
+     * writes it to, in either its directory tree or flat layout, e.g. {@code
+     * org/acme/TheType.yml} or {@code org.acme.TheType.yml}. Any of the generator's output
+     * formats are found. Resources within named modules must be in packages the module opens.
+     *
+     * @param type the type.
+     * @return the synthesizer.
+     * @throws SchemaValidationException if no schema resource is found for the type, or it
+     *     cannot be parsed or resolved, or is not supported by the native engine.
+     */
+    public static PayloadSynthesizer forType(final Class<?> type) {
+        return forType(type, SchemaBundle.empty());
+    }
+
+    /**
+     * Create a synthesizer from the schema generated for a type, resolving references to other
+     * schemas, e.g. generated common schemas, from the supplied {@code bundle}.
+     *
+     * @param type the type.
+     * @param bundle the schemas the type's schema may reference.
+     * @return the synthesizer.
+     * @throws SchemaValidationException if no schema resource is found for the type, or it
+     *     cannot be parsed or resolved, or is not supported by the native engine.
+     * @see #forType(Class)
+     */
+    public static PayloadSynthesizer forType(final Class<?> type, final SchemaBundle bundle) {
+        return fromSchema(readSchema(requireNonNull(type, "type")), bundle);
+    }
+
+    /**
+     * Stream payloads that are valid against the schema.
+     *
+     * @param seed the seed of the random source.
+     * @return an infinite, sequential stream of valid payloads.
+     * @throws IllegalStateException from the stream's terminal operation, if no valid payload
+     *     could be synthesized, e.g. because no value can satisfy the schema.
+     */
+    public Stream<Map<String, Object>> valid(final long seed) {
+        return stream(seed, InstanceSynthesizer::valid);
+    }
+
+    /**
+     * Stream payloads that are invalid against the schema.
+     *
+     * @param seed the seed of the random source.
+     * @return an infinite, sequential stream of invalid payloads.
+     * @throws IllegalStateException from the stream's terminal operation, if no invalid payload
+     *     could be synthesized, e.g. because the schema accepts every object.
+     */
+    public Stream<Map<String, Object>> invalid(final long seed) {
+        return stream(seed, InstanceSynthesizer::invalid);
+    }
+
+    private Stream<Map<String, Object>> stream(final long seed, final Synthesis synthesis) {
+        final InstanceSynthesizer synthesizer = new InstanceSynthesizer(schema, checker);
+        final SplittableRandom random = new SplittableRandom(seed);
+        final Spliterator<Map<String, Object>> payloads =
+                new Spliterators.AbstractSpliterator<>(
+                        Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+                    @Override
+                    public boolean tryAdvance(final Consumer<? super Map<String, Object>> action) {
+                        action.accept(synthesis.next(synthesizer, random));
+                        return true;
+                    }
+                };
+        return StreamSupport.stream(payloads, false);
+    }
+
+    private static byte[] readSchema(final Class<?> type) {
+        final ClassLoader loader =
+                type.getClassLoader() == null
+                        ? ClassLoader.getSystemClassLoader()
+                        : type.getClassLoader();
+        final String treePath = type.getName().replace('.', '/');
+        for (final String extension : EXTENSIONS) {
+            for (final String path : new String[] {treePath, type.getName()}) {
+                try (InputStream in = loader.getResourceAsStream(path + extension)) {
+                    if (in != null) {
+                        return in.readAllBytes();
+                    }
+                } catch (final Exception e) {
+                    throw SchemaValidationException.of(
+                            "Failed to read schema resource: " + path + extension, e);
+                }
+            }
+        }
+        throw SchemaValidationException.of("No schema resource found for type: " + type.getName());
+    }
+
+    private static <T> JsonNode parse(final T schema, final Function<T, JsonNode> parser) {
+        try {
+            return parser.apply(schema);
+        } catch (final Exception e) {
+            throw SchemaValidationException.of("Failed to parse schema", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Synthesis {
+        Map<String, Object> next(InstanceSynthesizer synthesizer, SplittableRandom random);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.validator;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.InputStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.creekservice.internal.json.schema.validator.LocalSchemaResolver;
+import org.creekservice.internal.json.schema.validator.SchemaParser;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * An immutable set of schemas used to resolve {@code $ref}s to other schemas, without network
+ * access.
+ *
+ * <p>Validators never fetch schemas remotely: cross-schema references are resolved only from the
+ * bundle supplied when the validator is created, and the standard meta-schemas are bundled with
+ * the validator itself. A reference that can not be resolved locally fails validator creation,
+ * rather than causing a slow or failing fetch later, making the validator suitable for sandboxed
+ * and air-gapped deployments.
+ *
+ * <p>With the {@link ValidatorOptions.Engine#NATIVE native} engine, each schema in the bundle is
+ * compiled once per bundle and set of options, and shared by every validator whose schema
+ * references it, so common schemas cost little beyond the first validator using them. The {@link
+ * ValidatorOptions.Engine#NETWORKNT networknt} engine, which {@link
+ * ValidatorOptions.Engine#TIERED tiered} validators also use until they switch to the native
+ * engine, compiles the referenced schemas as part of each validator's schema.
+ */
+public final class SchemaBundle {
+
+    private static final SchemaBundle EMPTY = new SchemaBundle(Map.of());
+
+    private final Map<String, JsonNode> schemas;
+    private final LocalSchemaResolver resolver;
+
+    private SchemaBundle(final Map<String, JsonNode> schemas) {
+        this.schemas = Map.copyOf(schemas);
+        this.resolver = new LocalSchemaResolver(this.schemas);
+    }
+
+    /**
+     * @return a bundle containing no schemas.
+     */
+    public static SchemaBundle empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Create a bundle from classpath resources.
+     *
+     * <p>Each schema is identified by its {@code $id}, or if it has none, its resource path.
+     *
+     * <p>Resources are loaded via {@link ClassLoader#getResourceAsStream}, so resources within
+     * named modules must be in packages the module opens.
+     *
+     * @param loader the class loader to load resources from.
+     * @param resourcePaths the paths of the schema resources, in YAML, JSON, Smile or CBOR format.
+     * @return the bundle.
+     * @throws SchemaValidationException if any resource can not be found or parsed.
+     */
+    public static SchemaBundle fromClasspath(
+            final ClassLoader loader, final String... resourcePaths) {
+        final Map<String, JsonNode> schemas = new LinkedHashMap<>();
+        for (final String path : resourcePaths) {
+            final JsonNode node = parseResource(path, readResource(loader, path));
+            final JsonNode id = node.get("$id");
+            schemas.put(id != null && id.isString() ? id.asString() : path, node);
+        }
+        return new SchemaBundle(schemas);
+    }
+
+    /**
+     * Add a schema, identified by its {@code $id}.
+     *
+     * @param schema the schema, in YAML or JSON format.
+     * @return a new bundle containing this bundle's schemas and {@code schema}.
+     * @throws SchemaValidationException if the schema can not be parsed or has no {@code $id}.
+     */
+    public SchemaBundle with(final String schema) {
+        final JsonNode node = parse(schema);
+        return with(requireId(node), node);
+    }
+
+    /**
+     * Add a schema with an explicit id.
+     *
+     * @param id the id {@code $ref}s use to reference the schema.
+     * @param schema the schema, in YAML or JSON format.
+     * @return a new bundle containing this bundle's schemas and {@code schema}.
+     * @throws SchemaValidationException if the schema can not be parsed.
+     */
+    public SchemaBundle with(final String id, final String schema) {
+        return with(requireNonNull(id, "id"), parse(schema));
+    }
+
+    /**
+     * @return the ids of the schemas in the bundle.
+     */
+    public Set<String> ids() {
+        return schemas.keySet();
+    }
+
+    LocalSchemaResolver resolver() {
+        return resolver;
+    }
+
+    private static JsonNode parseResource(final String path, final byte[] content) {
+        try {
+            return SchemaParser.parse(content);
+        } catch (final Exception e) {
+            throw SchemaValidationException.of("Failed to parse schema resource: " + path, e);
+        }
+    }
+
+    private SchemaBundle with(final String id, final JsonNode schema) {
+        final Map<String, JsonNode> combined = new LinkedHashMap<>(schemas);
+        combined.put(id, schema);
+        return new SchemaBundle(combined);
+    }
+
+    private static JsonNode parse(final String schema) {
+        requireNonNull(schema, "schema");
+        try {
+            return SchemaParser.parse(schema);
+        } catch (final Exception e) {
+            throw SchemaValidationException.of("Failed to parse schema", e);
+        }
+    }
+
+    private static String requireId(final JsonNode schema) {
+        final JsonNode id = schema.get("$id");
+        if (id == null || !id.isString()) {
+            throw SchemaValidationException.of("Bundled schema has no $id");
+        }
+        return id.asString();
+    }
+
+    private static byte[] readResource(final ClassLoader loader, final String path) {
+        try (InputStream in = loader.getResourceAsStream(path)) {
+            if (in == null) {
+                throw SchemaValidationException.of("Schema resource not found: " + path);
+            }
+            return in.readAllBytes();
+        } catch (final SchemaValidationException e) {
+            throw e;
+        } catch (final Exception e) {
+            throw SchemaValidationException.of("Failed to read schema resource: " + path, e);
+        }
+    }
+}
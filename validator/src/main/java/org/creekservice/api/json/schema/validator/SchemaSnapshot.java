@@ -0,0 +1,254 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.validator;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.creekservice.internal.json.schema.validator.SchemaSnapshotCodec;
+import org.creekservice.internal.json.schema.validator.SchemaSnapshotCodec.Entry;
+
+/**
+ * A compact, versioned binary snapshot of a set of schemas, used to speed up validator startup.
+ *
+ * <p>A snapshot stores each schema in a pre-parsed binary form, avoiding the cost of parsing
+ * schema text, which dominates validator creation for YAML schemas. Each entry records the hash
+ * of the source it was built from, allowing stale entries to be detected and rebuilt.
+ *
+ * <p>Snapshots can be built at build time and shipped as a resource, or built on first start via
+ * {@link #loadOrCreate}.
+ */
+public final class SchemaSnapshot {
+
+    private final Map<String, Entry> entries;
+
+    private SchemaSnapshot(final Map<String, Entry> entries) {
+        this.entries = Map.copyOf(entries);
+    }
+
+    /**
+     * Build a snapshot from schema sources.
+     *
+     * @param schemas the schemas, in YAML or JSON format, keyed by name.
+     * @return the snapshot.
+     * @throws SchemaValidationException if any schema cannot be parsed.
+     */
+    public static SchemaSnapshot of(final Map<String, String> schemas) {
+        final Map<String, Entry> entries = new LinkedHashMap<>();
+        schemas.forEach((name, source) -> entries.put(name, Entry.parse(source)));
+        return new SchemaSnapshot(entries);
+    }
+
+    /**
+     * Load a snapshot from bytes previously returned by {@link #toBytes()}.
+     *
+     * @param snapshot the snapshot bytes.
+     * @return the snapshot.
+     * @throws SchemaValidationException if the bytes are not a snapshot, or were written by an
+     *     incompatible version.
+     */
+    public static SchemaSnapshot fromBytes(final byte[] snapshot) {
+        return new SchemaSnapshot(SchemaSnapshotCodec.decode(snapshot));
+    }
+
+    /**
+     * Load a snapshot from a file, rebuilding any missing or stale entries from source.
+     *
+     * <p>If the file does not exist, cannot be read, or any entry was rebuilt, the file is
+     * rewritten with the up-to-date snapshot. Entries in the file with no matching source are
+     * dropped.
+     *
+     * @param file the snapshot file.
+     * @param schemas the current schema sources, in YAML or JSON format, keyed by name.
+     * @return the up-to-date snapshot.
+     * @throws SchemaValidationException if any schema cannot be parsed, or the snapshot cannot be
+     *     written.
+     */
+    public static SchemaSnapshot loadOrCreate(final Path file, final Map<String, String> schemas) {
+        final Map<String, Entry> existing = read(file);
+
+        boolean changed = existing.size() != schemas.size();
+        final Map<String, Entry> entries = new LinkedHashMap<>();
+        for (final Map.Entry<String, String> e : schemas.entrySet()) {
+            final Entry entry = existing.get(e.getKey());
+            if (entry != null && isCurrent(entry, e.getValue())) {
+                entries.put(e.getKey(), entry);
+            } else {
+                entries.put(e.getKey(), Entry.parse(e.getValue()));
+                changed = true;
+            }
+        }
+
+        final SchemaSnapshot snapshot = new SchemaSnapshot(entries);
+        if (changed) {
+            snapshot.writeTo(file);
+        }
+        return snapshot;
+    }
+
+    /**
+     * @return the names of the schemas in the snapshot.
+     */
+    public Set<String> names() {
+        return entries.keySet();
+    }
+
+    /**
+     * Check if the snapshot's entry for a schema was built from the supplied source.
+     *
+     * @param name the schema name.
+     * @param schema the current schema source.
+     * @return {@code true} if the snapshot contains an entry for {@code name} built from {@code
+     *     schema}.
+     */
+    public boolean isCurrent(final String name, final String schema) {
+        final Entry entry = entries.get(requireNonNull(name, "name"));
+        return entry != null && isCurrent(entry, schema);
+    }
+
+    /**
+     * Create a validator from the snapshot.
+     *
+     * @param name the schema name.
+     * @return a new validator instance.
+     * @throws IllegalArgumentException if the snapshot does not contain {@code name}.
+     * @throws SchemaValidationException if the schema is invalid.
+     */
+    public JsonSchemaValidator validator(final String name) {
+        return validator(name, ValidatorOptions.defaults());
+    }
+
+    /**
+     * Create a validator from the snapshot.
+     *
+     * @param name the schema name.
+     * @param options the validator options, e.g. the bundle used to resolve references.
+     * @return a new validator instance.
+     * @throws IllegalArgumentException if the snapshot does not contain {@code name}.
+     * @throws SchemaValidationException if the schema is invalid.
+     */
+    public JsonSchemaValidator validator(final String name, final ValidatorOptions options) {
+        return JsonSchemaValidator.fromSchema(entry(name).schema(), options);
+    }
+
+    /**
+     * Create a validator from the snapshot, or from {@code schema} if the snapshot is stale.
+     *
+     * @param name the schema name.
+     * @param schema the current schema source, in YAML or JSON format.
+     * @return a new validator instance.
+     * @throws SchemaValidationException if the schema is invalid.
+     */
+    public JsonSchemaValidator validator(final String name, final String schema) {
+        return validator(name, schema, ValidatorOptions.defaults());
+    }
+
+    /**
+     * Create a validator from the snapshot, or from {@code schema} if the snapshot is stale.
+     *
+     * @param name the schema name.
+     * @param schema the current schema source, in YAML or JSON format.
+     * @param options the validator options, e.g. the bundle used to resolve references.
+     * @return a new validator instance.
+     * @throws SchemaValidationException if the schema is invalid.
+     */
+    public JsonSchemaValidator validator(
+            final String name, final String schema, final ValidatorOptions options) {
+        return isCurrent(name, schema)
+                ? validator(name, options)
+                : JsonSchemaValidator.fromSchema(schema, options);
+    }
+
+    /**
+     * @return the snapshot in its binary form.
+     */
+    public byte[] toBytes() {
+        return SchemaSnapshotCodec.encode(entries);
+    }
+
+    /**
+     * Write the snapshot to a file, replacing any existing file.
+     *
+     * @param file the file to write to.
+     * @throws SchemaValidationException if the file cannot be written.
+     */
+    public void writeTo(final Path file) {
+        try {
+            final Path parent = file.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+
+            // Write then move, so concurrent readers never see a partial snapshot:
+            final Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+            try {
+                Files.write(temp, toBytes());
+                move(temp, file);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        } catch (final Exception e) {
+            throw SchemaValidationException.of("Failed to write schema snapshot to " + file, e);
+        }
+    }
+
+    private static void move(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(
+                    source,
+                    target,
+                    StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (final AtomicMoveNotSupportedException e) {
+            // Not atomic: a concurrent loadOrCreate may read a partial snapshot, which it treats as
+            // corrupt and rebuilds from source.
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private Entry entry(final String name) {
+        final Entry entry = entries.get(requireNonNull(name, "name"));
+        if (entry == null) {
+            throw new IllegalArgumentException("Unknown schema: " + name);
+        }
+        return entry;
+    }
+
+    private static boolean isCurrent(final Entry entry, final String schema) {
+        return entry.sourceHash().equals(SchemaSnapshotCodec.hash(schema));
+    }
+
+    private static Map<String, Entry> read(final Path file) {
+        if (!Files.isRegularFile(file)) {
+            return Map.of();
+        }
+
+        try {
+            return SchemaSnapshotCodec.decode(Files.readAllBytes(file));
+        } catch (final Exception e) {
+            // Unreadable, corrupt or written by an incompatible version: rebuild from source.
+            return Map.of();
+        }
+    }
+}
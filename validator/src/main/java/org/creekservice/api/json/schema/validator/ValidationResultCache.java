@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.validator;
+
+import org.creekservice.internal.json.schema.validator.ResultCache;
+
+/**
+ * A bounded cache of validation outcomes, which lets validators skip validating payloads they
+ * have already validated.
+ *
+ * <p>Suits pipelines that replay or retry messages, where the same payload is validated many
+ * times. Enable it via {@link ValidatorOptions#withResultCache}. One cache can be shared by many
+ * validators: outcomes are keyed by the payload, the hash of the schema, including any schemas it
+ * references, and the validator options that affect the outcome, e.g. the engine. The hash is
+ * computed when the schema is compiled, so is never stale. Any fingerprint embedded in the schema
+ * is ignored.
+ *
+ * <p>A payload is located by its hash, then compared with a stored copy of the payload, so a hash
+ * collision never returns the wrong outcome. Payloads containing anything other than the strings,
+ * numbers, booleans, nulls, maps and lists produced by Jackson deserialisation are validated, but
+ * never cached. Invalid payloads are cached too: a hit throws an exception with the original
+ * message and cause.
+ *
+ * <p>Each payload hashes to a single slot, and caching an outcome replaces the slot's previous
+ * outcome, so the cache never holds more than {@link #maxEntries()} outcomes. Use the hit and miss
+ * counts to judge whether the cache pays for the cost of hashing and copying payloads.
+ *
+ * <p>Instances are thread-safe.
+ */
+public final class ValidationResultCache {
+
+    private final ResultCache cache;
+
+    private ValidationResultCache(final int maxEntries) {
+        this.cache = new ResultCache(maxEntries);
+    }
+
+    /**
+     * Create a cache.
+     *
+     * @param maxEntries the maximum number of outcomes to cache.
+     * @return the cache.
+     * @throws IllegalArgumentException if {@code maxEntries} is not positive.
+     */
+    public static ValidationResultCache create(final int maxEntries) {
+        return new ValidationResultCache(maxEntries);
+    }
+
+    /**
+     * @return the maximum number of outcomes the cache holds.
+     */
+    public int maxEntries() {
+        return cache.maxEntries();
+    }
+
+    /**
+     * @return the number of validations answered from the cache.
+     */
+    public long hits() {
+        return cache.hits();
+    }
+
+    /**
+     * @return the number of validations not answered from the cache.
+     */
+    public long misses() {
+        return cache.misses();
+    }
+
+    /**
+     * @return the number of misses where a cached payload had the same hash, but was not equal.
+     */
+    public long collisions() {
+        return cache.collisions();
+    }
+
+    /**
+     * @return the fraction of validations answered from the cache, or zero if there have been
+     *     none.
+     */
+    public double hitRate() {
+        final long hits = hits();
+        final long total = hits + misses();
+        return total == 0 ? 0.0 : (double) hits / total;
+    }
+
+    ResultCache internal() {
+        return cache;
+    }
+}
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.validator;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+
+/**
+ * Immutable options controlling how validators are created.
+ *
+ * <p>Start from {@link #defaults()} and use the {@code with} methods to change individual options.
+ */
+public final class ValidatorOptions {
+
+    /** The engine used to validate data. */
+    public enum Engine {
+        /**
+         * The networknt json-schema-validator library.
+         *
+         * <p>Supports all drafts and keywords, but must adapt each {@code Map} to a Jackson {@code
+         * JsonNode} tree to validate it.
+         */
+        NETWORKNT,
+
+        /**
+         * A native engine that validates the {@code Map}, {@code List} and scalar values produced
+         * by Jackson directly.
+         *
+         * <p>Faster, and allocation-free for valid data, but only supports draft 2020-12 schemas
+         * and does not support {@code $dynamicRef}, {@code unevaluatedProperties} or {@code
+         * unevaluatedItems}. Creating a validator for a schema the engine does not support fails.
+         */
+        NATIVE,
+
+        /**
+         * Starts on the {@link #NETWORKNT networknt} engine, switching to the {@link #NATIVE
+         * native} engine once the validator has been used {@link #tierUpThreshold()} times.
+         *
+         * <p>Suits services that create validators for schemas only known at runtime: rarely
+         * used schemas are never compiled, while hot schemas get native performance. Schemas the
+         * native engine does not support remain on the networknt engine. Error messages may
+         * change once a validator switches engine.
+         */
+        TIERED
+    }
+
+    /** The default number of uses after which a {@link Engine#TIERED tiered} validator switches. */
+    public static final int DEFAULT_TIER_UP_THRESHOLD = 1_000;
+
+    private static final ValidatorOptions DEFAULTS =
+            new ValidatorOptions(
+                    Engine.NETWORKNT,
+                    SchemaBundle.empty(),
+                    DEFAULT_TIER_UP_THRESHOLD,
+                    null,
+                    false,
+                    false);
+
+    private final Engine engine;
+    private final SchemaBundle bundle;
+    private final int tierUpThreshold;
+    private final ValidationResultCache resultCache;
+    private final boolean linearTimePatterns;
+    private final boolean customTemporalFormats;
+
+    private ValidatorOptions(
+            final Engine engine,
+            final SchemaBundle bundle,
+            final int tierUpThreshold,
+            final ValidationResultCache resultCache,
+            final boolean linearTimePatterns,
+            final boolean customTemporalFormats) {
+        if (tierUpThreshold <= 0) {
+            throw new IllegalArgumentException(
+                    "tierUpThreshold must be positive: " + tierUpThreshold);
+        }
+        this.engine = requireNonNull(engine, "engine");
+        this.bundle = requireNonNull(bundle, "bundle");
+        this.tierUpThreshold = tierUpThreshold;
+        this.resultCache = resultCache;
+        this.linearTimePatterns = linearTimePatterns;
+        this.customTemporalFormats = customTemporalFormats;
+    }
+
+    /**
+     * @return the default options: the {@link Engine#NETWORKNT networknt} engine, an empty
+     *     bundle, no result cache and backtracking pattern matching.
+     */
+    public static ValidatorOptions defaults() {
+        return DEFAULTS;
+    }
+
+    /**
+     * @param engine the engine to validate data with.
+     * @return new options with the supplied {@code engine}.
+     */
+    public ValidatorOptions withEngine(final Engine engine) {
+        return new ValidatorOptions(
+                engine,
+                bundle,
+                tierUpThreshold,
+                resultCache,
+                linearTimePatterns,
+                customTemporalFormats);
+    }
+
+    /**
+     * @param bundle the schemas that schemas may reference.
+     * @return new options with the supplied {@code bundle}.
+     */
+    public ValidatorOptions withBundle(final SchemaBundle bundle) {
+        return new ValidatorOptions(
+                engine,
+                bundle,
+                tierUpThreshold,
+                resultCache,
+                linearTimePatterns,
+                customTemporalFormats);
+    }
+
+    /**
+     * @param threshold the number of uses after which a {@link Engine#TIERED tiered} validator
+     *     switches to the native engine.
+     * @return new options with the supplied {@code threshold}.
+     * @throws IllegalArgumentException if {@code threshold} is not positive.
+     */
+    public ValidatorOptions withTierUpThreshold(final int threshold) {
+        return new ValidatorOptions(
+                engine,
+                bundle,
+                threshold,
+                resultCache,
+                linearTimePatterns,
+                customTemporalFormats);
+    }
+
+    /**
+     * @param cache the cache validators store their outcomes in, so that validating an identical
+     *     payload again is answered from the cache.
+     * @return new options with the supplied {@code cache}.
+     */
+    public ValidatorOptions withResultCache(final ValidationResultCache cache) {
+        return new ValidatorOptions(
+                engine,
+                bundle,
+                tierUpThreshold,
+                requireNonNull(cache, "cache"),
+                linearTimePatterns,
+                customTemporalFormats);
+    }
+
+    /**
+     * Enable or disable linear-time matching of the regexes of {@code pattern} and {@code
+     * patternProperties} keywords.
+     *
+     * <p>{@code java.util.regex} backtracks, so some regexes, e.g. {@code ^(a+)+$}, take time
+     * exponential in the length of the input to reject it, letting a hostile payload stall a
+     * service. When enabled, regexes are instead matched by deterministic automata, built lazily
+     * as inputs need them, whose matching time is linear in the length of the input. Regexes
+     * needing backtracking features, e.g. back references, lookbehinds or word boundaries, and
+     * regexes too large to compile, e.g. {@code a{1000}{1000}}, still use {@code
+     * java.util.regex}, and are recorded by a {@code
+     * org.creekservice.json.schema.validator.RegexFallback} JFR event.
+     *
+     * <p>Applies to all engines. Which values match is unchanged. Disabled by default.
+     *
+     * @param enabled whether to match patterns in linear time.
+     * @return new options with linear-time pattern matching enabled or disabled.
+     */
+    public ValidatorOptions withLinearTimePatterns(final boolean enabled) {
+        return new ValidatorOptions(
+                engine, bundle, tierUpThreshold, resultCache, enabled, customTemporalFormats);
+    }
+
+    /**
+     * Enable or disable assertion of the custom temporal formats the schema generator can
+     * describe local temporal types with: {@code local-time}, {@code local-date-time}, {@code
+     * month-day}, {@code year-month} and {@code period}.
+     *
+     * <p>When disabled, these formats are unknown, so, as for any unknown format, are only
+     * annotations. When enabled, each accepts the same strings as the pattern the generator would
+     * otherwise emit. The native engine checks each with a single scan of the text. The networknt
+     * engine only knows the standard formats, so is given the equivalent patterns instead.
+     *
+     * <p>Applies to all engines. Disabled by default.
+     *
+     * @param enabled whether to assert the custom temporal formats.
+     * @return new options with the custom temporal formats enabled or disabled.
+     */
+    public ValidatorOptions withCustomTemporalFormats(final boolean enabled) {
+        return new ValidatorOptions(
+                engine, bundle, tierUpThreshold, resultCache, linearTimePatterns, enabled);
+    }
+
+    /**
+     * @return the engine used to validate data.
+     */
+    public Engine engine() {
+        return engine;
+    }
+
+    /**
+     * @return the schemas that schemas may reference.
+     */
+    public SchemaBundle bundle() {
+        return bundle;
+    }
+
+    /**
+     * @return the number of uses after which a {@link Engine#TIERED tiered} validator switches to
+     *     the native engine.
+     */
+    public int tierUpThreshold() {
+        return tierUpThreshold;
+    }
+
+    /**
+     * @return the cache validators store their outcomes in, if any.
+     */
+    public Optional<ValidationResultCache> resultCache() {
+        return Optional.ofNullable(resultCache);
+    }
+
+    /**
+     * @return {@code true} if patterns are matched in linear time, where possible.
+     */
+    public boolean linearTimePatterns() {
+        return linearTimePatterns;
+    }
+
+    /**
+     * @return {@code true} if the custom temporal formats are asserted.
+     */
+    public boolean customTemporalFormats() {
+        return customTemporalFormats;
+    }
+}
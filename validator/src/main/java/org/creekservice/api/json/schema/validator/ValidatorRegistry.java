@@ -0,0 +1,450 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.validator;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import org.creekservice.internal.json.schema.validator.InternalValidator;
+import org.creekservice.internal.json.schema.validator.SchemaCompiler;
+import org.creekservice.internal.json.schema.validator.synth.WarmUp;
+
+/**
+ * A bounded, closeable cache of validators.
+ *
+ * <p>Each registry compiles schemas using its own underlying schema registry, so nothing it loads
+ * is shared with other registries or held in JVM-wide state. Validators are cached by schema
+ * content, up to the registry's capacity. What happens when it is full is set by its {@link
+ * Eviction} policy.
+ *
+ * <p>Multi-tenant services can create a registry per tenant. Closing a tenant's registry releases
+ * all of its schemas in one call, and any validator obtained from it will then refuse to
+ * validate.
+ *
+ * <p>Instances are thread-safe. Looking up a cached validator takes no locks and, with the default
+ * {@link Eviction#CLOCK CLOCK} policy, writes nothing once the validator has been marked as used,
+ * so many threads can share a registry.
+ */
+public final class ValidatorRegistry implements AutoCloseable {
+
+    /** The default maximum number of validators a registry caches. */
+    public static final int DEFAULT_CAPACITY = 1000;
+
+    /** How a full registry makes room for another validator. */
+    public enum Eviction {
+        /**
+         * Approximate least-recently-used with the CLOCK algorithm: each validator is marked when
+         * used, and the oldest validator not marked since the last eviction pass is evicted. Only
+         * the first use after each pass writes the mark. The default.
+         */
+        CLOCK,
+
+        /**
+         * Evict the least-recently-used validator. Every use records its time, so threads sharing
+         * a validator write on every lookup, and eviction scans all cached validators.
+         */
+        LRU,
+
+        /**
+         * Never evict. Once full, getting a validator for a schema not already cached throws
+         * {@link IllegalStateException}, until the registry is cleared. Suits fixed sets of
+         * schemas, and hard per-tenant limits.
+         */
+        NONE
+    }
+
+    private final int capacity;
+    private final Eviction eviction;
+    private final SchemaCompiler compiler;
+    private final Map<SchemaKey, Cached> validators = new ConcurrentHashMap<>();
+    // Validators by schema text, so lookups by String neither encode nor hash the content:
+    private final Map<String, Cached> byText = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    // Cached validators, in CLOCK eviction order, oldest first. Guarded by lock:
+    private final ArrayDeque<Cached> clock = new ArrayDeque<>();
+    private volatile boolean closed;
+
+    private ValidatorRegistry(
+            final int capacity, final ValidatorOptions options, final Eviction eviction) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.eviction = requireNonNull(eviction, "eviction");
+        requireNonNull(options, "options");
+        this.compiler =
+                SchemaCompiler.create(options.bundle().resolver(), options.engine())
+                        .withTierUpThreshold(options.tierUpThreshold())
+                        .withLinearTimePatterns(options.linearTimePatterns())
+                        .withCustomTemporalFormats(options.customTemporalFormats())
+                        .withResultCache(
+                                options.resultCache()
+                                        .map(ValidationResultCache::internal)
+                                        .orElse(null));
+    }
+
+    /**
+     * Create a registry with the {@link #DEFAULT_CAPACITY default capacity} and no bundled
+     * schemas.
+     *
+     * @return the registry.
+     */
+    public static ValidatorRegistry create() {
+        return create(DEFAULT_CAPACITY, SchemaBundle.empty());
+    }
+
+    /**
+     * Create a registry.
+     *
+     * @param capacity the maximum number of validators to cache.
+     * @param bundle the schemas that schemas compiled by the registry may reference.
+     * @return the registry.
+     */
+    public static ValidatorRegistry create(final int capacity, final SchemaBundle bundle) {
+        return create(capacity, ValidatorOptions.defaults().withBundle(bundle));
+    }
+
+    /**
+     * Create a registry.
+     *
+     * @param capacity the maximum number of validators to cache.
+     * @param options the options to create validators with.
+     * @return the registry.
+     */
+    public static ValidatorRegistry create(final int capacity, final ValidatorOptions options) {
+        return create(capacity, options, Eviction.CLOCK);
+    }
+
+    /**
+     * Create a registry.
+     *
+     * @param capacity the maximum number of validators to cache.
+     * @param options the options to create validators with.
+     * @param eviction how to make room for another validator when full.
+     * @return the registry.
+     */
+    public static ValidatorRegistry create(
+            final int capacity, final ValidatorOptions options, final Eviction eviction) {
+        return new ValidatorRegistry(capacity, options, eviction);
+    }
+
+    /**
+     * Get or create a validator for a YAML or JSON schema string.
+     *
+     * @param schema the schema content.
+     * @return the validator, bound to this registry.
+     * @throws SchemaValidationException if the schema cannot be parsed or resolved.
+     * @throws IllegalStateException if the registry is closed.
+     */
+    public JsonSchemaValidator validator(final String schema) {
+        throwIfClosed();
+
+        // String caches its hash, so a hit allocates nothing and reads the content once:
+        final Cached existing = byText.get(schema);
+        if (existing != null) {
+            return use(existing);
+        }
+
+        return validator(
+                new SchemaKey(schema.getBytes(StandardCharsets.UTF_8)),
+                schema,
+                schema,
+                compiler::compile);
+    }
+
+    /**
+     * Get or create a validator for a YAML, JSON, Smile or CBOR schema document.
+     *
+     * @param schema the schema content. Textual formats must be UTF-8 encoded.
+     * @return the validator, bound to this registry.
+     * @throws SchemaValidationException if the schema cannot be parsed or resolved.
+     * @throws IllegalStateException if the registry is closed.
+     */
+    public JsonSchemaValidator validator(final byte[] schema) {
+        return validator(new SchemaKey(schema), null, schema, compiler::compile);
+    }
+
+    /**
+     * Warm up every cached validator, as by {@link JsonSchemaValidator#warmUp}.
+     *
+     * <p>Call during application startup, once the schemas the application uses have been loaded.
+     * Validators are warmed up in the order they were cached, sharing the {@code timeLimit}, so
+     * validators cached last may not be warmed up if it is too short.
+     *
+     * @param validationsPerSchema the number of payloads to validate against each schema.
+     * @param timeLimit the maximum time to spend, in total.
+     * @return the number of payloads validated, in total.
+     * @throws IllegalArgumentException if {@code validationsPerSchema} or {@code timeLimit} is
+     *     negative.
+     * @throws IllegalStateException if the registry is closed.
+     */
+    public int warmUp(final int validationsPerSchema, final Duration timeLimit) {
+        if (validationsPerSchema < 0) {
+            throw new IllegalArgumentException(
+                    "validationsPerSchema must not be negative: " + validationsPerSchema);
+        }
+        final long deadline = WarmUp.deadline(timeLimit);
+
+        final List<JsonSchemaValidator> cached;
+        lock.lock();
+        try {
+            throwIfClosed();
+            cached = new ArrayList<>(clock.size());
+            clock.forEach(c -> cached.add(c.validator));
+        } finally {
+            lock.unlock();
+        }
+
+        int total = 0;
+        for (final JsonSchemaValidator validator : cached) {
+            total += validator.warmUp(validationsPerSchema, deadline);
+        }
+        return total;
+    }
+
+    /**
+     * @return the maximum number of validators the registry caches.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * @return how the registry makes room for another validator when full.
+     */
+    public Eviction eviction() {
+        return eviction;
+    }
+
+    /**
+     * @return the number of validators currently cached.
+     */
+    public int size() {
+        return validators.size();
+    }
+
+    /**
+     * Remove all cached validators.
+     *
+     * <p>Validators already obtained from the registry remain usable.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            validators.clear();
+            byText.clear();
+            clock.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return {@code true} once the registry has been closed.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * Close the registry, releasing all its schemas.
+     *
+     * <p>Any validator obtained from the registry will throw {@link IllegalStateException} if
+     * used after the registry is closed. Closing an already closed registry has no effect.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        clear();
+    }
+
+    void throwIfClosed() {
+        if (closed) {
+            throw new IllegalStateException("Validator registry is closed");
+        }
+    }
+
+    /**
+     * @param text the schema as text, or {@code null} if supplied as bytes.
+     */
+    private <T> JsonSchemaValidator validator(
+            final SchemaKey key,
+            final String text,
+            final T schema,
+            final Function<T, InternalValidator> compile) {
+        throwIfClosed();
+
+        final Cached existing = validators.get(key);
+        if (existing != null) {
+            if (text != null && existing.text == null) {
+                alias(existing, text);
+            }
+            return use(existing);
+        }
+
+        // Compile outside the lock, so slow compilations do not block other callers:
+        final JsonSchemaValidator compiled =
+                new JsonSchemaValidator(compile.apply(schema), this);
+
+        lock.lock();
+        try {
+            throwIfClosed();
+            final Cached raced = validators.get(key);
+            if (raced != null) {
+                if (text != null && raced.text == null) {
+                    addText(raced, text);
+                }
+                return use(raced);
+            }
+            while (validators.size() >= capacity) {
+                evict();
+            }
+            // Copy the content, as the caller may modify their array once this returns:
+            final Cached cached = new Cached(key.copy(), compiled);
+            validators.put(cached.key, cached);
+            if (text != null) {
+                addText(cached, text);
+            }
+            clock.addLast(cached);
+            return compiled;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private JsonSchemaValidator use(final Cached cached) {
+        if (eviction == Eviction.LRU) {
+            cached.lastUsed = System.nanoTime();
+        } else if (!cached.used) {
+            // Only write when the mark changes, so threads sharing a validator do not contend:
+            cached.used = true;
+        }
+        return cached.validator;
+    }
+
+    /** Index a validator first cached from bytes by its text, once it is looked up by text. */
+    private void alias(final Cached cached, final String text) {
+        lock.lock();
+        try {
+            // Only if not evicted meanwhile, as eviction would not then remove the text:
+            if (cached.text == null && validators.get(cached.key) == cached) {
+                addText(cached, text);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /** Requires the lock. */
+    private void addText(final Cached cached, final String text) {
+        cached.text = text;
+        byText.put(text, cached);
+    }
+
+    /** Requires the lock. */
+    private void evict() {
+        switch (eviction) {
+            case NONE:
+                throw new IllegalStateException(
+                        "Validator registry is full, and does not evict. Capacity: " + capacity);
+            case LRU:
+                Cached oldest = clock.getFirst();
+                for (final Cached cached : clock) {
+                    if (cached.lastUsed - oldest.lastUsed < 0) {
+                        oldest = cached;
+                    }
+                }
+                clock.remove(oldest);
+                remove(oldest);
+                return;
+            default:
+                evictClock();
+        }
+    }
+
+    private void evictClock() {
+        while (true) {
+            final Cached oldest = clock.removeFirst();
+            if (oldest.used) {
+                // Second chance: unmark and move to the back of the queue:
+                oldest.used = false;
+                clock.addLast(oldest);
+            } else {
+                remove(oldest);
+                return;
+            }
+        }
+    }
+
+    private void remove(final Cached cached) {
+        validators.remove(cached.key);
+        if (cached.text != null) {
+            byText.remove(cached.text);
+        }
+    }
+
+    /** Schema content, compared by value. */
+    private static final class SchemaKey {
+
+        private final byte[] content;
+        private final int hash;
+
+        SchemaKey(final byte[] content) {
+            this.content = content;
+            this.hash = Arrays.hashCode(content);
+        }
+
+        SchemaKey copy() {
+            return new SchemaKey(content.clone());
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof SchemaKey && Arrays.equals(content, ((SchemaKey) o).content);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    private static final class Cached {
+
+        final SchemaKey key;
+        final JsonSchemaValidator validator;
+        volatile boolean used;
+        // When last used, by System.nanoTime, for LRU eviction:
+        volatile long lastUsed = System.nanoTime();
+        // The schema text, once looked up by text. Written under lock:
+        volatile String text;
+
+        Cached(final SchemaKey key, final JsonSchemaValidator validator) {
+            this.key = key;
+            this.validator = validator;
+        }
+    }
+}
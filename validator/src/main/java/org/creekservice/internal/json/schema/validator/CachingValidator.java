@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Validator that answers repeated validations of the same payload from a {@link ResultCache}.
+ *
+ * <p>Cache hits skip the wrapped validator entirely, so emit no validate events.
+ */
+final class CachingValidator implements InternalValidator {
+
+    private final InternalValidator delegate;
+    private final String fingerprint;
+    private final ResultCache cache;
+
+    /**
+     * @param delegate the validator to use on a cache miss.
+     * @param fingerprint identifies the schema, and anything else affecting the outcome, in the
+     *     cache.
+     * @param cache the cache.
+     */
+    CachingValidator(
+            final InternalValidator delegate, final String fingerprint, final ResultCache cache) {
+        this.delegate = requireNonNull(delegate, "delegate");
+        this.fingerprint = requireNonNull(fingerprint, "fingerprint");
+        this.cache = requireNonNull(cache, "cache");
+    }
+
+    @Override
+    public String schemaId() {
+        return delegate.schemaId();
+    }
+
+    @Override
+    public JsonNode schema() {
+        return delegate.schema();
+    }
+
+    @Override
+    public void validate(final Map<String, ?> objectProperties) {
+        cache.validate(fingerprint, objectProperties, delegate);
+    }
+}
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator;
+
+import java.util.Map;
+import org.creekservice.api.json.schema.validator.SchemaValidationException;
+import tools.jackson.databind.JsonNode;
+
+/** A compiled schema, as produced by one of the validation engines. */
+public interface InternalValidator {
+
+    /**
+     * @return the schema's {@code $id}, or failing that its {@code title}, used to identify the
+     *     schema in diagnostics.
+     */
+    String schemaId();
+
+    /**
+     * @return the schema the validator was compiled from, with external references resolved.
+     */
+    JsonNode schema();
+
+    /**
+     * Validate the supplied object properties against the schema.
+     *
+     * @param objectProperties the object's properties to validate.
+     * @throws SchemaValidationException if validation fails.
+     */
+    void validate(Map<String, ?> objectProperties);
+}
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.BigIntegerNode;
+import tools.jackson.databind.node.BooleanNode;
+import tools.jackson.databind.node.DecimalNode;
+import tools.jackson.databind.node.DoubleNode;
+import tools.jackson.databind.node.FloatNode;
+import tools.jackson.databind.node.IntNode;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.LongNode;
+import tools.jackson.databind.node.NullNode;
+import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.databind.node.StringNode;
+
+/**
+ * Read-only {@link JsonNode} views over the {@code Map}, {@code List} and scalar object graphs
+ * produced by Jackson deserialisation.
+ *
+ * <p>Unlike {@code ObjectMapper.valueToTree}, which serialises the whole graph into a newly
+ * allocated tree, a view wraps the existing objects and only creates nodes for the values that
+ * are actually accessed, as they are accessed. Validation typically touches each value once, so
+ * the input costs little more than one small node per value visited.
+ *
+ * <p>Values of any other type, e.g. POJOs, enums or maps with non-string keys, fall back to
+ * {@code valueToTree} for that value only.
+ *
+ * <p>Views reflect the current state of the wrapped graph, which must not be modified while the
+ * view is in use. Attempting to modify a view throws {@link UnsupportedOperationException}.
+ */
+public final class JsonNodeViews {
+
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+    private static final JsonNodeFactory NODE_FACTORY = JsonNodeFactory.instance;
+
+    private JsonNodeViews() {}
+
+    /**
+     * Create a read-only view over an object's properties.
+     *
+     * @param objectProperties the properties.
+     * @return the view.
+     */
+    public static JsonNode view(final Map<String, ?> objectProperties) {
+        return new ObjectNode(NODE_FACTORY, new MapView(objectProperties));
+    }
+
+    /**
+     * Convert a single value to a node, wrapping rather than copying maps and lists.
+     *
+     * @param value the value.
+     * @return the node.
+     */
+    @SuppressWarnings("unchecked")
+    static JsonNode node(final Object value) {
+        if (value == null) {
+            return NullNode.getInstance();
+        }
+        if (value instanceof String) {
+            return StringNode.valueOf((String) value);
+        }
+        if (value instanceof Boolean) {
+            return BooleanNode.valueOf((Boolean) value);
+        }
+        if (value instanceof Integer) {
+            return IntNode.valueOf((Integer) value);
+        }
+        if (value instanceof Long) {
+            return LongNode.valueOf((Long) value);
+        }
+        if (value instanceof Double) {
+            return DoubleNode.valueOf((Double) value);
+        }
+        if (value instanceof Map && hasStringKeys((Map<?, ?>) value)) {
+            return new ObjectNode(NODE_FACTORY, new MapView((Map<String, ?>) value));
+        }
+        if (value instanceof List) {
+            return new ArrayNode(NODE_FACTORY, new ListView((List<?>) value));
+        }
+        if (value instanceof JsonNode) {
+            return (JsonNode) value;
+        }
+        if (value instanceof Short || value instanceof Byte) {
+            return IntNode.valueOf(((Number) value).intValue());
+        }
+        if (value instanceof Float) {
+            return FloatNode.valueOf((Float) value);
+        }
+        if (value instanceof BigDecimal) {
+            return DecimalNode.valueOf((BigDecimal) value);
+        }
+        if (value instanceof BigInteger) {
+            return BigIntegerNode.valueOf((BigInteger) value);
+        }
+        return JSON_MAPPER.valueToTree(value);
+    }
+
+    private static boolean hasStringKeys(final Map<?, ?> map) {
+        for (final Object key : map.keySet()) {
+            if (!(key instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static final class MapView extends AbstractMap<String, JsonNode> {
+
+        private final Map<String, ?> map;
+
+        MapView(final Map<String, ?> map) {
+            this.map = map;
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public boolean containsKey(final Object key) {
+            return map.containsKey(key);
+        }
+
+        @Override
+        public JsonNode get(final Object key) {
+            // Distinguish a missing property from a property with a null value:
+            final Object value = map.get(key);
+            return value != null || map.containsKey(key) ? node(value) : null;
+        }
+
+        @Override
+        public Set<Entry<String, JsonNode>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return map.size();
+                }
+
+                @Override
+                public Iterator<Entry<String, JsonNode>> iterator() {
+                    final Iterator<? extends Entry<String, ?>> it = map.entrySet().iterator();
+                    return new Iterator<>() {
+                        @Override
+                        public boolean hasNext() {
+                            return it.hasNext();
+                        }
+
+                        @Override
+                        public Entry<String, JsonNode> next() {
+                            final Entry<String, ?> e = it.next();
+                            return new SimpleImmutableEntry<>(e.getKey(), node(e.getValue()));
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    private static final class ListView extends AbstractList<JsonNode> {
+
+        private final List<?> list;
+
+        ListView(final List<?> list) {
+            this.list = list;
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public JsonNode get(final int index) {
+            return node(list.get(index));
+        }
+    }
+}
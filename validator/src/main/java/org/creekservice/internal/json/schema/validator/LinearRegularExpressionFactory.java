@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator;
+
+import com.networknt.schema.regex.RegularExpression;
+import com.networknt.schema.regex.RegularExpressionFactory;
+import org.creekservice.internal.json.schema.validator.regex.LinearMatcher;
+import org.creekservice.internal.json.schema.validator.regex.RegexMatcher;
+
+/**
+ * A networknt {@link RegularExpressionFactory} that matches regexes with a {@link LinearMatcher}
+ * where possible, falling back to {@link java.util.regex.Pattern} where not.
+ */
+final class LinearRegularExpressionFactory implements RegularExpressionFactory {
+
+    static final LinearRegularExpressionFactory INSTANCE = new LinearRegularExpressionFactory();
+
+    private LinearRegularExpressionFactory() {}
+
+    @Override
+    public RegularExpression getRegularExpression(final String regex) {
+        return RegexMatcher.compile(regex, true)::find;
+    }
+}
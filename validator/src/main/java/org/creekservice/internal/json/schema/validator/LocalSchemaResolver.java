@@ -0,0 +1,263 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator;
+
+import static java.util.Objects.requireNonNull;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.creekservice.api.json.schema.validator.SchemaValidationException;
+import org.creekservice.internal.json.schema.validator.engine.SharedSchemas;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Resolves a schema's external {@code $ref}s from a fixed set of local schemas, never the network.
+ *
+ * <p>Referenced schemas are embedded in the root schema's {@code $defs}, with their {@code $id}
+ * set, making the result a self-contained compound schema document. Any {@code $ref} that can not
+ * be resolved locally, and any {@code $schema} other than the meta-schemas bundled with the
+ * validator library, is rejected up front, rather than triggering a remote fetch at compile or
+ * validation time.
+ *
+ * <p>Each local schema is embedded as the same node in every root that references it, so that
+ * the native engine can compile it once, via {@link #shared()}. Resolved schemas must therefore
+ * not be mutated.
+ */
+public final class LocalSchemaResolver {
+
+    /** A resolver with no local schemas: only self-contained schemas can be resolved. */
+    public static final LocalSchemaResolver EMPTY = new LocalSchemaResolver(Map.of());
+
+    /** Meta-schemas bundled with, and so resolved locally by, the underlying validator. */
+    private static final Set<URI> LOCAL_META_SCHEMAS =
+            Set.of(
+                    URI.create("https://json-schema.org/draft/2020-12/schema"),
+                    URI.create("https://json-schema.org/draft/2019-09/schema"),
+                    URI.create("http://json-schema.org/draft-07/schema"),
+                    URI.create("http://json-schema.org/draft-06/schema"),
+                    URI.create("http://json-schema.org/draft-04/schema"));
+
+    /** Keywords whose values are data, not schemas, and so should not be scanned. */
+    private static final Set<String> DATA_KEYWORDS =
+            Set.of("const", "default", "enum", "examples");
+
+    private final Map<URI, JsonNode> schemas;
+    private final Map<URI, Set<URI>> dependencies = new ConcurrentHashMap<>();
+    private final SharedSchemas shared;
+
+    /**
+     * @param schemas the local schemas, keyed by their id.
+     */
+    public LocalSchemaResolver(final Map<String, JsonNode> schemas) {
+        final Map<URI, JsonNode> byId = new LinkedHashMap<>();
+        schemas.forEach(
+                (id, schema) -> {
+                    final URI uri = withoutFragment(parseUri(id));
+                    byId.put(uri, withId(uri, schema));
+                });
+        this.schemas = Map.copyOf(byId);
+        this.shared = new SharedSchemas(this.schemas, this::dependencies);
+    }
+
+    /**
+     * @return the ids of the local schemas.
+     */
+    public Set<URI> ids() {
+        return schemas.keySet();
+    }
+
+    /**
+     * Resolve all external references in the supplied schema.
+     *
+     * @param schema the schema to resolve.
+     * @return {@code schema} if it has no external references, otherwise a copy with all
+     *     referenced schemas embedded.
+     * @throws SchemaValidationException if any reference or meta-schema can not be resolved
+     *     locally.
+     */
+    public JsonNode resolve(final JsonNode schema) {
+        requireNonNull(schema, "schema");
+
+        final Map<URI, JsonNode> embedded = embed(schema, null);
+        if (embedded.isEmpty()) {
+            return schema;
+        }
+
+        final ObjectNode bundled = (ObjectNode) schema.deepCopy();
+        final JsonNode existingDefs = bundled.get("$defs");
+        final ObjectNode defs =
+                existingDefs instanceof ObjectNode
+                        ? (ObjectNode) existingDefs
+                        : bundled.putObject("$defs");
+
+        embedded.forEach((id, found) -> defs.set(id.toString(), found));
+        return bundled;
+    }
+
+    /**
+     * @return the local schemas, shared by every root schema that references them, for the native
+     *     engine to compile once.
+     */
+    public SharedSchemas shared() {
+        return shared;
+    }
+
+    /**
+     * @param schema the schema whose references to resolve.
+     * @param unresolved where to record references that can not be resolved locally, or {@code
+     *     null} to throw on the first.
+     * @return the local schemas referenced, directly or transitively, by id.
+     */
+    private Map<URI, JsonNode> embed(final JsonNode schema, final Set<URI> unresolved) {
+        final Set<URI> available = new HashSet<>();
+        final List<URI> refs = new ArrayList<>();
+        scan(schema, null, available, refs);
+
+        final Map<URI, JsonNode> embedded = new LinkedHashMap<>();
+        // refs grows as each embedded schema is scanned:
+        for (int i = 0; i < refs.size(); i++) {
+            final URI target = refs.get(i);
+            if (available.contains(target)) {
+                continue;
+            }
+
+            final JsonNode found = schemas.get(target);
+            if (found == null || !found.isObject()) {
+                if (unresolved != null) {
+                    unresolved.add(target);
+                    continue;
+                }
+                throw SchemaValidationException.of(
+                        "Unresolvable $ref: "
+                                + target
+                                + ". The schema is not available locally and remote loading is"
+                                + " disabled.");
+            }
+
+            available.add(target);
+            embedded.put(target, found);
+            scan(found, target, available, refs);
+        }
+        return embedded;
+    }
+
+    /**
+     * @param id the id of a local schema.
+     * @return the ids of the schemas it references, directly or transitively, including any not
+     *     available locally, which a root schema must then define.
+     */
+    private Set<URI> dependencies(final URI id) {
+        return dependencies.computeIfAbsent(
+                id,
+                k -> {
+                    final JsonNode schema = schemas.get(k);
+                    if (schema == null) {
+                        return Set.of();
+                    }
+                    final Set<URI> unresolved = new HashSet<>();
+                    final Set<URI> ids = new HashSet<>(embed(schema, unresolved).keySet());
+                    ids.addAll(unresolved);
+                    ids.remove(k);
+                    return Set.copyOf(ids);
+                });
+    }
+
+    private static JsonNode withId(final URI id, final JsonNode schema) {
+        if (!schema.isObject() || schema.has("$id")) {
+            return schema;
+        }
+        final ObjectNode copy = (ObjectNode) schema.deepCopy();
+        copy.put("$id", id.toString());
+        return copy;
+    }
+
+    private static void scan(
+            final JsonNode node, final URI base, final Set<URI> available, final List<URI> refs) {
+        if (node.isArray()) {
+            for (final JsonNode child : node) {
+                scan(child, base, available, refs);
+            }
+            return;
+        }
+
+        if (!node.isObject()) {
+            return;
+        }
+
+        URI currentBase = base;
+        final JsonNode id = node.get("$id");
+        if (id != null && id.isString()) {
+            currentBase = withoutFragment(resolve(base, id.asString()));
+            available.add(currentBase);
+        }
+
+        final JsonNode metaSchema = node.get("$schema");
+        if (metaSchema != null && metaSchema.isString()) {
+            final URI uri = withoutFragment(parseUri(metaSchema.asString()));
+            if (!LOCAL_META_SCHEMAS.contains(uri)) {
+                throw SchemaValidationException.of(
+                        "Unsupported $schema: "
+                                + uri
+                                + ". Only locally bundled meta-schemas are supported: "
+                                + LOCAL_META_SCHEMAS);
+            }
+        }
+
+        final JsonNode ref = node.get("$ref");
+        if (ref != null && ref.isString() && !ref.asString().startsWith("#")) {
+            refs.add(withoutFragment(resolve(currentBase, ref.asString())));
+        }
+
+        for (final Map.Entry<String, JsonNode> e : node.properties()) {
+            if (!DATA_KEYWORDS.contains(e.getKey())) {
+                scan(e.getValue(), currentBase, available, refs);
+            }
+        }
+    }
+
+    private static URI resolve(final URI base, final String ref) {
+        final URI uri = parseUri(ref);
+        return base == null || base.isOpaque() ? uri : base.resolve(uri);
+    }
+
+    private static URI parseUri(final String uri) {
+        try {
+            return new URI(uri);
+        } catch (final URISyntaxException e) {
+            throw SchemaValidationException.of("Invalid schema URI: " + uri, e);
+        }
+    }
+
+    private static URI withoutFragment(final URI uri) {
+        if (uri.getFragment() == null) {
+            return uri;
+        }
+        try {
+            return new URI(uri.getScheme(), uri.getSchemeSpecificPart(), null);
+        } catch (final URISyntaxException e) {
+            throw SchemaValidationException.of("Invalid schema URI: " + uri, e);
+        }
+    }
+}
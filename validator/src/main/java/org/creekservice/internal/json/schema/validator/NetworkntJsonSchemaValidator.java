@@ -16,69 +16,66 @@
 
 package org.creekservice.internal.json.schema.validator;
 
+import static java.util.Objects.requireNonNull;
+
 import com.networknt.schema.Error;
-import com.networknt.schema.InputFormat;
 import com.networknt.schema.Schema;
-import com.networknt.schema.SchemaRegistry;
-import com.networknt.schema.SchemaRegistryConfig;
-import com.networknt.schema.SpecificationVersion;
-import java.io.ByteArrayInputStream;
-import java.io.InputStream;
-import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import org.creekservice.api.json.schema.validator.SchemaValidationException;
+import org.creekservice.internal.json.schema.validator.jfr.ValidateEvent;
 import tools.jackson.databind.JsonNode;
-import tools.jackson.databind.json.JsonMapper;
 
 /** Internal networknt-based implementation of JSON schema validation. */
-public final class NetworkntJsonSchemaValidator {
+public final class NetworkntJsonSchemaValidator implements InternalValidator {
 
-    private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+    static final String UNKNOWN_SCHEMA_ID = "<unknown>";
 
-    private static final SchemaRegistry REGISTRY =
-            SchemaRegistry.withDefaultDialect(
-                    SpecificationVersion.DRAFT_2020_12,
-                    b ->
-                            b.schemaRegistryConfig(
-                                    SchemaRegistryConfig.builder()
-                                            .formatAssertionsEnabled(true)
-                                            .strict("duration", false)
-                                            .build()));
+    private static final String WARM_UP_SCHEMA =
+            "{\"$schema\":\"https://json-schema.org/draft/2020-12/schema\",\"type\":\"object\"}";
 
     private final Schema schema;
+    private final String schemaId;
 
-    private NetworkntJsonSchemaValidator(final Schema schema) {
-        this.schema = schema;
+    NetworkntJsonSchemaValidator(final Schema schema) {
+        this.schema = requireNonNull(schema, "schema");
+        this.schemaId = schemaId(schema.getSchemaNode());
     }
 
     /**
-     * Create a validator from a YAML or JSON schema string.
-     *
-     * @param schemaContent the schema content.
-     * @return a new validator instance.
-     * @throws SchemaValidationException if the schema cannot be parsed.
+     * Eagerly load the meta-schemas and validator machinery, so that the first schema compiled by
+     * the application does not pay the one-off initialisation cost.
      */
-    public static NetworkntJsonSchemaValidator fromSchema(final String schemaContent) {
-        try {
-            final InputStream inputStream =
-                    new ByteArrayInputStream(schemaContent.getBytes(StandardCharsets.UTF_8));
-            return new NetworkntJsonSchemaValidator(
-                    REGISTRY.getSchema(inputStream, InputFormat.YAML));
-        } catch (final Exception e) {
-            throw SchemaValidationException.of("Failed to parse schema", e);
-        }
+    public static void prewarm() {
+        SchemaCompiler.shared(LocalSchemaResolver.EMPTY).compile(WARM_UP_SCHEMA).validate(Map.of());
     }
 
-    /**
-     * Validate the supplied object properties against the schema.
-     *
-     * @param objectProperties the object's properties to validate.
-     * @throws SchemaValidationException if validation fails.
-     */
+    @Override
+    public String schemaId() {
+        return schemaId;
+    }
+
+    @Override
+    public JsonNode schema() {
+        return schema.getSchemaNode();
+    }
+
+    @Override
     public void validate(final Map<String, ?> objectProperties) {
-        final List<Error> errors = doValidate(objectProperties);
+        final ValidateEvent event = new ValidateEvent();
+        event.begin();
+        List<Error> errors = null;
+        try {
+            errors = doValidate(objectProperties);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.set(schemaId, errors == null ? 0 : errors.size(), errors != null);
+                event.commit();
+            }
+        }
+
         if (!errors.isEmpty()) {
             final String errorMsg =
                     errors.stream().map(Error::getMessage).collect(Collectors.joining(", "));
@@ -88,10 +85,27 @@ public final class NetworkntJsonSchemaValidator {
 
     private List<Error> doValidate(final Map<String, ?> objectProperties) {
         try {
-            final JsonNode node = JSON_MAPPER.valueToTree(objectProperties);
+            final JsonNode node = JsonNodeViews.view(objectProperties);
             return schema.validate(node);
         } catch (final Exception e) {
             throw SchemaValidationException.of("Validation error", e);
         }
     }
+
+    /**
+     * @param schemaNode the schema.
+     * @return the id used to identify the schema in diagnostics: its {@code $id}, else its {@code
+     *     title}, else {@value #UNKNOWN_SCHEMA_ID}.
+     */
+    public static String schemaId(final JsonNode schemaNode) {
+        final JsonNode id = schemaNode.get("$id");
+        if (id != null && id.isString()) {
+            return id.asString();
+        }
+        final JsonNode title = schemaNode.get("title");
+        if (title != null && title.isString()) {
+            return title.asString();
+        }
+        return UNKNOWN_SCHEMA_ID;
+    }
 }
@@ -0,0 +1,208 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import org.creekservice.api.json.schema.validator.SchemaValidationException;
+
+/**
+ * A bounded cache of validation outcomes, keyed by schema fingerprint and payload.
+ *
+ * <p>The cache is direct-mapped: each key hashes to a single slot, and storing an outcome
+ * replaces whatever the slot held. Lookups and stores are lock-free, so one cache can be shared by
+ * many validators and threads.
+ *
+ * <p>Slots are found by hash alone, so a hit is only used once the payload has been compared with
+ * the copy stored alongside the outcome. Only payloads built entirely from immutable JSON values,
+ * i.e. strings, numbers, booleans, nulls, maps and lists, are stored.
+ */
+public final class ResultCache {
+
+    private static final Set<Class<?>> IMMUTABLE_SCALARS =
+            Set.of(
+                    String.class,
+                    Boolean.class,
+                    Integer.class,
+                    Long.class,
+                    Short.class,
+                    Byte.class,
+                    Double.class,
+                    Float.class,
+                    BigInteger.class,
+                    BigDecimal.class);
+
+    /** Returned by {@link #copy} for values that can not safely be stored. */
+    private static final Object UNCACHEABLE = new Object();
+
+    private final AtomicReferenceArray<Entry> slots;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder collisions = new LongAdder();
+
+    /**
+     * @param maxEntries the maximum number of outcomes to store.
+     */
+    public ResultCache(final int maxEntries) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries must be positive: " + maxEntries);
+        }
+        this.slots = new AtomicReferenceArray<>(maxEntries);
+    }
+
+    /**
+     * Validate the supplied {@code payload}, reusing the outcome of an earlier validation of an
+     * equal payload against the schema with the same {@code fingerprint}.
+     *
+     * @param fingerprint the fingerprint of the schema {@code validator} validates against.
+     * @param payload the object properties to validate.
+     * @param validator the validator to use if the outcome is not cached.
+     * @throws SchemaValidationException if validation fails.
+     */
+    void validate(
+            final String fingerprint,
+            final Map<String, ?> payload,
+            final InternalValidator validator) {
+        final int hash = payload.hashCode();
+        final int index = index(fingerprint, hash);
+        final Entry cached = slots.get(index);
+        if (cached != null && cached.hash() == hash && cached.fingerprint().equals(fingerprint)) {
+            if (cached.payload().equals(payload)) {
+                hits.increment();
+                if (cached.error() != null) {
+                    // A new instance, as exceptions are mutable, e.g. their suppressed list:
+                    throw SchemaValidationException.of(
+                            cached.error().getMessage(), cached.error().getCause());
+                }
+                return;
+            }
+            collisions.increment();
+        }
+
+        misses.increment();
+        try {
+            validator.validate(payload);
+        } catch (final SchemaValidationException e) {
+            store(index, fingerprint, hash, payload, e);
+            throw e;
+        }
+        store(index, fingerprint, hash, payload, null);
+    }
+
+    /**
+     * @return the maximum number of outcomes the cache stores.
+     */
+    public int maxEntries() {
+        return slots.length();
+    }
+
+    /**
+     * @return the number of validations answered from the cache.
+     */
+    public long hits() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of validations not answered from the cache.
+     */
+    public long misses() {
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of misses where a stored payload had the same hash, but was not equal.
+     */
+    public long collisions() {
+        return collisions.sum();
+    }
+
+    private void store(
+            final int index,
+            final String fingerprint,
+            final int hash,
+            final Map<String, ?> payload,
+            final SchemaValidationException error) {
+        final Object copy = copy(payload);
+        if (copy != UNCACHEABLE) {
+            @SuppressWarnings("unchecked")
+            final Map<String, ?> stored = (Map<String, ?>) copy;
+            slots.set(index, new Entry(fingerprint, hash, stored, error));
+        }
+    }
+
+    private int index(final String fingerprint, final int hash) {
+        final int h = 31 * fingerprint.hashCode() + hash;
+        return Math.floorMod(h ^ (h >>> 16), slots.length());
+    }
+
+    /**
+     * @param value the value to copy.
+     * @return an immutable deep copy of the value, or {@link #UNCACHEABLE} if it contains anything
+     *     other than immutable JSON values.
+     */
+    private static Object copy(final Object value) {
+        if (value == null || IMMUTABLE_SCALARS.contains(value.getClass())) {
+            return value;
+        }
+        if (value instanceof Map) {
+            final Map<String, Object> copy = new LinkedHashMap<>();
+            for (final Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+                final Object element = copy(e.getValue());
+                if (!(e.getKey() instanceof String) || element == UNCACHEABLE) {
+                    return UNCACHEABLE;
+                }
+                copy.put((String) e.getKey(), element);
+            }
+            return Collections.unmodifiableMap(copy);
+        }
+        if (value instanceof List) {
+            final List<Object> copy = new ArrayList<>(((List<?>) value).size());
+            for (final Object e : (List<?>) value) {
+                final Object element = copy(e);
+                if (element == UNCACHEABLE) {
+                    return UNCACHEABLE;
+                }
+                copy.add(element);
+            }
+            return Collections.unmodifiableList(copy);
+        }
+        return UNCACHEABLE;
+    }
+
+    /**
+     * A stored outcome.
+     *
+     * @param fingerprint the schema fingerprint.
+     * @param hash the payload's hash code.
+     * @param payload an immutable copy of the payload.
+     * @param error the validation failure, or {@code null} if the payload was valid.
+     */
+    private record Entry(
+            String fingerprint,
+            int hash,
+            Map<String, ?> payload,
+            SchemaValidationException error) {}
+}
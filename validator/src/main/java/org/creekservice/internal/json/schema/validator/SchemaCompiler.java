@@ -0,0 +1,374 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator;
+
+import static java.util.Objects.requireNonNull;
+import static org.creekservice.internal.json.schema.validator.NetworkntJsonSchemaValidator.UNKNOWN_SCHEMA_ID;
+import static org.creekservice.internal.json.schema.validator.NetworkntJsonSchemaValidator.schemaId;
+
+import com.networknt.schema.Schema;
+import com.networknt.schema.SchemaRegistry;
+import com.networknt.schema.SchemaRegistryConfig;
+import com.networknt.schema.SpecificationVersion;
+import org.creekservice.api.json.schema.validator.SchemaValidationException;
+import org.creekservice.api.json.schema.validator.ValidatorOptions;
+import org.creekservice.api.json.schema.validator.ValidatorOptions.Engine;
+import org.creekservice.internal.json.schema.validator.engine.NativeSchemaCompiler;
+import org.creekservice.internal.json.schema.validator.format.TemporalFormatPatterns;
+import org.creekservice.internal.json.schema.validator.jfr.CompileSchemaEvent;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Compiles schemas into validators, using a specific engine, networknt registry and local
+ * resolver.
+ *
+ * <p>The networknt registry caches meta-schemas and other resources it loads. Compilers created
+ * via {@link #create} own their registry, so that those resources are released along with the
+ * compiler, rather than accumulating in a JVM-wide static.
+ *
+ * <p>Networknt registries fix their regex implementation, so compilers with linear-time patterns
+ * enabled use a registry configured to match. Shared compilers share one such registry, created
+ * on first use. Networknt only knows the standard formats, so compilers with custom temporal
+ * formats enabled give it schemas with the {@link TemporalFormatPatterns equivalent patterns}
+ * added.
+ *
+ * <p>The native engine compiles each local schema of the resolver once, and shares the result
+ * between all the schemas referencing it. Networknt compiles referenced schemas as part of each
+ * referencing schema.
+ */
+public final class SchemaCompiler {
+
+    private static final SchemaRegistry SHARED_REGISTRY = newRegistry(false);
+    private static final ObjectMapper JSON_MAPPER = JsonMapper.builder().build();
+
+    private final SchemaRegistry registry;
+    private final LocalSchemaResolver resolver;
+    private final Engine engine;
+    private final int tierUpThreshold;
+    private final ResultCache resultCache;
+    private final boolean linearTimePatterns;
+    private final boolean customTemporalFormats;
+
+    private SchemaCompiler(
+            final SchemaRegistry registry,
+            final LocalSchemaResolver resolver,
+            final Engine engine,
+            final int tierUpThreshold,
+            final ResultCache resultCache,
+            final boolean linearTimePatterns,
+            final boolean customTemporalFormats) {
+        this.registry = requireNonNull(registry, "registry");
+        this.resolver = requireNonNull(resolver, "resolver");
+        this.engine = requireNonNull(engine, "engine");
+        this.tierUpThreshold = tierUpThreshold;
+        this.resultCache = resultCache;
+        this.linearTimePatterns = linearTimePatterns;
+        this.customTemporalFormats = customTemporalFormats;
+    }
+
+    /**
+     * Create a networknt compiler with its own networknt registry.
+     *
+     * @param resolver the resolver for external references.
+     * @return the compiler.
+     */
+    public static SchemaCompiler create(final LocalSchemaResolver resolver) {
+        return create(resolver, Engine.NETWORKNT);
+    }
+
+    /**
+     * Create a compiler with its own networknt registry.
+     *
+     * <p>The native engine does not use the registry, so no registry is created for it.
+     *
+     * @param resolver the resolver for external references.
+     * @param engine the engine to compile schemas for.
+     * @return the compiler.
+     */
+    public static SchemaCompiler create(final LocalSchemaResolver resolver, final Engine engine) {
+        final SchemaRegistry registry =
+                engine == Engine.NATIVE ? SHARED_REGISTRY : newRegistry(false);
+        return new SchemaCompiler(
+                registry,
+                resolver,
+                engine,
+                ValidatorOptions.DEFAULT_TIER_UP_THRESHOLD,
+                null,
+                false,
+                false);
+    }
+
+    /**
+     * Create a networknt compiler that uses the JVM-wide shared networknt registry.
+     *
+     * @param resolver the resolver for external references.
+     * @return the compiler.
+     */
+    public static SchemaCompiler shared(final LocalSchemaResolver resolver) {
+        return shared(resolver, Engine.NETWORKNT);
+    }
+
+    /**
+     * Create a compiler that uses the JVM-wide shared networknt registry.
+     *
+     * @param resolver the resolver for external references.
+     * @param engine the engine to compile schemas for.
+     * @return the compiler.
+     */
+    public static SchemaCompiler shared(final LocalSchemaResolver resolver, final Engine engine) {
+        return new SchemaCompiler(
+                SHARED_REGISTRY,
+                resolver,
+                engine,
+                ValidatorOptions.DEFAULT_TIER_UP_THRESHOLD,
+                null,
+                false,
+                false);
+    }
+
+    /**
+     * @param threshold the number of uses after which validators created by a {@link
+     *     Engine#TIERED tiered} compiler switch to the native engine.
+     * @return a copy of this compiler with the supplied {@code threshold}.
+     */
+    public SchemaCompiler withTierUpThreshold(final int threshold) {
+        return new SchemaCompiler(
+                registry,
+                resolver,
+                engine,
+                threshold,
+                resultCache,
+                linearTimePatterns,
+                customTemporalFormats);
+    }
+
+    /**
+     * @param cache the cache validators created by the compiler store their outcomes in, or
+     *     {@code null} for no caching.
+     * @return a copy of this compiler with the supplied {@code cache}.
+     */
+    public SchemaCompiler withResultCache(final ResultCache cache) {
+        return new SchemaCompiler(
+                registry,
+                resolver,
+                engine,
+                tierUpThreshold,
+                cache,
+                linearTimePatterns,
+                customTemporalFormats);
+    }
+
+    /**
+     * @param enabled whether validators created by the compiler match {@code pattern} and {@code
+     *     patternProperties} regexes in time linear in the length of the input, where the regex
+     *     allows.
+     * @return a copy of this compiler with linear-time pattern matching enabled or disabled.
+     */
+    public SchemaCompiler withLinearTimePatterns(final boolean enabled) {
+        return reconfigure(enabled, customTemporalFormats);
+    }
+
+    /**
+     * @param enabled whether validators created by the compiler assert the custom {@link
+     *     org.creekservice.internal.json.schema.validator.format.TemporalFormats temporal
+     *     formats}, rather than treating them as unknown formats.
+     * @return a copy of this compiler with the custom temporal formats enabled or disabled.
+     */
+    public SchemaCompiler withCustomTemporalFormats(final boolean enabled) {
+        return reconfigure(linearTimePatterns, enabled);
+    }
+
+    /**
+     * Compile a YAML or JSON schema string.
+     *
+     * <p>JSON content is detected and parsed with the faster JSON parser.
+     *
+     * @param schemaContent the schema content.
+     * @return a new validator instance.
+     * @throws SchemaValidationException if the schema cannot be parsed or resolved.
+     */
+    public InternalValidator compile(final String schemaContent) {
+        final CompileSchemaEvent event = new CompileSchemaEvent();
+        event.begin();
+        final JsonNode schemaNode;
+        try {
+            schemaNode = SchemaParser.parse(schemaContent);
+        } catch (final Exception e) {
+            commit(event, UNKNOWN_SCHEMA_ID, schemaContent.length(), false);
+            throw SchemaValidationException.of("Failed to parse schema", e);
+        }
+        return compile(schemaNode, event, schemaContent.length());
+    }
+
+    /**
+     * Compile a YAML, JSON, Smile or CBOR schema document.
+     *
+     * <p>The format of the document is detected from its content.
+     *
+     * @param schemaContent the schema content. Textual content must be UTF-8 encoded.
+     * @return a new validator instance.
+     * @throws SchemaValidationException if the schema cannot be parsed or resolved.
+     */
+    public InternalValidator compile(final byte[] schemaContent) {
+        final CompileSchemaEvent event = new CompileSchemaEvent();
+        event.begin();
+        final JsonNode schemaNode;
+        try {
+            schemaNode = SchemaParser.parse(schemaContent);
+        } catch (final Exception e) {
+            commit(event, UNKNOWN_SCHEMA_ID, schemaContent.length, false);
+            throw SchemaValidationException.of("Failed to parse schema", e);
+        }
+        return compile(schemaNode, event, schemaContent.length);
+    }
+
+    /**
+     * Compile a pre-parsed schema.
+     *
+     * @param schemaNode the schema.
+     * @return a new validator instance.
+     * @throws SchemaValidationException if the schema is invalid or cannot be resolved.
+     */
+    public InternalValidator compile(final JsonNode schemaNode) {
+        final CompileSchemaEvent event = new CompileSchemaEvent();
+        event.begin();
+        return compile(requireNonNull(schemaNode, "schemaNode"), event, 0);
+    }
+
+    private InternalValidator compile(
+            final JsonNode schemaNode, final CompileSchemaEvent event, final long schemaSize) {
+        try {
+            final JsonNode resolved = resolver.resolve(schemaNode);
+            final InternalValidator validator = cached(create(resolved), resolved);
+            commit(event, validator.schemaId(), schemaSize, true);
+            return validator;
+        } catch (final SchemaValidationException e) {
+            commit(event, schemaId(schemaNode), schemaSize, false);
+            throw e;
+        } catch (final Exception e) {
+            commit(event, schemaId(schemaNode), schemaSize, false);
+            throw SchemaValidationException.of("Failed to parse schema", e);
+        }
+    }
+
+    private InternalValidator create(final JsonNode resolved) {
+        switch (engine) {
+            case NATIVE:
+                return NativeSchemaCompiler.compile(
+                        resolved,
+                        schemaId(resolved),
+                        linearTimePatterns,
+                        customTemporalFormats,
+                        resolver.shared());
+            case TIERED:
+                return new TieredValidator(
+                        new NetworkntJsonSchemaValidator(networkntSchema(resolved)),
+                        () ->
+                                NativeSchemaCompiler.compile(
+                                        resolved,
+                                        schemaId(resolved),
+                                        linearTimePatterns,
+                                        customTemporalFormats,
+                                        resolver.shared()),
+                        tierUpThreshold);
+            default:
+                return new NetworkntJsonSchemaValidator(networkntSchema(resolved));
+        }
+    }
+
+    private Schema networkntSchema(final JsonNode resolved) {
+        return registry.getSchema(
+                customTemporalFormats ? TemporalFormatPatterns.apply(resolved) : resolved);
+    }
+
+    private InternalValidator cached(final InternalValidator validator, final JsonNode resolved) {
+        if (resultCache == null) {
+            return validator;
+        }
+        // Error messages differ by engine, and outcomes by option, so neither can share outcomes:
+        final String key =
+                engine
+                        + ":"
+                        + configKey(linearTimePatterns, customTemporalFormats)
+                        + ":"
+                        + SchemaSnapshotCodec.hash(JSON_MAPPER.writeValueAsBytes(resolved));
+        return new CachingValidator(validator, key, resultCache);
+    }
+
+    private static void commit(
+            final CompileSchemaEvent event,
+            final String schemaId,
+            final long schemaSize,
+            final boolean succeeded) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.set(schemaId, schemaSize, succeeded);
+            event.commit();
+        }
+    }
+
+    private SchemaCompiler reconfigure(
+            final boolean linearTimePatterns, final boolean customTemporalFormats) {
+        if (linearTimePatterns == this.linearTimePatterns
+                && customTemporalFormats == this.customTemporalFormats) {
+            return this;
+        }
+        return new SchemaCompiler(
+                linearTimePatterns == this.linearTimePatterns
+                        ? registry
+                        : switchRegistry(linearTimePatterns),
+                resolver,
+                engine,
+                tierUpThreshold,
+                resultCache,
+                linearTimePatterns,
+                customTemporalFormats);
+    }
+
+    /** Switch registry, keeping it shared, or owned by this compiler, as before. */
+    private SchemaRegistry switchRegistry(final boolean linearTimePatterns) {
+        final boolean shared = registry == SHARED_REGISTRY || registry == SharedLinear.REGISTRY;
+        if (!shared) {
+            return newRegistry(linearTimePatterns);
+        }
+        return linearTimePatterns ? SharedLinear.REGISTRY : SHARED_REGISTRY;
+    }
+
+    private static int configKey(
+            final boolean linearTimePatterns, final boolean customTemporalFormats) {
+        return (linearTimePatterns ? 1 : 0) | (customTemporalFormats ? 2 : 0);
+    }
+
+    private static SchemaRegistry newRegistry(final boolean linearTimePatterns) {
+        final SchemaRegistryConfig.Builder config =
+                SchemaRegistryConfig.builder()
+                        .formatAssertionsEnabled(true)
+                        .strict("duration", false);
+        if (linearTimePatterns) {
+            config.regularExpressionFactory(LinearRegularExpressionFactory.INSTANCE);
+        }
+        return SchemaRegistry.withDefaultDialect(
+                SpecificationVersion.DRAFT_2020_12, b -> b.schemaRegistryConfig(config.build()));
+    }
+
+    /** Holds the shared linear-time registry, so it is only created if used. */
+    private static final class SharedLinear {
+        static final SchemaRegistry REGISTRY = newRegistry(true);
+    }
+}
@@ -0,0 +1,170 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator;
+
+import java.nio.charset.StandardCharsets;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+import tools.jackson.dataformat.yaml.YAMLMapper;
+
+/**
+ * Parses schema documents, sniffing the content to pick the cheapest parser.
+ *
+ * <p>YAML parsing is many times slower than JSON parsing, so content that is JSON is parsed with
+ * Jackson's JSON parser, even though YAML is a superset of JSON. Binary Smile and CBOR documents
+ * are detected by their leading bytes.
+ */
+public final class SchemaParser {
+
+    /** The leading bytes of any Smile document: {@code :)\n}. */
+    private static final byte[] SMILE_HEADER = {0x3A, 0x29, 0x0A};
+
+    /** The optional CBOR self-describe tag, 55799. */
+    private static final byte[] CBOR_SELF_DESCRIBE = {(byte) 0xD9, (byte) 0xD9, (byte) 0xF7};
+
+    private static final ObjectMapper JSON_MAPPER = JsonMapper.builder().build();
+    private static final ObjectMapper YAML_MAPPER = YAMLMapper.builder().build();
+    private static final ObjectMapper SMILE_MAPPER = SmileMapper.builder().build();
+    private static final ObjectMapper CBOR_MAPPER = CBORMapper.builder().build();
+
+    /** The formats the parser can detect. */
+    enum Format {
+        JSON,
+        YAML,
+        SMILE,
+        CBOR
+    }
+
+    private SchemaParser() {}
+
+    /**
+     * Parse a textual schema document.
+     *
+     * @param content the JSON or YAML content.
+     * @return the parsed schema.
+     */
+    public static JsonNode parse(final String content) {
+        if (sniff(content) == Format.JSON) {
+            try {
+                return JSON_MAPPER.readTree(content);
+            } catch (final JacksonException e) {
+                // Could be a YAML flow mapping, e.g. {a: b}: fall through to YAML parser.
+            }
+        }
+        return YAML_MAPPER.readTree(content);
+    }
+
+    /**
+     * Parse a schema document.
+     *
+     * @param content the JSON, YAML, Smile or CBOR content. Text must be UTF-8 encoded.
+     * @return the parsed schema.
+     */
+    public static JsonNode parse(final byte[] content) {
+        switch (sniff(content)) {
+            case SMILE:
+                return SMILE_MAPPER.readTree(content);
+            case CBOR:
+                return CBOR_MAPPER.readTree(content);
+            case JSON:
+                try {
+                    return JSON_MAPPER.readTree(content);
+                } catch (final JacksonException e) {
+                    // Could be a YAML flow mapping, e.g. {a: b}: fall through to YAML parser.
+                }
+                return YAML_MAPPER.readTree(new String(content, StandardCharsets.UTF_8));
+            case YAML:
+            default:
+                return YAML_MAPPER.readTree(new String(content, StandardCharsets.UTF_8));
+        }
+    }
+
+    static Format sniff(final String content) {
+        final int first = firstSignificant(content);
+        return first == '{' ? Format.JSON : Format.YAML;
+    }
+
+    static Format sniff(final byte[] content) {
+        if (startsWith(content, SMILE_HEADER)) {
+            return Format.SMILE;
+        }
+
+        if (startsWith(content, CBOR_SELF_DESCRIBE) || isCborMap(content)) {
+            return Format.CBOR;
+        }
+
+        final int first = firstSignificant(content);
+        return first == '{' ? Format.JSON : Format.YAML;
+    }
+
+    /**
+     * A schema is a JSON object, and CBOR maps have major type 5, i.e. a leading byte in the
+     * range {@code 0xA0-0xBF}. No valid UTF-8 text starts with a byte in this range.
+     */
+    private static boolean isCborMap(final byte[] content) {
+        return content.length > 0 && (content[0] & 0xE0) == 0xA0;
+    }
+
+    private static boolean startsWith(final byte[] content, final byte[] prefix) {
+        if (content.length < prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (content[i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int firstSignificant(final String content) {
+        for (int i = 0; i < content.length(); i++) {
+            final char c = content.charAt(i);
+            if (!isInsignificant(c)) {
+                return c;
+            }
+        }
+        return -1;
+    }
+
+    private static int firstSignificant(final byte[] content) {
+        // Skip any UTF-8 byte order mark:
+        int i =
+                content.length >= 3
+                                && content[0] == (byte) 0xEF
+                                && content[1] == (byte) 0xBB
+                                && content[2] == (byte) 0xBF
+                        ? 3
+                        : 0;
+
+        for (; i < content.length; i++) {
+            final char c = (char) content[i];
+            if (!isInsignificant(c)) {
+                return c;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isInsignificant(final char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\uFEFF';
+    }
+}
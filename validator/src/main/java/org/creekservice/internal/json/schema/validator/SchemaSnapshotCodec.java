@@ -0,0 +1,196 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator;
+
+import static java.util.Objects.requireNonNull;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.creekservice.api.json.schema.validator.SchemaValidationException;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.node.JsonNodeFactory;
+import tools.jackson.databind.node.ObjectNode;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+/**
+ * Binary encoding of a set of parsed schemas.
+ *
+ * <p>The layout is a four byte magic number, a single byte format version, and then a Smile
+ * document mapping each schema name to the SHA-256 hash of its source and its parsed schema.
+ * Decoding a snapshot written with a different format version fails, so callers can fall back to
+ * rebuilding it from source.
+ */
+public final class SchemaSnapshotCodec {
+
+    /** The current snapshot format version. Bump on any incompatible change to the layout. */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final byte[] MAGIC = {'C', 'K', 'S', 'S'};
+    private static final int HEADER_SIZE = MAGIC.length + 1;
+
+    private static final String HASH_FIELD = "sourceHash";
+    private static final String SCHEMA_FIELD = "schema";
+
+    private static final ObjectMapper SMILE_MAPPER = SmileMapper.builder().build();
+
+    private SchemaSnapshotCodec() {}
+
+    /** A single schema within a snapshot. */
+    @SuppressFBWarnings(
+            value = {"EI_EXPOSE_REP", "EI_EXPOSE_REP2"},
+            justification = "Parsed schemas are never mutated")
+    public static final class Entry {
+
+        private final String sourceHash;
+        private final JsonNode schema;
+
+        /**
+         * @param sourceHash the hash of the schema source, as returned by {@link #hash}.
+         * @param schema the parsed schema.
+         */
+        public Entry(final String sourceHash, final JsonNode schema) {
+            this.sourceHash = requireNonNull(sourceHash, "sourceHash");
+            this.schema = requireNonNull(schema, "schema");
+        }
+
+        /**
+         * Parse a schema source into an entry.
+         *
+         * @param source the schema source, in YAML or JSON format.
+         * @return the entry.
+         * @throws SchemaValidationException if the schema cannot be parsed.
+         */
+        public static Entry parse(final String source) {
+            try {
+                return new Entry(hash(source), SchemaParser.parse(source));
+            } catch (final Exception e) {
+                throw SchemaValidationException.of("Failed to parse schema", e);
+            }
+        }
+
+        /**
+         * @return the hash of the schema source.
+         */
+        public String sourceHash() {
+            return sourceHash;
+        }
+
+        /**
+         * @return the parsed schema.
+         */
+        public JsonNode schema() {
+            return schema;
+        }
+    }
+
+    /**
+     * Compute the hash used to detect stale snapshot entries.
+     *
+     * @param source the schema source.
+     * @return hex encoded SHA-256 of the UTF-8 encoded source.
+     */
+    public static String hash(final String source) {
+        return hash(source.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Compute the hash used to detect stale snapshot entries.
+     *
+     * @param source the schema source.
+     * @return hex encoded SHA-256 of the source.
+     */
+    public static String hash(final byte[] source) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(source));
+        } catch (final NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not supported", e);
+        }
+    }
+
+    /**
+     * Encode schemas into a snapshot.
+     *
+     * @param entries the schemas, keyed by name.
+     * @return the snapshot bytes.
+     */
+    public static byte[] encode(final Map<String, Entry> entries) {
+        final ObjectNode body = JsonNodeFactory.instance.objectNode();
+        entries.forEach(
+                (name, entry) -> {
+                    final ObjectNode node = body.putObject(name);
+                    node.put(HASH_FIELD, entry.sourceHash());
+                    node.set(SCHEMA_FIELD, entry.schema());
+                });
+
+        final byte[] encoded = SMILE_MAPPER.writeValueAsBytes(body);
+        final byte[] snapshot = new byte[HEADER_SIZE + encoded.length];
+        System.arraycopy(MAGIC, 0, snapshot, 0, MAGIC.length);
+        snapshot[MAGIC.length] = (byte) FORMAT_VERSION;
+        System.arraycopy(encoded, 0, snapshot, HEADER_SIZE, encoded.length);
+        return snapshot;
+    }
+
+    /**
+     * Decode a snapshot.
+     *
+     * @param snapshot the snapshot bytes.
+     * @return the schemas, keyed by name.
+     * @throws SchemaValidationException if the bytes are not a snapshot, or were written using a
+     *     different format version.
+     */
+    public static Map<String, Entry> decode(final byte[] snapshot) {
+        if (snapshot.length < HEADER_SIZE
+                || !Arrays.equals(snapshot, 0, MAGIC.length, MAGIC, 0, MAGIC.length)) {
+            throw SchemaValidationException.of("Not a schema snapshot");
+        }
+
+        final int version = snapshot[MAGIC.length] & 0xFF;
+        if (version != FORMAT_VERSION) {
+            throw SchemaValidationException.of(
+                    "Unsupported schema snapshot version: "
+                            + version
+                            + ", expected: "
+                            + FORMAT_VERSION);
+        }
+
+        try {
+            final JsonNode body =
+                    SMILE_MAPPER.readTree(snapshot, HEADER_SIZE, snapshot.length - HEADER_SIZE);
+
+            final Map<String, Entry> entries = new LinkedHashMap<>();
+            for (final Map.Entry<String, JsonNode> e : body.properties()) {
+                final JsonNode node = e.getValue();
+                entries.put(
+                        e.getKey(),
+                        new Entry(
+                                node.required(HASH_FIELD).asString(),
+                                node.required(SCHEMA_FIELD)));
+            }
+            return entries;
+        } catch (final Exception e) {
+            throw SchemaValidationException.of("Corrupt schema snapshot", e);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Validator that starts on a general-purpose validator and switches to a compiled one once the
+ * schema has been used enough times to be worth compiling.
+ *
+ * <p>Schemas used only a handful of times never pay the compilation cost. If compilation fails,
+ * e.g. because the schema uses features the compiled form does not support, the validator stays
+ * on the general-purpose validator for good.
+ *
+ * <p>Both validators must accept exactly the same data, though their error messages may differ.
+ *
+ * <p>Only the thread whose use reaches the threshold compiles. Other threads sharing the validator
+ * carry on with the general-purpose validator meanwhile, rather than waiting on a lock.
+ */
+public final class TieredValidator implements InternalValidator {
+
+    private final InternalValidator initial;
+    private final Supplier<InternalValidator> compiler;
+    private final int threshold;
+    private final AtomicInteger uses = new AtomicInteger();
+    private volatile InternalValidator current;
+    private volatile boolean tierUpAttempted;
+
+    /**
+     * @param initial the validator to use until the threshold is reached.
+     * @param compiler supplies the compiled validator. Invoked at most once.
+     * @param threshold the number of uses after which to switch.
+     */
+    public TieredValidator(
+            final InternalValidator initial,
+            final Supplier<InternalValidator> compiler,
+            final int threshold) {
+        if (threshold <= 0) {
+            throw new IllegalArgumentException("threshold must be positive: " + threshold);
+        }
+        this.initial = requireNonNull(initial, "initial");
+        this.compiler = requireNonNull(compiler, "compiler");
+        this.threshold = threshold;
+        this.current = initial;
+    }
+
+    @Override
+    public String schemaId() {
+        return initial.schemaId();
+    }
+
+    @Override
+    public JsonNode schema() {
+        return initial.schema();
+    }
+
+    @Override
+    public void validate(final Map<String, ?> objectProperties) {
+        if (!tierUpAttempted && uses.incrementAndGet() == threshold) {
+            tierUp();
+        }
+        current.validate(objectProperties);
+    }
+
+    /**
+     * @return {@code true} once validation has switched to the compiled validator.
+     */
+    public boolean isCompiled() {
+        return current != initial;
+    }
+
+    private void tierUp() {
+        current = compile();
+        tierUpAttempted = true;
+    }
+
+    private InternalValidator compile() {
+        try {
+            return requireNonNull(compiler.get(), "compiled");
+        } catch (final RuntimeException e) {
+            // E.g. schema not supported by the compiler: stay on the initial validator.
+            return initial;
+        }
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/** Checkers for keywords that apply to arrays. All accept values of other types. */
+final class ArrayCheckers {
+
+    /** Arrays up to this size are checked for uniqueness pairwise, avoiding a hash set. */
+    private static final int PAIRWISE_UNIQUE_LIMIT = 16;
+
+    private ArrayCheckers() {}
+
+    /** The {@code prefixItems} and {@code items} keywords. */
+    static final class Items implements Checker {
+
+        private final Checker[] prefix;
+        private final Checker rest;
+
+        /**
+         * @param prefix the {@code prefixItems} schemas.
+         * @param rest the {@code items} schema, applied to elements after the prefix.
+         */
+        Items(final List<Checker> prefix, final Checker rest) {
+            this.prefix = prefix.toArray(new Checker[0]);
+            this.rest = requireNonNull(rest, "rest");
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            if (!(value instanceof List)) {
+                return true;
+            }
+
+            boolean valid = true;
+            int index = 0;
+            for (final Object element : (List<?>) value) {
+                final Checker checker = index < prefix.length ? prefix[index] : rest;
+                errors.push(index);
+                final boolean ok = checker.check(Values.normalize(element), errors);
+                errors.pop();
+                index++;
+
+                if (!ok) {
+                    if (!errors.isCollecting()) {
+                        return false;
+                    }
+                    valid = false;
+                }
+            }
+            return valid;
+        }
+    }
+
+    /** The {@code minItems} and {@code maxItems} keywords. */
+    static final class ItemCount implements Checker {
+
+        private final int min;
+        private final int max;
+
+        ItemCount(final int min, final int max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            if (!(value instanceof List)) {
+                return true;
+            }
+
+            final int size = ((List<?>) value).size();
+            if (size < min) {
+                errors.add("must have at least " + min + " items but found " + size);
+                return false;
+            }
+            if (size > max) {
+                errors.add("must have at most " + max + " items but found " + size);
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /** The {@code uniqueItems} keyword. */
+    static final class UniqueItems implements Checker {
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            if (!(value instanceof List)) {
+                return true;
+            }
+
+            final List<?> list = (List<?>) value;
+            if (list.size() <= PAIRWISE_UNIQUE_LIMIT ? pairwiseUnique(list) : hashUnique(list)) {
+                return true;
+            }
+            errors.add("must have only unique items in the array");
+            return false;
+        }
+
+        private static boolean pairwiseUnique(final List<?> list) {
+            final int size = list.size();
+            for (int i = 0; i < size; i++) {
+                final Object a = Values.normalize(list.get(i));
+                for (int j = i + 1; j < size; j++) {
+                    if (Values.jsonEquals(a, Values.normalize(list.get(j)))) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+        private static boolean hashUnique(final List<?> list) {
+            final Set<JsonKey> seen = new HashSet<>();
+            for (final Object element : list) {
+                if (!seen.add(new JsonKey(Values.normalize(element)))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /** The {@code contains}, {@code minContains} and {@code maxContains} keywords. */
+    static final class Contains implements Checker {
+
+        private final Checker checker;
+        private final int min;
+        private final int max;
+
+        Contains(final Checker checker, final int min, final int max) {
+            this.checker = requireNonNull(checker, "checker");
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            if (!(value instanceof List)) {
+                return true;
+            }
+
+            int matches = 0;
+            for (final Object element : (List<?>) value) {
+                if (checker.check(Values.normalize(element), Errors.SILENT)) {
+                    matches++;
+                    if (matches > max) {
+                        errors.add("must contain at most " + max + " matching elements");
+                        return false;
+                    }
+                }
+            }
+            if (matches < min) {
+                errors.add(
+                        "must contain at least "
+                                + min
+                                + " element(s) that passes these validations");
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /** Wraps a value so that hash sets use JSON equality. */
+    private static final class JsonKey {
+
+        private final Object value;
+
+        JsonKey(final Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            return o instanceof JsonKey && Values.jsonEquals(value, ((JsonKey) o).value);
+        }
+
+        @Override
+        public int hashCode() {
+            return Values.jsonHash(value);
+        }
+    }
+}
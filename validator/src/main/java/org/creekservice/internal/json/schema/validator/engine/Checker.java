@@ -0,0 +1,37 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.engine;
+
+/** A compiled schema, or a single keyword of a schema. */
+@FunctionalInterface
+interface Checker {
+
+    /** A checker that accepts all values, i.e. the {@code true} schema. */
+    Checker ALWAYS = (value, errors) -> true;
+
+    /**
+     * Check a value.
+     *
+     * <p>Implementations must be thread-safe and, when {@code errors} is not {@link
+     * Errors#isCollecting() collecting}, should avoid allocating.
+     *
+     * @param value the normalized value to check.
+     * @param errors where to report errors.
+     * @return {@code true} if the value is valid.
+     */
+    boolean check(Object value, Errors errors);
+}
@@ -0,0 +1,300 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/** Checkers for schemas and for keywords that apply to values of any type. */
+final class Checkers {
+
+    /** The {@code false} schema, which rejects all values. */
+    static final Checker NEVER =
+            (value, errors) -> {
+                errors.add("boolean schema false is not valid");
+                return false;
+            };
+
+    private Checkers() {}
+
+    /**
+     * @param keywords the checkers for each of a schema's keywords.
+     * @return a checker for the whole schema.
+     */
+    static Checker schema(final List<Checker> keywords) {
+        switch (keywords.size()) {
+            case 0:
+                return Checker.ALWAYS;
+            case 1:
+                return keywords.get(0);
+            default:
+                return new AllOf(keywords);
+        }
+    }
+
+    /** All checkers must pass. Used for both a schema's keywords and the {@code allOf} keyword. */
+    static final class AllOf implements Checker {
+
+        private final Checker[] checkers;
+
+        AllOf(final List<Checker> checkers) {
+            this.checkers = checkers.toArray(new Checker[0]);
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            boolean valid = true;
+            for (final Checker checker : checkers) {
+                if (!checker.check(value, errors)) {
+                    if (!errors.isCollecting()) {
+                        return false;
+                    }
+                    valid = false;
+                }
+            }
+            return valid;
+        }
+    }
+
+    /** The {@code anyOf} keyword. */
+    static final class AnyOf implements Checker {
+
+        private final Checker[] checkers;
+
+        AnyOf(final List<Checker> checkers) {
+            this.checkers = checkers.toArray(new Checker[0]);
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            for (final Checker checker : checkers) {
+                if (checker.check(value, Errors.SILENT)) {
+                    return true;
+                }
+            }
+            errors.add("must be valid to at least one schema");
+            return false;
+        }
+    }
+
+    /** The {@code oneOf} keyword. */
+    static final class OneOf implements Checker {
+
+        private final Checker[] checkers;
+
+        OneOf(final List<Checker> checkers) {
+            this.checkers = checkers.toArray(new Checker[0]);
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            int valid = 0;
+            for (final Checker checker : checkers) {
+                if (checker.check(value, Errors.SILENT) && ++valid > 1) {
+                    break;
+                }
+            }
+            if (valid == 1) {
+                return true;
+            }
+            errors.add(
+                    "must be valid to one and only one schema, but "
+                            + (valid == 0 ? "0" : "more than one")
+                            + " are valid");
+            return false;
+        }
+    }
+
+    /**
+     * A {@code oneOf} whose branches each require a distinct constant value for the same
+     * discriminator property, as generated for polymorphic types.
+     *
+     * <p>Any object with a known discriminator value can only be valid against the one branch
+     * that value selects, so only that branch is checked, via a hash lookup, rather than every
+     * branch. Anything else is handed to the full {@code oneOf}.
+     */
+    static final class DiscriminatedOneOf implements Checker {
+
+        private final String property;
+        private final Map<Object, Checker> branches;
+        private final Checker fallback;
+
+        /**
+         * @param property the discriminator property.
+         * @param branches the branch for each discriminator value.
+         * @param fallback the full {@code oneOf}, used for values that can not be dispatched.
+         */
+        DiscriminatedOneOf(
+                final String property,
+                final Map<Object, Checker> branches,
+                final Checker fallback) {
+            this.property = requireNonNull(property, "property");
+            this.branches = Map.copyOf(branches);
+            this.fallback = requireNonNull(fallback, "fallback");
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            if (value instanceof Map) {
+                final Object discriminator = ((Map<?, ?>) value).get(property);
+                final Checker branch = discriminator == null ? null : branches.get(discriminator);
+                if (branch != null) {
+                    return branch.check(value, errors);
+                }
+            }
+            return fallback.check(value, errors);
+        }
+    }
+
+    /** The {@code not} keyword. */
+    static final class Not implements Checker {
+
+        private final Checker checker;
+
+        Not(final Checker checker) {
+            this.checker = requireNonNull(checker, "checker");
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            if (!checker.check(value, Errors.SILENT)) {
+                return true;
+            }
+            errors.add("must not be valid to the schema");
+            return false;
+        }
+    }
+
+    /** The {@code if}, {@code then} and {@code else} keywords. */
+    static final class IfThenElse implements Checker {
+
+        private final Checker condition;
+        private final Checker then;
+        private final Checker otherwise;
+
+        IfThenElse(final Checker condition, final Checker then, final Checker otherwise) {
+            this.condition = requireNonNull(condition, "condition");
+            this.then = requireNonNull(then, "then");
+            this.otherwise = requireNonNull(otherwise, "otherwise");
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            return condition.check(value, Errors.SILENT)
+                    ? then.check(value, errors)
+                    : otherwise.check(value, errors);
+        }
+    }
+
+    /** The {@code type} keyword. */
+    static final class Type implements Checker {
+
+        private final int types;
+        private final String expected;
+
+        /**
+         * @param types the allowed {@link Values type flags}.
+         */
+        Type(final int types) {
+            this.types = types;
+            final List<String> names = new ArrayList<>();
+            for (int type = Values.NULL; type <= Values.OBJECT; type <<= 1) {
+                if ((types & type) != 0) {
+                    names.add(Values.typeName(type));
+                }
+            }
+            this.expected = String.join(" or ", names);
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            if ((Values.typeOf(value) & types) != 0) {
+                return true;
+            }
+            errors.add(Values.typeNameOf(value) + " found, " + expected + " expected");
+            return false;
+        }
+    }
+
+    /** The {@code const} keyword. */
+    static final class Const implements Checker {
+
+        private final Object expected;
+
+        Const(final Object expected) {
+            this.expected = expected;
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            if (Values.jsonEquals(value, expected)) {
+                return true;
+            }
+            errors.add("must be the constant value '" + expected + "'");
+            return false;
+        }
+    }
+
+    /** The {@code enum} keyword. */
+    static final class EnumValues implements Checker {
+
+        private final Object[] allowed;
+
+        EnumValues(final List<Object> allowed) {
+            this.allowed = allowed.toArray();
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            for (final Object candidate : allowed) {
+                if (Values.jsonEquals(value, candidate)) {
+                    return true;
+                }
+            }
+            errors.add(
+                    "does not have a value in the enumeration "
+                            + Arrays.stream(allowed)
+                                    .map(String::valueOf)
+                                    .collect(Collectors.joining(", ", "[", "]")));
+            return false;
+        }
+    }
+
+    /**
+     * A {@code $ref}, or any schema referenced before its compilation completes.
+     *
+     * <p>Allows recursive schemas: the target is set once compiled.
+     */
+    static final class Ref implements Checker {
+
+        private Checker target;
+
+        void target(final Checker target) {
+            this.target = requireNonNull(target, "target");
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            return target.check(value, errors);
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Collects validation errors, tracking the location of the value being checked.
+ *
+ * <p>Validation is first run with the {@link #SILENT} instance, which tracks nothing and so
+ * allows checkers to stop at the first failure without allocating. Only if a value is invalid is
+ * validation run again with a {@link #collecting()} instance, to build the error messages.
+ */
+final class Errors {
+
+    /** Shared instance that collects nothing. Holds no state, so is thread-safe. */
+    static final Errors SILENT = new Errors(false);
+
+    private static final Pattern IDENTIFIER = Pattern.compile("[A-Za-z_$][A-Za-z0-9_$]*");
+
+    private final boolean collecting;
+    private final List<String> messages;
+    private String[] names = new String[8];
+    private int[] indexes = new int[8];
+    private int depth;
+
+    private Errors(final boolean collecting) {
+        this.collecting = collecting;
+        this.messages = collecting ? new ArrayList<>() : List.of();
+    }
+
+    /**
+     * @return a new instance that collects error messages.
+     */
+    static Errors collecting() {
+        return new Errors(true);
+    }
+
+    /**
+     * @return {@code true} if this instance collects errors. If not, checkers can stop at the
+     *     first failure.
+     */
+    boolean isCollecting() {
+        return collecting;
+    }
+
+    /**
+     * Record an error at the current location.
+     *
+     * @param message the error message.
+     */
+    void add(final String message) {
+        if (collecting) {
+            messages.add(location() + ": " + message);
+        }
+    }
+
+    /**
+     * Enter a property of the current object.
+     *
+     * @param name the property name.
+     */
+    void push(final String name) {
+        if (collecting) {
+            ensureCapacity();
+            names[depth++] = name;
+        }
+    }
+
+    /**
+     * Enter an element of the current array.
+     *
+     * @param index the element index.
+     */
+    void push(final int index) {
+        if (collecting) {
+            ensureCapacity();
+            names[depth] = null;
+            indexes[depth++] = index;
+        }
+    }
+
+    /** Leave the current property or element. */
+    void pop() {
+        if (collecting) {
+            depth--;
+        }
+    }
+
+    /**
+     * @return the collected error messages.
+     */
+    List<String> messages() {
+        return messages;
+    }
+
+    private String location() {
+        final StringBuilder location = new StringBuilder("$");
+        for (int i = 0; i < depth; i++) {
+            final String name = names[i];
+            if (name == null) {
+                location.append('[').append(indexes[i]).append(']');
+            } else if (IDENTIFIER.matcher(name).matches()) {
+                location.append('.').append(name);
+            } else {
+                location.append("['").append(name.replace("'", "\\'")).append("']");
+            }
+        }
+        return location.toString();
+    }
+
+    private void ensureCapacity() {
+        if (depth == names.length) {
+            names = Arrays.copyOf(names, depth * 2);
+            indexes = Arrays.copyOf(indexes, depth * 2);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.engine;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.creekservice.internal.json.schema.validator.format.TemporalFormats;
+
+/**
+ * Assertions for the {@code format} values the native engine understands.
+ *
+ * <p>Matches the networknt configuration used by the default engine: format assertions are
+ * enabled, {@code duration} is non-strict, i.e. allows fractional seconds, and the custom {@link
+ * TemporalFormats} are only known when enabled.
+ */
+final class Formats {
+
+    private static final Pattern DATE = Pattern.compile("^(\\d{4})-(\\d{2})-(\\d{2})$");
+
+    private static final String TIME_PART =
+            "(\\d{2}):(\\d{2}):(\\d{2})(?:\\.\\d+)?(?:[Zz]|[+-](\\d{2}):(\\d{2}))";
+
+    private static final Pattern TIME = Pattern.compile("^" + TIME_PART + "$");
+
+    private static final Pattern DATE_TIME =
+            Pattern.compile("^(\\d{4})-(\\d{2})-(\\d{2})[Tt]" + TIME_PART + "$");
+
+    private static final Pattern DURATION =
+            Pattern.compile(
+                    "^P(?=\\d|T\\d)(?:\\d+Y)?(?:\\d+M)?(?:\\d+W)?(?:\\d+D)?"
+                            + "(?:T(?=\\d)(?:\\d+H)?(?:\\d+M)?(?:\\d+(?:\\.\\d+)?S)?)?$");
+
+    private static final Pattern UUID =
+            Pattern.compile("^[0-9a-fA-F]{8}-(?:[0-9a-fA-F]{4}-){3}[0-9a-fA-F]{12}$");
+
+    private static final Pattern EMAIL = Pattern.compile("^[^@\\s]+@[^@\\s]+$");
+
+    private static final Map<String, Predicate<String>> FORMATS =
+            Map.of(
+                    "date", Formats::isDate,
+                    "time", Formats::isTime,
+                    "date-time", Formats::isDateTime,
+                    "duration", s -> DURATION.matcher(s).matches(),
+                    "uri", Formats::isUri,
+                    "uuid", s -> UUID.matcher(s).matches(),
+                    "email", s -> EMAIL.matcher(s).matches());
+
+    private Formats() {}
+
+    /**
+     * @param format the format name.
+     * @param customTemporalFormats whether the custom {@link TemporalFormats} are known.
+     * @return the assertion for the format, or empty if the format is unknown, in which case the
+     *     format keyword is only an annotation.
+     */
+    static Optional<Predicate<String>> format(
+            final String format, final boolean customTemporalFormats) {
+        final Predicate<String> standard = FORMATS.get(format);
+        if (standard == null && customTemporalFormats) {
+            return Optional.ofNullable(TemporalFormats.FORMATS.get(format));
+        }
+        return Optional.ofNullable(standard);
+    }
+
+    private static boolean isDate(final String text) {
+        final Matcher m = DATE.matcher(text);
+        return m.matches() && isDate(m, 1);
+    }
+
+    private static boolean isTime(final String text) {
+        final Matcher m = TIME.matcher(text);
+        return m.matches() && isTime(m, 1);
+    }
+
+    private static boolean isDateTime(final String text) {
+        final Matcher m = DATE_TIME.matcher(text);
+        return m.matches() && isDate(m, 1) && isTime(m, 4);
+    }
+
+    private static boolean isDate(final Matcher m, final int group) {
+        try {
+            LocalDate.of(
+                    Integer.parseInt(m.group(group)),
+                    Integer.parseInt(m.group(group + 1)),
+                    Integer.parseInt(m.group(group + 2)));
+            return true;
+        } catch (final DateTimeException e) {
+            return false;
+        }
+    }
+
+    private static boolean isTime(final Matcher m, final int group) {
+        if (Integer.parseInt(m.group(group)) > 23
+                || Integer.parseInt(m.group(group + 1)) > 59
+                || Integer.parseInt(m.group(group + 2)) > 59) {
+            return false;
+        }
+        final String offsetHours = m.group(group + 3);
+        return offsetHours == null
+                || (Integer.parseInt(offsetHours) <= 23
+                        && Integer.parseInt(m.group(group + 4)) <= 59);
+    }
+
+    private static boolean isUri(final String text) {
+        try {
+            return new URI(text).isAbsolute();
+        } catch (final URISyntaxException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import org.creekservice.api.json.schema.validator.SchemaValidationException;
+import org.creekservice.internal.json.schema.validator.InternalValidator;
+import org.creekservice.internal.json.schema.validator.jfr.ValidateEvent;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Validator that runs a compiled {@link Checker} tree directly against the deserialised object
+ * graph, without first adapting it to a {@code JsonNode}.
+ *
+ * <p>Valid data, the common case, is checked with a single pass that stops at the first failure
+ * and builds no messages. Only invalid data is checked a second time to report every error.
+ */
+public final class NativeJsonSchemaValidator implements InternalValidator {
+
+    private final Checker root;
+    private final JsonNode schema;
+    private final String schemaId;
+
+    NativeJsonSchemaValidator(final Checker root, final JsonNode schema, final String schemaId) {
+        this.root = requireNonNull(root, "root");
+        this.schema = requireNonNull(schema, "schema");
+        this.schemaId = requireNonNull(schemaId, "schemaId");
+    }
+
+    @Override
+    public String schemaId() {
+        return schemaId;
+    }
+
+    @Override
+    public JsonNode schema() {
+        return schema;
+    }
+
+    @Override
+    public void validate(final Map<String, ?> objectProperties) {
+        final ValidateEvent event = new ValidateEvent();
+        event.begin();
+        List<String> errors = null;
+        try {
+            errors = doValidate(objectProperties);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.set(schemaId, errors == null ? 0 : errors.size(), errors != null);
+                event.commit();
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            throw SchemaValidationException.of("Validation failed: " + String.join(", ", errors));
+        }
+    }
+
+    /**
+     * Check data against the schema without reporting errors.
+     *
+     * @param objectProperties the object's properties.
+     * @return {@code true} if the data is valid.
+     */
+    public boolean accepts(final Map<String, ?> objectProperties) {
+        return root.check(Values.normalize(objectProperties), Errors.SILENT);
+    }
+
+    private List<String> doValidate(final Map<String, ?> objectProperties) {
+        final Object value;
+        try {
+            value = Values.normalize(objectProperties);
+        } catch (final Exception e) {
+            throw SchemaValidationException.of("Validation error", e);
+        }
+
+        if (root.check(value, Errors.SILENT)) {
+            return List.of();
+        }
+
+        final Errors errors = Errors.collecting();
+        root.check(value, errors);
+        return errors.messages().isEmpty() ? List.of("$: is not valid") : errors.messages();
+    }
+}
@@ -0,0 +1,611 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.regex.PatternSyntaxException;
+import org.creekservice.api.json.schema.validator.SchemaValidationException;
+import org.creekservice.internal.json.schema.validator.regex.RegexMatcher;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Compiles a draft 2020-12 schema into a tree of {@link Checker}s that run directly on the {@code
+ * Map}, {@code List} and scalar values produced by Jackson deserialisation.
+ *
+ * <p>Supports all assertion keywords of the draft 2020-12 core and validation vocabularies,
+ * except {@code $dynamicRef}, {@code unevaluatedProperties} and {@code unevaluatedItems}, which
+ * cause compilation to fail. Schemas must be self-contained, i.e. external references must
+ * already have been resolved and embedded. Embedded {@link SharedSchemas shared} resources are
+ * compiled once, and their compiled form reused by every schema embedding them.
+ *
+ * <p>A {@code oneOf} whose branches each require a distinct constant for the same property, i.e.
+ * a discriminator, as generated for polymorphic types, is compiled to check only the branch the
+ * discriminator selects, making its cost independent of the number of branches.
+ */
+public final class NativeSchemaCompiler {
+
+    private static final URI DRAFT_2020_12 =
+            URI.create("https://json-schema.org/draft/2020-12/schema");
+
+    private static final Set<String> UNSUPPORTED =
+            Set.of("$dynamicRef", "$recursiveRef", "unevaluatedProperties", "unevaluatedItems");
+
+    private final SchemaIndex index;
+    private final boolean linearTimePatterns;
+    private final boolean customTemporalFormats;
+    private final SharedSchemas shared;
+    private final Map<JsonNode, Checker> compiled = new IdentityHashMap<>();
+
+    NativeSchemaCompiler(
+            final SchemaIndex index,
+            final boolean linearTimePatterns,
+            final boolean customTemporalFormats,
+            final SharedSchemas shared) {
+        this.index = index;
+        this.linearTimePatterns = linearTimePatterns;
+        this.customTemporalFormats = customTemporalFormats;
+        this.shared = requireNonNull(shared, "shared");
+    }
+
+    /**
+     * Compile a schema.
+     *
+     * @param schema the self-contained schema.
+     * @param schemaId the id used to identify the schema in diagnostics.
+     * @return the validator.
+     * @throws SchemaValidationException if the schema is invalid, or uses features the native
+     *     engine does not support.
+     */
+    public static NativeJsonSchemaValidator compile(final JsonNode schema, final String schemaId) {
+        return compile(schema, schemaId, false);
+    }
+
+    /**
+     * Compile a schema.
+     *
+     * @param schema the self-contained schema.
+     * @param schemaId the id used to identify the schema in diagnostics.
+     * @param linearTimePatterns whether to match {@code pattern} and {@code patternProperties}
+     *     regexes in time linear in the length of the input, where the regex allows.
+     * @return the validator.
+     * @throws SchemaValidationException if the schema is invalid, or uses features the native
+     *     engine does not support.
+     */
+    public static NativeJsonSchemaValidator compile(
+            final JsonNode schema, final String schemaId, final boolean linearTimePatterns) {
+        return compile(schema, schemaId, linearTimePatterns, false);
+    }
+
+    /**
+     * Compile a schema.
+     *
+     * @param schema the self-contained schema.
+     * @param schemaId the id used to identify the schema in diagnostics.
+     * @param linearTimePatterns whether to match {@code pattern} and {@code patternProperties}
+     *     regexes in time linear in the length of the input, where the regex allows.
+     * @param customTemporalFormats whether to assert the custom {@link
+     *     org.creekservice.internal.json.schema.validator.format.TemporalFormats temporal
+     *     formats}, rather than treating them as unknown formats.
+     * @return the validator.
+     * @throws SchemaValidationException if the schema is invalid, or uses features the native
+     *     engine does not support.
+     */
+    public static NativeJsonSchemaValidator compile(
+            final JsonNode schema,
+            final String schemaId,
+            final boolean linearTimePatterns,
+            final boolean customTemporalFormats) {
+        return compile(
+                schema, schemaId, linearTimePatterns, customTemporalFormats, SharedSchemas.NONE);
+    }
+
+    /**
+     * Compile a schema, reusing the compiled form of any shared resources it embeds.
+     *
+     * @param schema the self-contained schema.
+     * @param schemaId the id used to identify the schema in diagnostics.
+     * @param linearTimePatterns whether to match {@code pattern} and {@code patternProperties}
+     *     regexes in time linear in the length of the input, where the regex allows.
+     * @param customTemporalFormats whether to assert the custom {@link
+     *     org.creekservice.internal.json.schema.validator.format.TemporalFormats temporal
+     *     formats}, rather than treating them as unknown formats.
+     * @param shared the resources whose compiled form can be reused.
+     * @return the validator.
+     * @throws SchemaValidationException if the schema is invalid, or uses features the native
+     *     engine does not support.
+     */
+    public static NativeJsonSchemaValidator compile(
+            final JsonNode schema,
+            final String schemaId,
+            final boolean linearTimePatterns,
+            final boolean customTemporalFormats,
+            final SharedSchemas shared) {
+        final NativeSchemaCompiler compiler =
+                new NativeSchemaCompiler(
+                        SchemaIndex.of(schema), linearTimePatterns, customTemporalFormats, shared);
+        return new NativeJsonSchemaValidator(compiler.compile(schema), schema, schemaId);
+    }
+
+    /**
+     * Compile a shared resource, reusing the result of any previous call for the same resource.
+     *
+     * @param resource the resource, within this compiler's index.
+     * @return the compiled resource.
+     */
+    Checker compileShared(final JsonNode resource) {
+        return compile(resource);
+    }
+
+    private Checker compile(final JsonNode schema) {
+        final Checker existing = compiled.get(schema);
+        if (existing != null) {
+            return existing;
+        }
+
+        if (schema.has("$id")) {
+            final Checker reused =
+                    shared.checker(schema, index, linearTimePatterns, customTemporalFormats);
+            if (reused != null) {
+                compiled.put(schema, reused);
+                return reused;
+            }
+        }
+
+        if (schema.isBoolean()) {
+            return schema.booleanValue() ? Checker.ALWAYS : Checkers.NEVER;
+        }
+
+        if (!schema.isObject()) {
+            throw invalid("schema must be an object or boolean, but was: " + schema);
+        }
+
+        // Register a placeholder first, so recursive references resolve to it:
+        final Checkers.Ref placeholder = new Checkers.Ref();
+        compiled.put(schema, placeholder);
+        final Checker checker = compileObject(schema);
+        placeholder.target(checker);
+        compiled.put(schema, checker);
+        return checker;
+    }
+
+    private Checker compileObject(final JsonNode schema) {
+        for (final String keyword : schema.propertyNames()) {
+            if (UNSUPPORTED.contains(keyword)) {
+                throw invalid(
+                        "the '" + keyword + "' keyword is not supported by the native engine");
+            }
+        }
+
+        final JsonNode metaSchema = schema.get("$schema");
+        if (metaSchema != null
+                && !DRAFT_2020_12.equals(SchemaIndex.withoutFragment(uri(metaSchema)))) {
+            throw invalid(
+                    "the native engine only supports draft 2020-12 schemas, not: "
+                            + metaSchema.asString());
+        }
+
+        // Cheapest checks first, as validation stops at the first failure when not reporting:
+        final List<Checker> keywords = new ArrayList<>();
+        addType(schema, keywords);
+        addIfPresent(schema, "const", n -> new Checkers.Const(Values.fromNode(n)), keywords);
+        addEnum(schema, keywords);
+        addRequired(schema, keywords);
+        addCounts(schema, keywords);
+        addNumberChecks(schema, keywords);
+        addStringChecks(schema, keywords);
+        addObjectChecks(schema, keywords);
+        addArrayChecks(schema, keywords);
+        addCombinators(schema, keywords);
+        addIfPresent(schema, "$ref", n -> compile(index.resolve(schema, n)), keywords);
+        return Checkers.schema(keywords);
+    }
+
+    private void addType(final JsonNode schema, final List<Checker> keywords) {
+        final JsonNode type = schema.get("type");
+        if (type == null) {
+            return;
+        }
+
+        int types = 0;
+        if (type.isArray()) {
+            for (final JsonNode t : type) {
+                types |= typeFlag(t);
+            }
+        } else {
+            types = typeFlag(type);
+        }
+        keywords.add(new Checkers.Type(types));
+    }
+
+    private static int typeFlag(final JsonNode type) {
+        switch (type.asString()) {
+            case "null":
+                return Values.NULL;
+            case "boolean":
+                return Values.BOOLEAN;
+            case "integer":
+                return Values.INTEGER;
+            case "number":
+                return Values.NUMBER;
+            case "string":
+                return Values.STRING;
+            case "array":
+                return Values.ARRAY;
+            case "object":
+                return Values.OBJECT;
+            default:
+                throw invalid("unknown type: " + type);
+        }
+    }
+
+    private void addEnum(final JsonNode schema, final List<Checker> keywords) {
+        final JsonNode values = schema.get("enum");
+        if (values == null) {
+            return;
+        }
+        if (!values.isArray()) {
+            throw invalid("enum must be an array");
+        }
+        final List<Object> allowed = new ArrayList<>();
+        values.forEach(v -> allowed.add(Values.fromNode(v)));
+        keywords.add(new Checkers.EnumValues(allowed));
+    }
+
+    private void addRequired(final JsonNode schema, final List<Checker> keywords) {
+        final List<String> required = strings(schema.get("required"));
+        if (!required.isEmpty()) {
+            keywords.add(new ObjectCheckers.Required(required));
+        }
+
+        final JsonNode dependentRequired = schema.get("dependentRequired");
+        if (dependentRequired != null) {
+            final Map<String, List<String>> dependencies = new LinkedHashMap<>();
+            for (final Map.Entry<String, JsonNode> e : dependentRequired.properties()) {
+                dependencies.put(e.getKey(), strings(e.getValue()));
+            }
+            keywords.add(new ObjectCheckers.DependentRequired(dependencies));
+        }
+    }
+
+    private void addCounts(final JsonNode schema, final List<Checker> keywords) {
+        if (schema.has("minProperties") || schema.has("maxProperties")) {
+            keywords.add(
+                    new ObjectCheckers.PropertyCount(
+                            count(schema, "minProperties", 0),
+                            count(schema, "maxProperties", Integer.MAX_VALUE)));
+        }
+        if (schema.has("minItems") || schema.has("maxItems")) {
+            keywords.add(
+                    new ArrayCheckers.ItemCount(
+                            count(schema, "minItems", 0),
+                            count(schema, "maxItems", Integer.MAX_VALUE)));
+        }
+        if (schema.has("minLength") || schema.has("maxLength")) {
+            keywords.add(
+                    new ScalarCheckers.Length(
+                            count(schema, "minLength", 0),
+                            count(schema, "maxLength", Integer.MAX_VALUE)));
+        }
+    }
+
+    private void addNumberChecks(final JsonNode schema, final List<Checker> keywords) {
+        addIfPresent(
+                schema,
+                "minimum",
+                n -> new ScalarCheckers.Bound(number(n), true, false),
+                keywords);
+        addIfPresent(
+                schema,
+                "maximum",
+                n -> new ScalarCheckers.Bound(number(n), false, false),
+                keywords);
+        addIfPresent(
+                schema,
+                "exclusiveMinimum",
+                n -> new ScalarCheckers.Bound(number(n), true, true),
+                keywords);
+        addIfPresent(
+                schema,
+                "exclusiveMaximum",
+                n -> new ScalarCheckers.Bound(number(n), false, true),
+                keywords);
+        addIfPresent(
+                schema, "multipleOf", n -> new ScalarCheckers.MultipleOf(number(n)), keywords);
+    }
+
+    private void addStringChecks(final JsonNode schema, final List<Checker> keywords) {
+        addIfPresent(
+                schema, "pattern", n -> new ScalarCheckers.Matches(pattern(n)), keywords);
+
+        final JsonNode format = schema.get("format");
+        if (format != null && format.isString()) {
+            final String name = format.asString();
+            Formats.format(name, customTemporalFormats)
+                    .ifPresent(
+                            assertion -> keywords.add(new ScalarCheckers.Format(name, assertion)));
+        }
+    }
+
+    private void addObjectChecks(final JsonNode schema, final List<Checker> keywords) {
+        final Map<String, Checker> properties = new LinkedHashMap<>();
+        final JsonNode propertiesNode = schema.get("properties");
+        if (propertiesNode != null) {
+            for (final Map.Entry<String, JsonNode> e : propertiesNode.properties()) {
+                properties.put(e.getKey(), compile(e.getValue()));
+            }
+            keywords.add(new ObjectCheckers.Properties(properties));
+        }
+
+        final List<RegexMatcher> patterns = new ArrayList<>();
+        final JsonNode patternProperties = schema.get("patternProperties");
+        if (patternProperties != null) {
+            final List<Checker> checkers = new ArrayList<>();
+            for (final Map.Entry<String, JsonNode> e : patternProperties.properties()) {
+                patterns.add(pattern(e.getKey()));
+                checkers.add(compile(e.getValue()));
+            }
+            keywords.add(new ObjectCheckers.PatternProperties(patterns, checkers));
+        }
+
+        final JsonNode additional = schema.get("additionalProperties");
+        if (additional != null) {
+            final Checker checker = compile(additional);
+            if (checker != Checker.ALWAYS) {
+                keywords.add(
+                        new ObjectCheckers.AdditionalProperties(
+                                properties.keySet(), patterns, checker));
+            }
+        }
+
+        addIfPresent(
+                schema,
+                "propertyNames",
+                n -> new ObjectCheckers.PropertyNames(compile(n)),
+                keywords);
+
+        final JsonNode dependentSchemas = schema.get("dependentSchemas");
+        if (dependentSchemas != null) {
+            final Map<String, Checker> dependencies = new LinkedHashMap<>();
+            for (final Map.Entry<String, JsonNode> e : dependentSchemas.properties()) {
+                dependencies.put(e.getKey(), compile(e.getValue()));
+            }
+            keywords.add(new ObjectCheckers.DependentSchemas(dependencies));
+        }
+    }
+
+    private void addArrayChecks(final JsonNode schema, final List<Checker> keywords) {
+        final JsonNode items = schema.get("items");
+        if (items != null && items.isArray()) {
+            throw invalid("items must be a schema. Use prefixItems for tuple validation");
+        }
+
+        final List<Checker> prefix = schemas(schema.get("prefixItems"));
+        if (items != null || !prefix.isEmpty()) {
+            keywords.add(
+                    new ArrayCheckers.Items(
+                            prefix, items == null ? Checker.ALWAYS : compile(items)));
+        }
+
+        final JsonNode contains = schema.get("contains");
+        if (contains != null) {
+            keywords.add(
+                    new ArrayCheckers.Contains(
+                            compile(contains),
+                            count(schema, "minContains", 1),
+                            count(schema, "maxContains", Integer.MAX_VALUE)));
+        }
+
+        final JsonNode unique = schema.get("uniqueItems");
+        if (unique != null && unique.asBoolean()) {
+            keywords.add(new ArrayCheckers.UniqueItems());
+        }
+    }
+
+    private void addCombinators(final JsonNode schema, final List<Checker> keywords) {
+        final List<Checker> allOf = schemas(schema.get("allOf"));
+        if (!allOf.isEmpty()) {
+            keywords.add(new Checkers.AllOf(allOf));
+        }
+
+        final List<Checker> anyOf = schemas(schema.get("anyOf"));
+        if (!anyOf.isEmpty()) {
+            keywords.add(new Checkers.AnyOf(anyOf));
+        }
+
+        final JsonNode oneOfNode = schema.get("oneOf");
+        final List<Checker> oneOf = schemas(oneOfNode);
+        if (!oneOf.isEmpty()) {
+            keywords.add(oneOf(oneOfNode, oneOf));
+        }
+
+        addIfPresent(schema, "not", n -> new Checkers.Not(compile(n)), keywords);
+
+        final JsonNode condition = schema.get("if");
+        if (condition != null) {
+            final JsonNode then = schema.get("then");
+            final JsonNode otherwise = schema.get("else");
+            keywords.add(
+                    new Checkers.IfThenElse(
+                            compile(condition),
+                            then == null ? Checker.ALWAYS : compile(then),
+                            otherwise == null ? Checker.ALWAYS : compile(otherwise)));
+        }
+    }
+
+    private Checker oneOf(final JsonNode branches, final List<Checker> checkers) {
+        final Checker oneOf = new Checkers.OneOf(checkers);
+        if (checkers.size() < 2) {
+            return oneOf;
+        }
+
+        final List<Map<String, String>> constants = new ArrayList<>();
+        branches.forEach(branch -> constants.add(requiredConstants(branch)));
+
+        for (final String property : constants.get(0).keySet()) {
+            final Map<Object, Checker> dispatch = new HashMap<>();
+            for (int i = 0; i < checkers.size(); i++) {
+                final String value = constants.get(i).get(property);
+                if (value != null) {
+                    dispatch.putIfAbsent(value, checkers.get(i));
+                }
+            }
+
+            // Each branch must have its own value:
+            if (dispatch.size() == checkers.size()) {
+                return new Checkers.DiscriminatedOneOf(property, dispatch, oneOf);
+            }
+        }
+        return oneOf;
+    }
+
+    /**
+     * Find the properties any object valid against the supplied {@code schema} must have, with
+     * the constant string value it must have.
+     *
+     * <p>Only constraints that must hold are considered, i.e. those of the schema itself and of
+     * its {@code $ref} and {@code allOf} subschemas, recursively.
+     *
+     * @param schema the schema.
+     * @return the constant value of each such property, by property name.
+     */
+    private Map<String, String> requiredConstants(final JsonNode schema) {
+        final Set<String> required = new HashSet<>();
+        final Map<String, String> constants = new LinkedHashMap<>();
+        collectConstraints(
+                schema, required, constants, Collections.newSetFromMap(new IdentityHashMap<>()));
+        constants.keySet().retainAll(required);
+        return constants;
+    }
+
+    private void collectConstraints(
+            final JsonNode schema,
+            final Set<String> required,
+            final Map<String, String> constants,
+            final Set<JsonNode> visited) {
+        if (!schema.isObject() || !visited.add(schema)) {
+            return;
+        }
+
+        required.addAll(strings(schema.get("required")));
+
+        final JsonNode properties = schema.get("properties");
+        if (properties != null) {
+            for (final Map.Entry<String, JsonNode> e : properties.properties()) {
+                final JsonNode constant = e.getValue().get("const");
+                if (constant != null && constant.isString()) {
+                    constants.putIfAbsent(e.getKey(), constant.asString());
+                }
+            }
+        }
+
+        final JsonNode ref = schema.get("$ref");
+        if (ref != null && ref.isString()) {
+            collectConstraints(index.resolve(schema, ref), required, constants, visited);
+        }
+
+        final JsonNode allOf = schema.get("allOf");
+        if (allOf != null) {
+            allOf.forEach(member -> collectConstraints(member, required, constants, visited));
+        }
+    }
+
+    private List<Checker> schemas(final JsonNode array) {
+        final List<Checker> checkers = new ArrayList<>();
+        if (array != null) {
+            if (!array.isArray()) {
+                throw invalid("expected an array of schemas, but was: " + array);
+            }
+            array.forEach(s -> checkers.add(compile(s)));
+        }
+        return checkers;
+    }
+
+    private static void addIfPresent(
+            final JsonNode schema,
+            final String keyword,
+            final Function<JsonNode, Checker> factory,
+            final List<Checker> keywords) {
+        final JsonNode value = schema.get(keyword);
+        if (value != null) {
+            keywords.add(factory.apply(value));
+        }
+    }
+
+    private static List<String> strings(final JsonNode array) {
+        final List<String> strings = new ArrayList<>();
+        if (array != null) {
+            array.forEach(n -> strings.add(n.asString()));
+        }
+        return strings;
+    }
+
+    private static int count(
+            final JsonNode schema, final String keyword, final int defaultValue) {
+        final JsonNode value = schema.get(keyword);
+        if (value == null) {
+            return defaultValue;
+        }
+        if (!value.isNumber() || !Values.isInteger(value.numberValue()) || value.asLong() < 0) {
+            throw invalid(keyword + " must be a non-negative integer");
+        }
+        return (int) Math.min(value.asLong(), Integer.MAX_VALUE);
+    }
+
+    private static Number number(final JsonNode value) {
+        if (!value.isNumber()) {
+            throw invalid("expected a number, but was: " + value);
+        }
+        return value.numberValue();
+    }
+
+    private RegexMatcher pattern(final JsonNode value) {
+        return pattern(value.asString());
+    }
+
+    private RegexMatcher pattern(final String regex) {
+        try {
+            return RegexMatcher.compile(regex, linearTimePatterns);
+        } catch (final PatternSyntaxException e) {
+            throw SchemaValidationException.of("Invalid schema: invalid pattern: " + regex, e);
+        }
+    }
+
+    private static URI uri(final JsonNode value) {
+        try {
+            return new URI(value.asString());
+        } catch (final URISyntaxException e) {
+            throw SchemaValidationException.of("Invalid schema: invalid URI: " + value, e);
+        }
+    }
+
+    private static SchemaValidationException invalid(final String message) {
+        return SchemaValidationException.of("Invalid schema: " + message);
+    }
+}
@@ -0,0 +1,329 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.creekservice.internal.json.schema.validator.regex.RegexMatcher;
+
+/** Checkers for keywords that apply to objects. All accept values of other types. */
+final class ObjectCheckers {
+
+    private ObjectCheckers() {}
+
+    /** The {@code properties} keyword. */
+    static final class Properties implements Checker {
+
+        private final String[] names;
+        private final Checker[] checkers;
+
+        Properties(final Map<String, Checker> properties) {
+            this.names = properties.keySet().toArray(new String[0]);
+            this.checkers = properties.values().toArray(new Checker[0]);
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            if (!(value instanceof Map)) {
+                return true;
+            }
+
+            final Map<?, ?> map = (Map<?, ?>) value;
+            boolean valid = true;
+            for (int i = 0; i < names.length; i++) {
+                final Object property = map.get(names[i]);
+                if (property == null && !map.containsKey(names[i])) {
+                    continue;
+                }
+
+                errors.push(names[i]);
+                final boolean ok = checkers[i].check(Values.normalize(property), errors);
+                errors.pop();
+                if (!ok) {
+                    if (!errors.isCollecting()) {
+                        return false;
+                    }
+                    valid = false;
+                }
+            }
+            return valid;
+        }
+    }
+
+    /** The {@code required} keyword. */
+    static final class Required implements Checker {
+
+        private final String[] names;
+
+        Required(final List<String> names) {
+            this.names = names.toArray(new String[0]);
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            if (!(value instanceof Map)) {
+                return true;
+            }
+
+            final Map<?, ?> map = (Map<?, ?>) value;
+            boolean valid = true;
+            for (final String name : names) {
+                if (!map.containsKey(name)) {
+                    if (!errors.isCollecting()) {
+                        return false;
+                    }
+                    errors.add("required property '" + name + "' not found");
+                    valid = false;
+                }
+            }
+            return valid;
+        }
+    }
+
+    /** The {@code additionalProperties} keyword. */
+    static final class AdditionalProperties implements Checker {
+
+        private final Set<String> declared;
+        private final RegexMatcher[] patterns;
+        private final Checker checker;
+
+        /**
+         * @param declared the names of the properties declared by the {@code properties} keyword.
+         * @param patterns the patterns of the {@code patternProperties} keyword.
+         * @param checker the schema additional properties must match.
+         */
+        AdditionalProperties(
+                final Set<String> declared, final List<RegexMatcher> patterns, final Checker checker) {
+            this.declared = Set.copyOf(declared);
+            this.patterns = patterns.toArray(new RegexMatcher[0]);
+            this.checker = requireNonNull(checker, "checker");
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            if (!(value instanceof Map)) {
+                return true;
+            }
+
+            boolean valid = true;
+            for (final Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+                final String name = (String) e.getKey();
+                if (declared.contains(name) || matchesAny(name)) {
+                    continue;
+                }
+
+                final boolean ok;
+                if (checker == Checkers.NEVER) {
+                    ok = false;
+                    errors.add(
+                            "property '"
+                                    + name
+                                    + "' is not defined in the schema and the schema does not"
+                                    + " allow additional properties");
+                } else {
+                    errors.push(name);
+                    ok = checker.check(Values.normalize(e.getValue()), errors);
+                    errors.pop();
+                }
+
+                if (!ok) {
+                    if (!errors.isCollecting()) {
+                        return false;
+                    }
+                    valid = false;
+                }
+            }
+            return valid;
+        }
+
+        private boolean matchesAny(final String name) {
+            for (final RegexMatcher pattern : patterns) {
+                if (pattern.find(name)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /** The {@code patternProperties} keyword. */
+    static final class PatternProperties implements Checker {
+
+        private final RegexMatcher[] patterns;
+        private final Checker[] checkers;
+
+        PatternProperties(final List<RegexMatcher> patterns, final List<Checker> checkers) {
+            this.patterns = patterns.toArray(new RegexMatcher[0]);
+            this.checkers = checkers.toArray(new Checker[0]);
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            if (!(value instanceof Map)) {
+                return true;
+            }
+
+            boolean valid = true;
+            for (final Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+                final String name = (String) e.getKey();
+                for (int i = 0; i < patterns.length; i++) {
+                    if (!patterns[i].find(name)) {
+                        continue;
+                    }
+
+                    errors.push(name);
+                    final boolean ok = checkers[i].check(Values.normalize(e.getValue()), errors);
+                    errors.pop();
+                    if (!ok) {
+                        if (!errors.isCollecting()) {
+                            return false;
+                        }
+                        valid = false;
+                    }
+                }
+            }
+            return valid;
+        }
+    }
+
+    /** The {@code propertyNames} keyword. */
+    static final class PropertyNames implements Checker {
+
+        private final Checker checker;
+
+        PropertyNames(final Checker checker) {
+            this.checker = requireNonNull(checker, "checker");
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            if (!(value instanceof Map)) {
+                return true;
+            }
+
+            for (final Object name : ((Map<?, ?>) value).keySet()) {
+                if (!checker.check(name, Errors.SILENT)) {
+                    errors.add("property name '" + name + "' is not valid");
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+
+    /** The {@code minProperties} and {@code maxProperties} keywords. */
+    static final class PropertyCount implements Checker {
+
+        private final int min;
+        private final int max;
+
+        PropertyCount(final int min, final int max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            if (!(value instanceof Map)) {
+                return true;
+            }
+
+            final int size = ((Map<?, ?>) value).size();
+            if (size < min) {
+                errors.add("must have at least " + min + " properties");
+                return false;
+            }
+            if (size > max) {
+                errors.add("must have at most " + max + " properties");
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /** The {@code dependentRequired} keyword. */
+    static final class DependentRequired implements Checker {
+
+        private final Map<String, List<String>> dependencies;
+
+        DependentRequired(final Map<String, List<String>> dependencies) {
+            this.dependencies = Map.copyOf(dependencies);
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            if (!(value instanceof Map)) {
+                return true;
+            }
+
+            final Map<?, ?> map = (Map<?, ?>) value;
+            boolean valid = true;
+            for (final Map.Entry<String, List<String>> e : dependencies.entrySet()) {
+                if (!map.containsKey(e.getKey())) {
+                    continue;
+                }
+                for (final String required : e.getValue()) {
+                    if (!map.containsKey(required)) {
+                        if (!errors.isCollecting()) {
+                            return false;
+                        }
+                        errors.add(
+                                "has a missing property '"
+                                        + required
+                                        + "' which is dependent required because '"
+                                        + e.getKey()
+                                        + "' is present");
+                        valid = false;
+                    }
+                }
+            }
+            return valid;
+        }
+    }
+
+    /** The {@code dependentSchemas} keyword. */
+    static final class DependentSchemas implements Checker {
+
+        private final Map<String, Checker> dependencies;
+
+        DependentSchemas(final Map<String, Checker> dependencies) {
+            this.dependencies = Map.copyOf(dependencies);
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            if (!(value instanceof Map)) {
+                return true;
+            }
+
+            final Map<?, ?> map = (Map<?, ?>) value;
+            boolean valid = true;
+            for (final Map.Entry<String, Checker> e : dependencies.entrySet()) {
+                if (map.containsKey(e.getKey()) && !e.getValue().check(value, errors)) {
+                    if (!errors.isCollecting()) {
+                        return false;
+                    }
+                    valid = false;
+                }
+            }
+            return valid;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+import org.creekservice.internal.json.schema.validator.regex.RegexMatcher;
+
+/** Checkers for keywords that apply to strings and numbers. All accept values of other types. */
+final class ScalarCheckers {
+
+    private ScalarCheckers() {}
+
+    /** The {@code minLength} and {@code maxLength} keywords. */
+    static final class Length implements Checker {
+
+        private final int min;
+        private final int max;
+
+        Length(final int min, final int max) {
+            this.min = min;
+            this.max = max;
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            if (!(value instanceof String)) {
+                return true;
+            }
+
+            final String text = (String) value;
+            // A string has no more code points than chars, so only count code points if needed:
+            if (min == 0 && text.length() <= max) {
+                return true;
+            }
+
+            final int length = text.codePointCount(0, text.length());
+            if (length < min) {
+                errors.add("must be at least " + min + " characters long");
+                return false;
+            }
+            if (length > max) {
+                errors.add("must be at most " + max + " characters long");
+                return false;
+            }
+            return true;
+        }
+    }
+
+    /** The {@code pattern} keyword. */
+    static final class Matches implements Checker {
+
+        private final RegexMatcher pattern;
+
+        Matches(final RegexMatcher pattern) {
+            this.pattern = requireNonNull(pattern, "pattern");
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            if (!(value instanceof String) || pattern.find((String) value)) {
+                return true;
+            }
+            errors.add("does not match the regex pattern " + pattern.regex());
+            return false;
+        }
+    }
+
+    /** The {@code format} keyword, for formats the engine asserts. */
+    static final class Format implements Checker {
+
+        private final String name;
+        private final Predicate<String> format;
+
+        Format(final String name, final Predicate<String> format) {
+            this.name = requireNonNull(name, "name");
+            this.format = requireNonNull(format, "format");
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            if (!(value instanceof String) || format.test((String) value)) {
+                return true;
+            }
+            errors.add("does not match the " + name + " pattern");
+            return false;
+        }
+    }
+
+    /**
+     * The {@code minimum}, {@code maximum}, {@code exclusiveMinimum} and {@code exclusiveMaximum}
+     * keywords.
+     */
+    static final class Bound implements Checker {
+
+        private final Number limit;
+        private final boolean lower;
+        private final boolean exclusive;
+        private final String message;
+
+        Bound(final Number limit, final boolean lower, final boolean exclusive) {
+            this.limit = requireNonNull(limit, "limit");
+            this.lower = lower;
+            this.exclusive = exclusive;
+            this.message =
+                    "must have "
+                            + (exclusive ? "an exclusive " : "a ")
+                            + (lower ? "minimum" : "maximum")
+                            + " value of "
+                            + limit;
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            if (!(value instanceof Number)) {
+                return true;
+            }
+
+            final int cmp = Values.compare((Number) value, limit);
+            final boolean ok =
+                    lower ? (exclusive ? cmp > 0 : cmp >= 0) : (exclusive ? cmp < 0 : cmp <= 0);
+            if (!ok) {
+                errors.add(message);
+            }
+            return ok;
+        }
+    }
+
+    /** The {@code multipleOf} keyword. */
+    static final class MultipleOf implements Checker {
+
+        private final Number divisor;
+
+        MultipleOf(final Number divisor) {
+            this.divisor = requireNonNull(divisor, "divisor");
+        }
+
+        @Override
+        public boolean check(final Object value, final Errors errors) {
+            if (!(value instanceof Number) || Values.isMultipleOf((Number) value, divisor)) {
+                return true;
+            }
+            errors.add("must be multiple of " + divisor);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.engine;
+
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.creekservice.api.json.schema.validator.SchemaValidationException;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Index of the resources and anchors within a self-contained schema, used to resolve {@code $ref}
+ * values.
+ */
+public final class SchemaIndex {
+
+    /** Base URI used for a root schema with no {@code $id}. */
+    private static final URI ROOT = URI.create("urn:creek:root");
+
+    /** Keywords whose values are data, not schemas, and so should not be indexed. */
+    private static final Set<String> DATA_KEYWORDS =
+            Set.of("const", "default", "enum", "examples");
+
+    private final Map<URI, JsonNode> resources = new HashMap<>();
+    private final Map<URI, JsonNode> anchors = new HashMap<>();
+    private final Map<JsonNode, URI> bases = new IdentityHashMap<>();
+
+    private SchemaIndex() {}
+
+    /**
+     * Index a schema.
+     *
+     * @param root the self-contained root schema.
+     * @return the index.
+     * @throws SchemaValidationException if the schema contains an invalid {@code $id}.
+     */
+    public static SchemaIndex of(final JsonNode root) {
+        final SchemaIndex index = new SchemaIndex();
+        index.resources.put(ROOT, root);
+        index.index(root, ROOT);
+        return index;
+    }
+
+    /**
+     * Index a set of schema resources, e.g. those shared by many root schemas.
+     *
+     * @param resources the resources, each with an {@code $id}.
+     * @return the index.
+     * @throws SchemaValidationException if a schema contains an invalid {@code $id}.
+     */
+    static SchemaIndex of(final Collection<JsonNode> resources) {
+        final SchemaIndex index = new SchemaIndex();
+        resources.forEach(resource -> index.index(resource, ROOT));
+        return index;
+    }
+
+    /**
+     * Resolve a {@code $ref}.
+     *
+     * @param referrer the schema containing the {@code $ref}, whose base URI the reference is
+     *     resolved against.
+     * @param ref the value of the {@code $ref}.
+     * @return the schema referenced.
+     * @throws SchemaValidationException if the reference can not be resolved.
+     */
+    public JsonNode resolve(final JsonNode referrer, final JsonNode ref) {
+        final String text = ref.asString();
+        final URI base = bases.getOrDefault(referrer, ROOT);
+        final URI target =
+                text.startsWith("#")
+                        ? withFragment(base, text.substring(1))
+                        : resolve(base, text);
+        final URI document = withoutFragment(target);
+        final String fragment = target.getFragment();
+
+        final JsonNode resolved;
+        if (fragment == null || fragment.isEmpty()) {
+            resolved = resources.get(document);
+        } else if (fragment.startsWith("/")) {
+            final JsonNode resource = resources.get(document);
+            resolved = resource == null ? null : pointer(resource, fragment);
+        } else {
+            resolved = anchors.get(target);
+        }
+
+        if (resolved == null) {
+            throw SchemaValidationException.of("Invalid schema: unresolvable $ref: " + text);
+        }
+        return resolved;
+    }
+
+    /**
+     * @param id the id of the resource, without fragment.
+     * @return the resource with the {@code id}, or {@code null} if none.
+     */
+    JsonNode resource(final URI id) {
+        return resources.get(id);
+    }
+
+    /**
+     * @param schema a schema within the index.
+     * @return the base URI of the {@code schema}, i.e. the id of the resource it is in, or {@code
+     *     null} if not indexed.
+     */
+    URI base(final JsonNode schema) {
+        return bases.get(schema);
+    }
+
+    /**
+     * @param uri the URI.
+     * @return the URI without any fragment.
+     */
+    static URI withoutFragment(final URI uri) {
+        return uri.getFragment() == null ? uri : withFragment(uri, null);
+    }
+
+    private void index(final JsonNode node, final URI base) {
+        if (node.isArray()) {
+            for (final JsonNode element : node) {
+                index(element, base);
+            }
+            return;
+        }
+
+        if (!node.isObject()) {
+            return;
+        }
+
+        URI currentBase = base;
+        final JsonNode id = node.get("$id");
+        if (id != null && id.isString()) {
+            currentBase = withoutFragment(resolve(base, id.asString()));
+            resources.put(currentBase, node);
+        }
+        bases.put(node, currentBase);
+
+        final JsonNode anchor = node.get("$anchor");
+        if (anchor != null && anchor.isString()) {
+            anchors.put(withFragment(currentBase, anchor.asString()), node);
+        }
+
+        for (final Map.Entry<String, JsonNode> e : node.properties()) {
+            if (!DATA_KEYWORDS.contains(e.getKey())) {
+                index(e.getValue(), currentBase);
+            }
+        }
+    }
+
+    private static JsonNode pointer(final JsonNode resource, final String pointer) {
+        JsonNode node = resource;
+        for (final String token : pointer.substring(1).split("/", -1)) {
+            final String key = token.replace("~1", "/").replace("~0", "~");
+            if (node.isArray()) {
+                try {
+                    node = node.get(Integer.parseInt(key));
+                } catch (final NumberFormatException e) {
+                    return null;
+                }
+            } else {
+                node = node.get(key);
+            }
+            if (node == null) {
+                return null;
+            }
+        }
+        return node;
+    }
+
+    private static URI resolve(final URI base, final String ref) {
+        try {
+            final URI uri = new URI(ref);
+            return base.isOpaque() ? uri : base.resolve(uri);
+        } catch (final URISyntaxException e) {
+            throw SchemaValidationException.of("Invalid schema: invalid URI: " + ref, e);
+        }
+    }
+
+    private static URI withFragment(final URI uri, final String fragment) {
+        try {
+            return new URI(uri.getScheme(), uri.getSchemeSpecificPart(), fragment);
+        } catch (final URISyntaxException e) {
+            throw SchemaValidationException.of("Invalid schema: invalid URI: " + uri, e);
+        }
+    }
+}
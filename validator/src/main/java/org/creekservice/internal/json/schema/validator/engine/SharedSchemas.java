@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.net.URI;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Schema resources shared by many root schemas, e.g. those of a schema bundle, each compiled once
+ * per set of options, rather than once per root that embeds it.
+ *
+ * <p>A root reuses the compiled form of a shared resource only where it embeds that very resource
+ * node, and the very nodes of every shared resource it depends on, so that the reused form is
+ * exactly what compiling the root would produce. For example, a root that defines its own
+ * resource under the id of a shared one compiles any shared resource depending on it afresh.
+ *
+ * <p>Instances are thread-safe.
+ */
+public final class SharedSchemas {
+
+    /** No shared resources. */
+    public static final SharedSchemas NONE = new SharedSchemas(Map.of(), id -> Set.of());
+
+    private final Map<URI, JsonNode> resources;
+    private final Function<URI, Set<URI>> dependencies;
+    // Compilers by combination of options, each created on first use:
+    private final NativeSchemaCompiler[] compilers = new NativeSchemaCompiler[4];
+    private SchemaIndex index;
+
+    /**
+     * @param resources the shared resources, by id. Each must have its {@code $id} set.
+     * @param dependencies returns the ids of the resources a resource, identified by id, depends
+     *     on, directly or transitively.
+     */
+    public SharedSchemas(
+            final Map<URI, JsonNode> resources, final Function<URI, Set<URI>> dependencies) {
+        this.resources = Map.copyOf(resources);
+        this.dependencies = requireNonNull(dependencies, "dependencies");
+    }
+
+    /**
+     * @param schema a schema within the root being compiled.
+     * @param root the index of the root being compiled.
+     * @param linearTimePatterns the compiler option.
+     * @param customTemporalFormats the compiler option.
+     * @return the compiled form of the {@code schema}, if it is a shared resource the root can
+     *     reuse, otherwise {@code null}.
+     */
+    Checker checker(
+            final JsonNode schema,
+            final SchemaIndex root,
+            final boolean linearTimePatterns,
+            final boolean customTemporalFormats) {
+        final URI id = root.base(schema);
+        if (id == null || resources.get(id) != schema) {
+            return null;
+        }
+        for (final URI dependency : dependencies.apply(id)) {
+            if (root.resource(dependency) != resources.get(dependency)) {
+                return null;
+            }
+        }
+        final int options = (linearTimePatterns ? 1 : 0) | (customTemporalFormats ? 2 : 0);
+        synchronized (this) {
+            try {
+                return compiler(options).compileShared(schema);
+            } catch (final RuntimeException e) {
+                // Discard any partially compiled resources:
+                compilers[options] = null;
+                throw e;
+            }
+        }
+    }
+
+    private NativeSchemaCompiler compiler(final int options) {
+        if (index == null) {
+            index = SchemaIndex.of(resources.values());
+        }
+        if (compilers[options] == null) {
+            final boolean linearTimePatterns = (options & 1) != 0;
+            final boolean customTemporalFormats = (options & 2) != 0;
+            compilers[options] =
+                    new NativeSchemaCompiler(
+                            index, linearTimePatterns, customTemporalFormats, NONE);
+        }
+        return compilers[options];
+    }
+}
@@ -0,0 +1,357 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.engine;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+/**
+ * Helpers for working with the JSON data model as plain Java objects, i.e. {@code null}, {@link
+ * String}, {@link Boolean}, {@link Number}, {@code Map<String, ?>} and {@link List}.
+ */
+public final class Values {
+
+    /** Bit flags for JSON types. An integer is also a number. */
+    static final int NULL = 1;
+
+    static final int BOOLEAN = 1 << 1;
+    static final int INTEGER = 1 << 2;
+    static final int NUMBER = 1 << 3;
+    static final int STRING = 1 << 4;
+    static final int ARRAY = 1 << 5;
+    static final int OBJECT = 1 << 6;
+
+    /** Largest magnitude a long can have and still be exactly representable as a double. */
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+
+    private Values() {}
+
+    /**
+     * Ensure a value is part of the JSON data model, converting it if not.
+     *
+     * <p>Values produced by Jackson deserialisation to {@code Map} are returned as-is. Anything
+     * else, e.g. POJOs, enums, or maps with non-string keys, is converted as Jackson would
+     * serialise it.
+     *
+     * @param value the value.
+     * @return the value as part of the JSON data model.
+     */
+    static Object normalize(final Object value) {
+        if (value == null
+                || value instanceof String
+                || value instanceof Boolean
+                || value instanceof List
+                || isKnownNumber(value)) {
+            return value;
+        }
+        if (value instanceof Map && hasStringKeys((Map<?, ?>) value)) {
+            return value;
+        }
+        if (value instanceof Character) {
+            return value.toString();
+        }
+        if (value instanceof JsonNode) {
+            return fromNode((JsonNode) value);
+        }
+        return JSON_MAPPER.convertValue(value, Object.class);
+    }
+
+    /**
+     * @param value a normalized value.
+     * @return the type flags of the value. Integers also have the {@link #NUMBER} flag set.
+     */
+    static int typeOf(final Object value) {
+        if (value instanceof String) {
+            return STRING;
+        }
+        if (value instanceof Number) {
+            return isInteger((Number) value) ? INTEGER | NUMBER : NUMBER;
+        }
+        if (value instanceof Map) {
+            return OBJECT;
+        }
+        if (value instanceof List) {
+            return ARRAY;
+        }
+        if (value instanceof Boolean) {
+            return BOOLEAN;
+        }
+        return NULL;
+    }
+
+    /**
+     * @param type a single type flag.
+     * @return the JSON Schema name of the type.
+     */
+    static String typeName(final int type) {
+        switch (type) {
+            case NULL:
+                return "null";
+            case BOOLEAN:
+                return "boolean";
+            case INTEGER:
+                return "integer";
+            case NUMBER:
+                return "number";
+            case STRING:
+                return "string";
+            case ARRAY:
+                return "array";
+            case OBJECT:
+                return "object";
+            default:
+                throw new IllegalArgumentException("Unknown type: " + type);
+        }
+    }
+
+    /**
+     * @param value a normalized value.
+     * @return the JSON Schema name of the value's type, preferring {@code integer} over {@code
+     *     number} where it applies.
+     */
+    static String typeNameOf(final Object value) {
+        return typeName(Integer.lowestOneBit(typeOf(value)));
+    }
+
+    /**
+     * @param number the number.
+     * @return {@code true} if the number has no fractional part.
+     */
+    static boolean isInteger(final Number number) {
+        if (isLongLike(number) || number instanceof BigInteger) {
+            return true;
+        }
+        if (number instanceof BigDecimal) {
+            final BigDecimal decimal = (BigDecimal) number;
+            return decimal.signum() == 0 || decimal.stripTrailingZeros().scale() <= 0;
+        }
+        final double d = number.doubleValue();
+        return !Double.isInfinite(d) && d == Math.rint(d);
+    }
+
+    /**
+     * Compare two numbers by their mathematical value.
+     *
+     * @param a the first number.
+     * @param b the second number.
+     * @return negative, zero or positive as {@code a} is less than, equal to, or greater than
+     *     {@code b}.
+     */
+    static int compare(final Number a, final Number b) {
+        if (isLongLike(a) && isLongLike(b)) {
+            return Long.compare(a.longValue(), b.longValue());
+        }
+        if ((isExactDouble(a) && isExactDouble(b)) || !isFinite(a) || !isFinite(b)) {
+            return Double.compare(a.doubleValue(), b.doubleValue());
+        }
+        return toBigDecimal(a).compareTo(toBigDecimal(b));
+    }
+
+    /**
+     * @param value the value.
+     * @param divisor the divisor, which must be positive.
+     * @return {@code true} if {@code value} is an integer multiple of {@code divisor}.
+     */
+    static boolean isMultipleOf(final Number value, final Number divisor) {
+        if (isLongLike(value) && isLongLike(divisor)) {
+            return value.longValue() % divisor.longValue() == 0;
+        }
+        if (!isFinite(value)) {
+            return false;
+        }
+        return toBigDecimal(value).remainder(toBigDecimal(divisor)).signum() == 0;
+    }
+
+    /**
+     * Compare two normalized values for equality as JSON values, i.e. numbers are equal if their
+     * mathematical values are equal, regardless of type.
+     *
+     * @param a the first value.
+     * @param b the second value.
+     * @return {@code true} if equal.
+     */
+    public static boolean jsonEquals(final Object a, final Object b) {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null) {
+            return false;
+        }
+        if (a instanceof Number && b instanceof Number) {
+            return compare((Number) a, (Number) b) == 0;
+        }
+        if (a instanceof Map && b instanceof Map) {
+            final Map<?, ?> ma = (Map<?, ?>) a;
+            final Map<?, ?> mb = (Map<?, ?>) b;
+            if (ma.size() != mb.size()) {
+                return false;
+            }
+            for (final Map.Entry<?, ?> e : ma.entrySet()) {
+                final Object other = mb.get(e.getKey());
+                if (other == null && !mb.containsKey(e.getKey())) {
+                    return false;
+                }
+                if (!jsonEquals(normalize(e.getValue()), normalize(other))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        if (a instanceof List && b instanceof List) {
+            final List<?> la = (List<?>) a;
+            final List<?> lb = (List<?>) b;
+            if (la.size() != lb.size()) {
+                return false;
+            }
+            final Iterator<?> ia = la.iterator();
+            final Iterator<?> ib = lb.iterator();
+            while (ia.hasNext()) {
+                if (!jsonEquals(normalize(ia.next()), normalize(ib.next()))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        return a.equals(b);
+    }
+
+    /**
+     * A hash code consistent with {@link #jsonEquals}.
+     *
+     * @param value a normalized value.
+     * @return the hash code.
+     */
+    static int jsonHash(final Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof Number) {
+            // Mathematically equal numbers always round to the same double:
+            return Double.hashCode(((Number) value).doubleValue() + 0.0);
+        }
+        if (value instanceof Map) {
+            int hash = 0;
+            for (final Map.Entry<?, ?> e : ((Map<?, ?>) value).entrySet()) {
+                hash += e.getKey().hashCode() ^ jsonHash(normalize(e.getValue()));
+            }
+            return hash;
+        }
+        if (value instanceof List) {
+            int hash = 1;
+            for (final Object element : (List<?>) value) {
+                hash = 31 * hash + jsonHash(normalize(element));
+            }
+            return hash;
+        }
+        return value.hashCode();
+    }
+
+    /**
+     * Convert a JSON node into the plain Java data model.
+     *
+     * @param node the node.
+     * @return the equivalent value.
+     */
+    public static Object fromNode(final JsonNode node) {
+        if (node.isObject()) {
+            final Map<String, Object> map = new LinkedHashMap<>();
+            for (final Map.Entry<String, JsonNode> e : node.properties()) {
+                map.put(e.getKey(), fromNode(e.getValue()));
+            }
+            return map;
+        }
+        if (node.isArray()) {
+            final List<Object> list = new ArrayList<>(node.size());
+            for (final JsonNode element : node) {
+                list.add(fromNode(element));
+            }
+            return list;
+        }
+        if (node.isString()) {
+            return node.asString();
+        }
+        if (node.isNumber()) {
+            return node.numberValue();
+        }
+        if (node.isBoolean()) {
+            return node.booleanValue();
+        }
+        return null;
+    }
+
+    private static boolean isKnownNumber(final Object value) {
+        return isLongLike(value)
+                || value instanceof Double
+                || value instanceof Float
+                || value instanceof BigDecimal
+                || value instanceof BigInteger;
+    }
+
+    private static boolean isLongLike(final Object value) {
+        return value instanceof Integer
+                || value instanceof Long
+                || value instanceof Short
+                || value instanceof Byte;
+    }
+
+    private static boolean isExactDouble(final Number number) {
+        if (number instanceof Double || number instanceof Float) {
+            return true;
+        }
+        if (isLongLike(number)) {
+            final long l = number.longValue();
+            return -MAX_EXACT_DOUBLE <= l && l <= MAX_EXACT_DOUBLE;
+        }
+        return false;
+    }
+
+    private static boolean isFinite(final Number number) {
+        return !(number instanceof Double || number instanceof Float)
+                || Double.isFinite(number.doubleValue());
+    }
+
+    private static BigDecimal toBigDecimal(final Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        }
+        if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        }
+        if (isLongLike(number)) {
+            return BigDecimal.valueOf(number.longValue());
+        }
+        return new BigDecimal(number.toString());
+    }
+
+    private static boolean hasStringKeys(final Map<?, ?> map) {
+        for (final Object key : map.keySet()) {
+            if (!(key instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.format;
+
+import java.util.Map;
+import java.util.Set;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.node.ArrayNode;
+import tools.jackson.databind.node.ObjectNode;
+
+/**
+ * Rewrites schemas so that validators that only know the standard formats still assert the custom
+ * {@link TemporalFormats}: each subschema with a custom {@code format} is given the equivalent
+ * {@link TemporalFormats#PATTERNS pattern}.
+ *
+ * <p>Only keywords whose values are subschemas are searched, so data, e.g. within {@code const}
+ * or {@code enum}, is never changed.
+ */
+public final class TemporalFormatPatterns {
+
+    private static final String FORMAT = "format";
+    private static final String PATTERN = "pattern";
+    private static final String ALL_OF = "allOf";
+
+    /** Keywords whose value is a subschema, or an array of subschemas. */
+    private static final Set<String> SUBSCHEMA_KEYWORDS =
+            Set.of(
+                    "additionalItems",
+                    "additionalProperties",
+                    ALL_OF,
+                    "anyOf",
+                    "contains",
+                    "else",
+                    "if",
+                    "items",
+                    "not",
+                    "oneOf",
+                    "prefixItems",
+                    "propertyNames",
+                    "then",
+                    "unevaluatedItems",
+                    "unevaluatedProperties");
+
+    /** Keywords whose value is an object of subschemas. */
+    private static final Set<String> SUBSCHEMA_MAP_KEYWORDS =
+            Set.of("$defs", "definitions", "dependentSchemas", "patternProperties", "properties");
+
+    private TemporalFormatPatterns() {}
+
+    /**
+     * @param schema the schema.
+     * @return {@code schema}, if it uses none of the custom formats, otherwise a copy with the
+     *     equivalent patterns added.
+     */
+    public static JsonNode apply(final JsonNode schema) {
+        final JsonNode copy = schema.deepCopy();
+        return addPatterns(copy) ? copy : schema;
+    }
+
+    /** @return {@code true} if any pattern was added. */
+    private static boolean addPatterns(final JsonNode schema) {
+        if (!schema.isObject()) {
+            return false;
+        }
+        boolean added = false;
+        for (final Map.Entry<String, JsonNode> e : schema.properties()) {
+            final JsonNode value = e.getValue();
+            if (SUBSCHEMA_KEYWORDS.contains(e.getKey())) {
+                if (value.isArray()) {
+                    for (final JsonNode element : value) {
+                        added |= addPatterns(element);
+                    }
+                } else {
+                    added |= addPatterns(value);
+                }
+            } else if (SUBSCHEMA_MAP_KEYWORDS.contains(e.getKey()) && value.isObject()) {
+                for (final Map.Entry<String, JsonNode> subschema : value.properties()) {
+                    added |= addPatterns(subschema.getValue());
+                }
+            }
+        }
+
+        final String pattern = customPattern(schema);
+        if (pattern == null) {
+            return added;
+        }
+        final ObjectNode object = (ObjectNode) schema;
+        if (!object.has(PATTERN)) {
+            object.put(PATTERN, pattern);
+            return true;
+        }
+        // Keep the schema's own pattern, which must also match:
+        final JsonNode allOf = object.get(ALL_OF);
+        final ArrayNode conditions =
+                allOf != null && allOf.isArray() ? (ArrayNode) allOf : object.putArray(ALL_OF);
+        conditions.addObject().put(PATTERN, pattern);
+        return true;
+    }
+
+    /** @return the pattern equivalent to the schema's custom format, or {@code null} if none. */
+    private static String customPattern(final JsonNode schema) {
+        final JsonNode format = schema.get(FORMAT);
+        return format != null && format.isString()
+                ? TemporalFormats.PATTERNS.get(format.asString())
+                : null;
+    }
+}
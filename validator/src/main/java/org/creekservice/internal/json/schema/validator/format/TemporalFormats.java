@@ -0,0 +1,265 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.format;
+
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Checks for the custom {@code format}s the generator can emit for Java temporal types, in place
+ * of regex patterns.
+ *
+ * <p>Each check is a single, allocation-free scan of the text, accepting exactly the strings the
+ * equivalent generator pattern matches, except that, unlike {@code $}, no trailing line terminator
+ * is allowed.
+ */
+public final class TemporalFormats {
+
+    /** Format of {@link java.time.LocalTime}, e.g. {@code 13:45:30.123}. */
+    public static final String LOCAL_TIME = "local-time";
+
+    /** Format of {@link java.time.LocalDateTime}, e.g. {@code 2026-10-18T13:45:30}. */
+    public static final String LOCAL_DATE_TIME = "local-date-time";
+
+    /** Format of {@link java.time.MonthDay}, e.g. {@code --10-18}. */
+    public static final String MONTH_DAY = "month-day";
+
+    /** Format of {@link java.time.YearMonth}, e.g. {@code 2026-10}. */
+    public static final String YEAR_MONTH = "year-month";
+
+    /** Format of {@link java.time.Period}, e.g. {@code P1Y2M3D}. */
+    public static final String PERIOD = "period";
+
+    /** The checks, by format name. */
+    public static final Map<String, Predicate<String>> FORMATS =
+            Map.of(
+                    LOCAL_TIME, TemporalFormats::isLocalTime,
+                    LOCAL_DATE_TIME, TemporalFormats::isLocalDateTime,
+                    MONTH_DAY, TemporalFormats::isMonthDay,
+                    YEAR_MONTH, TemporalFormats::isYearMonth,
+                    PERIOD, TemporalFormats::isPeriod);
+
+    /**
+     * Regexes matching the same strings as the checks, by format name, for validators that can
+     * only check formats they know with patterns.
+     *
+     * <p>Each ends with {@code \z}, rather than {@code $}, so that, like the checks, it rejects a
+     * trailing line terminator.
+     */
+    public static final Map<String, String> PATTERNS =
+            Map.of(
+                    LOCAL_TIME,
+                    "^(?:[01]\\d|2[0-3]):[0-5]\\d(?::[0-5]\\d(?:\\.\\d{1,9})?)?\\z",
+                    LOCAL_DATE_TIME,
+                    "^\\d{4}-(?:0[1-9]|1[0-2])-(?:0[1-9]|[12]\\d|3[01])"
+                            + "T(?:[01]\\d|2[0-3]):[0-5]\\d(?::[0-5]\\d(?:\\.\\d{1,9})?)?\\z",
+                    MONTH_DAY,
+                    "^--(?:0[1-9]|1[0-2])-(?:0[1-9]|[12]\\d|3[01])\\z",
+                    YEAR_MONTH,
+                    "^-?\\d{4,}-(?:0[1-9]|1[0-2])\\z",
+                    PERIOD,
+                    "^P(?=\\d)(?:\\d+Y)?(?:\\d+M)?(?:\\d+W)?(?:\\d+D)?\\z");
+
+    private static final String PERIOD_UNITS = "YMWD";
+
+    private static final int NO_MATCH = -1;
+
+    private TemporalFormats() {}
+
+    /**
+     * @param text the text to check.
+     * @return {@code true} if {@code text} is {@code HH:mm}, optionally followed by {@code :ss}
+     *     and up to nine fractional second digits.
+     */
+    public static boolean isLocalTime(final String text) {
+        return localTime(text, 0) == text.length();
+    }
+
+    /**
+     * @param text the text to check.
+     * @return {@code true} if {@code text} is {@code yyyy-MM-dd}, then {@code T}, then a local
+     *     time.
+     */
+    public static boolean isLocalDateTime(final String text) {
+        final int i = date(text, 0);
+        return i != NO_MATCH && is(text, i, 'T') && localTime(text, i + 1) == text.length();
+    }
+
+    /**
+     * @param text the text to check.
+     * @return {@code true} if {@code text} is {@code --MM-dd}.
+     */
+    public static boolean isMonthDay(final String text) {
+        return text.length() == 7
+                && is(text, 0, '-')
+                && is(text, 1, '-')
+                && isMonth(text, 2)
+                && is(text, 4, '-')
+                && isDay(text, 5);
+    }
+
+    /**
+     * @param text the text to check.
+     * @return {@code true} if {@code text} is an optionally negative year of at least four digits,
+     *     then {@code -MM}.
+     */
+    public static boolean isYearMonth(final String text) {
+        final int start = is(text, 0, '-') ? 1 : 0;
+        final int digits = digits(text, start);
+        return digits >= 4
+                && text.length() == start + digits + 3
+                && isMonthPart(text, start + digits);
+    }
+
+    /**
+     * @param text the text to check.
+     * @return {@code true} if {@code text} is {@code P} followed by at least one of, and in
+     *     order, years, months, weeks and days, e.g. {@code P1Y2W}.
+     */
+    public static boolean isPeriod(final String text) {
+        if (!is(text, 0, 'P') || text.length() == 1) {
+            return false;
+        }
+        int i = 1;
+        int nextUnit = 0;
+        while (i < text.length()) {
+            final int digits = digits(text, i);
+            if (digits == 0 || i + digits == text.length()) {
+                return false;
+            }
+            i += digits;
+            final int unit = PERIOD_UNITS.indexOf(text.charAt(i), nextUnit);
+            if (unit < 0) {
+                return false;
+            }
+            nextUnit = unit + 1;
+            i++;
+        }
+        return true;
+    }
+
+    /** @return the index after the local time starting at {@code i}, or {@link #NO_MATCH}. */
+    private static int localTime(final String text, final int i) {
+        if (!isHour(text, i) || !is(text, i + 2, ':') || !isSixtieth(text, i + 3)) {
+            return NO_MATCH;
+        }
+        if (!is(text, i + 5, ':')) {
+            return i + 5;
+        }
+        if (!isSixtieth(text, i + 6)) {
+            return NO_MATCH;
+        }
+        if (!is(text, i + 8, '.')) {
+            return i + 8;
+        }
+        final int digits = digits(text, i + 9);
+        return digits >= 1 && digits <= 9 ? i + 9 + digits : NO_MATCH;
+    }
+
+    /**
+     * @return the index after the {@code yyyy-MM-dd} starting at {@code i}, or {@link #NO_MATCH}.
+     */
+    private static int date(final String text, final int i) {
+        return isDigit(text, i)
+                        && isDigit(text, i + 1)
+                        && isDigit(text, i + 2)
+                        && isDigit(text, i + 3)
+                        && isMonthPart(text, i + 4)
+                        && is(text, i + 7, '-')
+                        && isDay(text, i + 8)
+                ? i + 10
+                : NO_MATCH;
+    }
+
+    /** {@code -MM} */
+    private static boolean isMonthPart(final String text, final int i) {
+        return is(text, i, '-') && isMonth(text, i + 1);
+    }
+
+    /** {@code 00} to {@code 23}. */
+    private static boolean isHour(final String text, final int i) {
+        if (!isDigit(text, i + 1)) {
+            return false;
+        }
+        final char tens = charAt(text, i);
+        return tens == '0' || tens == '1' || (tens == '2' && text.charAt(i + 1) <= '3');
+    }
+
+    /** {@code 00} to {@code 59}. */
+    private static boolean isSixtieth(final String text, final int i) {
+        final char tens = charAt(text, i);
+        return tens >= '0' && tens <= '5' && isDigit(text, i + 1);
+    }
+
+    /** {@code 01} to {@code 12}. */
+    private static boolean isMonth(final String text, final int i) {
+        if (!isDigit(text, i + 1)) {
+            return false;
+        }
+        final char units = text.charAt(i + 1);
+        switch (charAt(text, i)) {
+            case '0':
+                return units != '0';
+            case '1':
+                return units <= '2';
+            default:
+                return false;
+        }
+    }
+
+    /** {@code 01} to {@code 31}. */
+    private static boolean isDay(final String text, final int i) {
+        if (!isDigit(text, i + 1)) {
+            return false;
+        }
+        final char units = text.charAt(i + 1);
+        switch (charAt(text, i)) {
+            case '0':
+                return units != '0';
+            case '1':
+            case '2':
+                return true;
+            case '3':
+                return units <= '1';
+            default:
+                return false;
+        }
+    }
+
+    /** @return the number of consecutive ASCII digits starting at {@code i}. */
+    private static int digits(final String text, final int i) {
+        int end = i;
+        while (isDigit(text, end)) {
+            end++;
+        }
+        return end - i;
+    }
+
+    private static boolean isDigit(final String text, final int i) {
+        final char c = charAt(text, i);
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean is(final String text, final int i, final char expected) {
+        return charAt(text, i) == expected;
+    }
+
+    /** @return the char at {@code i}, or {@code 0} past the end of the text. */
+    private static char charAt(final String text, final int i) {
+        return i < text.length() ? text.charAt(i) : 0;
+    }
+}
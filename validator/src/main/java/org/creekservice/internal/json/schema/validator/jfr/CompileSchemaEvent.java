@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.jfr;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** JFR event recording the parsing and compilation of a schema. */
+@Name("org.creekservice.json.schema.validator.CompileSchema")
+@Label("Compile Schema")
+@Description("Parsing and compilation of a JSON schema into a validator")
+@Category({"Creek", "JSON Schema", "Validator"})
+@SuppressFBWarnings(value = "URF_UNREAD_FIELD", justification = "Fields are read by JFR")
+public final class CompileSchemaEvent extends jdk.jfr.Event {
+
+    @Label("Schema Id")
+    @Description("The schema's $id, or title if it has no $id")
+    private String schemaId;
+
+    @Label("Schema Size")
+    @DataAmount
+    private long schemaSize;
+
+    @Label("Succeeded")
+    private boolean succeeded;
+
+    /**
+     * Set the event's fields.
+     *
+     * @param schemaId the schema id, or title.
+     * @param schemaSize the size of the schema source, in bytes.
+     * @param succeeded {@code true} if the schema compiled.
+     */
+    public void set(final String schemaId, final long schemaSize, final boolean succeeded) {
+        this.schemaId = schemaId;
+        this.schemaSize = schemaSize;
+        this.succeeded = succeeded;
+    }
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.jfr;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event recording a regex that linear-time matching was requested for, but which is matched
+ * by {@code java.util.regex}, so may take time exponential in the length of the input.
+ */
+@Name("org.creekservice.json.schema.validator.RegexFallback")
+@Label("Regex Fallback")
+@Description("A pattern that could not be matched in linear time, so uses java.util.regex")
+@Category({"Creek", "JSON Schema", "Validator"})
+@SuppressFBWarnings(value = "URF_UNREAD_FIELD", justification = "Fields are read by JFR")
+public final class RegexFallbackEvent extends jdk.jfr.Event {
+
+    @Label("Regex")
+    private String regex;
+
+    @Label("Reason")
+    @Description("Why the regex can not be matched in linear time")
+    private String reason;
+
+    /**
+     * Set the event's fields.
+     *
+     * @param regex the regex.
+     * @param reason why the regex can not be matched in linear time.
+     */
+    public void set(final String regex, final String reason) {
+        this.regex = regex;
+        this.reason = reason;
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.jfr;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** JFR event recording the validation of a single document against a schema. */
+@Name("org.creekservice.json.schema.validator.Validate")
+@Label("Validate")
+@Description("Validation of a single document against a JSON schema")
+@Category({"Creek", "JSON Schema", "Validator"})
+@SuppressFBWarnings(value = "URF_UNREAD_FIELD", justification = "Fields are read by JFR")
+public final class ValidateEvent extends jdk.jfr.Event {
+
+    @Label("Schema Id")
+    @Description("The schema's $id, or title if it has no $id")
+    private String schemaId;
+
+    @Label("Valid")
+    private boolean valid;
+
+    @Label("Error Count")
+    private int errorCount;
+
+    @Label("Succeeded")
+    @Description("Whether validation completed, rather than failing with an exception")
+    private boolean succeeded;
+
+    /**
+     * Set the event's fields.
+     *
+     * @param schemaId the schema id, or title.
+     * @param errorCount the number of validation errors, where zero means the document is valid.
+     * @param succeeded whether validation completed. If not, the document is not reported valid.
+     */
+    public void set(final String schemaId, final int errorCount, final boolean succeeded) {
+        this.schemaId = schemaId;
+        this.valid = succeeded && errorCount == 0;
+        this.errorCount = errorCount;
+        this.succeeded = succeeded;
+    }
+}
@@ -0,0 +1,286 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.regex;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * An immutable set of Unicode code points, held as sorted, disjoint, inclusive ranges.
+ *
+ * <p>Predefined classes, e.g. {@link #DIGIT}, match {@code java.util.regex} with default flags,
+ * i.e. they are ASCII only.
+ */
+public final class CharClass {
+
+    /** The largest code point. */
+    public static final int MAX_CODE_POINT = Character.MAX_CODE_POINT;
+
+    /** No code points. */
+    public static final CharClass EMPTY = new CharClass(new int[0]);
+
+    /** All code points. */
+    public static final CharClass ANY = range(0, MAX_CODE_POINT);
+
+    /** {@code \d}. */
+    public static final CharClass DIGIT = range('0', '9');
+
+    /** {@code \w}. */
+    public static final CharClass WORD =
+            range('a', 'z').union(range('A', 'Z')).union(DIGIT).union(of('_'));
+
+    /** {@code \s}. */
+    public static final CharClass SPACE = range('\t', '\r').union(of(' '));
+
+    /** {@code \h}. */
+    public static final CharClass HORIZONTAL_SPACE =
+            ofAll(' ', '\t', 0xA0, 0x1680, 0x180E, 0x202F, 0x205F, 0x3000)
+                    .union(range(0x2000, 0x200A));
+
+    /** {@code \v}. */
+    public static final CharClass VERTICAL_SPACE =
+            range('\n', '\r').union(ofAll(0x85, 0x2028, 0x2029));
+
+    /** The line terminators {@code .} does not match, and {@code $} may precede. */
+    public static final CharClass LINE_TERMINATOR =
+            ofAll('\n', '\r', 0x85, 0x2028, 0x2029);
+
+    /** {@code .}. */
+    public static final CharClass DOT = LINE_TERMINATOR.negate();
+
+    /** Printable ASCII, preferred when sampling. */
+    private static final CharClass PRINTABLE_ASCII = range(0x20, 0x7E);
+
+    /** Surrogates, which are never sampled, as they are not characters on their own. */
+    private static final CharClass SAMPLEABLE =
+            range(0, Character.MIN_SURROGATE - 1).union(range(Character.MAX_SURROGATE + 1, 0xFFFD));
+
+    /** Pairs of inclusive range bounds: start, end, start, end... */
+    private final int[] ranges;
+    private SamplePools samplePools;
+
+    private CharClass(final int[] ranges) {
+        this.ranges = ranges;
+    }
+
+    /**
+     * @param codePoint the code point.
+     * @return a class holding only the {@code codePoint}.
+     */
+    public static CharClass of(final int codePoint) {
+        return range(codePoint, codePoint);
+    }
+
+    /**
+     * @param codePoints the code points.
+     * @return a class holding the {@code codePoints}.
+     */
+    public static CharClass ofAll(final int... codePoints) {
+        CharClass result = EMPTY;
+        for (final int codePoint : codePoints) {
+            result = result.union(of(codePoint));
+        }
+        return result;
+    }
+
+    /**
+     * @param first the first code point, inclusive.
+     * @param last the last code point, inclusive.
+     * @return a class holding the range.
+     */
+    public static CharClass range(final int first, final int last) {
+        if (first < 0 || last > MAX_CODE_POINT || first > last) {
+            throw new IllegalArgumentException("Invalid range: " + first + "-" + last);
+        }
+        return new CharClass(new int[] {first, last});
+    }
+
+    /**
+     * @param codePoint the code point.
+     * @return {@code true} if the class holds the {@code codePoint}.
+     */
+    public boolean contains(final int codePoint) {
+        int low = 0;
+        int high = ranges.length / 2 - 1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (codePoint < ranges[mid * 2]) {
+                high = mid - 1;
+            } else if (codePoint > ranges[mid * 2 + 1]) {
+                low = mid + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return {@code true} if the class holds no code points.
+     */
+    public boolean isEmpty() {
+        return ranges.length == 0;
+    }
+
+    /**
+     * @return the number of ranges in the class.
+     */
+    public int rangeCount() {
+        return ranges.length / 2;
+    }
+
+    /**
+     * @param index the index of the range.
+     * @return the first code point of the range.
+     */
+    public int rangeStart(final int index) {
+        return ranges[index * 2];
+    }
+
+    /**
+     * @param index the index of the range.
+     * @return the last code point of the range, inclusive.
+     */
+    public int rangeEnd(final int index) {
+        return ranges[index * 2 + 1];
+    }
+
+    /**
+     * @param other the other class.
+     * @return a class holding the code points of both classes.
+     */
+    public CharClass union(final CharClass other) {
+        final int[] merged = new int[ranges.length + other.ranges.length];
+        int i = 0;
+        int j = 0;
+        int n = 0;
+        while (i < ranges.length || j < other.ranges.length) {
+            final int start;
+            final int end;
+            if (j >= other.ranges.length
+                    || (i < ranges.length && ranges[i] <= other.ranges[j])) {
+                start = ranges[i];
+                end = ranges[i + 1];
+                i += 2;
+            } else {
+                start = other.ranges[j];
+                end = other.ranges[j + 1];
+                j += 2;
+            }
+            // Merge with the previous range if they overlap or are adjacent:
+            if (n > 0 && start <= merged[n - 1] + 1) {
+                merged[n - 1] = Math.max(merged[n - 1], end);
+            } else {
+                merged[n++] = start;
+                merged[n++] = end;
+            }
+        }
+        return new CharClass(Arrays.copyOf(merged, n));
+    }
+
+    /**
+     * @return a class holding all code points this class does not.
+     */
+    public CharClass negate() {
+        final int[] negated = new int[ranges.length + 2];
+        int n = 0;
+        int next = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (ranges[i] > next) {
+                negated[n++] = next;
+                negated[n++] = ranges[i] - 1;
+            }
+            next = ranges[i + 1] + 1;
+        }
+        if (next <= MAX_CODE_POINT) {
+            negated[n++] = next;
+            negated[n++] = MAX_CODE_POINT;
+        }
+        return new CharClass(Arrays.copyOf(negated, n));
+    }
+
+    /**
+     * @param other the other class.
+     * @return a class holding the code points held by both classes.
+     */
+    public CharClass intersect(final CharClass other) {
+        return negate().union(other.negate()).negate();
+    }
+
+    /**
+     * Pick a random code point from the class.
+     *
+     * <p>Printable ASCII code points are preferred, so that sampled text is readable. Surrogates,
+     * and code points outside the basic multilingual plane, are never picked.
+     *
+     * @param random the source of randomness.
+     * @return the code point, or {@code -1} if the class holds no code point that can be picked.
+     */
+    public int sample(final SplittableRandom random) {
+        SamplePools pools = samplePools;
+        if (pools == null) {
+            // Benign race: concurrent callers compute equal pools.
+            pools = new SamplePools(intersect(PRINTABLE_ASCII), intersect(SAMPLEABLE));
+            samplePools = pools;
+        }
+        if (!pools.printable().isEmpty() && random.nextInt(8) != 0) {
+            return pools.printable().pick(random);
+        }
+        return pools.sampleable().isEmpty() ? -1 : pools.sampleable().pick(random);
+    }
+
+    private int pick(final SplittableRandom random) {
+        long size = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            size += ranges[i + 1] - ranges[i] + 1;
+        }
+        long offset = random.nextLong(size);
+        for (int i = 0; i < ranges.length; i += 2) {
+            final long width = ranges[i + 1] - ranges[i] + 1;
+            if (offset < width) {
+                return (int) (ranges[i] + offset);
+            }
+            offset -= width;
+        }
+        throw new IllegalStateException("unreachable");
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        return o instanceof CharClass && Arrays.equals(ranges, ((CharClass) o).ranges);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(ranges);
+    }
+
+    @Override
+    public String toString() {
+        final StringBuilder text = new StringBuilder("[");
+        for (int i = 0; i < ranges.length; i += 2) {
+            text.append(String.format("\\x{%X}", ranges[i]));
+            if (ranges[i + 1] != ranges[i]) {
+                text.append(String.format("-\\x{%X}", ranges[i + 1]));
+            }
+        }
+        return text.append(']').toString();
+    }
+
+    /** The subsets of a class {@link #sample} picks from. */
+    private record SamplePools(CharClass printable, CharClass sampleable) {}
+}
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.regex;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.regex.Pattern;
+
+/** A {@link RegexMatcher} backed by a backtracking {@link Pattern}. */
+final class JdkMatcher implements RegexMatcher {
+
+    private final Pattern pattern;
+
+    JdkMatcher(final Pattern pattern) {
+        this.pattern = requireNonNull(pattern, "pattern");
+    }
+
+    @Override
+    public String regex() {
+        return pattern.pattern();
+    }
+
+    @Override
+    public boolean find(final String input) {
+        return pattern.matcher(input).find();
+    }
+}
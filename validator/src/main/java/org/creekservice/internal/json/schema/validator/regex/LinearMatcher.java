@@ -0,0 +1,614 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.regex;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Alternation;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Anchor;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Chars;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Lookahead;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Repeat;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Sequence;
+
+/**
+ * A {@link RegexMatcher} that runs a deterministic finite automaton, so matching takes time linear
+ * in the length of the input, whatever the regex and input.
+ *
+ * <p>The regex is parsed by {@link RegexParser} into a nondeterministic automaton. The DFA is built
+ * from it lazily: each state, and each of its transitions, is computed from the NFA the first time
+ * an input needs it, and then cached. A match starting anywhere in the input is found by
+ * restarting the NFA at every position, which the DFA tracks at no extra cost, so once the states
+ * an input visits are cached, each code point of the input costs one lookup and matching never
+ * allocates.
+ *
+ * <p>Computing a state costs time linear in the size of the NFA, so even an input that visits a
+ * new state at every position is matched in linear time. Regexes whose DFA would be exponentially
+ * larger than their NFA, e.g. {@code a[ab]{20}b}, are supported: the cache is bounded, and is
+ * discarded and rebuilt once full, so only the states inputs actually visit are ever built.
+ *
+ * <p>Code points are mapped to classes of code points no part of the regex distinguishes between,
+ * keeping states small.
+ *
+ * <p>Regexes the parser does not support, regexes with an end anchor followed by more of the
+ * regex, e.g. {@code a$\n}, and regexes whose NFA exceeds a fixed size limit, e.g. {@code
+ * a{1000}{1000}}, are rejected with {@link UnsupportedRegexException}.
+ *
+ * <p>Instances are thread-safe: threads share the cache, and a transition computed concurrently by
+ * two threads is computed twice, to the same state.
+ */
+public final class LinearMatcher implements RegexMatcher {
+
+    private static final int MAX_NFA_NODES = 4_096;
+
+    /** The maximum number of transitions the cached states of a matcher can hold. */
+    private static final int MAX_CACHE_SIZE = 1 << 18;
+
+    /** The number of states a cache can always hold, however many classes of code point. */
+    private static final int MIN_CACHED_STATES = 16;
+
+    /** Line terminators {@code $} may precede, in the order of {@code beforeTerminator} bits. */
+    private static final int[] TERMINATORS = {'\n', '\r', 0x85, 0x2028, 0x2029};
+
+    /** Bit of {@link State#ends} set if a match ends at the end of the input. */
+    private static final int AT_END_BIT = 1 << TERMINATORS.length;
+
+    /** Transition to no state: no match is possible. */
+    private static final State DEAD = new State(new BitSet(), 0);
+
+    /** Transition taken once a match has been found. */
+    private static final State MATCHED = new State(new BitSet(), 0);
+
+    private final String regex;
+    private final States states;
+    private final int[] asciiClasses;
+    private final int maxCachedStates;
+    private volatile Cache cache;
+
+    private LinearMatcher(final String regex, final States states) {
+        this.regex = requireNonNull(regex, "regex");
+        this.states = requireNonNull(states, "states");
+        this.asciiClasses = new int[128];
+        for (int cp = 0; cp < asciiClasses.length; cp++) {
+            asciiClasses[cp] = classOf(states.bounds, cp);
+        }
+        this.maxCachedStates = Math.max(MAX_CACHE_SIZE / states.classCount(), MIN_CACHED_STATES);
+        this.cache = new Cache(states);
+    }
+
+    /**
+     * Compile a regex.
+     *
+     * @param regex the regex, in {@code java.util.regex} syntax.
+     * @return the matcher.
+     * @throws java.util.regex.PatternSyntaxException if the regex is invalid.
+     * @throws UnsupportedRegexException if the regex uses features the matcher does not support,
+     *     or its NFA would be too large.
+     */
+    public static LinearMatcher compile(final String regex) {
+        final Nfa nfa = new Nfa(regex);
+        final int entry = nfa.compile(RegexParser.parse(regex), nfa.add(Nfa.MATCH, -1, -1, null));
+        nfa.checkEndAnchors();
+        return new LinearMatcher(regex, new States(nfa, entry));
+    }
+
+    @Override
+    public String regex() {
+        return regex;
+    }
+
+    @Override
+    public boolean find(final String input) {
+        final int length = input.length();
+        State state = cache.initial;
+        int i = 0;
+        while (i < length) {
+            if (i >= length - 2 && endsAt(ends(state), input, i)) {
+                return true;
+            }
+            final int cp = input.codePointAt(i);
+            final int cls =
+                    cp < asciiClasses.length ? asciiClasses[cp] : classOf(states.bounds, cp);
+            State next = state.next[cls];
+            if (next == null) {
+                next = transition(state, cls, cp);
+            }
+            if (next == MATCHED) {
+                return true;
+            }
+            if (next == DEAD) {
+                return false;
+            }
+            state = next;
+            i += Character.charCount(cp);
+        }
+        return (ends(state) & AT_END_BIT) != 0;
+    }
+
+    @Override
+    public String toString() {
+        return regex;
+    }
+
+    /** Compute, and cache, the transition from a state on a code point. */
+    private State transition(final State from, final int cls, final int cp) {
+        final BitSet nodes = states.next(from.nodes, cp);
+        final State to;
+        if (nodes == null) {
+            to = MATCHED;
+        } else if (nodes.isEmpty()) {
+            to = DEAD;
+        } else {
+            to = intern(nodes);
+        }
+        // Racy, but benign: State's fields are final, so other threads see either null or the
+        // fully built state:
+        from.next[cls] = to;
+        return to;
+    }
+
+    /** Compute, and cache, how the end of the input affects a state. */
+    private int ends(final State state) {
+        int ends = state.ends;
+        if (ends == State.UNKNOWN) {
+            ends = states.ends(state.nodes);
+            // Racy, but benign, as for transitions:
+            state.ends = ends;
+        }
+        return ends;
+    }
+
+    private State intern(final BitSet nodes) {
+        Cache current = cache;
+        final State existing = current.states.get(nodes);
+        if (existing != null) {
+            return existing;
+        }
+        if (current.states.size() >= maxCachedStates) {
+            // Discard the cache, rather than grow it without bound. States already reached by
+            // in-flight matches remain valid, so they run on unaffected:
+            current = new Cache(states);
+            cache = current;
+        }
+        final State created = new State(nodes, states.classCount());
+        final State raced = current.states.putIfAbsent(nodes, created);
+        return raced == null ? created : raced;
+    }
+
+    /** Whether a {@code $} match ends at {@code i}, before a final line terminator. */
+    private static boolean endsAt(final int ends, final String input, final int i) {
+        if ((ends & ~AT_END_BIT) == 0) {
+            return false;
+        }
+        final int length = input.length();
+        final char c = input.charAt(i);
+        if (i == length - 2) {
+            return c == '\r' && input.charAt(i + 1) == '\n' && (ends & 2) != 0;
+        }
+        if (c == '\n' && i > 0 && input.charAt(i - 1) == '\r') {
+            // As for java.util.regex, never between \r and \n:
+            return false;
+        }
+        for (int t = 0; t < TERMINATORS.length; t++) {
+            if (c == TERMINATORS[t]) {
+                return (ends & (1 << t)) != 0;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the index of the class holding {@code cp}, i.e. the number of bounds {@code <= cp}.
+     */
+    private static int classOf(final int[] bounds, final int cp) {
+        int low = 0;
+        int high = bounds.length;
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (bounds[mid] <= cp) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /** A Thompson NFA, held in parallel arrays. */
+    private static final class Nfa {
+
+        static final int CHARS = 0;
+        static final int SPLIT = 1;
+        static final int MATCH = 2;
+        static final int START = 3;
+        static final int END = 4;
+        static final int END_OF_LINE = 5;
+        static final int LOOKAHEAD = 6;
+        static final int NEGATIVE_LOOKAHEAD = 7;
+
+        private final String regex;
+        private int[] kinds = new int[16];
+        private int[] outs = new int[16];
+        private int[] alts = new int[16];
+        private CharClass[] classes = new CharClass[16];
+        private int size;
+
+        Nfa(final String regex) {
+            this.regex = regex;
+        }
+
+        int add(final int kind, final int out, final int alt, final CharClass chars) {
+            if (size == MAX_NFA_NODES) {
+                throw new UnsupportedRegexException(regex, "too large for a linear matcher");
+            }
+            if (size == kinds.length) {
+                kinds = Arrays.copyOf(kinds, size * 2);
+                outs = Arrays.copyOf(outs, size * 2);
+                alts = Arrays.copyOf(alts, size * 2);
+                classes = Arrays.copyOf(classes, size * 2);
+            }
+            kinds[size] = kind;
+            outs[size] = out;
+            alts[size] = alt;
+            classes[size] = chars;
+            return size++;
+        }
+
+        /**
+         * Compile a node, continuing at {@code next} once it has matched.
+         *
+         * @return the entry node.
+         */
+        int compile(final RegexNode node, final int next) {
+            if (node instanceof Chars) {
+                return add(CHARS, next, -1, ((Chars) node).chars());
+            }
+            if (node instanceof Sequence) {
+                final List<RegexNode> parts = ((Sequence) node).parts();
+                int entry = next;
+                for (int i = parts.size() - 1; i >= 0; i--) {
+                    entry = compile(parts.get(i), entry);
+                }
+                return entry;
+            }
+            if (node instanceof Alternation) {
+                final List<RegexNode> alternatives = ((Alternation) node).alternatives();
+                int entry = compile(alternatives.get(alternatives.size() - 1), next);
+                for (int i = alternatives.size() - 2; i >= 0; i--) {
+                    entry = add(SPLIT, compile(alternatives.get(i), next), entry, null);
+                }
+                return entry;
+            }
+            if (node instanceof Repeat) {
+                return repeat((Repeat) node, next);
+            }
+            if (node instanceof Lookahead) {
+                final Lookahead lookahead = (Lookahead) node;
+                final int kind = lookahead.negated() ? NEGATIVE_LOOKAHEAD : LOOKAHEAD;
+                return add(kind, next, -1, lookahead.chars());
+            }
+            if (node instanceof Anchor) {
+                switch (((Anchor) node).kind()) {
+                    case START:
+                        return add(START, next, -1, null);
+                    case END:
+                        return add(END, next, -1, null);
+                    default:
+                        return add(END_OF_LINE, next, -1, null);
+                }
+            }
+            throw new UnsupportedRegexException(regex, "unknown node: " + node);
+        }
+
+        private int repeat(final Repeat repeat, final int next) {
+            int entry = next;
+            if (repeat.unbounded()) {
+                final int loop = add(SPLIT, -1, next, null);
+                outs[loop] = compile(repeat.body(), loop);
+                entry = loop;
+            } else {
+                for (int i = repeat.min(); i < repeat.max(); i++) {
+                    entry = add(SPLIT, compile(repeat.body(), entry), next, null);
+                }
+            }
+            for (int i = 0; i < repeat.min(); i++) {
+                entry = compile(repeat.body(), entry);
+            }
+            return entry;
+        }
+
+        /**
+         * Reject end anchors that more of the regex follows, e.g. {@code $\n}, which would need the
+         * automaton to track where the input ends.
+         */
+        void checkEndAnchors() {
+            for (int node = 0; node < size; node++) {
+                if (kinds[node] != END && kinds[node] != END_OF_LINE) {
+                    continue;
+                }
+                final BitSet seen = new BitSet(size);
+                final int[] stack = new int[size * 2];
+                int top = 0;
+                stack[top++] = outs[node];
+                while (top > 0) {
+                    final int n = stack[--top];
+                    if (seen.get(n)) {
+                        continue;
+                    }
+                    seen.set(n);
+                    switch (kinds[n]) {
+                        case SPLIT:
+                            stack[top++] = outs[n];
+                            stack[top++] = alts[n];
+                            break;
+                        case END:
+                        case END_OF_LINE:
+                            stack[top++] = outs[n];
+                            break;
+                        case MATCH:
+                            break;
+                        default:
+                            throw new UnsupportedRegexException(
+                                    regex, "end anchor followed by more of the regex");
+                    }
+                }
+            }
+        }
+    }
+
+    /** A DFA state: the set of NFA nodes active at a position in the input. */
+    private static final class State {
+
+        static final int UNKNOWN = -1;
+
+        /** The NFA nodes, which must not be modified. */
+        final BitSet nodes;
+
+        /** The transitions on each class of code point, {@code null} until computed. */
+        final State[] next;
+
+        /**
+         * Bits marking the {@code TERMINATORS} before which a {@code $} match ends, and {@code
+         * AT_END_BIT}, or {@link #UNKNOWN} until computed. Only needed near the end of an input,
+         * so only computed then.
+         */
+        int ends = UNKNOWN;
+
+        State(final BitSet nodes, final int classCount) {
+            this.nodes = nodes;
+            this.next = new State[classCount];
+        }
+    }
+
+    /** The states built so far, from the initial state. */
+    private static final class Cache {
+
+        final State initial;
+        final Map<BitSet, State> states = new ConcurrentHashMap<>();
+
+        Cache(final States builder) {
+            this.initial = new State(builder.initial, builder.classCount());
+            states.put(initial.nodes, initial);
+        }
+    }
+
+    /** Subset construction of the states of the DFA from the NFA. Immutable. */
+    private static final class States {
+
+        /** How the end of the input relates to the position being evaluated. */
+        private static final int NOT_END = 0;
+
+        private static final int BEFORE_TERMINATOR = 1;
+        private static final int AT_END = 2;
+
+        private final Nfa nfa;
+
+        /** Bit marking the initial state, at the start of the input. */
+        private final int atStartBit;
+
+        private final int[] bounds;
+
+        /** The nodes of the initial state. Must not be modified. */
+        private final BitSet initial;
+
+        /** The nodes that restart the NFA at each position. Must not be modified. */
+        private final BitSet restart;
+
+        States(final Nfa nfa, final int entry) {
+            this.nfa = nfa;
+            this.atStartBit = nfa.size;
+            this.bounds = bounds(nfa);
+            this.restart = new BitSet();
+            close(new int[] {entry}, false, restart);
+            this.initial = new BitSet();
+            close(new int[] {entry}, true, initial);
+            initial.set(atStartBit);
+        }
+
+        int classCount() {
+            return bounds.length + 1;
+        }
+
+        /**
+         * @param nodes the nodes of a state.
+         * @return the {@link State#ends} of the state.
+         */
+        int ends(final BitSet nodes) {
+            final boolean atStart = nodes.get(atStartBit);
+            int ends = expand(nodes, atStart, -1, AT_END, new BitSet()) ? AT_END_BIT : 0;
+            for (int t = 0; t < TERMINATORS.length; t++) {
+                if (expand(nodes, atStart, TERMINATORS[t], BEFORE_TERMINATOR, new BitSet())) {
+                    ends |= 1 << t;
+                }
+            }
+            return ends;
+        }
+
+        /**
+         * @param nodes the nodes of the current state.
+         * @param cp the code point to consume.
+         * @return the nodes of the next state, empty if no match is possible, or {@code null} if
+         *     a match ends before {@code cp}.
+         */
+        BitSet next(final BitSet nodes, final int cp) {
+            final BitSet consuming = new BitSet();
+            if (expand(nodes, nodes.get(atStartBit), cp, NOT_END, consuming)) {
+                return null;
+            }
+            final int[] outs = new int[consuming.cardinality()];
+            int count = 0;
+            for (int n = consuming.nextSetBit(0); n >= 0; n = consuming.nextSetBit(n + 1)) {
+                outs[count++] = nfa.outs[n];
+            }
+            final BitSet next = (BitSet) restart.clone();
+            close(outs, false, next);
+            return next;
+        }
+
+        private static int[] bounds(final Nfa nfa) {
+            final TreeSet<Integer> bounds = new TreeSet<>();
+            for (int node = 0; node < nfa.size; node++) {
+                final CharClass chars = nfa.classes[node];
+                if (chars == null) {
+                    continue;
+                }
+                for (int r = 0; r < chars.rangeCount(); r++) {
+                    if (chars.rangeStart(r) > 0) {
+                        bounds.add(chars.rangeStart(r));
+                    }
+                    if (chars.rangeEnd(r) < CharClass.MAX_CODE_POINT) {
+                        bounds.add(chars.rangeEnd(r) + 1);
+                    }
+                }
+            }
+            return bounds.stream().mapToInt(i -> i).toArray();
+        }
+
+        /**
+         * Follow the transitions that consume no input from {@code nodes}, adding the nodes that
+         * consume input or assert something about it to {@code into}.
+         */
+        private void close(final int[] nodes, final boolean atStart, final BitSet into) {
+            final BitSet seen = new BitSet(nfa.size);
+            final int[] stack = new int[nfa.size * 2 + nodes.length];
+            int top = 0;
+            for (final int node : nodes) {
+                stack[top++] = node;
+            }
+            while (top > 0) {
+                final int n = stack[--top];
+                if (seen.get(n)) {
+                    continue;
+                }
+                seen.set(n);
+                switch (nfa.kinds[n]) {
+                    case Nfa.SPLIT:
+                        stack[top++] = nfa.outs[n];
+                        stack[top++] = nfa.alts[n];
+                        break;
+                    case Nfa.START:
+                        if (atStart) {
+                            stack[top++] = nfa.outs[n];
+                        }
+                        break;
+                    default:
+                        into.set(n);
+                }
+            }
+        }
+
+        /**
+         * Evaluate the assertions of a state at a position in the input.
+         *
+         * @param state the state.
+         * @param atStart whether the position is the start of the input.
+         * @param next the code point at the position, or {@code -1} at the end of the input.
+         * @param end how the end of the input relates to the position.
+         * @param consuming the nodes that consume {@code next} are added to this set.
+         * @return {@code true} if a match ends at the position.
+         */
+        private boolean expand(
+                final BitSet state,
+                final boolean atStart,
+                final int next,
+                final int end,
+                final BitSet consuming) {
+            final BitSet seen = new BitSet(nfa.size);
+            final int[] stack = new int[nfa.size * 2 + state.cardinality()];
+            int top = 0;
+            for (int n = state.nextSetBit(0); n >= 0; n = state.nextSetBit(n + 1)) {
+                if (n != atStartBit) {
+                    stack[top++] = n;
+                }
+            }
+            boolean matched = false;
+            while (top > 0) {
+                final int n = stack[--top];
+                if (seen.get(n)) {
+                    continue;
+                }
+                seen.set(n);
+                final CharClass chars = nfa.classes[n];
+                switch (nfa.kinds[n]) {
+                    case Nfa.MATCH:
+                        matched = true;
+                        break;
+                    case Nfa.CHARS:
+                        if (next >= 0 && chars.contains(next)) {
+                            consuming.set(n);
+                        }
+                        break;
+                    case Nfa.SPLIT:
+                        stack[top++] = nfa.outs[n];
+                        stack[top++] = nfa.alts[n];
+                        break;
+                    case Nfa.START:
+                        if (atStart) {
+                            stack[top++] = nfa.outs[n];
+                        }
+                        break;
+                    case Nfa.END:
+                        if (end == AT_END) {
+                            stack[top++] = nfa.outs[n];
+                        }
+                        break;
+                    case Nfa.END_OF_LINE:
+                        if (end != NOT_END) {
+                            stack[top++] = nfa.outs[n];
+                        }
+                        break;
+                    case Nfa.LOOKAHEAD:
+                        if (next >= 0 && chars.contains(next)) {
+                            stack[top++] = nfa.outs[n];
+                        }
+                        break;
+                    default:
+                        if (next < 0 || !chars.contains(next)) {
+                            stack[top++] = nfa.outs[n];
+                        }
+                }
+            }
+            return matched;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.regex;
+
+import java.util.regex.Pattern;
+import org.creekservice.internal.json.schema.validator.jfr.RegexFallbackEvent;
+
+/**
+ * Finds matches of a regex in strings.
+ *
+ * <p>Matching follows {@link java.util.regex.Matcher#find()}: a string matches if any part of it
+ * matches the regex. Instances are thread-safe.
+ */
+public interface RegexMatcher {
+
+    /**
+     * Compile a regex.
+     *
+     * @param regex the regex, in {@code java.util.regex} syntax.
+     * @param linearTime whether to prefer a {@link LinearMatcher}, whose matching time is linear in
+     *     the length of the input. Regexes it does not support, i.e. those needing backtracking
+     *     features such as back references or lookbehinds, or too large to compile, fall back to
+     *     {@link Pattern}, recording a {@link RegexFallbackEvent}.
+     * @return the matcher.
+     * @throws java.util.regex.PatternSyntaxException if the regex is invalid.
+     */
+    static RegexMatcher compile(final String regex, final boolean linearTime) {
+        if (linearTime) {
+            try {
+                return LinearMatcher.compile(regex);
+            } catch (final UnsupportedRegexException e) {
+                final RegexFallbackEvent event = new RegexFallbackEvent();
+                if (event.shouldCommit()) {
+                    event.set(regex, e.reason());
+                    event.commit();
+                }
+            }
+        }
+        return new JdkMatcher(Pattern.compile(regex));
+    }
+
+    /**
+     * @return the regex.
+     */
+    String regex();
+
+    /**
+     * @param input the input.
+     * @return {@code true} if any part of the {@code input} matches.
+     */
+    boolean find(String input);
+}
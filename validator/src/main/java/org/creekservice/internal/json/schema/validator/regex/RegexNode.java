@@ -0,0 +1,107 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.regex;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+/**
+ * A node of a parsed regular expression.
+ *
+ * <p>Only describes what a regex matches, not how: groups, whether they capture, and whether
+ * quantifiers are lazy or greedy, are all dropped, as they do not change which strings match.
+ */
+public interface RegexNode {
+
+    /** Matches any one code point from a class. */
+    record Chars(CharClass chars) implements RegexNode {
+        public Chars {
+            requireNonNull(chars, "chars");
+        }
+    }
+
+    /** Matches each of its parts, in order. No parts matches the empty string. */
+    record Sequence(List<RegexNode> parts) implements RegexNode {
+        public Sequence {
+            parts = List.copyOf(parts);
+        }
+    }
+
+    /** Matches any one of its alternatives. */
+    record Alternation(List<RegexNode> alternatives) implements RegexNode {
+        public Alternation {
+            alternatives = List.copyOf(alternatives);
+        }
+    }
+
+    /**
+     * Matches its body repeated between {@code min} and {@code max} times.
+     *
+     * @param body the repeated node.
+     * @param min the minimum number of repetitions.
+     * @param max the maximum number of repetitions, or {@link #UNBOUNDED}.
+     */
+    record Repeat(RegexNode body, int min, int max) implements RegexNode {
+
+        /** No maximum. */
+        public static final int UNBOUNDED = -1;
+
+        public Repeat {
+            requireNonNull(body, "body");
+        }
+
+        /**
+         * @return {@code true} if there is no maximum.
+         */
+        public boolean unbounded() {
+            return max == UNBOUNDED;
+        }
+    }
+
+    /** A zero-width assertion about the position in the input. */
+    record Anchor(Kind kind) implements RegexNode {
+
+        /** The kinds of anchor. */
+        public enum Kind {
+            /** {@code ^} or {@code \A}: the start of the input. */
+            START,
+            /** {@code \z}: the end of the input. */
+            END,
+            /** {@code $} or {@code \Z}: the end of the input, or before a final line terminator. */
+            END_OF_LINE
+        }
+
+        public Anchor {
+            requireNonNull(kind, "kind");
+        }
+    }
+
+    /**
+     * A zero-width assertion about the next code point, i.e. a lookahead of a single character,
+     * e.g. {@code (?=\d)}.
+     *
+     * @param chars the code points the next code point must, or if {@code negated} must not, be
+     *     one of.
+     * @param negated {@code true} for a negative lookahead.
+     */
+    record Lookahead(CharClass chars, boolean negated) implements RegexNode {
+        public Lookahead {
+            requireNonNull(chars, "chars");
+        }
+    }
+}
@@ -0,0 +1,434 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.regex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Alternation;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Anchor;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Chars;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Lookahead;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Repeat;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Sequence;
+
+/**
+ * Parses {@code java.util.regex} syntax into a tree of {@link RegexNode}s.
+ *
+ * <p>Supports the regular subset of the syntax: literals, escapes, character classes, including
+ * nested classes and intersections, {@code .}, groups, alternation, greedy and lazy quantifiers,
+ * the anchors {@code ^ $ \A \z \Z}, and single-character lookaheads, e.g. {@code (?=\d)}. Parsing
+ * follows the semantics of {@link Pattern} with default flags.
+ *
+ * <p>Anything else, e.g. back references, lookbehinds, word boundaries, possessive quantifiers,
+ * inline flags or Unicode properties, is rejected with {@link UnsupportedRegexException}, as is
+ * any construct whose meaning is not certain. Callers must fall back to {@link Pattern} for such
+ * regexes.
+ */
+public final class RegexParser {
+
+    private final String regex;
+    private int pos;
+
+    private RegexParser(final String regex) {
+        this.regex = regex;
+    }
+
+    /**
+     * Parse a regex.
+     *
+     * @param regex the regex.
+     * @return the root node.
+     * @throws PatternSyntaxException if the regex is invalid.
+     * @throws UnsupportedRegexException if the regex uses unsupported features.
+     */
+    public static RegexNode parse(final String regex) {
+        // Reject invalid regexes exactly as the JDK would:
+        Pattern.compile(regex);
+
+        final RegexParser parser = new RegexParser(regex);
+        final RegexNode root = parser.alternation();
+        if (parser.pos < regex.length()) {
+            throw parser.unsupported("unbalanced ')'");
+        }
+        return root;
+    }
+
+    private RegexNode alternation() {
+        final List<RegexNode> alternatives = new ArrayList<>();
+        alternatives.add(sequence());
+        while (peek() == '|') {
+            pos++;
+            alternatives.add(sequence());
+        }
+        return alternatives.size() == 1 ? alternatives.get(0) : new Alternation(alternatives);
+    }
+
+    private RegexNode sequence() {
+        final List<RegexNode> parts = new ArrayList<>();
+        while (pos < regex.length() && peek() != '|' && peek() != ')') {
+            parts.add(quantified(atom()));
+        }
+        return parts.size() == 1 ? parts.get(0) : new Sequence(parts);
+    }
+
+    private RegexNode quantified(final RegexNode atom) {
+        RegexNode node = atom;
+        while (pos < regex.length()) {
+            final int min;
+            final int max;
+            final char c = peek();
+            if (c == '*') {
+                pos++;
+                min = 0;
+                max = Repeat.UNBOUNDED;
+            } else if (c == '+') {
+                pos++;
+                min = 1;
+                max = Repeat.UNBOUNDED;
+            } else if (c == '?') {
+                pos++;
+                min = 0;
+                max = 1;
+            } else if (c == '{') {
+                pos++;
+                min = number();
+                if (peek() == ',') {
+                    pos++;
+                    max = peek() == '}' ? Repeat.UNBOUNDED : number();
+                } else {
+                    max = min;
+                }
+                expect('}');
+            } else {
+                return node;
+            }
+
+            if (pos < regex.length() && peek() == '+') {
+                throw unsupported("possessive quantifier");
+            }
+            if (pos < regex.length() && peek() == '?') {
+                // Lazy: matches the same strings as greedy.
+                pos++;
+            }
+            node = new Repeat(node, min, max);
+        }
+        return node;
+    }
+
+    private RegexNode atom() {
+        final char c = next();
+        switch (c) {
+            case '(':
+                return group();
+            case '[':
+                return new Chars(charClass());
+            case '.':
+                return new Chars(CharClass.DOT);
+            case '^':
+                return new Anchor(Anchor.Kind.START);
+            case '$':
+                return new Anchor(Anchor.Kind.END_OF_LINE);
+            case '\\':
+                return escape();
+            case '*':
+            case '+':
+            case '?':
+            case '{':
+            case ')':
+                throw unsupported("unexpected '" + c + "'");
+            default:
+                return new Chars(CharClass.of(codePoint(c)));
+        }
+    }
+
+    private RegexNode group() {
+        if (peek() != '?') {
+            return closeGroup(alternation());
+        }
+        pos++;
+
+        final char kind = next();
+        switch (kind) {
+            case ':':
+                return closeGroup(alternation());
+            case '=':
+            case '!':
+                return lookahead(kind == '!');
+            case '<':
+                if (peek() == '=' || peek() == '!') {
+                    throw unsupported("lookbehind");
+                }
+                // Named group:
+                while (Character.isLetterOrDigit(peek())) {
+                    pos++;
+                }
+                expect('>');
+                return closeGroup(alternation());
+            default:
+                throw unsupported("group type '(?" + kind + "'");
+        }
+    }
+
+    private RegexNode lookahead(final boolean negated) {
+        final RegexNode body = alternation();
+        expect(')');
+        if (!(body instanceof Chars)) {
+            throw unsupported("lookahead of more than a single character");
+        }
+        return new Lookahead(((Chars) body).chars(), negated);
+    }
+
+    private RegexNode closeGroup(final RegexNode body) {
+        expect(')');
+        return body;
+    }
+
+    private RegexNode escape() {
+        final char c = next();
+        switch (c) {
+            case 'A':
+                return new Anchor(Anchor.Kind.START);
+            case 'z':
+                return new Anchor(Anchor.Kind.END);
+            case 'Z':
+                return new Anchor(Anchor.Kind.END_OF_LINE);
+            case 'Q':
+                return quoted();
+            default:
+                return new Chars(classEscape(c));
+        }
+    }
+
+    private RegexNode quoted() {
+        final int end = regex.indexOf("\\E", pos);
+        final String literal = end < 0 ? regex.substring(pos) : regex.substring(pos, end);
+        pos = end < 0 ? regex.length() : end + 2;
+
+        final List<RegexNode> parts = new ArrayList<>();
+        literal.codePoints().forEach(cp -> parts.add(new Chars(CharClass.of(cp))));
+        return parts.size() == 1 ? parts.get(0) : new Sequence(parts);
+    }
+
+    /** An escape that stands for a set of characters, used both in and outside classes. */
+    private CharClass classEscape(final char c) {
+        switch (c) {
+            case 'd':
+                return CharClass.DIGIT;
+            case 'D':
+                return CharClass.DIGIT.negate();
+            case 'w':
+                return CharClass.WORD;
+            case 'W':
+                return CharClass.WORD.negate();
+            case 's':
+                return CharClass.SPACE;
+            case 'S':
+                return CharClass.SPACE.negate();
+            case 'h':
+                return CharClass.HORIZONTAL_SPACE;
+            case 'H':
+                return CharClass.HORIZONTAL_SPACE.negate();
+            case 'v':
+                return CharClass.VERTICAL_SPACE;
+            case 'V':
+                return CharClass.VERTICAL_SPACE.negate();
+            default:
+                return CharClass.of(literalEscape(c));
+        }
+    }
+
+    private int literalEscape(final char c) {
+        switch (c) {
+            case 't':
+                return '\t';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 'f':
+                return '\f';
+            case 'a':
+                return 0x07;
+            case 'e':
+                return 0x1B;
+            case '0':
+                return octal();
+            case 'x':
+                return hex();
+            case 'u':
+                return unicode();
+            case 'c':
+                return next() ^ 64;
+            default:
+                if (Character.isLetterOrDigit(c)) {
+                    throw unsupported("escape '\\" + c + "'");
+                }
+                return c;
+        }
+    }
+
+    private int octal() {
+        int value = 0;
+        int digits = 0;
+        // Up to three octal digits, with a value of at most 0377:
+        while (digits < 3 && pos < regex.length() && peek() >= '0' && peek() <= '7') {
+            final int next = value * 8 + (peek() - '0');
+            if (next > 0377) {
+                break;
+            }
+            value = next;
+            pos++;
+            digits++;
+        }
+        return value;
+    }
+
+    private int hex() {
+        if (peek() == '{') {
+            pos++;
+            final int end = regex.indexOf('}', pos);
+            final int value = Integer.parseInt(regex.substring(pos, end), 16);
+            pos = end + 1;
+            return value;
+        }
+        final int value = Integer.parseInt(regex.substring(pos, pos + 2), 16);
+        pos += 2;
+        return value;
+    }
+
+    private int unicode() {
+        final char value = (char) Integer.parseInt(regex.substring(pos, pos + 4), 16);
+        pos += 4;
+        if (Character.isHighSurrogate(value) && regex.startsWith("\\u", pos)) {
+            final char low = (char) Integer.parseInt(regex.substring(pos + 2, pos + 6), 16);
+            if (Character.isLowSurrogate(low)) {
+                pos += 6;
+                return Character.toCodePoint(value, low);
+            }
+        }
+        return value;
+    }
+
+    private CharClass charClass() {
+        final boolean negated = peek() == '^';
+        if (negated) {
+            pos++;
+        }
+        if (peek() == ']') {
+            throw unsupported("']' at the start of a character class");
+        }
+
+        CharClass result = null;
+        CharClass operand = CharClass.EMPTY;
+        while (true) {
+            final char c = next();
+            if (c == ']') {
+                break;
+            }
+            if (c == '&' && peek() == '&') {
+                if (negated) {
+                    throw unsupported("intersection in a negated character class");
+                }
+                pos++;
+                result = result == null ? operand : result.intersect(operand);
+                operand = CharClass.EMPTY;
+                continue;
+            }
+            if (c == '[') {
+                operand = operand.union(charClass());
+                continue;
+            }
+
+            final CharClass item = classItem(c);
+            if (peek() == '-' && regex.charAt(pos + 1) != ']') {
+                if (item.rangeCount() != 1 || item.rangeStart(0) != item.rangeEnd(0)) {
+                    throw unsupported("range from a character class");
+                }
+                pos++;
+                final char to = next();
+                if (to == '[') {
+                    throw unsupported("range to a character class");
+                }
+                final CharClass end = classItem(to);
+                if (end.rangeCount() != 1 || end.rangeStart(0) != end.rangeEnd(0)) {
+                    throw unsupported("range to a character class");
+                }
+                operand = operand.union(CharClass.range(item.rangeStart(0), end.rangeStart(0)));
+            } else {
+                operand = operand.union(item);
+            }
+        }
+
+        final CharClass chars = result == null ? operand : result.intersect(operand);
+        return negated ? chars.negate() : chars;
+    }
+
+    private CharClass classItem(final char c) {
+        if (c == '\\') {
+            final char escaped = next();
+            if (escaped == 'Q') {
+                throw unsupported("quoting in a character class");
+            }
+            return classEscape(escaped);
+        }
+        return CharClass.of(codePoint(c));
+    }
+
+    /** The code point starting with {@code c}, which has already been consumed. */
+    private int codePoint(final char c) {
+        if (Character.isHighSurrogate(c)
+                && pos < regex.length()
+                && Character.isLowSurrogate(peek())) {
+            return Character.toCodePoint(c, next());
+        }
+        return c;
+    }
+
+    private int number() {
+        final int start = pos;
+        while (pos < regex.length() && Character.isDigit(peek())) {
+            pos++;
+        }
+        if (start == pos) {
+            throw unsupported("quantifier without a number");
+        }
+        return Integer.parseInt(regex.substring(start, pos));
+    }
+
+    private char peek() {
+        return pos < regex.length() ? regex.charAt(pos) : 0;
+    }
+
+    private char next() {
+        if (pos >= regex.length()) {
+            throw unsupported("unexpected end of regex");
+        }
+        return regex.charAt(pos++);
+    }
+
+    private void expect(final char c) {
+        if (next() != c) {
+            throw unsupported("expected '" + c + "' at index " + (pos - 1));
+        }
+    }
+
+    private UnsupportedRegexException unsupported(final String reason) {
+        return new UnsupportedRegexException(regex, reason);
+    }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.regex;
+
+/** Thrown when a valid regex uses features the {@link RegexParser} does not support. */
+public final class UnsupportedRegexException extends RuntimeException {
+
+    private final String reason;
+
+    UnsupportedRegexException(final String regex, final String reason) {
+        super("Unsupported regex feature: " + reason + ", in: " + regex);
+        this.reason = reason;
+    }
+
+    /**
+     * @return why the regex is not supported.
+     */
+    public String reason() {
+        return reason;
+    }
+}
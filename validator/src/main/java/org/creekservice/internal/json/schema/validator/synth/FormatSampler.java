@@ -0,0 +1,157 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.synth;
+
+import java.time.LocalDate;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import org.creekservice.internal.json.schema.validator.format.TemporalFormats;
+
+/** Samples random strings in the {@code format}s validators commonly assert. */
+final class FormatSampler {
+
+    private static final String ALPHANUMERIC = "abcdefghijklmnopqrstuvwxyz0123456789";
+
+    /** Epoch day of 2100-01-01, the exclusive upper bound of sampled dates. */
+    private static final long MAX_EPOCH_DAY = LocalDate.of(2100, 1, 1).toEpochDay();
+
+    private FormatSampler() {}
+
+    /**
+     * @param format the format.
+     * @param random the source of randomness.
+     * @return a string in the format, or {@code null} if the format is not known.
+     */
+    static String sample(final String format, final SplittableRandom random) {
+        switch (format) {
+            case "date":
+                return date(random);
+            case "time":
+                return time(random);
+            case "date-time":
+                return date(random) + "T" + time(random);
+            case "duration":
+                return duration(random);
+            case "uri":
+                return "https://" + hostname(random) + "/" + word(random);
+            case "uuid":
+                return new UUID(random.nextLong(), random.nextLong()).toString();
+            case "email":
+                return word(random) + "@" + hostname(random);
+            case "hostname":
+                return hostname(random);
+            case "ipv4":
+                return random.nextInt(256)
+                        + "."
+                        + random.nextInt(256)
+                        + "."
+                        + random.nextInt(256)
+                        + "."
+                        + random.nextInt(256);
+            case "ipv6":
+                return ipv6(random);
+            case TemporalFormats.LOCAL_TIME:
+                return localTime(random);
+            case TemporalFormats.LOCAL_DATE_TIME:
+                return date(random) + "T" + localTime(random);
+            case TemporalFormats.MONTH_DAY:
+                return "--" + date(random).substring(5);
+            case TemporalFormats.YEAR_MONTH:
+                return date(random).substring(0, 7);
+            case TemporalFormats.PERIOD:
+                return "P" + random.nextInt(100) + "D";
+            default:
+                return null;
+        }
+    }
+
+    private static String date(final SplittableRandom random) {
+        return LocalDate.ofEpochDay(random.nextLong(MAX_EPOCH_DAY)).toString();
+    }
+
+    private static String time(final SplittableRandom random) {
+        final StringBuilder time =
+                new StringBuilder()
+                        .append(twoDigits(random.nextInt(24)))
+                        .append(':')
+                        .append(twoDigits(random.nextInt(60)))
+                        .append(':')
+                        .append(twoDigits(random.nextInt(60)));
+        if (random.nextBoolean()) {
+            time.append('.').append(random.nextInt(1, 1_000_000));
+        }
+        if (random.nextBoolean()) {
+            return time.append('Z').toString();
+        }
+        final int offsetHours = random.nextInt(15);
+        // Avoid -00:00, which RFC 3339 reserves to mean an unknown offset:
+        return time.append(offsetHours == 0 || random.nextBoolean() ? '+' : '-')
+                .append(twoDigits(offsetHours))
+                .append(':')
+                .append(random.nextBoolean() ? "00" : "30")
+                .toString();
+    }
+
+    private static String localTime(final SplittableRandom random) {
+        final String time = twoDigits(random.nextInt(24)) + ":" + twoDigits(random.nextInt(60));
+        if (random.nextBoolean()) {
+            return time;
+        }
+        final String seconds = time + ":" + twoDigits(random.nextInt(60));
+        return random.nextBoolean() ? seconds : seconds + "." + random.nextInt(1, 1_000_000);
+    }
+
+    private static String duration(final SplittableRandom random) {
+        final StringBuilder duration = new StringBuilder("P");
+        final boolean date = random.nextBoolean();
+        if (date) {
+            duration.append(random.nextInt(100)).append('D');
+        }
+        if (!date || random.nextBoolean()) {
+            duration.append('T').append(random.nextInt(24)).append('H');
+        }
+        return duration.toString();
+    }
+
+    private static String hostname(final SplittableRandom random) {
+        return word(random) + ".example.com";
+    }
+
+    private static String ipv6(final SplittableRandom random) {
+        final StringBuilder address = new StringBuilder();
+        for (int i = 0; i < 8; i++) {
+            if (i != 0) {
+                address.append(':');
+            }
+            address.append(Integer.toHexString(random.nextInt(0x10000)));
+        }
+        return address.toString();
+    }
+
+    private static String word(final SplittableRandom random) {
+        final int length = 1 + random.nextInt(10);
+        final StringBuilder word = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            word.append(ALPHANUMERIC.charAt(random.nextInt(ALPHANUMERIC.length())));
+        }
+        return word.toString();
+    }
+
+    private static String twoDigits(final int value) {
+        return value < 10 ? "0" + value : String.valueOf(value);
+    }
+}
@@ -0,0 +1,686 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.synth;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+import org.creekservice.internal.json.schema.validator.engine.NativeJsonSchemaValidator;
+import org.creekservice.internal.json.schema.validator.engine.SchemaIndex;
+import org.creekservice.internal.json.schema.validator.engine.Values;
+import org.creekservice.internal.json.schema.validator.regex.CharClass;
+import org.creekservice.internal.json.schema.validator.regex.UnsupportedRegexException;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Synthesizes random objects that are, or are not, valid against a schema.
+ *
+ * <p>Values are built from the {@link Shape} of each schema: constants, types, formats, patterns,
+ * bounds and required properties are honoured directly, and one alternative of each {@code
+ * oneOf}, {@code anyOf} or {@code if} is chosen per instance. Invalid objects are built by
+ * breaking one constraint of a valid one, e.g. dropping a required property, or giving a property
+ * a value of the wrong type or out of bounds.
+ *
+ * <p>Objects are checked against the schema before they are returned, and discarded if not as
+ * intended. Checks are only skipped, so that synthesis is not bound by the speed of validation,
+ * where shapes model every keyword of the schema exactly, as decided once on construction, and
+ * then only after a {@link #SAMPLE sample} of objects has passed without any being discarded.
+ * Objects for schemas using keywords shapes do not model exactly, e.g. {@code not} or {@code
+ * oneOf}, are always checked, so such keywords cost retries, not wrong output. Valid and invalid
+ * objects are sampled separately.
+ *
+ * <p>Output depends only on the schema and the state of the supplied random source. Instances are
+ * not thread-safe.
+ */
+public final class InstanceSynthesizer {
+
+    /** Depth beyond which only required properties and minimum array items are synthesized. */
+    private static final int MAX_DEPTH = 6;
+
+    private static final int MAX_ATTEMPTS = 100;
+
+    /**
+     * Objects that must pass their check, with none discarded, before checks are skipped for a
+     * schema shapes model exactly.
+     */
+    static final int SAMPLE = 64;
+
+    /**
+     * Marks a schema shapes do not model exactly, or a sample in which an object was discarded,
+     * so every object is checked.
+     */
+    private static final int ALWAYS_CHECK = -1;
+    private static final int MAX_VALUE_ATTEMPTS = 32;
+    private static final int MAX_CHOICES = 64;
+    private static final int MAX_EXTRA_ITEMS = 4;
+    private static final int MAX_EXTRA_LENGTH = 12;
+
+    /** The value given in place of a constant, to break it. */
+    static final String NOT_A_CONSTANT = "not-a-constant";
+
+    /** Magnitude numbers are preferably kept within, unless bounds require otherwise. */
+    private static final long SMALL = 1000;
+
+    private static final Object NO_VALUE = new Object();
+    private static final DeadEnd DEAD_END = new DeadEnd();
+
+    private final SchemaIndex index;
+    private final NativeJsonSchemaValidator checker;
+    private final Shape root;
+    private final Shape anything;
+    private final Map<Object, Shape> shapes = new IdentityHashMap<>();
+    private final Map<Shape, Map<List<JsonNode>, Shape>> combined = new IdentityHashMap<>();
+    private final Map<String, Optional<RegexSampler>> samplers = new HashMap<>();
+    private final Map<String, Pattern> patterns = new HashMap<>();
+    // Objects still to check before skipping checks, or ALWAYS_CHECK:
+    private int validSample;
+    private int invalidSample;
+
+    /**
+     * @param schema the self-contained schema.
+     * @param checker the validator for the {@code schema}, used to check synthesized objects.
+     * @throws IllegalArgumentException if the schema does not describe objects.
+     */
+    public InstanceSynthesizer(final JsonNode schema, final NativeJsonSchemaValidator checker) {
+        this.index = SchemaIndex.of(requireNonNull(schema, "schema"));
+        this.checker = requireNonNull(checker, "checker");
+        this.root = Shape.of(List.of(schema), index);
+        this.anything = Shape.of(List.of(), index);
+        if ((root.types() & Shape.OBJECT) == 0) {
+            throw new IllegalArgumentException(
+                    "Schema does not describe objects: " + checker.schemaId());
+        }
+        this.validSample = ShapeCoverage.exact(schema) ? SAMPLE : ALWAYS_CHECK;
+        this.invalidSample = validSample;
+    }
+
+    /**
+     * @param random the source of randomness.
+     * @return an object that is valid against the schema.
+     * @throws IllegalStateException if no valid object could be found.
+     */
+    public Map<String, Object> valid(final SplittableRandom random) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            try {
+                final Map<String, Object> instance = object(resolve(root, random), 0, random);
+                if (validSample == 0) {
+                    return instance;
+                }
+                if (checker.accepts(instance)) {
+                    validSample = passed(validSample);
+                    return instance;
+                }
+                validSample = ALWAYS_CHECK;
+            } catch (final DeadEnd e) {
+                // Try again.
+            }
+        }
+        throw new IllegalStateException(
+                "Failed to synthesize a valid instance of schema: " + checker.schemaId());
+    }
+
+    /**
+     * @param random the source of randomness.
+     * @return an object that is invalid against the schema.
+     * @throws IllegalStateException if no invalid object could be found, e.g. because the schema
+     *     accepts every object.
+     */
+    public Map<String, Object> invalid(final SplittableRandom random) {
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            try {
+                final Shape shape = resolve(root, random);
+                final Map<String, Object> instance = object(shape, 0, random);
+                if (!breakObject(instance, shape, 0, random)) {
+                    continue;
+                }
+                if (invalidSample == 0) {
+                    return instance;
+                }
+                if (!checker.accepts(instance)) {
+                    invalidSample = passed(invalidSample);
+                    return instance;
+                }
+                invalidSample = ALWAYS_CHECK;
+            } catch (final DeadEnd e) {
+                // Try again.
+            }
+        }
+        throw new IllegalStateException(
+                "Failed to synthesize an invalid instance of schema: "
+                        + checker.schemaId()
+                        + ". Does it accept every object?");
+    }
+
+    private static int passed(final int sample) {
+        return sample == ALWAYS_CHECK ? ALWAYS_CHECK : sample - 1;
+    }
+
+    private Shape shape(final List<JsonNode> schemas) {
+        return shapes.computeIfAbsent(schemas, k -> Shape.of(schemas, index));
+    }
+
+    /** Resolve the choices of a shape, by merging in a randomly chosen alternative of each. */
+    private Shape resolve(final Shape shape, final SplittableRandom random) {
+        if (shape.unsatisfiable()) {
+            throw DEAD_END;
+        }
+        if (shape.choices().isEmpty()) {
+            return shape;
+        }
+
+        Shape current = combine(shape, List.of());
+        final Deque<List<List<JsonNode>>> pending = new ArrayDeque<>(shape.choices());
+        for (int resolved = 0; !pending.isEmpty(); resolved++) {
+            if (resolved == MAX_CHOICES) {
+                throw DEAD_END;
+            }
+            final List<List<JsonNode>> alternatives = pending.poll();
+            final int start = random.nextInt(alternatives.size());
+            Shape chosen = null;
+            for (int i = 0; i < alternatives.size() && chosen == null; i++) {
+                final Shape candidate =
+                        combine(current, alternatives.get((start + i) % alternatives.size()));
+                if (!candidate.unsatisfiable()) {
+                    chosen = candidate;
+                }
+            }
+            if (chosen == null) {
+                throw DEAD_END;
+            }
+            // Alternatives can themselves offer choices:
+            pending.addAll(chosen.choices());
+            current = chosen;
+        }
+        return current;
+    }
+
+    private Shape combine(final Shape shape, final List<JsonNode> alternative) {
+        return combined.computeIfAbsent(shape, k -> new IdentityHashMap<>())
+                .computeIfAbsent(alternative, k -> shape.with(alternative, index));
+    }
+
+    private Object value(
+            final List<JsonNode> schemas, final int depth, final SplittableRandom random) {
+        return schemas.isEmpty()
+                ? value(anything, depth, random)
+                : value(resolve(shape(schemas), random), depth, random);
+    }
+
+    private Object value(final Shape shape, final int depth, final SplittableRandom random) {
+        if (shape.unsatisfiable()) {
+            throw DEAD_END;
+        }
+        if (shape.constants() != null) {
+            final List<JsonNode> constants = shape.constants();
+            return Values.fromNode(constants.get(random.nextInt(constants.size())));
+        }
+        switch (type(shape, random)) {
+            case Shape.NULL:
+                return null;
+            case Shape.BOOLEAN:
+                return random.nextBoolean();
+            case Shape.INTEGER:
+                return integer(shape, random);
+            case Shape.NUMBER:
+                return number(shape, random);
+            case Shape.STRING:
+                return string(shape, random);
+            case Shape.ARRAY:
+                return array(shape, depth, random);
+            default:
+                return object(shape, depth, random);
+        }
+    }
+
+    private static int type(final Shape shape, final SplittableRandom random) {
+        int types = shape.types();
+        if (types == Shape.ANY) {
+            if (shape.describesObject()) {
+                types = Shape.OBJECT;
+            } else if (shape.describesArray()) {
+                types = Shape.ARRAY;
+            } else if (shape.describesString()) {
+                types = Shape.STRING;
+            } else if (shape.describesNumber()) {
+                types = Shape.INTEGER | Shape.NUMBER;
+            } else {
+                types = Shape.STRING | Shape.INTEGER | Shape.BOOLEAN;
+            }
+        }
+
+        // Pick one of the set bits:
+        int remaining = types;
+        for (int skip = random.nextInt(Integer.bitCount(types)); skip > 0; skip--) {
+            remaining &= remaining - 1;
+        }
+        return Integer.lowestOneBit(remaining);
+    }
+
+    private Map<String, Object> object(
+            final Shape shape, final int depth, final SplittableRandom random) {
+        final Map<String, Object> object = new LinkedHashMap<>();
+        for (final Map.Entry<String, List<JsonNode>> e : shape.properties().entrySet()) {
+            final String name = e.getKey();
+            if (shape.required().contains(name)) {
+                object.put(name, value(e.getValue(), depth + 1, random));
+            } else if (depth < MAX_DEPTH && random.nextInt(4) != 0) {
+                try {
+                    object.put(name, value(e.getValue(), depth + 1, random));
+                } catch (final DeadEnd ignored) {
+                    // Optional property that can not be populated, e.g. its schema is false.
+                }
+            }
+        }
+
+        for (final String name : shape.required()) {
+            if (!object.containsKey(name)) {
+                object.put(name, value(shape.additionalProperties(), depth + 1, random));
+            }
+        }
+
+        for (int extra = 0; object.size() < shape.minProperties() && !shape.closed(); extra++) {
+            object.putIfAbsent(
+                    "extra" + extra, value(shape.additionalProperties(), depth + 1, random));
+        }
+        return object;
+    }
+
+    private List<Object> array(final Shape shape, final int depth, final SplittableRandom random) {
+        final int min = shape.minItems();
+        final int max =
+                depth < MAX_DEPTH ? Math.min(shape.maxItems(), min + MAX_EXTRA_ITEMS) : min;
+        final int size = min + random.nextInt(Math.max(max - min, 0) + 1);
+
+        final List<Object> array = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            Object item = value(shape.items(), depth + 1, random);
+            for (int attempt = 1; shape.uniqueItems() && contains(array, item); attempt++) {
+                if (attempt == MAX_VALUE_ATTEMPTS) {
+                    throw DEAD_END;
+                }
+                item = value(shape.items(), depth + 1, random);
+            }
+            array.add(item);
+        }
+        return array;
+    }
+
+    private String string(final Shape shape, final SplittableRandom random) {
+        for (int attempt = 0; attempt < MAX_VALUE_ATTEMPTS; attempt++) {
+            final String candidate = candidateString(shape, random);
+            if (candidate != null && matches(shape, candidate)) {
+                return candidate;
+            }
+        }
+        throw DEAD_END;
+    }
+
+    private String candidateString(final Shape shape, final SplittableRandom random) {
+        if (!shape.patterns().isEmpty()) {
+            return sampler(shape.patterns().get(0)).map(s -> s.sample(random)).orElse(null);
+        }
+        if (shape.format() != null) {
+            final String formatted = FormatSampler.sample(shape.format(), random);
+            if (formatted != null) {
+                return formatted;
+            }
+        }
+
+        final int min = shape.minLength();
+        final int max = (int) Math.min(shape.maxLength(), (long) min + MAX_EXTRA_LENGTH);
+        final int length = min + random.nextInt(Math.max(max - min, 0) + 1);
+        final StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.appendCodePoint(CharClass.DOT.sample(random));
+        }
+        return text.toString();
+    }
+
+    private boolean matches(final Shape shape, final String text) {
+        final int length = text.codePointCount(0, text.length());
+        if (length < shape.minLength() || length > shape.maxLength()) {
+            return false;
+        }
+        for (final String regex : shape.patterns()) {
+            if (!pattern(regex).matcher(text).find()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Object integer(final Shape shape, final SplittableRandom random) {
+        long lo = (long) Math.ceil(shape.minimum());
+        if (shape.exclusiveMinimum() && lo == shape.minimum()) {
+            lo++;
+        }
+        long hi = (long) Math.floor(shape.maximum());
+        if (shape.exclusiveMaximum() && hi == shape.maximum()) {
+            hi--;
+        }
+
+        final double step = shape.multipleOf();
+        if (step >= 1 && step == Math.rint(step)) {
+            final long multiple = (long) step;
+            lo = Math.floorDiv(lo, multiple) + (Math.floorMod(lo, multiple) == 0 ? 0 : 1);
+            hi = Math.floorDiv(hi, multiple);
+            return box(multiple * pick(lo, hi, random));
+        }
+        return box(pick(lo, hi, random));
+    }
+
+    /** Pick from the range, preferring small magnitudes, and sometimes picking the bounds. */
+    private static long pick(final long lo, final long hi, final SplittableRandom random) {
+        if (lo > hi) {
+            throw DEAD_END;
+        }
+        switch (random.nextInt(16)) {
+            case 0:
+                return lo;
+            case 1:
+                return hi;
+            default:
+                long from = Math.max(lo, -SMALL);
+                long to = Math.min(hi, SMALL);
+                if (from > to) {
+                    // The range lies wholly outside the small range, so stay near its nearer end:
+                    from = lo > SMALL ? lo : Math.max(lo, hi - 2 * SMALL);
+                    to = lo > SMALL ? Math.min(hi, lo + 2 * SMALL) : hi;
+                }
+                return from + random.nextLong(to - from + 1);
+        }
+    }
+
+    private static Object box(final long value) {
+        return value == (int) value ? (Object) (int) value : (Object) value;
+    }
+
+    private static Object number(final Shape shape, final SplittableRandom random) {
+        double lo = Math.max(shape.minimum(), -SMALL);
+        double hi = Math.min(shape.maximum(), SMALL);
+        if (lo > hi) {
+            lo = shape.minimum() > SMALL ? shape.minimum() : shape.maximum() - 2 * SMALL;
+            hi = shape.minimum() > SMALL ? shape.minimum() + 2 * SMALL : shape.maximum();
+            lo = Math.max(lo, shape.minimum());
+            hi = Math.min(hi, shape.maximum());
+        }
+
+        final double step = shape.multipleOf();
+        if (step != 0) {
+            final long from = (long) Math.ceil(lo / step);
+            final long to = (long) Math.floor(hi / step);
+            return pick(from, to, random) * step;
+        }
+
+        // Keep to three decimal places, for readability:
+        final double value = Math.round((lo + random.nextDouble() * (hi - lo)) * 1000) / 1000.0;
+        if (value < shape.minimum() || value > shape.maximum()) {
+            throw DEAD_END;
+        }
+        return value;
+    }
+
+    private boolean breakObject(
+            final Map<String, Object> object,
+            final Shape shape,
+            final int depth,
+            final SplittableRandom random) {
+        final int start = random.nextInt(3);
+        for (int i = 0; i < 3; i++) {
+            switch ((start + i) % 3) {
+                case 0:
+                    if (removeRequired(object, shape, random)) {
+                        return true;
+                    }
+                    break;
+                case 1:
+                    if (addUndeclared(object, shape)) {
+                        return true;
+                    }
+                    break;
+                default:
+                    if (invalidateProperty(object, shape, depth, random)) {
+                        return true;
+                    }
+                    break;
+            }
+        }
+        return false;
+    }
+
+    private static boolean removeRequired(
+            final Map<String, Object> object, final Shape shape, final SplittableRandom random) {
+        final List<String> present = new ArrayList<>();
+        for (final String name : shape.required()) {
+            if (object.containsKey(name)) {
+                present.add(name);
+            }
+        }
+        if (present.isEmpty()) {
+            return false;
+        }
+        object.remove(present.get(random.nextInt(present.size())));
+        return true;
+    }
+
+    private static boolean addUndeclared(final Map<String, Object> object, final Shape shape) {
+        if (!shape.closed()) {
+            return false;
+        }
+        String name = "undeclared";
+        while (shape.properties().containsKey(name)) {
+            name = "_" + name;
+        }
+        object.put(name, "unexpected");
+        return true;
+    }
+
+    private boolean invalidateProperty(
+            final Map<String, Object> object,
+            final Shape shape,
+            final int depth,
+            final SplittableRandom random) {
+        final List<String> names = new ArrayList<>(shape.properties().keySet());
+        if (names.isEmpty()) {
+            return false;
+        }
+        final String name = names.get(random.nextInt(names.size()));
+        final Object invalid = invalidValue(shape.properties().get(name), depth + 1, random);
+        if (invalid == NO_VALUE) {
+            return false;
+        }
+        object.put(name, invalid);
+        return true;
+    }
+
+    /**
+     * @return a value that breaks a constraint of the schemas, or {@link #NO_VALUE} if none
+     *     could be found.
+     */
+    private Object invalidValue(
+            final List<JsonNode> schemas, final int depth, final SplittableRandom random) {
+        final Shape shape;
+        try {
+            shape = resolve(shape(schemas), random);
+        } catch (final DeadEnd e) {
+            return NO_VALUE;
+        }
+
+        final List<Object> candidates = new ArrayList<>();
+        addWrongTypes(shape, candidates);
+        if (shape.constants() != null) {
+            candidates.add(NOT_A_CONSTANT);
+        }
+        if ((shape.types() & Shape.STRING) != 0) {
+            addInvalidStrings(shape, random, candidates);
+        }
+        if ((shape.types() & Shape.NUMBER) != 0 || (shape.types() & Shape.INTEGER) != 0) {
+            addOutOfBounds(shape, candidates);
+        }
+        if ((shape.types() & Shape.ARRAY) != 0 && shape.describesArray()) {
+            addInvalidArrays(shape, depth, random, candidates);
+        }
+        if ((shape.types() & Shape.OBJECT) != 0 && shape.describesObject()) {
+            try {
+                final Map<String, Object> object = object(shape, depth, random);
+                if (breakObject(object, shape, depth, random)) {
+                    candidates.add(object);
+                }
+            } catch (final DeadEnd e) {
+                // No nested candidate.
+            }
+        }
+
+        return candidates.isEmpty()
+                ? NO_VALUE
+                : candidates.get(random.nextInt(candidates.size()));
+    }
+
+    private static void addWrongTypes(final Shape shape, final List<Object> candidates) {
+        final int types = shape.types();
+        if (types == Shape.ANY) {
+            return;
+        }
+        if ((types & Shape.NULL) == 0) {
+            candidates.add(null);
+        }
+        if ((types & Shape.BOOLEAN) == 0) {
+            candidates.add(true);
+        }
+        if ((types & Shape.INTEGER) == 0) {
+            candidates.add(1);
+        }
+        if ((types & Shape.NUMBER) == 0) {
+            candidates.add(1.5);
+        }
+        if ((types & Shape.STRING) == 0) {
+            candidates.add("text");
+        }
+        if ((types & Shape.ARRAY) == 0) {
+            candidates.add(new ArrayList<>());
+        }
+        if ((types & Shape.OBJECT) == 0) {
+            candidates.add(new LinkedHashMap<>());
+        }
+    }
+
+    private void addInvalidStrings(
+            final Shape shape, final SplittableRandom random, final List<Object> candidates) {
+        if (shape.minLength() > 0) {
+            candidates.add("");
+        }
+        if (shape.maxLength() < MAX_VALUE_ATTEMPTS * MAX_EXTRA_LENGTH) {
+            candidates.add("x".repeat(shape.maxLength() + 1));
+        }
+        if (shape.format() != null) {
+            candidates.add("not a valid " + shape.format());
+        }
+        for (final String regex : shape.patterns()) {
+            for (int attempt = 0; attempt < MAX_VALUE_ATTEMPTS; attempt++) {
+                final String text = candidateString(anything, random);
+                if (!pattern(regex).matcher(text).find()) {
+                    candidates.add(text);
+                    break;
+                }
+            }
+        }
+    }
+
+    private static void addOutOfBounds(final Shape shape, final List<Object> candidates) {
+        final boolean integers = (shape.types() & Shape.NUMBER) == 0;
+        if (shape.minimum() > Long.MIN_VALUE) {
+            final double below = shape.exclusiveMinimum() ? shape.minimum() : shape.minimum() - 1;
+            candidates.add(integers ? box((long) Math.floor(below)) : below);
+        }
+        if (shape.maximum() < Long.MAX_VALUE) {
+            final double above = shape.exclusiveMaximum() ? shape.maximum() : shape.maximum() + 1;
+            candidates.add(integers ? box((long) Math.ceil(above)) : above);
+        }
+    }
+
+    private void addInvalidArrays(
+            final Shape shape,
+            final int depth,
+            final SplittableRandom random,
+            final List<Object> candidates) {
+        if (shape.minItems() > 0) {
+            candidates.add(new ArrayList<>());
+        }
+        try {
+            if (shape.uniqueItems() && shape.maxItems() >= 2) {
+                final Object item = value(shape.items(), depth + 1, random);
+                final List<Object> duplicates = new ArrayList<>();
+                duplicates.add(item);
+                duplicates.add(item);
+                candidates.add(duplicates);
+            }
+        } catch (final DeadEnd e) {
+            // No duplicate candidate.
+        }
+        if (!shape.items().isEmpty()) {
+            final Object item = invalidValue(shape.items(), depth + 1, random);
+            if (item != NO_VALUE) {
+                final List<Object> invalid = new ArrayList<>();
+                invalid.add(item);
+                candidates.add(invalid);
+            }
+        }
+    }
+
+    private Optional<RegexSampler> sampler(final String regex) {
+        return samplers.computeIfAbsent(
+                regex,
+                k -> {
+                    try {
+                        return Optional.of(RegexSampler.of(regex));
+                    } catch (final UnsupportedRegexException e) {
+                        return Optional.empty();
+                    }
+                });
+    }
+
+    private Pattern pattern(final String regex) {
+        return patterns.computeIfAbsent(regex, Pattern::compile);
+    }
+
+    private static boolean contains(final List<Object> values, final Object value) {
+        for (final Object existing : values) {
+            if (Values.jsonEquals(existing, value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /** Signals a dead end while synthesizing, to abandon the current attempt. */
+    private static final class DeadEnd extends RuntimeException {
+
+        DeadEnd() {
+            super(null, null, false, false);
+        }
+    }
+}
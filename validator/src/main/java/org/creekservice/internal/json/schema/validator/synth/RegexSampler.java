@@ -0,0 +1,134 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.synth;
+
+import java.util.SplittableRandom;
+import org.creekservice.internal.json.schema.validator.regex.CharClass;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Alternation;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Anchor;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Chars;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Lookahead;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Repeat;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Sequence;
+import org.creekservice.internal.json.schema.validator.regex.RegexParser;
+import org.creekservice.internal.json.schema.validator.regex.UnsupportedRegexException;
+
+/**
+ * Samples random strings matching a regex, by walking its parsed form.
+ *
+ * <p>Anchors are treated as matching wherever they appear, and a lookahead is honoured by
+ * constraining the next character sampled, so a sample is not guaranteed to match. Callers must
+ * check samples against the regex.
+ */
+final class RegexSampler {
+
+    /** Most extra repetitions sampled for an unbounded quantifier, beyond its minimum. */
+    private static final int MAX_UNBOUNDED_EXTRA = 4;
+
+    /** Most extra repetitions sampled for a bounded quantifier, beyond its minimum. */
+    private static final int MAX_BOUNDED_EXTRA = 16;
+
+    private final RegexNode root;
+
+    private RegexSampler(final RegexNode root) {
+        this.root = root;
+    }
+
+    /**
+     * @param regex the regex.
+     * @return the sampler.
+     * @throws UnsupportedRegexException if the regex uses features that can not be sampled.
+     */
+    static RegexSampler of(final String regex) {
+        return new RegexSampler(RegexParser.parse(regex));
+    }
+
+    /**
+     * @param random the source of randomness.
+     * @return a sample, or {@code null} if sampling reached a dead end.
+     */
+    String sample(final SplittableRandom random) {
+        final Sample sample = new Sample(random);
+        sample.emit(root);
+        return sample.finish();
+    }
+
+    private static final class Sample {
+
+        private final SplittableRandom random;
+        private final StringBuilder text = new StringBuilder();
+        private CharClass lookahead;
+        private boolean lookaheadRequiresChar;
+        private boolean failed;
+
+        Sample(final SplittableRandom random) {
+            this.random = random;
+        }
+
+        void emit(final RegexNode node) {
+            if (failed) {
+                return;
+            }
+            if (node instanceof Chars) {
+                emitChar(((Chars) node).chars());
+            } else if (node instanceof Sequence) {
+                ((Sequence) node).parts().forEach(this::emit);
+            } else if (node instanceof Alternation) {
+                final Alternation alternation = (Alternation) node;
+                final int size = alternation.alternatives().size();
+                emit(alternation.alternatives().get(random.nextInt(size)));
+            } else if (node instanceof Repeat) {
+                final Repeat repeat = (Repeat) node;
+                final int extra =
+                        repeat.unbounded()
+                                ? MAX_UNBOUNDED_EXTRA
+                                : Math.min(repeat.max() - repeat.min(), MAX_BOUNDED_EXTRA);
+                final int count = repeat.min() + random.nextInt(extra + 1);
+                for (int i = 0; i < count; i++) {
+                    emit(repeat.body());
+                }
+            } else if (node instanceof Lookahead) {
+                final Lookahead look = (Lookahead) node;
+                final CharClass allowed = look.negated() ? look.chars().negate() : look.chars();
+                lookahead = lookahead == null ? allowed : lookahead.intersect(allowed);
+                lookaheadRequiresChar |= !look.negated();
+            } else if (node instanceof Anchor) {
+                if (((Anchor) node).kind() != Anchor.Kind.START) {
+                    failed |= lookaheadRequiresChar;
+                }
+            }
+        }
+
+        private void emitChar(final CharClass chars) {
+            final CharClass allowed = lookahead == null ? chars : chars.intersect(lookahead);
+            lookahead = null;
+            lookaheadRequiresChar = false;
+
+            final int codePoint = allowed.sample(random);
+            if (codePoint < 0) {
+                failed = true;
+            } else {
+                text.appendCodePoint(codePoint);
+            }
+        }
+
+        String finish() {
+            return failed || lookaheadRequiresChar ? null : text.toString();
+        }
+    }
+}
@@ -0,0 +1,491 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.synth;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.creekservice.internal.json.schema.validator.engine.SchemaIndex;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * A flattened view of a schema, i.e. the combined constraints of the schema, any schema it
+ * references via {@code $ref}, and the members of any {@code allOf}.
+ *
+ * <p>Keywords that offer a choice, i.e. {@code oneOf}, {@code anyOf} and {@code if}/{@code
+ * then}/{@code else}, are recorded as {@link #choices() choices}, which are resolved by merging
+ * in one alternative of each, as each instance is synthesized.
+ *
+ * <p>A shape is an over-approximation: keywords it does not model, e.g. {@code not}, are ignored,
+ * so data synthesized from it must still be checked against the schema.
+ */
+final class Shape {
+
+    /** Bit flags for JSON types. A value of type integer is also a number. */
+    static final int NULL = 1;
+
+    static final int BOOLEAN = 1 << 1;
+    static final int INTEGER = 1 << 2;
+    static final int NUMBER = 1 << 3;
+    static final int STRING = 1 << 4;
+    static final int ARRAY = 1 << 5;
+    static final int OBJECT = 1 << 6;
+    static final int ANY = (1 << 7) - 1;
+
+    private int types = ANY;
+    private boolean unsatisfiable;
+    private List<JsonNode> constants;
+    private final Map<String, List<JsonNode>> properties = new LinkedHashMap<>();
+    private final Set<String> required = new LinkedHashSet<>();
+    private final List<JsonNode> additionalProperties = new ArrayList<>();
+    private boolean closed;
+    private int minProperties;
+    private double minimum = Double.NEGATIVE_INFINITY;
+    private boolean exclusiveMinimum;
+    private double maximum = Double.POSITIVE_INFINITY;
+    private boolean exclusiveMaximum;
+    private double multipleOf;
+    private int minLength;
+    private int maxLength = Integer.MAX_VALUE;
+    private final List<String> patterns = new ArrayList<>();
+    private String format;
+    private final List<JsonNode> items = new ArrayList<>();
+    private int minItems;
+    private int maxItems = Integer.MAX_VALUE;
+    private boolean uniqueItems;
+    private final List<List<List<JsonNode>>> choices = new ArrayList<>();
+
+    private Shape() {}
+
+    /**
+     * @param schemas the schemas, all of which a value must match.
+     * @param index the index used to resolve {@code $ref}s.
+     * @return the shape of values matching all the {@code schemas}.
+     */
+    static Shape of(final List<JsonNode> schemas, final SchemaIndex index) {
+        final Shape shape = new Shape();
+        final Set<JsonNode> visiting = Collections.newSetFromMap(new IdentityHashMap<>());
+        schemas.forEach(schema -> shape.add(schema, index, visiting));
+        return shape;
+    }
+
+    /**
+     * Combine this shape with more schemas, e.g. the chosen alternative of a choice.
+     *
+     * @param schemas the schemas, all of which a value must also match.
+     * @param index the index used to resolve {@code $ref}s.
+     * @return a new shape, whose {@link #choices() choices} are only those the {@code schemas}
+     *     introduce.
+     */
+    Shape with(final List<JsonNode> schemas, final SchemaIndex index) {
+        final Shape shape = new Shape();
+        shape.types = types;
+        shape.unsatisfiable = unsatisfiable;
+        shape.constants = constants;
+        properties.forEach(
+                (name, declared) -> shape.properties.put(name, new ArrayList<>(declared)));
+        shape.required.addAll(required);
+        shape.additionalProperties.addAll(additionalProperties);
+        shape.closed = closed;
+        shape.minProperties = minProperties;
+        shape.minimum = minimum;
+        shape.exclusiveMinimum = exclusiveMinimum;
+        shape.maximum = maximum;
+        shape.exclusiveMaximum = exclusiveMaximum;
+        shape.multipleOf = multipleOf;
+        shape.minLength = minLength;
+        shape.maxLength = maxLength;
+        shape.patterns.addAll(patterns);
+        shape.format = format;
+        shape.items.addAll(items);
+        shape.minItems = minItems;
+        shape.maxItems = maxItems;
+        shape.uniqueItems = uniqueItems;
+
+        final Set<JsonNode> visiting = Collections.newSetFromMap(new IdentityHashMap<>());
+        schemas.forEach(schema -> shape.add(schema, index, visiting));
+        return shape;
+    }
+
+    private void add(final JsonNode schema, final SchemaIndex index, final Set<JsonNode> visiting) {
+        if (schema.isBoolean()) {
+            unsatisfiable |= !schema.booleanValue();
+            return;
+        }
+        if (!schema.isObject() || !visiting.add(schema)) {
+            return;
+        }
+
+        addType(schema.get("type"));
+        addConstants(schema);
+        addObjectKeywords(schema);
+        addNumberKeywords(schema);
+        addStringKeywords(schema);
+        addArrayKeywords(schema);
+
+        final JsonNode ref = schema.get("$ref");
+        if (ref != null && ref.isString()) {
+            add(index.resolve(schema, ref), index, visiting);
+        }
+
+        final JsonNode allOf = schema.get("allOf");
+        if (allOf != null) {
+            allOf.forEach(member -> add(member, index, visiting));
+        }
+
+        addChoice(schema.get("oneOf"));
+        addChoice(schema.get("anyOf"));
+
+        final JsonNode condition = schema.get("if");
+        if (condition != null) {
+            final List<JsonNode> then = new ArrayList<>(List.of(condition));
+            final List<JsonNode> otherwise = new ArrayList<>();
+            addIfPresent(schema.get("then"), then);
+            addIfPresent(schema.get("else"), otherwise);
+            choices.add(List.of(then, otherwise));
+        }
+
+        visiting.remove(schema);
+    }
+
+    private void addType(final JsonNode type) {
+        if (type == null) {
+            return;
+        }
+        int allowed = 0;
+        if (type.isArray()) {
+            for (final JsonNode t : type) {
+                allowed |= typeFlags(t.asString());
+            }
+        } else {
+            allowed = typeFlags(type.asString());
+        }
+        types &= allowed;
+    }
+
+    private void addConstants(final JsonNode schema) {
+        final JsonNode constant = schema.get("const");
+        if (constant != null) {
+            restrictConstants(List.of(constant));
+        }
+        final JsonNode values = schema.get("enum");
+        if (values != null && values.isArray()) {
+            final List<JsonNode> allowed = new ArrayList<>();
+            values.forEach(allowed::add);
+            restrictConstants(allowed);
+        }
+    }
+
+    private void restrictConstants(final List<JsonNode> allowed) {
+        if (constants == null) {
+            constants = allowed;
+        } else {
+            final List<JsonNode> both = new ArrayList<>(constants);
+            both.retainAll(allowed);
+            constants = both;
+        }
+        unsatisfiable |= constants.isEmpty();
+    }
+
+    private void addObjectKeywords(final JsonNode schema) {
+        final JsonNode props = schema.get("properties");
+        final boolean hasProperties = props != null && props.isObject();
+        if (hasProperties) {
+            for (final Map.Entry<String, JsonNode> e : props.properties()) {
+                properties.computeIfAbsent(e.getKey(), k -> new ArrayList<>()).add(e.getValue());
+            }
+        }
+
+        final JsonNode req = schema.get("required");
+        if (req != null && req.isArray()) {
+            req.forEach(name -> required.add(name.asString()));
+        }
+
+        final JsonNode additional = schema.get("additionalProperties");
+        if (additional != null) {
+            if (additional.isBoolean() && !additional.booleanValue()) {
+                // Only properties this schema declares are allowed:
+                closed = true;
+                if (hasProperties) {
+                    properties.keySet().retainAll(setOf(props.propertyNames()));
+                } else {
+                    properties.clear();
+                }
+            } else {
+                additionalProperties.add(additional);
+            }
+        }
+
+        minProperties = Math.max(minProperties, count(schema.get("minProperties"), 0));
+    }
+
+    private void addNumberKeywords(final JsonNode schema) {
+        final JsonNode min = schema.get("minimum");
+        if (min != null && min.isNumber() && min.asDouble() >= minimum) {
+            exclusiveMinimum = exclusiveMinimum && min.asDouble() == minimum;
+            minimum = min.asDouble();
+        }
+        final JsonNode exMin = schema.get("exclusiveMinimum");
+        if (exMin != null && exMin.isNumber() && exMin.asDouble() >= minimum) {
+            exclusiveMinimum = true;
+            minimum = exMin.asDouble();
+        }
+        final JsonNode max = schema.get("maximum");
+        if (max != null && max.isNumber() && max.asDouble() <= maximum) {
+            exclusiveMaximum = exclusiveMaximum && max.asDouble() == maximum;
+            maximum = max.asDouble();
+        }
+        final JsonNode exMax = schema.get("exclusiveMaximum");
+        if (exMax != null && exMax.isNumber() && exMax.asDouble() <= maximum) {
+            exclusiveMaximum = true;
+            maximum = exMax.asDouble();
+        }
+        final JsonNode multiple = schema.get("multipleOf");
+        if (multiple != null && multiple.isNumber()) {
+            multipleOf = multipleOf == 0 ? multiple.asDouble() : multipleOf * multiple.asDouble();
+        }
+    }
+
+    private void addStringKeywords(final JsonNode schema) {
+        minLength = Math.max(minLength, count(schema.get("minLength"), 0));
+        maxLength = Math.min(maxLength, count(schema.get("maxLength"), Integer.MAX_VALUE));
+
+        final JsonNode pattern = schema.get("pattern");
+        if (pattern != null && pattern.isString()) {
+            patterns.add(pattern.asString());
+        }
+        final JsonNode formatName = schema.get("format");
+        if (formatName != null && formatName.isString() && format == null) {
+            format = formatName.asString();
+        }
+    }
+
+    private void addArrayKeywords(final JsonNode schema) {
+        addIfPresent(schema.get("items"), items);
+        minItems = Math.max(minItems, count(schema.get("minItems"), 0));
+        maxItems = Math.min(maxItems, count(schema.get("maxItems"), Integer.MAX_VALUE));
+        final JsonNode unique = schema.get("uniqueItems");
+        uniqueItems |= unique != null && unique.asBoolean();
+    }
+
+    private void addChoice(final JsonNode branches) {
+        if (branches == null || !branches.isArray()) {
+            return;
+        }
+        final List<List<JsonNode>> alternatives = new ArrayList<>();
+        branches.forEach(branch -> alternatives.add(List.of(branch)));
+        choices.add(alternatives);
+    }
+
+    /**
+     * @return the allowed types, as a set of type flags.
+     */
+    int types() {
+        return types;
+    }
+
+    /**
+     * @return {@code true} if the constraints can not all be met.
+     */
+    boolean unsatisfiable() {
+        return unsatisfiable
+                || types == 0
+                || minimum > maximum
+                || minLength > maxLength
+                || minItems > maxItems;
+    }
+
+    /**
+     * @return the values allowed by {@code const} and {@code enum}, or {@code null} if neither
+     *     applies.
+     */
+    List<JsonNode> constants() {
+        return constants;
+    }
+
+    /**
+     * @return the subschemas of each declared property, in declaration order.
+     */
+    Map<String, List<JsonNode>> properties() {
+        return properties;
+    }
+
+    Set<String> required() {
+        return required;
+    }
+
+    /**
+     * @return the subschemas undeclared properties must match.
+     */
+    List<JsonNode> additionalProperties() {
+        return additionalProperties;
+    }
+
+    /**
+     * @return {@code true} if undeclared properties are not allowed.
+     */
+    boolean closed() {
+        return closed;
+    }
+
+    int minProperties() {
+        return minProperties;
+    }
+
+    double minimum() {
+        return minimum;
+    }
+
+    boolean exclusiveMinimum() {
+        return exclusiveMinimum;
+    }
+
+    double maximum() {
+        return maximum;
+    }
+
+    boolean exclusiveMaximum() {
+        return exclusiveMaximum;
+    }
+
+    /**
+     * @return the value numbers must be a multiple of, or zero if none.
+     */
+    double multipleOf() {
+        return multipleOf;
+    }
+
+    int minLength() {
+        return minLength;
+    }
+
+    int maxLength() {
+        return maxLength;
+    }
+
+    List<String> patterns() {
+        return patterns;
+    }
+
+    /**
+     * @return the format, or {@code null} if none.
+     */
+    String format() {
+        return format;
+    }
+
+    /**
+     * @return the subschemas array items must match.
+     */
+    List<JsonNode> items() {
+        return items;
+    }
+
+    int minItems() {
+        return minItems;
+    }
+
+    int maxItems() {
+        return maxItems;
+    }
+
+    boolean uniqueItems() {
+        return uniqueItems;
+    }
+
+    /**
+     * @return the choices still to be resolved: for each, the alternatives, each of which is a
+     *     list of schemas a value must match.
+     */
+    List<List<List<JsonNode>>> choices() {
+        return choices;
+    }
+
+    /**
+     * @return {@code true} if the shape declares keywords that only apply to objects.
+     */
+    boolean describesObject() {
+        return !properties.isEmpty() || !required.isEmpty() || closed || minProperties > 0;
+    }
+
+    /**
+     * @return {@code true} if the shape declares keywords that only apply to arrays.
+     */
+    boolean describesArray() {
+        return !items.isEmpty() || minItems > 0 || uniqueItems;
+    }
+
+    /**
+     * @return {@code true} if the shape declares keywords that only apply to strings.
+     */
+    boolean describesString() {
+        return !patterns.isEmpty() || format != null || minLength > 0;
+    }
+
+    /**
+     * @return {@code true} if the shape declares keywords that only apply to numbers.
+     */
+    boolean describesNumber() {
+        return minimum != Double.NEGATIVE_INFINITY
+                || maximum != Double.POSITIVE_INFINITY
+                || multipleOf != 0;
+    }
+
+    private static int typeFlags(final String type) {
+        switch (type) {
+            case "null":
+                return NULL;
+            case "boolean":
+                return BOOLEAN;
+            case "integer":
+                return INTEGER;
+            case "number":
+                return INTEGER | NUMBER;
+            case "string":
+                return STRING;
+            case "array":
+                return ARRAY;
+            case "object":
+                return OBJECT;
+            default:
+                return 0;
+        }
+    }
+
+    private static void addIfPresent(final JsonNode schema, final List<JsonNode> schemas) {
+        if (schema != null) {
+            schemas.add(schema);
+        }
+    }
+
+    private static int count(final JsonNode value, final int defaultValue) {
+        return value == null || !value.isNumber()
+                ? defaultValue
+                : (int) Math.min(value.asLong(), Integer.MAX_VALUE);
+    }
+
+    private static Set<String> setOf(final Iterable<String> names) {
+        final Set<String> set = new LinkedHashSet<>();
+        names.forEach(set::add);
+        return set;
+    }
+}
@@ -0,0 +1,258 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.synth;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import tools.jackson.databind.JsonNode;
+
+/**
+ * Decides whether {@link Shape}s model a schema exactly, i.e. whether every object synthesized
+ * from them is as intended, so need not be checked against the schema.
+ *
+ * <p>The decision is conservative: every subschema may only use keywords shapes honour exactly,
+ * and only in combinations they honour exactly. For example, {@code oneOf} is not exact, as the
+ * chosen alternative may not be the only one matched, and neither is {@code allOf}, as merging
+ * its members can drop constraints, e.g. where one member closes an object another extends.
+ */
+final class ShapeCoverage {
+
+    /** Keywords that never affect validity. */
+    private static final Set<String> ANNOTATIONS =
+            Set.of(
+                    "$anchor",
+                    "$comment",
+                    "$defs",
+                    "$id",
+                    "$schema",
+                    "default",
+                    "deprecated",
+                    "description",
+                    "examples",
+                    "readOnly",
+                    "title",
+                    "writeOnly");
+
+    /** Keywords whose constraints shapes honour exactly, subject to the checks below. */
+    private static final Set<String> EXACT =
+            Set.of(
+                    "$ref",
+                    "additionalProperties",
+                    "const",
+                    "enum",
+                    "format",
+                    "items",
+                    "maxItems",
+                    "maxLength",
+                    "maximum",
+                    "minItems",
+                    "minLength",
+                    "minProperties",
+                    "minimum",
+                    "multipleOf",
+                    "pattern",
+                    "properties",
+                    "required",
+                    "type",
+                    "uniqueItems");
+
+    /**
+     * The formats the checker asserts. Values are sampled for each, and values made invalid by
+     * {@code InstanceSynthesizer} are never in them. Other formats are annotations.
+     */
+    private static final Set<String> FORMATS =
+            Set.of("date", "time", "date-time", "duration", "uri", "uuid", "email");
+
+    /** Exact keywords whose value may be a subschema. */
+    private static final Set<String> SUBSCHEMA_KEYWORDS = Set.of("additionalProperties", "items");
+
+    /** Keywords whose value is an object of subschemas. */
+    private static final Set<String> SUBSCHEMA_MAP_KEYWORDS = Set.of("$defs", "properties");
+
+    /** Bounds beyond which adding or subtracting one is lost to rounding. */
+    private static final double MAX_BOUND = 1L << 53;
+
+    private ShapeCoverage() {}
+
+    /**
+     * @param schema the self-contained schema.
+     * @return {@code true} if shapes model every subschema of {@code schema} exactly.
+     */
+    static boolean exact(final JsonNode schema) {
+        if (schema.isBoolean()) {
+            return true;
+        }
+        if (!schema.isObject()) {
+            return false;
+        }
+        for (final Map.Entry<String, JsonNode> e : schema.properties()) {
+            final String keyword = e.getKey();
+            if (!ANNOTATIONS.contains(keyword) && !EXACT.contains(keyword)) {
+                return false;
+            }
+        }
+        return exactCombination(schema) && exactSubschemas(schema);
+    }
+
+    private static boolean exactCombination(final JsonNode schema) {
+        // Shapes merge a referenced schema with its siblings, which can drop constraints:
+        if (schema.has("$ref") && assertions(schema) > 1) {
+            return false;
+        }
+        // Constants are chosen without regard to other keywords, so only types may accompany them:
+        if (schema.has("const") || schema.has("enum")) {
+            final int others = assertions(schema) - (schema.has("type") ? 1 : 0);
+            if (others > (schema.has("const") && schema.has("enum") ? 2 : 1)
+                    || !constantsMatchType(schema)) {
+                return false;
+            }
+        }
+        // Strings are sampled from a pattern or a format, not both:
+        final JsonNode format = schema.get("format");
+        if (format != null
+                && (!format.isString()
+                        || !FORMATS.contains(format.asString())
+                        || schema.has("pattern"))) {
+            return false;
+        }
+        final JsonNode multipleOf = schema.get("multipleOf");
+        if (multipleOf != null && multipleOf.asDouble() != Math.rint(multipleOf.asDouble())) {
+            return false;
+        }
+        if (outOfRange(schema.get("minimum")) || outOfRange(schema.get("maximum"))) {
+            return false;
+        }
+        final JsonNode items = schema.get("items");
+        if (items != null && !items.isObject() && !items.isBoolean()) {
+            return false;
+        }
+        final JsonNode additional = schema.get("additionalProperties");
+        if (additional != null && additional.isBoolean() && !additional.booleanValue()) {
+            // Closed objects can neither gain extra properties, nor have undeclared required ones:
+            if (schema.has("minProperties")) {
+                return false;
+            }
+            final JsonNode properties = schema.get("properties");
+            final JsonNode required = schema.get("required");
+            if (required != null) {
+                for (final JsonNode name : required) {
+                    if (properties == null || !properties.has(name.asString())) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean exactSubschemas(final JsonNode schema) {
+        for (final String keyword : SUBSCHEMA_MAP_KEYWORDS) {
+            final JsonNode subschemas = schema.get(keyword);
+            if (subschemas != null) {
+                for (final Map.Entry<String, JsonNode> e : subschemas.properties()) {
+                    if (!exact(e.getValue())) {
+                        return false;
+                    }
+                }
+            }
+        }
+        for (final String keyword : SUBSCHEMA_KEYWORDS) {
+            final JsonNode subschema = schema.get(keyword);
+            if (subschema != null && !exact(subschema)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int assertions(final JsonNode schema) {
+        int count = 0;
+        for (final Map.Entry<String, JsonNode> e : schema.properties()) {
+            if (!ANNOTATIONS.contains(e.getKey())) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static boolean constantsMatchType(final JsonNode schema) {
+        final List<JsonNode> constants = new ArrayList<>();
+        addIfPresent(schema.get("const"), constants);
+        final JsonNode values = schema.get("enum");
+        if (values != null) {
+            values.forEach(constants::add);
+        }
+        for (final JsonNode constant : constants) {
+            // The value invalid objects use in place of a constant must not be one:
+            if (!matchesType(schema, constant)
+                    || (constant.isString()
+                            && InstanceSynthesizer.NOT_A_CONSTANT.equals(constant.asString()))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static void addIfPresent(final JsonNode node, final List<JsonNode> nodes) {
+        if (node != null) {
+            nodes.add(node);
+        }
+    }
+
+    private static boolean matchesType(final JsonNode schema, final JsonNode value) {
+        final JsonNode type = schema.get("type");
+        if (type == null) {
+            return true;
+        }
+        if (type.isArray()) {
+            for (final JsonNode t : type) {
+                if (isType(value, t.asString())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return isType(value, type.asString());
+    }
+
+    private static boolean isType(final JsonNode value, final String type) {
+        switch (type) {
+            case "null":
+                return value.isNull();
+            case "boolean":
+                return value.isBoolean();
+            case "integer":
+                return value.isIntegralNumber();
+            case "number":
+                return value.isNumber();
+            case "string":
+                return value.isString();
+            case "array":
+                return value.isArray();
+            case "object":
+                return value.isObject();
+            default:
+                return false;
+        }
+    }
+
+    private static boolean outOfRange(final JsonNode bound) {
+        return bound != null && Math.abs(bound.asDouble()) >= MAX_BOUND;
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.synth;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import org.creekservice.api.json.schema.validator.SchemaValidationException;
+import org.creekservice.internal.json.schema.validator.InternalValidator;
+import org.creekservice.internal.json.schema.validator.engine.NativeSchemaCompiler;
+
+/**
+ * Exercises validators with synthesized payloads, so the JIT compiles their hot paths before real
+ * traffic arrives.
+ *
+ * <p>Valid and invalid payloads are alternated, so both the accepting and the error reporting
+ * paths are compiled. Fresh payloads are synthesized for each validation, so result caches do not
+ * short-circuit the work. Each run takes the next seed from a counter, so repeated runs synthesize
+ * new payloads, rather than replaying ones a result cache has already seen, while the sequence of
+ * runs remains reproducible.
+ */
+public final class WarmUp {
+
+    private static final AtomicLong SEEDS = new AtomicLong();
+
+    /** Time limits beyond this are treated as unbounded, avoiding overflow of the deadline. */
+    private static final Duration MAX_TIME_LIMIT = Duration.ofDays(365);
+
+    private WarmUp() {}
+
+    /**
+     * @param timeLimit the time allowed for warm-up.
+     * @return the {@link System#nanoTime()} by which warm-up should finish.
+     * @throws IllegalArgumentException if {@code timeLimit} is negative.
+     */
+    public static long deadline(final Duration timeLimit) {
+        if (requireNonNull(timeLimit, "timeLimit").isNegative()) {
+            throw new IllegalArgumentException("timeLimit must not be negative: " + timeLimit);
+        }
+        final Duration capped =
+                timeLimit.compareTo(MAX_TIME_LIMIT) > 0 ? MAX_TIME_LIMIT : timeLimit;
+        return System.nanoTime() + capped.toNanos();
+    }
+
+    /**
+     * Validate synthesized payloads until the requested number have been validated, or the
+     * deadline passes.
+     *
+     * <p>Nothing is validated if payloads can not be synthesized for the validator's schema, e.g.
+     * because it uses features the native engine does not support.
+     *
+     * @param validator the validator to warm up.
+     * @param validations the number of payloads to validate.
+     * @param deadline the {@link System#nanoTime()} by which to stop, as returned by {@link
+     *     #deadline}.
+     * @return the number of payloads validated.
+     */
+    public static int run(
+            final InternalValidator validator, final int validations, final long deadline) {
+        if (validations <= 0 || System.nanoTime() - deadline >= 0) {
+            return 0;
+        }
+
+        final InstanceSynthesizer synthesizer;
+        try {
+            synthesizer =
+                    new InstanceSynthesizer(
+                            validator.schema(),
+                            NativeSchemaCompiler.compile(validator.schema(), validator.schemaId()));
+        } catch (final RuntimeException e) {
+            return 0;
+        }
+
+        final SplittableRandom random = new SplittableRandom(SEEDS.getAndIncrement());
+        boolean invalidPossible = true;
+        int done = 0;
+        while (done < validations && System.nanoTime() - deadline < 0) {
+            final boolean invalid = invalidPossible && done % 2 == 1;
+            final Map<String, Object> payload;
+            try {
+                payload = invalid ? synthesizer.invalid(random) : synthesizer.valid(random);
+            } catch (final IllegalStateException e) {
+                if (!invalid) {
+                    return done;
+                }
+                // The schema accepts everything the synthesizer can produce:
+                invalidPossible = false;
+                continue;
+            }
+            try {
+                validator.validate(payload);
+            } catch (final SchemaValidationException e) {
+                // Expected for invalid payloads.
+            }
+            done++;
+        }
+        return done;
+    }
+}
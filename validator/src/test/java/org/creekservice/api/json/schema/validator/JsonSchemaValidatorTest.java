@@ -17,11 +17,24 @@
 package org.creekservice.api.json.schema.validator;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
 import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+import tools.jackson.dataformat.yaml.YAMLMapper;
 
 class JsonSchemaValidatorTest {
 
@@ -68,6 +81,57 @@ class JsonSchemaValidatorTest {
         JsonSchemaValidator.fromSchema(jsonSchema);
     }
 
+    @Test
+    void shouldParseYamlFlowMappingSchema() {
+        // Then: should not throw:
+        JsonSchemaValidator.fromSchema("{type: object}");
+    }
+
+    @Test
+    void shouldParseSchemaBytesInAnySupportedFormat() {
+        // Given:
+        final JsonNode schema = YAMLMapper.builder().build().readTree(SIMPLE_SCHEMA_YAML);
+
+        final List<byte[]> formats =
+                List.of(
+                        SIMPLE_SCHEMA_YAML.getBytes(StandardCharsets.UTF_8),
+                        JsonMapper.builder().build().writeValueAsBytes(schema),
+                        SmileMapper.builder().build().writeValueAsBytes(schema),
+                        CBORMapper.builder().build().writeValueAsBytes(schema));
+
+        for (final byte[] content : formats) {
+            // When:
+            final JsonSchemaValidator validator = JsonSchemaValidator.fromSchema(content);
+
+            // Then:
+            validator.validate(Map.of("name", "Alice"));
+            assertThrows(
+                    SchemaValidationException.class, () -> validator.validate(Map.of("age", 42)));
+        }
+    }
+
+    @Test
+    void shouldParseSchemaNode() {
+        // Given:
+        final JsonNode schema = YAMLMapper.builder().build().readTree(SIMPLE_SCHEMA_YAML);
+
+        // When:
+        final JsonSchemaValidator validator = JsonSchemaValidator.fromSchema(schema);
+
+        // Then:
+        validator.validate(Map.of("name", "Alice"));
+        assertThrows(SchemaValidationException.class, () -> validator.validate(Map.of("age", 42)));
+    }
+
+    @Test
+    void shouldThrowOnInvalidSchemaBytes() {
+        assertThrows(
+                SchemaValidationException.class,
+                () ->
+                        JsonSchemaValidator.fromSchema(
+                                "{\"type\": ".getBytes(StandardCharsets.UTF_8)));
+    }
+
     @Test
     void shouldThrowOnInvalidSchema() {
         assertThrows(
@@ -141,4 +205,292 @@ class JsonSchemaValidatorTest {
         // Then:
         assertThat(ex.getMessage(), containsString("Validation failed"));
     }
+
+    @Test
+    void shouldValidateWithNativeEngine() {
+        // Given:
+        final JsonSchemaValidator validator =
+                JsonSchemaValidator.fromSchema(
+                        SIMPLE_SCHEMA_YAML,
+                        ValidatorOptions.defaults().withEngine(ValidatorOptions.Engine.NATIVE));
+
+        // When:
+        final SchemaValidationException ex =
+                assertThrows(
+                        SchemaValidationException.class,
+                        () -> validator.validate(Map.of("age", 1)));
+
+        // Then:
+        assertThat(ex.getMessage(), containsString("required property 'name' not found"));
+    }
+
+    @Test
+    void shouldValidateConsistentlyAcrossTierUp() {
+        // Given:
+        final JsonSchemaValidator validator =
+                JsonSchemaValidator.fromSchema(
+                        SIMPLE_SCHEMA_YAML,
+                        ValidatorOptions.defaults()
+                                .withEngine(ValidatorOptions.Engine.TIERED)
+                                .withTierUpThreshold(2));
+
+        // Then: before, at and after the threshold:
+        for (int i = 0; i < 3; i++) {
+            validator.validate(Map.of("name", "Bob"));
+            assertThrows(SchemaValidationException.class, () -> validator.validate(Map.of()));
+        }
+    }
+
+    @Test
+    void shouldStayOnNetworkntEngineForUnsupportedSchemas() {
+        // Given:
+        final JsonSchemaValidator validator =
+                JsonSchemaValidator.fromSchema(
+                        "unevaluatedProperties: false",
+                        ValidatorOptions.defaults()
+                                .withEngine(ValidatorOptions.Engine.TIERED)
+                                .withTierUpThreshold(1));
+
+        // Then:
+        validator.validate(Map.of());
+        assertThrows(SchemaValidationException.class, () -> validator.validate(Map.of("a", 1)));
+    }
+
+    @Test
+    void shouldThrowOnNonPositiveTierUpThreshold() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ValidatorOptions.defaults().withTierUpThreshold(0));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ValidatorOptions.Engine.class)
+    void shouldAnswerRepeatedValidationsFromResultCache(final ValidatorOptions.Engine engine) {
+        // Given:
+        final ValidationResultCache cache = ValidationResultCache.create(100);
+        final JsonSchemaValidator validator =
+                JsonSchemaValidator.fromSchema(
+                        SIMPLE_SCHEMA_YAML,
+                        ValidatorOptions.defaults().withEngine(engine).withResultCache(cache));
+
+        // When:
+        validator.validate(Map.of("name", "Bob"));
+        validator.validate(Map.of("name", "Bob"));
+        assertThrows(SchemaValidationException.class, () -> validator.validate(Map.of()));
+        final SchemaValidationException e =
+                assertThrows(SchemaValidationException.class, () -> validator.validate(Map.of()));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("name"));
+        assertThat(cache.hits(), is(2L));
+        assertThat(cache.misses(), is(2L));
+        assertThat(cache.hitRate(), is(closeTo(0.5, 0.0001)));
+    }
+
+    @Test
+    void shouldShareResultCacheBetweenValidatorsOfSameSchema() {
+        // Given:
+        final ValidatorOptions options =
+                ValidatorOptions.defaults().withResultCache(ValidationResultCache.create(100));
+        final JsonSchemaValidator yaml =
+                JsonSchemaValidator.fromSchema(SIMPLE_SCHEMA_YAML, options);
+        final JsonSchemaValidator json =
+                JsonSchemaValidator.fromSchema(
+                        JsonMapper.builder()
+                                .build()
+                                .writeValueAsString(
+                                        YAMLMapper.builder().build().readTree(SIMPLE_SCHEMA_YAML)),
+                        options);
+
+        // When:
+        yaml.validate(Map.of("name", "Bob"));
+        json.validate(Map.of("name", "Bob"));
+
+        // Then:
+        assertThat(options.resultCache().orElseThrow().hits(), is(1L));
+    }
+
+    @Test
+    void shouldNotTrustEmbeddedFingerprintsWhenCaching() {
+        // Given: different schemas, carrying the same stale fingerprint:
+        final String header = "---\n# fingerprint=" + "0123456789abcdef".repeat(4) + "\n";
+        final ValidatorOptions options =
+                ValidatorOptions.defaults().withResultCache(ValidationResultCache.create(100));
+        final JsonSchemaValidator simple =
+                JsonSchemaValidator.fromSchema(header + SIMPLE_SCHEMA_YAML, options);
+        final JsonSchemaValidator duration =
+                JsonSchemaValidator.fromSchema(header + DURATION_SCHEMA_YAML, options);
+        simple.validate(Map.of("name", "Bob", "duration", "invalid"));
+
+        // When:
+        assertThrows(
+                SchemaValidationException.class,
+                () -> duration.validate(Map.of("name", "Bob", "duration", "invalid")));
+
+        // Then:
+        assertThat(options.resultCache().orElseThrow().hits(), is(0L));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ValidatorOptions.Engine.class)
+    void shouldNotShareResultCacheBetweenOptionsAffectingOutcome(
+            final ValidatorOptions.Engine engine) {
+        // Given:
+        final String schema =
+                """
+                ---
+                type: object
+                properties:
+                  time:
+                    type: string
+                    format: local-time
+                """;
+        final ValidatorOptions options =
+                ValidatorOptions.defaults()
+                        .withEngine(engine)
+                        .withResultCache(ValidationResultCache.create(100));
+        final JsonSchemaValidator standard = JsonSchemaValidator.fromSchema(schema, options);
+        final JsonSchemaValidator custom =
+                JsonSchemaValidator.fromSchema(schema, options.withCustomTemporalFormats(true));
+        standard.validate(Map.of("time", "24:00"));
+
+        // When:
+        assertThrows(
+                SchemaValidationException.class, () -> custom.validate(Map.of("time", "24:00")));
+
+        // Then:
+        assertThat(options.resultCache().orElseThrow().hits(), is(0L));
+    }
+
+    @Test
+    void shouldNotShareResultCacheBetweenDifferentSchemas() {
+        // Given:
+        final ValidatorOptions options =
+                ValidatorOptions.defaults().withResultCache(ValidationResultCache.create(100));
+        final JsonSchemaValidator simple =
+                JsonSchemaValidator.fromSchema(SIMPLE_SCHEMA_YAML, options);
+        final JsonSchemaValidator duration =
+                JsonSchemaValidator.fromSchema(DURATION_SCHEMA_YAML, options);
+        simple.validate(Map.of("name", "Bob", "duration", "invalid"));
+
+        // When:
+        assertThrows(
+                SchemaValidationException.class,
+                () -> duration.validate(Map.of("name", "Bob", "duration", "invalid")));
+
+        // Then:
+        assertThat(options.resultCache().orElseThrow().hits(), is(0L));
+    }
+
+    @Test
+    void shouldHaveZeroHitRateBeforeFirstUse() {
+        assertThat(ValidationResultCache.create(1).hitRate(), is(0.0));
+    }
+
+    @Test
+    void shouldThrowOnNonPositiveResultCacheSize() {
+        assertThrows(IllegalArgumentException.class, () -> ValidationResultCache.create(0));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ValidatorOptions.Engine.class)
+    void shouldMatchPatternsInLinearTime(final ValidatorOptions.Engine engine) {
+        // Given:
+        final JsonSchemaValidator validator =
+                JsonSchemaValidator.fromSchema(
+                        """
+                        type: object
+                        properties:
+                          code:
+                            type: string
+                            pattern: ^(a+)+$
+                        patternProperties:
+                          ^x-:
+                            type: integer
+                        """,
+                        ValidatorOptions.defaults()
+                                .withEngine(engine)
+                                .withTierUpThreshold(1)
+                                .withLinearTimePatterns(true));
+
+        // Then:
+        validator.validate(Map.of("code", "aaa", "x-count", 1));
+        assertThrows(
+                SchemaValidationException.class,
+                () -> validator.validate(Map.of("code", "a".repeat(10_000) + "!")));
+        assertThrows(
+                SchemaValidationException.class, () -> validator.validate(Map.of("x-count", "1")));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ValidatorOptions.Engine.class)
+    void shouldWarmUp(final ValidatorOptions.Engine engine) {
+        // Given:
+        final JsonSchemaValidator validator =
+                JsonSchemaValidator.fromSchema(
+                        SIMPLE_SCHEMA_YAML, ValidatorOptions.defaults().withEngine(engine));
+
+        // When:
+        final int validated = validator.warmUp(50, Duration.ofMinutes(1));
+
+        // Then:
+        assertThat(validated, is(50));
+        validator.validate(Map.of("name", "Bob"));
+    }
+
+    @Test
+    void shouldWarmUpWithNewPayloadsEachTime() {
+        // Given:
+        final ValidationResultCache cache = ValidationResultCache.create(1000);
+        final JsonSchemaValidator validator =
+                JsonSchemaValidator.fromSchema(
+                        SIMPLE_SCHEMA_YAML, ValidatorOptions.defaults().withResultCache(cache));
+        validator.warmUp(50, Duration.ofMinutes(1));
+        final long misses = cache.misses();
+
+        // When:
+        validator.warmUp(50, Duration.ofMinutes(1));
+
+        // Then: payloads were not replayed from the cache:
+        assertThat(cache.misses(), is(greaterThan(misses)));
+    }
+
+    @Test
+    void shouldNotWarmUpBeyondTimeLimit() {
+        // Given:
+        final JsonSchemaValidator validator = JsonSchemaValidator.fromSchema(SIMPLE_SCHEMA_YAML);
+
+        // Then:
+        assertThat(validator.warmUp(50, Duration.ZERO), is(0));
+    }
+
+    @Test
+    void shouldSkipWarmUpOfSchemasThatCanNotBeSynthesized() {
+        // Given:
+        final JsonSchemaValidator validator =
+                JsonSchemaValidator.fromSchema("unevaluatedProperties: false");
+
+        // Then:
+        assertThat(validator.warmUp(50, Duration.ofMinutes(1)), is(0));
+    }
+
+    @Test
+    void shouldWarmUpSchemasThatAcceptEverything() {
+        // Given:
+        final JsonSchemaValidator validator = JsonSchemaValidator.fromSchema("type: object");
+
+        // Then:
+        assertThat(validator.warmUp(10, Duration.ofMinutes(1)), is(10));
+    }
+
+    @Test
+    void shouldThrowOnInvalidWarmUpArguments() {
+        // Given:
+        final JsonSchemaValidator validator = JsonSchemaValidator.fromSchema(SIMPLE_SCHEMA_YAML);
+
+        // Then:
+        assertThrows(IllegalArgumentException.class, () -> validator.warmUp(-1, Duration.ZERO));
+        assertThrows(
+                IllegalArgumentException.class, () -> validator.warmUp(1, Duration.ofSeconds(-1)));
+    }
 }
@@ -0,0 +1,382 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.validator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.hamcrest.Matchers.not;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.creekservice.api.json.schema.validator.ValidatorOptions.Engine;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class PayloadSynthesizerTest {
+
+    private static final int COUNT = 200;
+
+    private static final String POLYMORPHIC =
+            """
+            $schema: https://json-schema.org/draft/2020-12/schema
+            $defs:
+              SubType1:
+                type: object
+                properties:
+                  prop1:
+                    type: string
+                  '@type':
+                    const: type_1
+                title: Sub Type1
+                additionalProperties: false
+                required:
+                - '@type'
+              SubType2:
+                type: object
+                properties:
+                  prop2:
+                    type: integer
+                    minimum: -2147483648
+                    maximum: 2147483647
+                  '@type':
+                    const: type_2
+                title: Sub Type2
+                additionalProperties: false
+                required:
+                - '@type'
+            oneOf:
+            - $ref: "#/$defs/SubType1"
+            - $ref: "#/$defs/SubType2"
+            """;
+
+    private static final String DISCRIMINATED =
+            """
+            $schema: https://json-schema.org/draft/2020-12/schema
+            $defs:
+              SubType1:
+                type: object
+                properties:
+                  prop1:
+                    type: string
+                  '@type':
+                    const: type_1
+                additionalProperties: false
+                required:
+                - '@type'
+              SubType2:
+                type: object
+                properties:
+                  prop2:
+                    type: boolean
+                  '@type':
+                    const: type_2
+                additionalProperties: false
+                required:
+                - '@type'
+            type: object
+            properties:
+              '@type':
+                enum: [type_1, type_2]
+            required: ['@type']
+            allOf:
+            - if: {properties: {'@type': {const: type_1}}, required: ['@type']}
+              then: {$ref: "#/$defs/SubType1"}
+            - if: {properties: {'@type': {const: type_2}}, required: ['@type']}
+              then: {$ref: "#/$defs/SubType2"}
+            """;
+
+    private static final String SWAGGER =
+            """
+            $schema: https://json-schema.org/draft/2020-12/schema
+            type: object
+            properties:
+              nonEmpty:
+                type: string
+                minLength: 1
+              set:
+                minItems: 1
+                uniqueItems: true
+                type: array
+                items:
+                  type: integer
+                  minimum: -2147483648
+                  maximum: 2147483647
+              uuid:
+                type: string
+                format: uuid
+              withDescription:
+                type: string
+                description: This property has a text description.
+            title: Custom Title
+            additionalProperties: false
+            anyOf:
+            - required:
+              - uuid
+            - required:
+              - withDescription
+            """;
+
+    private static final String FORMATS =
+            """
+            $schema: https://json-schema.org/draft/2020-12/schema
+            type: object
+            properties:
+              date:
+                type: string
+                format: date
+              dateTime:
+                type: string
+                format: date-time
+              period:
+                type: string
+                format: duration
+                pattern: ^P(?=\\d)(?:\\d+Y)?(?:\\d+M)?(?:\\d+W)?(?:\\d+D)?$
+              localTime:
+                type: string
+                pattern: ^(?:[01]\\d|2[0-3]):(?:[0-5]\\d)(?::(?:[0-5]\\d)(?:\\.\\d{1,9})?)?$
+              yearMonth:
+                type: string
+                pattern: ^-?\\d{4,}-(?:0[1-9]|1[0-2])$
+              time:
+                type: string
+                format: time
+              uri:
+                type: string
+                format: uri
+              ratio:
+                type: number
+                exclusiveMinimum: 0
+                maximum: 1
+            required: [date, dateTime, period, localTime, yearMonth, time, uri, ratio]
+            title: Format Model
+            additionalProperties: false
+            """;
+
+    private static final String NESTED =
+            """
+            $schema: https://json-schema.org/draft/2020-12/schema
+            type: object
+            properties:
+              children:
+                type: array
+                items:
+                  $ref: "#"
+              label:
+                type: [string, "null"]
+                maxLength: 3
+            required: [label]
+            additionalProperties: false
+            """;
+
+    @ParameterizedTest
+    @MethodSource("schemas")
+    void shouldSynthesizeValidPayloads(final String schema) {
+        // Given:
+        final List<Map<String, Object>> payloads = valid(schema, 1L);
+
+        // Then:
+        for (final Engine engine : Engine.values()) {
+            final JsonSchemaValidator validator =
+                    JsonSchemaValidator.fromSchema(
+                            schema, ValidatorOptions.defaults().withEngine(engine));
+            payloads.forEach(validator::validate);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("schemas")
+    void shouldSynthesizeInvalidPayloads(final String schema) {
+        // Given:
+        final List<Map<String, Object>> payloads =
+                PayloadSynthesizer.fromSchema(schema)
+                        .invalid(1L)
+                        .limit(COUNT)
+                        .collect(Collectors.toList());
+
+        // Then:
+        for (final Engine engine : Engine.values()) {
+            final JsonSchemaValidator validator =
+                    JsonSchemaValidator.fromSchema(
+                            schema, ValidatorOptions.defaults().withEngine(engine));
+            payloads.forEach(
+                    payload ->
+                            assertThrows(
+                                    SchemaValidationException.class,
+                                    () -> validator.validate(payload),
+                                    payload::toString));
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("schemas")
+    void shouldBeReproducibleFromSeed(final String schema) {
+        assertThat(valid(schema, 42L), is(valid(schema, 42L)));
+        assertThat(valid(schema, 42L), is(not(valid(schema, 43L))));
+    }
+
+    @Test
+    void shouldCheckEveryPayloadIfSchemaUsesKeywordsNotModelled() {
+        // Given: 'not' is not modelled, so some synthesized values break it:
+        final String schema =
+                """
+                type: object
+                properties:
+                  digit:
+                    type: integer
+                    minimum: 0
+                    maximum: 9
+                    not:
+                      const: 3
+                required: [digit]
+                """;
+
+        // When:
+        final List<Map<String, Object>> payloads = valid(schema, 1L);
+
+        // Then:
+        assertThat(payloads, everyItem(not(hasEntry("digit", (Object) 3))));
+    }
+
+    @Test
+    void shouldKeepCheckingIfKeywordsNotModelledRarelyMatter() {
+        // Given: a sample of payloads is likely to pass, but later ones would break 'not':
+        final String schema =
+                """
+                type: object
+                properties:
+                  code:
+                    type: integer
+                    minimum: 0
+                    maximum: 999
+                    not:
+                      const: 777
+                required: [code]
+                """;
+
+        // When:
+        final List<Map<String, Object>> payloads =
+                PayloadSynthesizer.fromSchema(schema)
+                        .valid(1L)
+                        .limit(COUNT * 25)
+                        .collect(Collectors.toList());
+
+        // Then:
+        assertThat(payloads, everyItem(not(hasEntry("code", (Object) 777))));
+    }
+
+    @Test
+    void shouldSynthesizeEverySubtype() {
+        // When:
+        final Set<Object> types =
+                valid(POLYMORPHIC, 1L).stream()
+                        .map(payload -> payload.get("@type"))
+                        .collect(Collectors.toSet());
+
+        // Then:
+        assertThat(types, containsInAnyOrder("type_1", "type_2"));
+    }
+
+    @Test
+    void shouldHonourPatterns() {
+        // When:
+        final List<String> times =
+                valid(FORMATS, 1L).stream()
+                        .map(payload -> (String) payload.get("localTime"))
+                        .collect(Collectors.toList());
+
+        // Then:
+        assertThat(times, everyItem(matchesPattern("[0-2]\\d:[0-5]\\d(:[0-5]\\d(\\.\\d+)?)?")));
+    }
+
+    @Test
+    void shouldSynthesizeFromGeneratedSchemaResource() {
+        // When:
+        final PayloadSynthesizer synthesizer = PayloadSynthesizer.forType(GeneratedModel.class);
+
+        // Then:
+        final Map<String, Object> payload = synthesizer.valid(1L).findFirst().orElseThrow();
+        assertThat(payload.keySet(), containsInAnyOrder("id", "name"));
+    }
+
+    @Test
+    void shouldThrowIfTypeHasNoSchemaResource() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        SchemaValidationException.class,
+                        () -> PayloadSynthesizer.forType(PayloadSynthesizerTest.class));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("No schema resource found for type"));
+    }
+
+    @Test
+    void shouldThrowIfSchemaDoesNotDescribeObjects() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> PayloadSynthesizer.fromSchema("type: string"));
+    }
+
+    @Test
+    void shouldThrowIfNoPayloadIsValid() {
+        // Given:
+        final PayloadSynthesizer synthesizer =
+                PayloadSynthesizer.fromSchema(
+                        """
+                        type: object
+                        properties:
+                          a: false
+                        required: [a]
+                        """);
+
+        // Then:
+        assertThrows(IllegalStateException.class, () -> synthesizer.valid(1L).findFirst());
+    }
+
+    @Test
+    void shouldThrowIfNoPayloadIsInvalid() {
+        // Given:
+        final PayloadSynthesizer synthesizer = PayloadSynthesizer.fromSchema("type: object");
+
+        // Then:
+        assertThrows(IllegalStateException.class, () -> synthesizer.invalid(1L).findFirst());
+    }
+
+    private static Stream<String> schemas() {
+        return Stream.of(POLYMORPHIC, DISCRIMINATED, SWAGGER, FORMATS, NESTED);
+    }
+
+    private static List<Map<String, Object>> valid(final String schema, final long seed) {
+        return PayloadSynthesizer.fromSchema(schema)
+                .valid(seed)
+                .limit(COUNT)
+                .collect(Collectors.toList());
+    }
+
+    /** A type with a schema resource, as the schema generator would write it. */
+    static final class GeneratedModel {}
+}
@@ -0,0 +1,144 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.validator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class SchemaBundleTest {
+
+    private static final String PERSON_SCHEMA =
+            """
+            $schema: https://json-schema.org/draft/2020-12/schema
+            $id: https://example.com/schemas/person.yml
+            type: object
+            properties:
+              address:
+                $ref: address.yml
+            required:
+            - address
+            """;
+
+    private static final String ADDRESS_SCHEMA =
+            """
+            $id: https://example.com/schemas/address.yml
+            type: object
+            properties:
+              street:
+                type: string
+            required:
+            - street
+            """;
+
+    @Test
+    void shouldLoadSchemasFromClasspath() {
+        // When:
+        final SchemaBundle bundle =
+                SchemaBundle.fromClasspath(getClass().getClassLoader(), "schemas/address.yml");
+
+        // Then:
+        assertThat(bundle.ids(), is(Set.of("https://example.com/schemas/address.yml")));
+    }
+
+    @Test
+    void shouldThrowOnMissingClasspathResource() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        SchemaValidationException.class,
+                        () ->
+                                SchemaBundle.fromClasspath(
+                                        getClass().getClassLoader(), "schemas/missing.yml"));
+
+        // Then:
+        assertThat(e.getMessage(), is("Schema resource not found: schemas/missing.yml"));
+    }
+
+    @Test
+    void shouldIdentifySchemaById() {
+        // When:
+        final SchemaBundle bundle = SchemaBundle.empty().with(ADDRESS_SCHEMA);
+
+        // Then:
+        assertThat(bundle.ids(), is(Set.of("https://example.com/schemas/address.yml")));
+    }
+
+    @Test
+    void shouldThrowIfSchemaHasNoId() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        SchemaValidationException.class,
+                        () -> SchemaBundle.empty().with("type: object"));
+
+        // Then:
+        assertThat(e.getMessage(), is("Bundled schema has no $id"));
+    }
+
+    @Test
+    void shouldBeImmutable() {
+        // Given:
+        final SchemaBundle bundle = SchemaBundle.empty();
+
+        // When:
+        bundle.with("https://example.com/a.yml", "type: object");
+
+        // Then:
+        assertThat(bundle.ids(), is(Set.of()));
+    }
+
+    @Test
+    void shouldValidateUsingBundledReferences() {
+        // Given:
+        final SchemaBundle bundle =
+                SchemaBundle.fromClasspath(getClass().getClassLoader(), "schemas/address.yml");
+        final JsonSchemaValidator validator =
+                JsonSchemaValidator.fromSchema(PERSON_SCHEMA, bundle);
+
+        // Then:
+        validator.validate(Map.of("address", Map.of("street", "High St")));
+        assertThrows(
+                SchemaValidationException.class,
+                () -> validator.validate(Map.of("address", Map.of())));
+    }
+
+    @Test
+    void shouldFailFastOnReferenceNotInBundle() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        SchemaValidationException.class,
+                        () -> JsonSchemaValidator.fromSchema(PERSON_SCHEMA, SchemaBundle.empty()));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                containsString("Unresolvable $ref: https://example.com/schemas/address.yml"));
+    }
+
+    @Test
+    void shouldPrewarm() {
+        // Then: does not throw:
+        JsonSchemaValidator.prewarm();
+    }
+}
@@ -0,0 +1,317 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.validator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class SchemaSnapshotTest {
+
+    private static final String PERSON_SCHEMA =
+            """
+            $schema: https://json-schema.org/draft/2020-12/schema
+            type: object
+            properties:
+              name:
+                type: string
+            required:
+            - name
+            """;
+
+    private static final String ORDER_SCHEMA =
+            """
+            $schema: https://json-schema.org/draft/2020-12/schema
+            type: object
+            properties:
+              quantity:
+                type: integer
+            required:
+            - quantity
+            """;
+
+    private static final String PERSON_REF_SCHEMA =
+            """
+            $schema: https://json-schema.org/draft/2020-12/schema
+            $id: https://example.com/schemas/person.yml
+            type: object
+            properties:
+              address:
+                $ref: address.yml
+            required:
+            - address
+            """;
+
+    private static final String ADDRESS_SCHEMA =
+            """
+            $id: https://example.com/schemas/address.yml
+            type: object
+            properties:
+              street:
+                type: string
+            required:
+            - street
+            """;
+
+    @TempDir private Path tempDir;
+
+    @Test
+    void shouldRoundTripThroughBytes() {
+        // Given:
+        final SchemaSnapshot snapshot =
+                SchemaSnapshot.of(Map.of("person", PERSON_SCHEMA, "order", ORDER_SCHEMA));
+
+        // When:
+        final SchemaSnapshot loaded = SchemaSnapshot.fromBytes(snapshot.toBytes());
+
+        // Then:
+        assertThat(loaded.names(), is(Set.of("person", "order")));
+        assertThat(loaded.isCurrent("person", PERSON_SCHEMA), is(true));
+        assertThat(loaded.isCurrent("order", ORDER_SCHEMA), is(true));
+    }
+
+    @Test
+    void shouldCreateWorkingValidatorFromSnapshot() {
+        // Given:
+        final byte[] bytes = SchemaSnapshot.of(Map.of("person", PERSON_SCHEMA)).toBytes();
+        final SchemaSnapshot snapshot = SchemaSnapshot.fromBytes(bytes);
+
+        // When:
+        final JsonSchemaValidator validator = snapshot.validator("person");
+
+        // Then:
+        validator.validate(Map.of("name", "Alice"));
+        assertThrows(SchemaValidationException.class, () -> validator.validate(Map.of()));
+    }
+
+    @Test
+    void shouldCreateValidatorFromSnapshotWithOptions() {
+        // Given:
+        final SchemaSnapshot snapshot = SchemaSnapshot.of(Map.of("person", PERSON_REF_SCHEMA));
+        final ValidatorOptions options =
+                ValidatorOptions.defaults().withBundle(SchemaBundle.empty().with(ADDRESS_SCHEMA));
+
+        // When:
+        final JsonSchemaValidator validator = snapshot.validator("person", options);
+
+        // Then: resolves the reference from the bundle:
+        validator.validate(Map.of("address", Map.of("street", "Main St")));
+        assertThrows(
+                SchemaValidationException.class,
+                () -> validator.validate(Map.of("address", Map.of())));
+    }
+
+    @Test
+    void shouldCompileFromSourceWithOptionsIfStale() {
+        // Given:
+        final SchemaSnapshot snapshot = SchemaSnapshot.of(Map.of("person", PERSON_SCHEMA));
+        final ValidatorOptions options =
+                ValidatorOptions.defaults().withBundle(SchemaBundle.empty().with(ADDRESS_SCHEMA));
+
+        // When:
+        final JsonSchemaValidator validator =
+                snapshot.validator("person", PERSON_REF_SCHEMA, options);
+
+        // Then:
+        validator.validate(Map.of("address", Map.of("street", "Main St")));
+        assertThrows(
+                SchemaValidationException.class,
+                () -> validator.validate(Map.of("address", Map.of())));
+    }
+
+    @Test
+    void shouldDetectStaleEntry() {
+        // Given:
+        final SchemaSnapshot snapshot = SchemaSnapshot.of(Map.of("person", PERSON_SCHEMA));
+
+        // Then:
+        assertThat(snapshot.isCurrent("person", ORDER_SCHEMA), is(false));
+        assertThat(snapshot.isCurrent("unknown", PERSON_SCHEMA), is(false));
+    }
+
+    @Test
+    void shouldCompileFromSourceIfStale() {
+        // Given:
+        final SchemaSnapshot snapshot = SchemaSnapshot.of(Map.of("person", PERSON_SCHEMA));
+
+        // When:
+        final JsonSchemaValidator validator = snapshot.validator("person", ORDER_SCHEMA);
+
+        // Then: uses the current source, not the stale snapshot:
+        validator.validate(Map.of("quantity", 1));
+        assertThrows(
+                SchemaValidationException.class, () -> validator.validate(Map.of("name", "a")));
+    }
+
+    @Test
+    void shouldThrowOnUnknownSchema() {
+        // Given:
+        final SchemaSnapshot snapshot = SchemaSnapshot.of(Map.of("person", PERSON_SCHEMA));
+
+        // When:
+        final Exception e =
+                assertThrows(IllegalArgumentException.class, () -> snapshot.validator("unknown"));
+
+        // Then:
+        assertThat(e.getMessage(), is("Unknown schema: unknown"));
+    }
+
+    @Test
+    void shouldThrowOnNonSnapshotBytes() {
+        // Given:
+        final byte[] bytes = PERSON_SCHEMA.getBytes(StandardCharsets.UTF_8);
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        SchemaValidationException.class, () -> SchemaSnapshot.fromBytes(bytes));
+
+        // Then:
+        assertThat(e.getMessage(), is("Not a schema snapshot"));
+    }
+
+    @Test
+    void shouldThrowOnUnsupportedVersion() {
+        // Given:
+        final byte[] bytes = SchemaSnapshot.of(Map.of("person", PERSON_SCHEMA)).toBytes();
+        bytes[4] = 99;
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        SchemaValidationException.class, () -> SchemaSnapshot.fromBytes(bytes));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("Unsupported schema snapshot version: 99"));
+    }
+
+    @Test
+    void shouldCreateSnapshotFileIfMissing() {
+        // Given:
+        final Path file = tempDir.resolve("sub/schemas.snapshot");
+
+        // When:
+        final SchemaSnapshot snapshot =
+                SchemaSnapshot.loadOrCreate(file, Map.of("person", PERSON_SCHEMA));
+
+        // Then:
+        assertThat(Files.exists(file), is(true));
+        assertThat(SchemaSnapshot.fromBytes(readBytes(file)).names(), is(snapshot.names()));
+    }
+
+    @Test
+    void shouldNotRewriteUpToDateSnapshotFile() throws Exception {
+        // Given:
+        final Path file = tempDir.resolve("schemas.snapshot");
+        SchemaSnapshot.loadOrCreate(file, Map.of("person", PERSON_SCHEMA));
+        final FileTime past = FileTime.from(Instant.parse("2020-01-01T00:00:00Z"));
+        Files.setLastModifiedTime(file, past);
+
+        // When:
+        SchemaSnapshot.loadOrCreate(file, Map.of("person", PERSON_SCHEMA));
+
+        // Then:
+        assertThat(Files.getLastModifiedTime(file), is(past));
+    }
+
+    @Test
+    void shouldRebuildStaleEntriesInSnapshotFile() {
+        // Given:
+        final Path file = tempDir.resolve("schemas.snapshot");
+        SchemaSnapshot.loadOrCreate(file, Map.of("person", PERSON_SCHEMA, "order", PERSON_SCHEMA));
+
+        // When:
+        final SchemaSnapshot snapshot =
+                SchemaSnapshot.loadOrCreate(file, Map.of("order", ORDER_SCHEMA));
+
+        // Then:
+        assertThat(snapshot.names(), is(Set.of("order")));
+        assertThat(snapshot.isCurrent("order", ORDER_SCHEMA), is(true));
+        assertThat(
+                SchemaSnapshot.fromBytes(readBytes(file)).isCurrent("order", ORDER_SCHEMA),
+                is(true));
+    }
+
+    @Test
+    void shouldRebuildCorruptSnapshotFile() throws Exception {
+        // Given:
+        final Path file = tempDir.resolve("schemas.snapshot");
+        Files.writeString(file, "corrupt");
+
+        // When:
+        final SchemaSnapshot snapshot =
+                SchemaSnapshot.loadOrCreate(file, Map.of("person", PERSON_SCHEMA));
+
+        // Then:
+        assertThat(snapshot.isCurrent("person", PERSON_SCHEMA), is(true));
+        assertThat(SchemaSnapshot.fromBytes(readBytes(file)).names(), is(Set.of("person")));
+    }
+
+    @Test
+    void shouldNotLeaveTempFileBehind() throws Exception {
+        // Given:
+        final Path file = tempDir.resolve("schemas.snapshot");
+
+        // When:
+        SchemaSnapshot.of(Map.of("person", PERSON_SCHEMA)).writeTo(file);
+
+        // Then:
+        assertThat(listFiles(tempDir), is(Set.of(file)));
+    }
+
+    @Test
+    void shouldDeleteTempFileIfWriteFails() throws Exception {
+        // Given: a target that can not be replaced:
+        final Path file = tempDir.resolve("schemas.snapshot");
+        Files.createDirectories(file.resolve("not-empty"));
+
+        // When:
+        assertThrows(
+                SchemaValidationException.class,
+                () -> SchemaSnapshot.of(Map.of("person", PERSON_SCHEMA)).writeTo(file));
+
+        // Then:
+        assertThat(listFiles(tempDir), is(Set.of(file)));
+    }
+
+    private static Set<Path> listFiles(final Path dir) throws Exception {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.collect(Collectors.toSet());
+        }
+    }
+
+    private static byte[] readBytes(final Path file) {
+        try {
+            return Files.readAllBytes(file);
+        } catch (final Exception e) {
+            throw new AssertionError(e);
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.validator;
+
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.creekservice.api.json.schema.validator.ValidatorOptions.Engine;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.dataformat.yaml.YAMLMapper;
+
+/**
+ * Runs the conformance cases under {@code conformance/} against every {@link Engine}, ensuring the
+ * engines agree.
+ *
+ * <p>Each file holds a list of groups, each with a {@code schema} and a list of {@code tests},
+ * each with the {@code data} to validate and whether it is expected to be {@code valid}. A group
+ * can set {@code customTemporalFormats: true} to validate with the custom temporal formats
+ * enabled.
+ */
+class ValidationEngineConformanceTest {
+
+    private static final YAMLMapper YAML = YAMLMapper.builder().build();
+
+    private static final List<String> SUITES =
+            List.of("types", "objects", "arrays", "scalars", "composition");
+
+    @ParameterizedTest(name = "{0}: {1}: {2}")
+    @MethodSource("cases")
+    void shouldConform(
+            final Engine engine,
+            final String group,
+            final String test,
+            final JsonNode schema,
+            final Map<String, Object> data,
+            final boolean valid,
+            final boolean customTemporalFormats) {
+        // Given:
+        final JsonSchemaValidator validator =
+                JsonSchemaValidator.fromSchema(
+                        schema,
+                        ValidatorOptions.defaults()
+                                .withEngine(engine)
+                                .withCustomTemporalFormats(customTemporalFormats));
+
+        // Then:
+        if (valid) {
+            validator.validate(data);
+        } else {
+            assertThrows(SchemaValidationException.class, () -> validator.validate(data));
+        }
+    }
+
+    private static Stream<Arguments> cases() {
+        final List<Arguments> cases = new ArrayList<>();
+        for (final String suite : SUITES) {
+            for (final JsonNode group : load(suite)) {
+                final boolean customTemporalFormats =
+                        group.has("customTemporalFormats")
+                                && group.get("customTemporalFormats").asBoolean();
+                for (final JsonNode test : group.get("tests")) {
+                    for (final Engine engine : Engine.values()) {
+                        cases.add(
+                                Arguments.of(
+                                        engine,
+                                        suite + ": " + group.get("description").asString(),
+                                        test.get("description").asString(),
+                                        group.get("schema"),
+                                        data(test.get("data")),
+                                        test.get("valid").asBoolean(),
+                                        customTemporalFormats));
+                    }
+                }
+            }
+        }
+        return cases.stream();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Object> data(final JsonNode data) {
+        return YAML.treeToValue(data, Map.class);
+    }
+
+    private static JsonNode load(final String suite) {
+        final String path = "conformance/" + suite + ".yml";
+        try (InputStream in =
+                ValidationEngineConformanceTest.class.getClassLoader().getResourceAsStream(path)) {
+            if (in == null) {
+                throw new AssertionError("Missing conformance suite: " + path);
+            }
+            return YAML.readTree(in);
+        } catch (final IOException e) {
+            throw new AssertionError("Failed to load conformance suite: " + path, e);
+        }
+    }
+}
@@ -0,0 +1,328 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.api.json.schema.validator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.creekservice.api.json.schema.validator.ValidatorRegistry.Eviction;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+class ValidatorRegistryTest {
+
+    private static final String SCHEMA_A =
+            """
+            type: object
+            required:
+            - a
+            """;
+
+    private static final String SCHEMA_B =
+            """
+            type: object
+            required:
+            - b
+            """;
+
+    private static final String SCHEMA_C =
+            """
+            type: object
+            required:
+            - c
+            """;
+
+    private ValidatorRegistry registry = ValidatorRegistry.create(2, SchemaBundle.empty());
+
+    @AfterEach
+    void tearDown() {
+        registry.close();
+    }
+
+    @Test
+    void shouldCacheValidatorsBySchemaContent() {
+        // When:
+        final JsonSchemaValidator first = registry.validator(SCHEMA_A);
+        final JsonSchemaValidator second =
+                registry.validator(SCHEMA_A.getBytes(StandardCharsets.UTF_8));
+
+        // Then:
+        assertThat(second, is(sameInstance(first)));
+        assertThat(registry.size(), is(1));
+    }
+
+    @Test
+    void shouldNotBeAffectedByCallerModifyingSchemaBytes() {
+        // Given:
+        final byte[] bytes = SCHEMA_A.getBytes(StandardCharsets.UTF_8);
+        final JsonSchemaValidator a = registry.validator(bytes);
+
+        // When:
+        bytes[bytes.length - 2] = 'x';
+
+        // Then:
+        assertThat(registry.validator(SCHEMA_A), is(sameInstance(a)));
+    }
+
+    @Test
+    void shouldReturnSameValidatorToConcurrentCallers() throws Exception {
+        // Given:
+        final int threads = 8;
+        final CountDownLatch start = new CountDownLatch(1);
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        final Callable<JsonSchemaValidator> lookup =
+                () -> {
+                    start.await();
+                    return registry.validator(SCHEMA_A);
+                };
+
+        try {
+            final List<Future<JsonSchemaValidator>> futures =
+                    IntStream.range(0, threads).mapToObj(i -> executor.submit(lookup)).toList();
+
+            // When:
+            start.countDown();
+
+            // Then:
+            final JsonSchemaValidator first = futures.get(0).get();
+            for (final Future<JsonSchemaValidator> future : futures) {
+                assertThat(future.get(), is(sameInstance(first)));
+            }
+            assertThat(registry.size(), is(1));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void shouldReturnWorkingValidators() {
+        // When:
+        final JsonSchemaValidator validator = registry.validator(SCHEMA_A);
+
+        // Then:
+        validator.validate(Map.of("a", 1));
+        assertThrows(SchemaValidationException.class, () -> validator.validate(Map.of("b", 1)));
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedWhenFull() {
+        // Given:
+        final JsonSchemaValidator a = registry.validator(SCHEMA_A);
+        registry.validator(SCHEMA_B);
+        registry.validator(SCHEMA_A);
+
+        // When:
+        registry.validator(SCHEMA_C);
+
+        // Then: B was evicted, A was not:
+        assertThat(registry.size(), is(2));
+        assertThat(registry.validator(SCHEMA_A), is(sameInstance(a)));
+    }
+
+    @Test
+    void shouldRecompileEvictedSchema() {
+        // Given:
+        final JsonSchemaValidator a = registry.validator(SCHEMA_A);
+        registry.validator(SCHEMA_B);
+        registry.validator(SCHEMA_C);
+
+        // When:
+        final JsonSchemaValidator result = registry.validator(SCHEMA_A);
+
+        // Then:
+        assertThat(result, is(not(sameInstance(a))));
+    }
+
+    @Test
+    void shouldRecompileEvictedSchemaFirstCachedFromBytes() {
+        // Given:
+        final JsonSchemaValidator a = registry.validator(SCHEMA_A.getBytes(StandardCharsets.UTF_8));
+        assertThat(registry.validator(SCHEMA_A), is(sameInstance(a)));
+        registry.validator(SCHEMA_B);
+        registry.validator(SCHEMA_C);
+        // A had a second chance, having been used:
+        registry.validator(SCHEMA_B);
+
+        // When:
+        final JsonSchemaValidator result = registry.validator(SCHEMA_A);
+
+        // Then:
+        assertThat(result, is(not(sameInstance(a))));
+        assertThat(registry.size(), is(2));
+    }
+
+    @Test
+    void shouldKeepEvictedValidatorsUsable() {
+        // Given:
+        final JsonSchemaValidator a = registry.validator(SCHEMA_A);
+        registry.clear();
+
+        // Then: does not throw:
+        a.validate(Map.of("a", 1));
+    }
+
+    @Test
+    void shouldReleaseAllSchemasOnClose() {
+        // Given:
+        registry.validator(SCHEMA_A);
+
+        // When:
+        registry.close();
+
+        // Then:
+        assertThat(registry.isClosed(), is(true));
+        assertThat(registry.size(), is(0));
+    }
+
+    @Test
+    void shouldRejectUseOfClosedRegistry() {
+        // Given:
+        registry.close();
+
+        // Then:
+        assertThrows(IllegalStateException.class, () -> registry.validator(SCHEMA_A));
+    }
+
+    @Test
+    void shouldRejectValidationOnceRegistryClosed() {
+        // Given:
+        final JsonSchemaValidator validator = registry.validator(SCHEMA_A);
+        registry.close();
+
+        // When:
+        final Exception e =
+                assertThrows(IllegalStateException.class, () -> validator.validate(Map.of()));
+
+        // Then:
+        assertThat(e.getMessage(), is("Validator registry is closed"));
+    }
+
+    @Test
+    void shouldIsolateRegistries() {
+        // Given:
+        try (ValidatorRegistry other = ValidatorRegistry.create()) {
+            final JsonSchemaValidator fromOther = other.validator(SCHEMA_A);
+
+            // When:
+            registry.close();
+
+            // Then: other registry unaffected:
+            fromOther.validate(Map.of("a", 1));
+        }
+    }
+
+    @Test
+    void shouldResolveReferencesFromBundle() {
+        // Given:
+        registry.close();
+        registry =
+                ValidatorRegistry.create(
+                        10, SchemaBundle.empty().with("https://example.com/a.yml", SCHEMA_A));
+
+        // When:
+        final JsonSchemaValidator validator = registry.validator("$ref: https://example.com/a.yml");
+
+        // Then:
+        validator.validate(Map.of("a", 1));
+        assertThrows(SchemaValidationException.class, () -> validator.validate(Map.of()));
+    }
+
+    @Test
+    void shouldWarmUpAllCachedValidators() {
+        // Given:
+        registry.validator(SCHEMA_A);
+        registry.validator(SCHEMA_B);
+
+        // When:
+        final int validated = registry.warmUp(10, Duration.ofMinutes(1));
+
+        // Then:
+        assertThat(validated, is(20));
+    }
+
+    @Test
+    void shouldRejectWarmUpOfClosedRegistry() {
+        // Given:
+        registry.close();
+
+        // Then:
+        assertThrows(IllegalStateException.class, () -> registry.warmUp(10, Duration.ofMinutes(1)));
+    }
+
+    @Test
+    void shouldEvictExactlyLeastRecentlyUsedIfConfigured() {
+        // Given:
+        registry.close();
+        registry = ValidatorRegistry.create(2, ValidatorOptions.defaults(), Eviction.LRU);
+        final JsonSchemaValidator a = registry.validator(SCHEMA_A);
+        final JsonSchemaValidator b = registry.validator(SCHEMA_B);
+        registry.validator(SCHEMA_B);
+        registry.validator(SCHEMA_A);
+
+        // When:
+        registry.validator(SCHEMA_C);
+
+        // Then: B was evicted, where CLOCK would evict A, as both were used:
+        assertThat(registry.size(), is(2));
+        assertThat(registry.validator(SCHEMA_A), is(sameInstance(a)));
+        assertThat(registry.validator(SCHEMA_B), is(not(sameInstance(b))));
+    }
+
+    @Test
+    void shouldThrowIfFullAndNotEvicting() {
+        // Given:
+        registry.close();
+        registry = ValidatorRegistry.create(2, ValidatorOptions.defaults(), Eviction.NONE);
+        final JsonSchemaValidator a = registry.validator(SCHEMA_A);
+        registry.validator(SCHEMA_B);
+
+        // When:
+        final Exception e =
+                assertThrows(IllegalStateException.class, () -> registry.validator(SCHEMA_C));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("Capacity: 2"));
+        assertThat(registry.size(), is(2));
+        assertThat(registry.validator(SCHEMA_A), is(sameInstance(a)));
+    }
+
+    @Test
+    void shouldDefaultToClockEviction() {
+        assertThat(registry.eviction(), is(Eviction.CLOCK));
+    }
+
+    @Test
+    void shouldThrowOnInvalidCapacity() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> ValidatorRegistry.create(0, SchemaBundle.empty()));
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.databind.node.ObjectNode;
+
+class JsonNodeViewsTest {
+
+    private static final JsonMapper JSON_MAPPER = JsonMapper.builder().build();
+
+    @Test
+    void shouldMatchValueToTree() {
+        // Given:
+        final Map<String, Object> nested = new LinkedHashMap<>();
+        nested.put("list", List.of(1, "two", List.of(3.0), Map.of("four", 4L)));
+        nested.put("null", null);
+
+        final Map<String, Object> props = new LinkedHashMap<>();
+        props.put("string", "text");
+        props.put("int", 1);
+        props.put("long", Long.MAX_VALUE);
+        props.put("double", 1.5);
+        props.put("bigInt", new BigInteger("123456789012345678901234567890"));
+        props.put("bool", true);
+        props.put("nested", nested);
+        props.put("enum", DayOfWeek.MONDAY);
+        props.put("nonStringKeys", Map.of(1, "one"));
+
+        // When:
+        final JsonNode view = JsonNodeViews.view(props);
+
+        // Then:
+        final JsonNode expected = JSON_MAPPER.valueToTree(props);
+        assertThat(view, is(expected));
+    }
+
+    @Test
+    void shouldConvertOtherNumericTypes() {
+        // When:
+        final JsonNode view =
+                JsonNodeViews.view(
+                        Map.of(
+                                "short", (short) 2,
+                                "byte", (byte) 3,
+                                "float", 2.5f,
+                                "decimal", new BigDecimal("1.000000000000000000001")));
+
+        // Then:
+        assertThat(view.get("short").isInt(), is(true));
+        assertThat(view.get("short").intValue(), is(2));
+        assertThat(view.get("byte").isInt(), is(true));
+        assertThat(view.get("byte").intValue(), is(3));
+        assertThat(view.get("float").isFloat(), is(true));
+        assertThat(view.get("float").floatValue(), is(2.5f));
+        assertThat(view.get("decimal").isBigDecimal(), is(true));
+        assertThat(
+                view.get("decimal").decimalValue(),
+                is(new BigDecimal("1.000000000000000000001")));
+    }
+
+    @Test
+    void shouldDistinguishMissingFromNullProperties() {
+        // Given:
+        final Map<String, Object> props = new HashMap<>();
+        props.put("null", null);
+
+        // When:
+        final JsonNode view = JsonNodeViews.view(props);
+
+        // Then:
+        assertThat(view.get("null").isNull(), is(true));
+        assertThat(view.get("missing"), is(nullValue()));
+        assertThat(view.has("null"), is(true));
+        assertThat(view.has("missing"), is(false));
+    }
+
+    @Test
+    void shouldExposePropertiesAndElements() {
+        // Given:
+        final JsonNode view = JsonNodeViews.view(Map.of("list", List.of("a", "b")));
+
+        // Then:
+        assertThat(view.size(), is(1));
+        assertThat(view.properties().iterator().next().getKey(), is("list"));
+        assertThat(view.get("list").isArray(), is(true));
+        assertThat(view.get("list").size(), is(2));
+        assertThat(view.get("list").get(1).asString(), is("b"));
+    }
+
+    @Test
+    void shouldReflectUnderlyingGraphRatherThanCopy() {
+        // Given:
+        final List<Object> list = new ArrayList<>();
+        final JsonNode view = JsonNodeViews.view(Map.of("list", list));
+
+        // When:
+        list.add("late");
+
+        // Then:
+        assertThat(view.get("list").get(0).asString(), is("late"));
+    }
+
+    @Test
+    void shouldBeReadOnly() {
+        // Given:
+        final ObjectNode view = (ObjectNode) JsonNodeViews.view(new HashMap<>(Map.of("a", 1)));
+
+        // Then:
+        assertThrows(UnsupportedOperationException.class, () -> view.put("b", 2));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove("a"));
+    }
+}
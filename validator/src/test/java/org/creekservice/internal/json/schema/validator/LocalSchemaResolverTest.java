@@ -0,0 +1,231 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import org.creekservice.api.json.schema.validator.SchemaValidationException;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+
+class LocalSchemaResolverTest {
+
+    private static final JsonNode ADDRESS =
+            SchemaParser.parse(
+                    """
+                    $id: https://example.com/address.yml
+                    type: object
+                    properties:
+                      country:
+                        $ref: country.yml
+                    """);
+
+    private static final JsonNode COUNTRY =
+            SchemaParser.parse(
+                    """
+                    type: string
+                    """);
+
+    private static final LocalSchemaResolver RESOLVER =
+            new LocalSchemaResolver(
+                    Map.of(
+                            "https://example.com/address.yml", ADDRESS,
+                            "https://example.com/country.yml", COUNTRY));
+
+    @Test
+    void shouldReturnSelfContainedSchemaUnchanged() {
+        // Given:
+        final JsonNode schema =
+                SchemaParser.parse(
+                        """
+                        $schema: https://json-schema.org/draft/2020-12/schema
+                        type: object
+                        properties:
+                          a:
+                            $ref: '#/$defs/A'
+                        $defs:
+                          A:
+                            type: string
+                        """);
+
+        // When:
+        final JsonNode result = RESOLVER.resolve(schema);
+
+        // Then:
+        assertThat(result, is(sameInstance(schema)));
+    }
+
+    @Test
+    void shouldEmbedReferencedSchemasTransitively() {
+        // Given:
+        final JsonNode schema =
+                SchemaParser.parse(
+                        """
+                        $id: https://example.com/person.yml
+                        properties:
+                          address:
+                            $ref: address.yml
+                        """);
+
+        // When:
+        final JsonNode result = RESOLVER.resolve(schema);
+
+        // Then:
+        final JsonNode defs = result.get("$defs");
+        assertThat(defs.get("https://example.com/address.yml"), is(ADDRESS));
+        assertThat(
+                defs.get("https://example.com/country.yml"),
+                is(
+                        SchemaParser.parse(
+                                """
+                                type: string
+                                $id: https://example.com/country.yml
+                                """)));
+    }
+
+    @Test
+    void shouldEmbedSameLocalSchemaInEveryRoot() {
+        // Given:
+        final JsonNode first = SchemaParser.parse("$ref: https://example.com/country.yml");
+        final JsonNode second =
+                SchemaParser.parse("items: {$ref: 'https://example.com/address.yml'}");
+
+        // When:
+        final JsonNode firstResult = RESOLVER.resolve(first);
+        final JsonNode secondResult = RESOLVER.resolve(second);
+
+        // Then:
+        assertThat(
+                firstResult.at("/$defs/https:~1~1example.com~1country.yml"),
+                is(sameInstance(secondResult.at("/$defs/https:~1~1example.com~1country.yml"))));
+    }
+
+    @Test
+    void shouldNotMutateInput() {
+        // Given:
+        final JsonNode schema =
+                SchemaParser.parse(
+                        """
+                        $ref: https://example.com/country.yml
+                        """);
+        final JsonNode copy = schema.deepCopy();
+
+        // When:
+        RESOLVER.resolve(schema);
+
+        // Then:
+        assertThat(schema, is(copy));
+    }
+
+    @Test
+    void shouldResolveReferencesToEmbeddedIds() {
+        // Given:
+        final JsonNode schema =
+                SchemaParser.parse(
+                        """
+                        $id: https://example.com/root.yml
+                        $ref: other.yml
+                        $defs:
+                          other:
+                            $id: other.yml
+                            type: string
+                        """);
+
+        // When:
+        final JsonNode result = RESOLVER.resolve(schema);
+
+        // Then:
+        assertThat(result, is(sameInstance(schema)));
+    }
+
+    @Test
+    void shouldIgnoreRefsInData() {
+        // Given:
+        final JsonNode schema =
+                SchemaParser.parse(
+                        """
+                        const:
+                          $ref: https://example.com/unknown.yml
+                        """);
+
+        // When:
+        final JsonNode result = RESOLVER.resolve(schema);
+
+        // Then:
+        assertThat(result, is(sameInstance(schema)));
+    }
+
+    @Test
+    void shouldThrowOnUnresolvableRef() {
+        // Given:
+        final JsonNode schema =
+                SchemaParser.parse(
+                        """
+                        $ref: https://example.com/unknown.yml#/$defs/X
+                        """);
+
+        // When:
+        final Exception e =
+                assertThrows(SchemaValidationException.class, () -> RESOLVER.resolve(schema));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                containsString("Unresolvable $ref: https://example.com/unknown.yml."));
+        assertThat(e.getMessage(), containsString("remote loading is disabled"));
+    }
+
+    @Test
+    void shouldAcceptBundledMetaSchemas() {
+        // Given:
+        final JsonNode schema =
+                SchemaParser.parse(
+                        """
+                        $schema: http://json-schema.org/draft-07/schema#
+                        """);
+
+        // When:
+        final JsonNode result = RESOLVER.resolve(schema);
+
+        // Then:
+        assertThat(result, is(sameInstance(schema)));
+    }
+
+    @Test
+    void shouldThrowOnUnknownMetaSchema() {
+        // Given:
+        final JsonNode schema =
+                SchemaParser.parse(
+                        """
+                        $schema: https://example.com/custom-meta-schema
+                        """);
+
+        // When:
+        final Exception e =
+                assertThrows(SchemaValidationException.class, () -> RESOLVER.resolve(schema));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                containsString("Unsupported $schema: https://example.com/custom-meta-schema"));
+    }
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.creekservice.api.json.schema.validator.SchemaValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ResultCacheTest {
+
+    private static final String FINGERPRINT = "fp";
+
+    @Mock private InternalValidator validator;
+    private ResultCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ResultCache(16);
+    }
+
+    @Test
+    void shouldValidateOnFirstUse() {
+        // When:
+        cache.validate(FINGERPRINT, Map.of("a", 1), validator);
+
+        // Then:
+        verify(validator).validate(Map.of("a", 1));
+        assertThat(cache.hits(), is(0L));
+        assertThat(cache.misses(), is(1L));
+    }
+
+    @Test
+    void shouldSkipValidationOfEqualPayload() {
+        // Given:
+        cache.validate(FINGERPRINT, Map.of("a", List.of(1, "x")), validator);
+
+        // When:
+        cache.validate(FINGERPRINT, new LinkedHashMap<>(Map.of("a", List.of(1, "x"))), validator);
+
+        // Then:
+        verify(validator, times(1)).validate(any());
+        assertThat(cache.hits(), is(1L));
+        assertThat(cache.misses(), is(1L));
+    }
+
+    @Test
+    void shouldReplayInvalidOutcome() {
+        // Given:
+        doThrow(SchemaValidationException.of("bad")).when(validator).validate(any());
+        assertThrows(
+                SchemaValidationException.class,
+                () -> cache.validate(FINGERPRINT, Map.of("a", 1), validator));
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        SchemaValidationException.class,
+                        () -> cache.validate(FINGERPRINT, Map.of("a", 1), validator));
+
+        // Then:
+        assertThat(e.getMessage(), is("bad"));
+        verify(validator, times(1)).validate(any());
+        assertThat(cache.hits(), is(1L));
+    }
+
+    @Test
+    void shouldReplayInvalidOutcomeWithOriginalCause() {
+        // Given:
+        final Exception cause = new IllegalArgumentException("cause");
+        doThrow(SchemaValidationException.of("bad", cause)).when(validator).validate(any());
+        final Exception original =
+                assertThrows(
+                        SchemaValidationException.class,
+                        () -> cache.validate(FINGERPRINT, Map.of("a", 1), validator));
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        SchemaValidationException.class,
+                        () -> cache.validate(FINGERPRINT, Map.of("a", 1), validator));
+
+        // Then:
+        assertThat(e, is(not(sameInstance(original))));
+        assertThat(e.getMessage(), is("bad"));
+        assertThat(e.getCause(), is(sameInstance(cause)));
+    }
+
+    @Test
+    void shouldNotShareOutcomesBetweenFingerprints() {
+        // Given:
+        cache.validate(FINGERPRINT, Map.of("a", 1), validator);
+
+        // When:
+        cache.validate("other", Map.of("a", 1), validator);
+
+        // Then:
+        verify(validator, times(2)).validate(Map.of("a", 1));
+        assertThat(cache.hits(), is(0L));
+    }
+
+    @Test
+    void shouldVerifyPayloadOnHashCollision() {
+        // Given: "Aa" and "BB" have the same hash code:
+        final Map<String, ?> first = Map.of("Aa", 1);
+        final Map<String, ?> second = Map.of("BB", 1);
+        cache.validate(FINGERPRINT, first, validator);
+
+        // When:
+        cache.validate(FINGERPRINT, second, validator);
+
+        // Then:
+        verify(validator).validate(second);
+        assertThat(cache.hits(), is(0L));
+        assertThat(cache.collisions(), is(1L));
+    }
+
+    @Test
+    void shouldNotReturnStaleOutcomeIfPayloadMutated() {
+        // Given:
+        final List<Object> list = new ArrayList<>(List.of(1));
+        final Map<String, Object> payload = new LinkedHashMap<>(Map.of("a", list));
+        cache.validate(FINGERPRINT, payload, validator);
+
+        // When:
+        list.add(2);
+        cache.validate(FINGERPRINT, payload, validator);
+
+        // Then:
+        verify(validator, times(2)).validate(payload);
+        assertThat(cache.hits(), is(0L));
+    }
+
+    @Test
+    void shouldNotCachePayloadsWithNonJsonValues() {
+        // Given:
+        final Map<String, ?> payload = Map.of("a", new StringBuilder("mutable"));
+        cache.validate(FINGERPRINT, payload, validator);
+
+        // When:
+        cache.validate(FINGERPRINT, payload, validator);
+
+        // Then:
+        verify(validator, times(2)).validate(payload);
+        assertThat(cache.hits(), is(0L));
+    }
+
+    @Test
+    void shouldCacheNullValues() {
+        // Given:
+        final Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("a", null);
+        cache.validate(FINGERPRINT, payload, validator);
+
+        // When:
+        cache.validate(FINGERPRINT, payload, validator);
+
+        // Then:
+        assertThat(cache.hits(), is(1L));
+    }
+
+    @Test
+    void shouldNotCacheOtherExceptions() {
+        // Given:
+        doThrow(new IllegalStateException("closed")).when(validator).validate(any());
+        assertThrows(
+                IllegalStateException.class,
+                () -> cache.validate(FINGERPRINT, Map.of("a", 1), validator));
+
+        // When:
+        assertThrows(
+                IllegalStateException.class,
+                () -> cache.validate(FINGERPRINT, Map.of("a", 1), validator));
+
+        // Then:
+        verify(validator, times(2)).validate(any());
+    }
+
+    @Test
+    void shouldBeBounded() {
+        // Given:
+        final ResultCache single = new ResultCache(1);
+
+        // When:
+        single.validate(FINGERPRINT, Map.of("a", 1), validator);
+        single.validate(FINGERPRINT, Map.of("a", 2), validator);
+        single.validate(FINGERPRINT, Map.of("a", 1), validator);
+
+        // Then:
+        assertThat(single.maxEntries(), is(1));
+        assertThat(single.hits(), is(0L));
+        assertThat(single.misses(), is(3L));
+    }
+
+    @Test
+    void shouldThrowOnNonPositiveMaxEntries() {
+        assertThrows(IllegalArgumentException.class, () -> new ResultCache(0));
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.nio.charset.StandardCharsets;
+import org.creekservice.internal.json.schema.validator.SchemaParser.Format;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+import tools.jackson.dataformat.cbor.CBORMapper;
+import tools.jackson.dataformat.smile.SmileMapper;
+
+class SchemaParserTest {
+
+    private static final JsonNode SCHEMA =
+            JsonMapper.builder().build().readTree("{\"type\":\"object\",\"title\":\"T\"}");
+
+    @Test
+    void shouldSniffJsonText() {
+        assertThat(SchemaParser.sniff("{}"), is(Format.JSON));
+        assertThat(SchemaParser.sniff(" \n\t{}"), is(Format.JSON));
+    }
+
+    @Test
+    void shouldSniffYamlText() {
+        assertThat(SchemaParser.sniff("type: object"), is(Format.YAML));
+        assertThat(SchemaParser.sniff("---\n{}"), is(Format.YAML));
+        assertThat(SchemaParser.sniff("# comment\n{}"), is(Format.YAML));
+        assertThat(SchemaParser.sniff(""), is(Format.YAML));
+    }
+
+    @Test
+    void shouldSniffJsonBytes() {
+        assertThat(SchemaParser.sniff(bytes("  {}")), is(Format.JSON));
+        assertThat(SchemaParser.sniff(bytes("\uFEFF{}")), is(Format.JSON));
+    }
+
+    @Test
+    void shouldSniffYamlBytes() {
+        assertThat(SchemaParser.sniff(bytes("type: object")), is(Format.YAML));
+        assertThat(SchemaParser.sniff(new byte[0]), is(Format.YAML));
+    }
+
+    @Test
+    void shouldSniffSmile() {
+        assertThat(
+                SchemaParser.sniff(SmileMapper.builder().build().writeValueAsBytes(SCHEMA)),
+                is(Format.SMILE));
+    }
+
+    @Test
+    void shouldSniffCbor() {
+        assertThat(
+                SchemaParser.sniff(CBORMapper.builder().build().writeValueAsBytes(SCHEMA)),
+                is(Format.CBOR));
+        assertThat(
+                SchemaParser.sniff(new byte[] {(byte) 0xD9, (byte) 0xD9, (byte) 0xF7, (byte) 0xA0}),
+                is(Format.CBOR));
+    }
+
+    @Test
+    void shouldParseAllFormatsToSameTree() {
+        assertThat(SchemaParser.parse("{\"type\":\"object\",\"title\":\"T\"}"), is(SCHEMA));
+        assertThat(SchemaParser.parse("type: object\ntitle: T\n"), is(SCHEMA));
+        assertThat(SchemaParser.parse("{type: object, title: T}"), is(SCHEMA));
+        assertThat(SchemaParser.parse(bytes("type: object\ntitle: T\n")), is(SCHEMA));
+        assertThat(
+                SchemaParser.parse(SmileMapper.builder().build().writeValueAsBytes(SCHEMA)),
+                is(SCHEMA));
+        assertThat(
+                SchemaParser.parse(CBORMapper.builder().build().writeValueAsBytes(SCHEMA)),
+                is(SCHEMA));
+    }
+
+    private static byte[] bytes(final String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+}
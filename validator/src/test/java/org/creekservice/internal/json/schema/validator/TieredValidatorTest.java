@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+import org.creekservice.api.json.schema.validator.SchemaValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class TieredValidatorTest {
+
+    private static final Map<String, ?> DATA = Map.of("a", 1);
+
+    @Mock private InternalValidator initial;
+    @Mock private InternalValidator compiled;
+    @Mock private Supplier<InternalValidator> compiler;
+    private TieredValidator validator;
+
+    @BeforeEach
+    void setUp() {
+        when(compiler.get()).thenReturn(compiled);
+        when(initial.schemaId()).thenReturn("id");
+        validator = new TieredValidator(initial, compiler, 3);
+    }
+
+    @Test
+    void shouldUseInitialValidatorBelowThreshold() {
+        // When:
+        validator.validate(DATA);
+        validator.validate(DATA);
+
+        // Then:
+        verify(initial, times(2)).validate(DATA);
+        verify(compiler, never()).get();
+        assertThat(validator.isCompiled(), is(false));
+    }
+
+    @Test
+    void shouldSwitchToCompiledValidatorAtThreshold() {
+        // When:
+        validator.validate(DATA);
+        validator.validate(DATA);
+        validator.validate(DATA);
+        validator.validate(DATA);
+
+        // Then:
+        verify(initial, times(2)).validate(DATA);
+        verify(compiled, times(2)).validate(DATA);
+        verify(compiler, times(1)).get();
+        assertThat(validator.isCompiled(), is(true));
+    }
+
+    @Test
+    void shouldStayOnInitialValidatorIfCompilationFails() {
+        // Given:
+        when(compiler.get()).thenThrow(SchemaValidationException.of("unsupported"));
+
+        // When:
+        for (int i = 0; i < 5; i++) {
+            validator.validate(DATA);
+        }
+
+        // Then:
+        verify(initial, times(5)).validate(DATA);
+        verify(compiler, times(1)).get();
+        assertThat(validator.isCompiled(), is(false));
+    }
+
+    @Test
+    void shouldNotBlockOtherThreadsWhileCompiling() throws Exception {
+        // Given:
+        final CountDownLatch compiling = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        when(compiler.get())
+                .thenAnswer(
+                        inv -> {
+                            compiling.countDown();
+                            release.await();
+                            return compiled;
+                        });
+        validator.validate(DATA);
+        validator.validate(DATA);
+        final CompletableFuture<Void> tierUp =
+                CompletableFuture.runAsync(() -> validator.validate(DATA));
+        compiling.await();
+
+        try {
+            // When:
+            validator.validate(DATA);
+
+            // Then: did not wait for compilation:
+            verify(initial, times(3)).validate(DATA);
+        } finally {
+            release.countDown();
+        }
+        tierUp.get();
+        verify(compiler, times(1)).get();
+        assertThat(validator.isCompiled(), is(true));
+    }
+
+    @Test
+    void shouldReturnSchemaId() {
+        assertThat(validator.schemaId(), is("id"));
+    }
+
+    @Test
+    void shouldThrowOnNonPositiveThreshold() {
+        assertThrows(
+                IllegalArgumentException.class, () -> new TieredValidator(initial, compiler, 0));
+    }
+}
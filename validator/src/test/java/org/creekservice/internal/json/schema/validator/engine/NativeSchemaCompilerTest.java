@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.engine;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+import org.creekservice.api.json.schema.validator.SchemaValidationException;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.dataformat.yaml.YAMLMapper;
+
+class NativeSchemaCompilerTest {
+
+    private static final YAMLMapper YAML = YAMLMapper.builder().build();
+
+    @Test
+    void shouldUseSchemaIdInValidator() {
+        // When:
+        final NativeJsonSchemaValidator validator =
+                NativeSchemaCompiler.compile(schema("type: object"), "some-id");
+
+        // Then:
+        assertThat(validator.schemaId(), is("some-id"));
+    }
+
+    @Test
+    void shouldReportAllErrorsWithLocations() {
+        // Given:
+        final NativeJsonSchemaValidator validator =
+                NativeSchemaCompiler.compile(
+                        schema(
+                                """
+                                type: object
+                                properties:
+                                  name: {type: string}
+                                  tags: {type: array, items: {type: string}}
+                                required: [id]
+                                """),
+                        "id");
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        SchemaValidationException.class,
+                        () -> validator.validate(Map.of("name", 1, "tags", List.of("a", 2))));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("$: required property 'id' not found"));
+        assertThat(e.getMessage(), containsString("$.name: integer found, string expected"));
+        assertThat(e.getMessage(), containsString("$.tags[1]: integer found, string expected"));
+    }
+
+    @Test
+    void shouldQuotePropertyNamesThatAreNotIdentifiers() {
+        // Given:
+        final NativeJsonSchemaValidator validator =
+                NativeSchemaCompiler.compile(
+                        schema("properties: {'a b': {type: string}}"), "id");
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        SchemaValidationException.class,
+                        () -> validator.validate(Map.of("a b", 1)));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("$['a b']:"));
+    }
+
+    @Test
+    void shouldSupportRecursiveReferences() {
+        // Given:
+        final NativeJsonSchemaValidator validator =
+                NativeSchemaCompiler.compile(
+                        schema(
+                                """
+                                properties:
+                                  next: {$ref: "#"}
+                                  value: {type: integer}
+                                """),
+                        "id");
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        SchemaValidationException.class,
+                        () ->
+                                validator.validate(
+                                        Map.of("next", Map.of("next", Map.of("value", "x")))));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("$.next.next.value:"));
+    }
+
+    @Test
+    void shouldReportErrorsOfBranchSelectedByDiscriminator() {
+        // Given:
+        final NativeJsonSchemaValidator validator =
+                NativeSchemaCompiler.compile(
+                        schema(
+                                """
+                                oneOf:
+                                  - properties: {type: {const: a}, x: {type: string}}
+                                    required: [type]
+                                  - properties: {type: {const: b}, x: {type: integer}}
+                                    required: [type]
+                                """),
+                        "id");
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        SchemaValidationException.class,
+                        () -> validator.validate(Map.of("type", "a", "x", 1)));
+
+        // Then:
+        assertThat(e.getMessage(), is("Validation failed: $.x: integer found, string expected"));
+    }
+
+    @Test
+    void shouldFallBackToFullOneOfForUnknownDiscriminator() {
+        // Given:
+        final NativeJsonSchemaValidator validator =
+                NativeSchemaCompiler.compile(
+                        schema(
+                                """
+                                oneOf:
+                                  - properties: {type: {const: a}}
+                                    required: [type]
+                                  - properties: {type: {const: b}}
+                                    required: [type]
+                                """),
+                        "id");
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        SchemaValidationException.class,
+                        () -> validator.validate(Map.of("type", "c")));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("but 0 are valid"));
+    }
+
+    @Test
+    void shouldThrowOnUnsupportedKeyword() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        SchemaValidationException.class,
+                        () ->
+                                NativeSchemaCompiler.compile(
+                                        schema("unevaluatedProperties: false"), "id"));
+
+        // Then:
+        assertThat(
+                e.getMessage(),
+                containsString("'unevaluatedProperties' keyword is not supported"));
+    }
+
+    @Test
+    void shouldThrowOnOtherDrafts() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        SchemaValidationException.class,
+                        () ->
+                                NativeSchemaCompiler.compile(
+                                        schema("$schema: http://json-schema.org/draft-07/schema#"),
+                                        "id"));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("only supports draft 2020-12"));
+    }
+
+    @Test
+    void shouldThrowOnUnresolvableRef() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        SchemaValidationException.class,
+                        () ->
+                                NativeSchemaCompiler.compile(
+                                        schema("$ref: '#/$defs/missing'"), "id"));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("unresolvable $ref: #/$defs/missing"));
+    }
+
+    @Test
+    void shouldThrowOnInvalidPattern() {
+        // When:
+        final Exception e =
+                assertThrows(
+                        SchemaValidationException.class,
+                        () -> NativeSchemaCompiler.compile(schema("pattern: '[a-'"), "id"));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("invalid pattern: [a-"));
+    }
+
+    @Test
+    void shouldIgnoreUnknownKeywordsAndFormats() {
+        // Given:
+        final NativeJsonSchemaValidator validator =
+                NativeSchemaCompiler.compile(
+                        schema(
+                                """
+                                x-custom: 1
+                                properties:
+                                  v: {format: something-custom}
+                                """),
+                        "id");
+
+        // Then: should not throw:
+        validator.validate(Map.of("v", "anything"));
+    }
+
+    private static JsonNode schema(final String yaml) {
+        return YAML.readTree(yaml);
+    }
+}
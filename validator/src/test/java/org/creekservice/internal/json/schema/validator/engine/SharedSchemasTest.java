@@ -0,0 +1,129 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.engine;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import org.creekservice.api.json.schema.validator.SchemaValidationException;
+import org.creekservice.internal.json.schema.validator.LocalSchemaResolver;
+import org.creekservice.internal.json.schema.validator.SchemaParser;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+
+class SharedSchemasTest {
+
+    private static final String ADDRESS_ID = "https://example.com/address.yml";
+    private static final String COUNTRY_ID = "https://example.com/country.yml";
+
+    private static final LocalSchemaResolver RESOLVER =
+            new LocalSchemaResolver(
+                    Map.of(
+                            ADDRESS_ID,
+                            SchemaParser.parse(
+                                    """
+                                    $id: https://example.com/address.yml
+                                    type: object
+                                    properties:
+                                      country:
+                                        $ref: country.yml
+                                    """),
+                            COUNTRY_ID,
+                            SchemaParser.parse("type: string")));
+
+    private final SharedSchemas shared = RESOLVER.shared();
+
+    @Test
+    void shouldCompileSharedResourceOnceForAllRoots() {
+        // Given:
+        final JsonNode first = RESOLVER.resolve(SchemaParser.parse("$ref: " + ADDRESS_ID));
+        final JsonNode second =
+                RESOLVER.resolve(SchemaParser.parse("items: {$ref: '" + ADDRESS_ID + "'}"));
+
+        // When:
+        final Checker fromFirst = checker(first, ADDRESS_ID, false);
+        final Checker fromSecond = checker(second, ADDRESS_ID, false);
+
+        // Then:
+        assertThat(fromFirst, is(notNullValue()));
+        assertThat(fromFirst, is(sameInstance(fromSecond)));
+    }
+
+    @Test
+    void shouldCompileSharedResourceOncePerOptions() {
+        // Given:
+        final JsonNode root = RESOLVER.resolve(SchemaParser.parse("$ref: " + ADDRESS_ID));
+
+        // Then:
+        assertThat(
+                checker(root, ADDRESS_ID, true),
+                is(not(sameInstance(checker(root, ADDRESS_ID, false)))));
+    }
+
+    @Test
+    void shouldNotReuseIfRootDefinesDependency() {
+        // Given: a root with its own country schema, which the shared address depends on:
+        final JsonNode root =
+                RESOLVER.resolve(
+                        SchemaParser.parse(
+                                """
+                                $ref: https://example.com/address.yml
+                                $defs:
+                                  country:
+                                    $id: https://example.com/country.yml
+                                    type: integer
+                                """));
+
+        // Then:
+        assertThat(checker(root, ADDRESS_ID, false), is(nullValue()));
+    }
+
+    @Test
+    void shouldValidateViaSharedResource() {
+        // Given:
+        final JsonNode root =
+                RESOLVER.resolve(
+                        SchemaParser.parse(
+                                """
+                                properties:
+                                  home: {$ref: 'https://example.com/address.yml'}
+                                """));
+        final NativeJsonSchemaValidator validator =
+                NativeSchemaCompiler.compile(root, "id", false, false, shared);
+
+        // When:
+        final Exception e =
+                assertThrows(
+                        SchemaValidationException.class,
+                        () -> validator.validate(Map.of("home", Map.of("country", 1))));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("$.home.country:"));
+    }
+
+    private Checker checker(final JsonNode root, final String id, final boolean linear) {
+        final JsonNode resource = root.get("$defs").get(id);
+        return shared.checker(resource, SchemaIndex.of(root), linear, false);
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.engine;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class ValuesTest {
+
+    @Test
+    void shouldClassifyTypes() {
+        assertThat(Values.typeOf(null), is(Values.NULL));
+        assertThat(Values.typeOf(true), is(Values.BOOLEAN));
+        assertThat(Values.typeOf(1), is(Values.INTEGER | Values.NUMBER));
+        assertThat(Values.typeOf(1.0), is(Values.INTEGER | Values.NUMBER));
+        assertThat(Values.typeOf(1.5), is(Values.NUMBER));
+        assertThat(Values.typeOf("s"), is(Values.STRING));
+        assertThat(Values.typeOf(List.of()), is(Values.ARRAY));
+        assertThat(Values.typeOf(Map.of()), is(Values.OBJECT));
+    }
+
+    @Test
+    void shouldCompareNumbersByValue() {
+        assertThat(Values.compare(1, 1L), is(0));
+        assertThat(Values.compare(1, 1.0), is(0));
+        assertThat(Values.compare(new BigDecimal("1.00"), 1), is(0));
+        assertThat(Values.compare(Long.MAX_VALUE, (double) Long.MAX_VALUE), is(lessThan(0)));
+        final BigInteger beyondLong = BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE);
+        assertThat(Values.compare(beyondLong, Long.MAX_VALUE), is(greaterThan(0)));
+        assertThat(Values.compare(0.1, new BigDecimal("0.1")), is(0));
+    }
+
+    @Test
+    void shouldCheckMultiples() {
+        assertThat(Values.isMultipleOf(10, 5), is(true));
+        assertThat(Values.isMultipleOf(10, 3), is(false));
+        assertThat(Values.isMultipleOf(0.3, 0.1), is(true));
+        assertThat(Values.isMultipleOf(1.25, 0.5), is(false));
+    }
+
+    @Test
+    void shouldCompareJsonValues() {
+        assertThat(Values.jsonEquals(Map.of("a", List.of(1)), Map.of("a", List.of(1.0))), is(true));
+        assertThat(Values.jsonEquals(List.of(1, 2), List.of(2, 1)), is(false));
+        assertThat(Values.jsonEquals("1", 1), is(false));
+        assertThat(Values.jsonHash(1), is(Values.jsonHash(1.0)));
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.format;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.dataformat.yaml.YAMLMapper;
+
+class TemporalFormatPatternsTest {
+
+    private static final YAMLMapper YAML = YAMLMapper.builder().build();
+
+    @Test
+    void shouldReturnSchemaWithoutCustomFormatsUnchanged() {
+        // Given:
+        final JsonNode schema =
+                schema(
+                        """
+                        properties:
+                          at: {type: string, format: date-time}
+                        const: {format: local-time}
+                        """);
+
+        // When:
+        final JsonNode result = TemporalFormatPatterns.apply(schema);
+
+        // Then:
+        assertThat(result, is(sameInstance(schema)));
+    }
+
+    @Test
+    void shouldAddPatternsToSubschemasWithCustomFormats() {
+        // Given:
+        final JsonNode schema =
+                schema(
+                        """
+                        properties:
+                          time: {type: string, format: local-time}
+                        $defs:
+                          Period:
+                            items: {format: period}
+                        """);
+
+        // When:
+        final JsonNode result = TemporalFormatPatterns.apply(schema);
+
+        // Then:
+        assertThat(
+                result.at("/properties/time/pattern").asString(),
+                is(TemporalFormats.PATTERNS.get(TemporalFormats.LOCAL_TIME)));
+        assertThat(
+                result.at("/$defs/Period/items/pattern").asString(),
+                is(TemporalFormats.PATTERNS.get(TemporalFormats.PERIOD)));
+        assertThat("original unchanged", schema.at("/properties/time/pattern").isMissingNode());
+    }
+
+    @Test
+    void shouldKeepExistingPattern() {
+        // Given:
+        final JsonNode schema =
+                schema(
+                        """
+                        format: month-day
+                        pattern: "^--12"
+                        allOf: [{minLength: 7}]
+                        """);
+
+        // When:
+        final JsonNode result = TemporalFormatPatterns.apply(schema);
+
+        // Then:
+        assertThat(result.get("pattern").asString(), is("^--12"));
+        assertThat(result.at("/allOf/0/minLength").asInt(), is(7));
+        assertThat(
+                result.at("/allOf/1/pattern").asString(),
+                is(TemporalFormats.PATTERNS.get(TemporalFormats.MONTH_DAY)));
+    }
+
+    @Test
+    void shouldNotChangeData() {
+        // Given:
+        final JsonNode schema =
+                schema(
+                        """
+                        properties:
+                          enum: {format: year-month}
+                        enum: [{format: year-month}]
+                        default: {format: year-month}
+                        """);
+
+        // When:
+        final JsonNode result = TemporalFormatPatterns.apply(schema);
+
+        // Then:
+        assertThat(result.at("/properties/enum/pattern").isString(), is(true));
+        assertThat(result.at("/enum/0").size(), is(1));
+        assertThat(result.at("/default").size(), is(1));
+    }
+
+    private static JsonNode schema(final String yaml) {
+        return YAML.readTree(yaml);
+    }
+}
@@ -0,0 +1,159 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.format;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class TemporalFormatsTest {
+
+    /** The patterns the generator uses for the same types, which the formats must agree with. */
+    private static final Map<String, String> PATTERNS =
+            Map.of(
+                    TemporalFormats.LOCAL_TIME,
+                    "^(?:[01]\\d|2[0-3]):(?:[0-5]\\d)(?::(?:[0-5]\\d)(?:\\.\\d{1,9})?)?$",
+                    TemporalFormats.LOCAL_DATE_TIME,
+                    "^\\d{4}-(?:0[1-9]|1[0-2])-(?:0[1-9]|[12]\\d|3[01])T(?:[01]\\d|2[0-3]):[0-5]\\d"
+                            + "(?::[0-5]\\d(?:\\.\\d{1,9})?)?$",
+                    TemporalFormats.MONTH_DAY,
+                    "^--(?:0[1-9]|1[0-2])-(?:0[1-9]|[12]\\d|3[01])$",
+                    TemporalFormats.YEAR_MONTH,
+                    "^-?\\d{4,}-(?:0[1-9]|1[0-2])$",
+                    TemporalFormats.PERIOD,
+                    "^P(?=\\d)(?:\\d+Y)?(?:\\d+M)?(?:\\d+W)?(?:\\d+D)?$");
+
+    private static final Map<String, String> SEEDS =
+            Map.of(
+                    TemporalFormats.LOCAL_TIME, "23:59:59.123456789",
+                    TemporalFormats.LOCAL_DATE_TIME, "2026-10-18T13:45:30.1",
+                    TemporalFormats.MONTH_DAY, "--12-31",
+                    TemporalFormats.YEAR_MONTH, "-20260-10",
+                    TemporalFormats.PERIOD, "P1Y2M3W4D");
+
+    /** Characters that exercise the formats, including a line terminator. */
+    private static final String ALPHABET = "0123456789-:.TPYMWD\n ";
+
+    @ParameterizedTest
+    @CsvSource({
+        "local-time, 00:00, true",
+        "local-time, 23:59:59, true",
+        "local-time, 12:30:45.123456789, true",
+        "local-time, 24:00, false",
+        "local-time, 12:60, false",
+        "local-time, 12:30:, false",
+        "local-time, 12:30:45., false",
+        "local-time, 12:30:45.1234567890, false",
+        "local-time, 1:30, false",
+        "local-date-time, 2026-10-18T00:00, true",
+        "local-date-time, 2026-10-18T13:45:30.1, true",
+        "local-date-time, 2026-13-18T13:45, false",
+        "local-date-time, 2026-10-32T13:45, false",
+        "local-date-time, 2026-10-18 13:45, false",
+        "local-date-time, 2026-10-18T13:45Z, false",
+        "local-date-time, 20260-10-18T13:45, false",
+        "month-day, --01-01, true",
+        "month-day, --12-31, true",
+        "month-day, --00-01, false",
+        "month-day, --01-00, false",
+        "month-day, -01-01, false",
+        "month-day, --01-011, false",
+        "year-month, 2026-10, true",
+        "year-month, -2026-10, true",
+        "year-month, 120260-01, true",
+        "year-month, 226-10, false",
+        "year-month, 2026-1, false",
+        "year-month, 2026-13, false",
+        "year-month, +2026-10, false",
+        "period, P1D, true",
+        "period, P1Y2M3W4D, true",
+        "period, P10Y10D, true",
+        "period, P, false",
+        "period, P1, false",
+        "period, P1D2Y, false",
+        "period, P1Y1Y, false",
+        "period, PT1H, false",
+        "period, P-1D, false",
+    })
+    void shouldCheckFormat(final String format, final String text, final boolean expected) {
+        assertThat(TemporalFormats.FORMATS.get(format).test(text), is(expected));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"local-time", "local-date-time", "month-day", "year-month", "period"})
+    void shouldRejectEmptyAndTrailingNewLine(final String format) {
+        final Predicate<String> check = TemporalFormats.FORMATS.get(format);
+        assertThat(check.test(""), is(false));
+        assertThat(check.test(SEEDS.get(format) + "\n"), is(false));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"local-time", "local-date-time", "month-day", "year-month", "period"})
+    void shouldAgreeWithGeneratorPattern(final String format) {
+        // Given:
+        final Pattern pattern = Pattern.compile(PATTERNS.get(format));
+        final Predicate<String> check = TemporalFormats.FORMATS.get(format);
+        final SplittableRandom random = new SplittableRandom(format.hashCode());
+
+        for (int i = 0; i < 10_000; i++) {
+            final String text = mutate(SEEDS.get(format), random);
+
+            // Then:
+            assertThat(text, check.test(text), is(pattern.matcher(text).matches()));
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"local-time", "local-date-time", "month-day", "year-month", "period"})
+    void shouldAgreeWithOwnPatternAsFound(final String format) {
+        // Given:
+        final Pattern pattern = Pattern.compile(TemporalFormats.PATTERNS.get(format));
+        final Predicate<String> check = TemporalFormats.FORMATS.get(format);
+        final SplittableRandom random = new SplittableRandom(format.hashCode());
+
+        for (int i = 0; i < 10_000; i++) {
+            final String text = mutate(SEEDS.get(format), random);
+
+            // Then: validators find patterns, so a trailing line terminator must not match:
+            assertThat(text, check.test(text), is(pattern.matcher(text).find()));
+        }
+    }
+
+    private static String mutate(final String seed, final SplittableRandom random) {
+        final StringBuilder text = new StringBuilder(seed);
+        final int mutations = random.nextInt(4);
+        for (int i = 0; i < mutations; i++) {
+            final int at = random.nextInt(text.length() + 1);
+            final char c = ALPHABET.charAt(random.nextInt(ALPHABET.length()));
+            if (at == text.length() || random.nextInt(3) == 0) {
+                text.insert(at, c);
+            } else if (random.nextBoolean()) {
+                text.deleteCharAt(at);
+            } else {
+                text.setCharAt(at, c);
+            }
+        }
+        return text.toString();
+    }
+}
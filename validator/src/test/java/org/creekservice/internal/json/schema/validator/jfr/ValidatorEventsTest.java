@@ -0,0 +1,177 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.jfr;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.creekservice.api.json.schema.validator.SchemaValidationException;
+import org.creekservice.api.json.schema.validator.ValidatorOptions.Engine;
+import org.creekservice.internal.json.schema.validator.InternalValidator;
+import org.creekservice.internal.json.schema.validator.LocalSchemaResolver;
+import org.creekservice.internal.json.schema.validator.SchemaCompiler;
+import org.creekservice.internal.json.schema.validator.regex.RegexMatcher;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class ValidatorEventsTest {
+
+    private static final String SCHEMA =
+            """
+            $schema: https://json-schema.org/draft/2020-12/schema
+            title: Some Model
+            type: object
+            properties:
+              name:
+                type: string
+            required:
+            - name
+            """;
+
+    @TempDir private Path tempDir;
+    private Recording recording;
+
+    @BeforeEach
+    void setUp() {
+        recording = new Recording();
+        recording.enable(CompileSchemaEvent.class).withoutThreshold();
+        recording.enable(ValidateEvent.class).withoutThreshold();
+        recording.enable(RegexFallbackEvent.class).withoutThreshold();
+        recording.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        recording.close();
+    }
+
+    @Test
+    void shouldEmitCompileEvent() throws Exception {
+        // When:
+        SchemaCompiler.shared(LocalSchemaResolver.EMPTY).compile(SCHEMA);
+
+        // Then:
+        final List<RecordedEvent> events = events(CompileSchemaEvent.class);
+        assertThat(events, hasSize(1));
+        assertThat(events.get(0).getString("schemaId"), is("Some Model"));
+        assertThat(events.get(0).getBoolean("succeeded"), is(true));
+        assertThat(events.get(0).getLong("schemaSize"), is((long) SCHEMA.length()));
+    }
+
+    @Test
+    void shouldEmitCompileEventOnFailure() throws Exception {
+        // When:
+        assertThrows(
+                SchemaValidationException.class,
+                () ->
+                        SchemaCompiler.shared(LocalSchemaResolver.EMPTY)
+                                .compile("not: [valid: schema: [[["));
+
+        // Then:
+        final List<RecordedEvent> events = events(CompileSchemaEvent.class);
+        assertThat(events, hasSize(1));
+        assertThat(events.get(0).getBoolean("succeeded"), is(false));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Engine.class)
+    void shouldEmitValidateEvents(final Engine engine) throws Exception {
+        // Given:
+        final InternalValidator validator =
+                SchemaCompiler.shared(LocalSchemaResolver.EMPTY, engine).compile(SCHEMA);
+
+        // When:
+        validator.validate(Map.of("name", "Bob"));
+        assertThrows(SchemaValidationException.class, () -> validator.validate(Map.of()));
+
+        // Then:
+        final List<RecordedEvent> events = events(ValidateEvent.class);
+        assertThat(events, hasSize(2));
+        assertThat(events.get(0).getString("schemaId"), is("Some Model"));
+        assertThat(events.get(0).getBoolean("valid"), is(true));
+        assertThat(events.get(0).getInt("errorCount"), is(0));
+        assertThat(events.get(0).getBoolean("succeeded"), is(true));
+        assertThat(events.get(1).getBoolean("valid"), is(false));
+        assertThat(events.get(1).getInt("errorCount"), is(1));
+        assertThat(events.get(1).getBoolean("succeeded"), is(true));
+    }
+
+    @ParameterizedTest
+    @EnumSource(Engine.class)
+    void shouldEmitValidateEventOnFailure(final Engine engine) throws Exception {
+        // Given:
+        final InternalValidator validator =
+                SchemaCompiler.shared(LocalSchemaResolver.EMPTY, engine).compile(SCHEMA);
+
+        // When:
+        assertThrows(
+                RuntimeException.class,
+                () -> validator.validate(Map.of("name", new Unserializable())));
+
+        // Then:
+        final List<RecordedEvent> events = events(ValidateEvent.class);
+        assertThat(events, hasSize(1));
+        assertThat(events.get(0).getString("schemaId"), is("Some Model"));
+        assertThat(events.get(0).getBoolean("succeeded"), is(false));
+        assertThat(events.get(0).getBoolean("valid"), is(false));
+    }
+
+    @Test
+    void shouldEmitRegexFallbackEvent() throws Exception {
+        // When:
+        RegexMatcher.compile("(?<=a)b", true);
+        RegexMatcher.compile("a[ab]{20}b", true);
+
+        // Then:
+        final List<RecordedEvent> events = events(RegexFallbackEvent.class);
+        assertThat(events, hasSize(1));
+        assertThat(events.get(0).getString("regex"), is("(?<=a)b"));
+        assertThat(events.get(0).getString("reason"), is("lookbehind"));
+    }
+
+    private List<RecordedEvent> events(final Class<? extends jdk.jfr.Event> type)
+            throws Exception {
+        recording.stop();
+        final Path file = tempDir.resolve("recording.jfr");
+        recording.dump(file);
+        final String name = type.getAnnotation(jdk.jfr.Name.class).value();
+        return RecordingFile.readAllEvents(file).stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .collect(Collectors.toList());
+    }
+
+    /** A value that can not be converted to JSON, so validation fails. */
+    public static final class Unserializable {
+
+        public String getValue() {
+            throw new IllegalStateException("Not serializable");
+        }
+    }
+}
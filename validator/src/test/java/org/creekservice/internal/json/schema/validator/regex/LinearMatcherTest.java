@@ -0,0 +1,183 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.regex;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.SplittableRandom;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LinearMatcherTest {
+
+    /** Characters that exercise the regexes below, including line terminators and non-ASCII. */
+    private static final String ALPHABET = "ab\n\r\u0085 c1-0:T.P9Y\u00e9x";
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "^(?:[01]\\d|2[0-3]):(?:[0-5]\\d)(?::(?:[0-5]\\d)(?:\\.\\d{1,9})?)?$",
+                "^\\d{4}-(?:0[1-9]|1[0-2])-(?:0[1-9]|[12]\\d|3[01])T(?:[01]\\d|2[0-3]):[0-5]\\d"
+                        + "(?::[0-5]\\d(?:\\.\\d{1,9})?)?$",
+                "^P(?=\\d)(?:\\d+Y)?(?:\\d+M)?(?:\\d+W)?(?:\\d+D)?$",
+                "^--(?:0[1-9]|1[0-2])-(?:0[1-9]|[12]\\d|3[01])$",
+                "^-?\\d{4,}-(?:0[1-9]|1[0-2])$",
+                "",
+                "a",
+                "ab|c",
+                "^a",
+                "a$",
+                "a\\z",
+                "a\\Z",
+                "^$",
+                "(a|b)*c",
+                "(a*)*b",
+                "x(?!a)",
+                "(?=a)^a",
+                "a.b",
+                "[^a]+$",
+                "^a{2,3}$",
+                "(?:a|ab)(?:c|bcd)d*",
+                "\\r?$",
+                "^\\s*$",
+                "(?=\\d)\\d+$",
+                "a(?!b)$",
+                "^(a+)+$",
+                "^(?:a|b|)$"
+            })
+    void shouldMatchAsJavaUtilRegex(final String regex) {
+        // Given:
+        final LinearMatcher matcher = LinearMatcher.compile(regex);
+        final Pattern pattern = Pattern.compile(regex);
+        final SplittableRandom random = new SplittableRandom(0);
+
+        for (int i = 0; i < 2_000; i++) {
+            // When:
+            final String input = randomInput(random, ALPHABET, 8);
+
+            // Then:
+            assertThat(
+                    "input: " + input.replace("\n", "\\n").replace("\r", "\\r"),
+                    matcher.find(input),
+                    is(pattern.matcher(input).find()));
+        }
+    }
+
+    @Test
+    void shouldMatchTemporalValues() {
+        final LinearMatcher time =
+                LinearMatcher.compile(
+                        "^(?:[01]\\d|2[0-3]):(?:[0-5]\\d)(?::(?:[0-5]\\d)(?:\\.\\d{1,9})?)?$");
+        assertThat(time.find("23:59:59.123456789"), is(true));
+        assertThat(time.find("23:59\n"), is(true));
+        assertThat(time.find("24:00"), is(false));
+        assertThat(time.find("23:59:59.1234567890"), is(false));
+
+        final LinearMatcher period =
+                LinearMatcher.compile("^P(?=\\d)(?:\\d+Y)?(?:\\d+M)?(?:\\d+W)?(?:\\d+D)?$");
+        assertThat(period.find("P1Y2M3W4D"), is(true));
+        assertThat(period.find("P"), is(false));
+        assertThat(period.find("PY"), is(false));
+    }
+
+    @Test
+    void shouldMatchCodePoints() {
+        final String emoji = new String(Character.toChars(0x1F600));
+        assertThat(LinearMatcher.compile("^.x$").find(emoji + "x"), is(true));
+        assertThat(LinearMatcher.compile("^..x$").find(emoji + "x"), is(false));
+    }
+
+    @Test
+    @Timeout(10)
+    void shouldMatchInLinearTime() {
+        // Given:
+        final LinearMatcher matcher = LinearMatcher.compile("^(a+)+$");
+        final String hostile = "a".repeat(100_000) + "!";
+
+        // Then:
+        assertThat(matcher.find(hostile), is(false));
+        assertThat(matcher.find("a".repeat(100_000)), is(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"(a)\\1", "(?<=a)b", "\\bword", "a$\\n", "a{1000}{1000}"})
+    void shouldRejectUnsupportedRegexes(final String regex) {
+        assertThrows(UnsupportedRegexException.class, () -> LinearMatcher.compile(regex));
+    }
+
+    @Test
+    void shouldMatchRegexesWithLargeDfas() {
+        // Given: unanchored, the DFA must track every 'a' in the last 20 characters:
+        final LinearMatcher matcher = LinearMatcher.compile("a[ab]{20}b");
+        final Pattern pattern = Pattern.compile("a[ab]{20}b");
+        final SplittableRandom random = new SplittableRandom(0);
+
+        for (int i = 0; i < 2_000; i++) {
+            // When:
+            final String input = randomInput(random, "aab", 64);
+
+            // Then:
+            assertThat("input: " + input, matcher.find(input), is(pattern.matcher(input).find()));
+        }
+    }
+
+    @Test
+    @Timeout(10)
+    void shouldMatchInLinearTimeEvenIfEveryPositionReachesANewState() {
+        // Given:
+        final LinearMatcher matcher = LinearMatcher.compile("a[ab]{20}c");
+        final SplittableRandom random = new SplittableRandom(0);
+        final StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 200_000; i++) {
+            input.append(random.nextBoolean() ? 'a' : 'b');
+        }
+
+        // Then: it visits more states than the cache holds, so the cache is rebuilt many times:
+        assertThat(matcher.find(input.toString()), is(false));
+        assertThat(matcher.find(input + "a".repeat(21) + "c"), is(true));
+    }
+
+    @Test
+    void shouldThrowOnInvalidRegex() {
+        assertThrows(PatternSyntaxException.class, () -> LinearMatcher.compile("(a"));
+    }
+
+    @Test
+    void shouldFallBackForUnsupportedRegexes() {
+        assertThat(RegexMatcher.compile("^a+$", true), is(instanceOf(LinearMatcher.class)));
+        assertThat(RegexMatcher.compile("^a+$", false), is(instanceOf(JdkMatcher.class)));
+        assertThat(RegexMatcher.compile("(a)\\1", true), is(instanceOf(JdkMatcher.class)));
+        assertThat(RegexMatcher.compile("(a)\\1", true).find("xaa"), is(true));
+    }
+
+    private static String randomInput(
+            final SplittableRandom random, final String alphabet, final int maxLength) {
+        final StringBuilder input = new StringBuilder();
+        final int length = random.nextInt(maxLength);
+        for (int i = 0; i < length; i++) {
+            input.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return input.toString();
+    }
+}
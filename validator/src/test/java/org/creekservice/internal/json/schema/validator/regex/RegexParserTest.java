@@ -0,0 +1,142 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.regex;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.regex.PatternSyntaxException;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Alternation;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Anchor;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Chars;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Lookahead;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Repeat;
+import org.creekservice.internal.json.schema.validator.regex.RegexNode.Sequence;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class RegexParserTest {
+
+    @Test
+    void shouldParseLiterals() {
+        assertThat(
+                RegexParser.parse("ab"),
+                is(new Sequence(List.of(chars(CharClass.of('a')), chars(CharClass.of('b'))))));
+    }
+
+    @Test
+    void shouldParseAnchors() {
+        assertThat(
+                RegexParser.parse("^a$"),
+                is(
+                        new Sequence(
+                                List.of(
+                                        new Anchor(Anchor.Kind.START),
+                                        chars(CharClass.of('a')),
+                                        new Anchor(Anchor.Kind.END_OF_LINE)))));
+        assertThat(RegexParser.parse("\\z"), is(new Anchor(Anchor.Kind.END)));
+    }
+
+    @Test
+    void shouldParseQuantifiers() {
+        final Chars a = chars(CharClass.of('a'));
+        assertThat(RegexParser.parse("a*"), is(new Repeat(a, 0, Repeat.UNBOUNDED)));
+        assertThat(RegexParser.parse("a+?"), is(new Repeat(a, 1, Repeat.UNBOUNDED)));
+        assertThat(RegexParser.parse("a?"), is(new Repeat(a, 0, 1)));
+        assertThat(RegexParser.parse("a{3}"), is(new Repeat(a, 3, 3)));
+        assertThat(RegexParser.parse("a{2,}"), is(new Repeat(a, 2, Repeat.UNBOUNDED)));
+        assertThat(RegexParser.parse("a{1,9}"), is(new Repeat(a, 1, 9)));
+    }
+
+    @Test
+    void shouldParseGroupsAndAlternation() {
+        final Alternation expected =
+                new Alternation(List.of(chars(CharClass.of('a')), chars(CharClass.of('b'))));
+        assertThat(RegexParser.parse("(?:a|b)"), is(expected));
+        assertThat(RegexParser.parse("(a|b)"), is(expected));
+        assertThat(RegexParser.parse("(?<name>a|b)"), is(expected));
+    }
+
+    @Test
+    void shouldParseCharacterClasses() {
+        assertThat(RegexParser.parse("\\d"), is(chars(CharClass.DIGIT)));
+        assertThat(RegexParser.parse("[0-9]"), is(chars(CharClass.DIGIT)));
+        assertThat(RegexParser.parse("[^0-9]"), is(chars(CharClass.DIGIT.negate())));
+        assertThat(
+                RegexParser.parse("[a-c\\d]"),
+                is(chars(CharClass.range('a', 'c').union(CharClass.DIGIT))));
+        assertThat(
+                RegexParser.parse("[a-z&&[^b]]"),
+                is(chars(CharClass.range('a', 'z').intersect(CharClass.of('b').negate()))));
+        assertThat(RegexParser.parse("."), is(chars(CharClass.DOT)));
+    }
+
+    @Test
+    void shouldParseEscapes() {
+        assertThat(RegexParser.parse("\\."), is(chars(CharClass.of('.'))));
+        assertThat(RegexParser.parse("\\t"), is(chars(CharClass.of('\t'))));
+        assertThat(RegexParser.parse("\\x41"), is(chars(CharClass.of('A'))));
+        assertThat(RegexParser.parse("\\u00e9"), is(chars(CharClass.of(0xE9))));
+        assertThat(RegexParser.parse("\\x{1F600}"), is(chars(CharClass.of(0x1F600))));
+        assertThat(
+                RegexParser.parse("\\Q.*\\E"),
+                is(new Sequence(List.of(chars(CharClass.of('.')), chars(CharClass.of('*'))))));
+    }
+
+    @Test
+    void shouldParseSingleCharacterLookahead() {
+        assertThat(RegexParser.parse("(?=\\d)"), is(new Lookahead(CharClass.DIGIT, false)));
+        assertThat(
+                RegexParser.parse("(?![ab])"),
+                is(new Lookahead(CharClass.ofAll('a', 'b'), true)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "(a)\\1",
+                "(?<=a)b",
+                "(?<!a)b",
+                "\\bword\\b",
+                "(?i)abc",
+                "a++",
+                "\\p{Alpha}",
+                "(?=ab)",
+                "[^a&&b]"
+            })
+    void shouldRejectUnsupportedFeatures(final String regex) {
+        // When:
+        final Exception e =
+                assertThrows(UnsupportedRegexException.class, () -> RegexParser.parse(regex));
+
+        // Then:
+        assertThat(e.getMessage(), containsString("in: " + regex));
+    }
+
+    @Test
+    void shouldRejectInvalidRegex() {
+        assertThrows(PatternSyntaxException.class, () -> RegexParser.parse("(a"));
+    }
+
+    private static Chars chars(final CharClass chars) {
+        return new Chars(chars);
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026 Creek Contributors (https://github.com/creek-service)
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.creekservice.internal.json.schema.validator.synth;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.dataformat.yaml.YAMLMapper;
+
+class ShapeCoverageTest {
+
+    private static final YAMLMapper YAML = YAMLMapper.builder().build();
+
+    @Test
+    void shouldModelTypedBoundedPropertiesExactly() {
+        // Given:
+        final JsonNode schema =
+                schema(
+                        """
+                        $schema: https://json-schema.org/draft/2020-12/schema
+                        title: Model
+                        type: object
+                        additionalProperties: false
+                        required: [id, at]
+                        properties:
+                          id: {type: integer, minimum: 0, maximum: 2147483647}
+                          at: {type: string, format: date-time}
+                          name: {type: string, minLength: 1, pattern: '^[a-z]+$'}
+                          kind: {type: string, enum: [a, b]}
+                          tags:
+                            type: array
+                            uniqueItems: true
+                            items: {$ref: '#/$defs/Tag'}
+                        $defs:
+                          Tag: {type: string, maxLength: 8}
+                        """);
+
+        // Then:
+        assertThat(ShapeCoverage.exact(schema), is(true));
+    }
+
+    @ParameterizedTest
+    @ValueSource(
+            strings = {
+                "properties: {a: {not: {const: 1}}}",
+                "oneOf: [{required: [a]}, {required: [b]}]",
+                "allOf: [{properties: {a: {type: string}}}]",
+                "if: {required: [a]}",
+                "patternProperties: {'^a': {type: string}}",
+                "properties: {a: {type: string, format: hostname}}",
+                "properties: {a: {type: string, format: date, pattern: '^2'}}",
+                "properties: {a: {type: integer, exclusiveMinimum: 0}}",
+                "properties: {a: {type: number, multipleOf: 0.1}}",
+                "properties: {a: {type: integer, maximum: 9007199254740993}}",
+                "properties: {a: {type: integer, const: x}}",
+                "properties: {a: {enum: [not-a-constant]}}",
+                "properties: {a: {const: 1, minimum: 0}}",
+                "properties: {a: {$ref: '#/$defs/A', maxLength: 2}}",
+                "additionalProperties: false\nrequired: [a]",
+                "additionalProperties: false\nminProperties: 1",
+                "properties: {a: {items: [{type: string}]}}",
+                "$defs: {A: {not: {}}}"
+            })
+    void shouldNotModelExactly(final String yaml) {
+        assertThat(ShapeCoverage.exact(schema("type: object\n" + yaml)), is(false));
+    }
+
+    private static JsonNode schema(final String yaml) {
+        return YAML.readTree(yaml);
+    }
+}